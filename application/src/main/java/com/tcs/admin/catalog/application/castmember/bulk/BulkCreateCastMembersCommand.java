@@ -0,0 +1,18 @@
+package com.tcs.admin.catalog.application.castmember.bulk;
+
+import com.tcs.admin.catalog.application.castmember.create.CreateCastMemberCommand;
+
+import java.util.List;
+
+public record BulkCreateCastMembersCommand(
+        List<CreateCastMemberCommand> items
+) {
+
+    public BulkCreateCastMembersCommand {
+        items = items != null ? List.copyOf(items) : List.of();
+    }
+
+    public static BulkCreateCastMembersCommand with(final List<CreateCastMemberCommand> items) {
+        return new BulkCreateCastMembersCommand(items);
+    }
+}
@@ -0,0 +1,16 @@
+package com.tcs.admin.catalog.application.castmember.bulk;
+
+import com.tcs.admin.catalog.domain.castmember.CastMember;
+
+import java.util.List;
+
+public record BulkCreateCastMembersOutput(
+        List<String> ids
+) {
+
+    public static BulkCreateCastMembersOutput from(final List<CastMember> aCastMembers) {
+        return new BulkCreateCastMembersOutput(aCastMembers.stream()
+                .map(it -> it.getId().getValue())
+                .toList());
+    }
+}
@@ -0,0 +1,10 @@
+package com.tcs.admin.catalog.application.castmember.bulk;
+
+import com.tcs.admin.catalog.application.UseCase;
+
+public sealed abstract class BulkCreateCastMembersUseCase
+        extends UseCase<BulkCreateCastMembersCommand, BulkCreateCastMembersOutput>
+        permits DefaultBulkCreateCastMembersUseCase {
+
+    public static final int MAX_ITEMS = 5000;
+}
@@ -0,0 +1,57 @@
+package com.tcs.admin.catalog.application.castmember.bulk;
+
+import com.tcs.admin.catalog.domain.castmember.CastMember;
+import com.tcs.admin.catalog.domain.castmember.CastMemberGateway;
+import com.tcs.admin.catalog.domain.exceptions.NotificationException;
+import com.tcs.admin.catalog.domain.validation.Error;
+import com.tcs.admin.catalog.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.Objects;
+
+/**
+ * Creates every cast member of the command or none of them: all items are validated first, and
+ * the errors of each invalid item are reported prefixed with its position in the request.
+ */
+public non-sealed class DefaultBulkCreateCastMembersUseCase extends BulkCreateCastMembersUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+
+    public DefaultBulkCreateCastMembersUseCase(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public BulkCreateCastMembersOutput execute(final BulkCreateCastMembersCommand aCommand) {
+        final var items = aCommand.items();
+        if (items.isEmpty() || items.size() > MAX_ITEMS) {
+            notify(Notification.create(new Error("'items' must have between 1 and %d entries".formatted(MAX_ITEMS))));
+        }
+
+        final var notification = Notification.create();
+        final var castMembers = new ArrayList<CastMember>(items.size());
+
+        for (int i = 0; i < items.size(); i++) {
+            final var item = items.get(i);
+            final var itemNotification = Notification.create();
+            final var aCastMember = itemNotification.validate(
+                    () -> CastMember.newMember(item.name(), item.type())
+            );
+
+            final var index = i;
+            itemNotification.getErrors()
+                    .forEach(it -> notification.append(new Error("[%d] %s".formatted(index, it.message()))));
+            castMembers.add(aCastMember);
+        }
+
+        if (notification.hasErrors()) {
+            notify(notification);
+        }
+
+        return BulkCreateCastMembersOutput.from(this.castMemberGateway.createAll(castMembers));
+    }
+
+    private static void notify(Notification notification) {
+        throw new NotificationException("Could not create cast member aggregates", notification);
+    }
+}
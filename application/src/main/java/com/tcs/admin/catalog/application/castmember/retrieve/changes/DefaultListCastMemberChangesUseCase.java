@@ -0,0 +1,24 @@
+package com.tcs.admin.catalog.application.castmember.retrieve.changes;
+
+import com.tcs.admin.catalog.application.castmember.retrieve.list.CastMemberListOutput;
+import com.tcs.admin.catalog.domain.castmember.CastMemberGateway;
+import com.tcs.admin.catalog.domain.pagination.Change;
+import com.tcs.admin.catalog.domain.pagination.ChangesQuery;
+import com.tcs.admin.catalog.domain.pagination.Pagination;
+
+import java.util.Objects;
+
+public non-sealed class DefaultListCastMemberChangesUseCase extends ListCastMemberChangesUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+
+    public DefaultListCastMemberChangesUseCase(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public Pagination<Change<CastMemberListOutput>> execute(final ChangesQuery aQuery) {
+        return this.castMemberGateway.findChanges(aQuery)
+                .map(it -> it.map(CastMemberListOutput::from));
+    }
+}
@@ -0,0 +1,12 @@
+package com.tcs.admin.catalog.application.castmember.retrieve.changes;
+
+import com.tcs.admin.catalog.application.UseCase;
+import com.tcs.admin.catalog.application.castmember.retrieve.list.CastMemberListOutput;
+import com.tcs.admin.catalog.domain.pagination.Change;
+import com.tcs.admin.catalog.domain.pagination.ChangesQuery;
+import com.tcs.admin.catalog.domain.pagination.Pagination;
+
+public sealed abstract class ListCastMemberChangesUseCase
+        extends UseCase<ChangesQuery, Pagination<Change<CastMemberListOutput>>>
+        permits DefaultListCastMemberChangesUseCase {
+}
@@ -0,0 +1,21 @@
+package com.tcs.admin.catalog.application.castmember.retrieve.export;
+
+import com.tcs.admin.catalog.application.castmember.retrieve.list.CastMemberListOutput;
+import com.tcs.admin.catalog.domain.castmember.CastMemberGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public non-sealed class DefaultExportCastMembersUseCase extends ExportCastMembersUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+
+    public DefaultExportCastMembersUseCase(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public void execute(final Consumer<CastMemberListOutput> aConsumer) {
+        this.castMemberGateway.forEach(it -> aConsumer.accept(CastMemberListOutput.from(it)));
+    }
+}
@@ -0,0 +1,11 @@
+package com.tcs.admin.catalog.application.castmember.retrieve.export;
+
+import com.tcs.admin.catalog.application.UnitUseCase;
+import com.tcs.admin.catalog.application.castmember.retrieve.list.CastMemberListOutput;
+
+import java.util.function.Consumer;
+
+public sealed abstract class ExportCastMembersUseCase
+        extends UnitUseCase<Consumer<CastMemberListOutput>>
+        permits DefaultExportCastMembersUseCase {
+}
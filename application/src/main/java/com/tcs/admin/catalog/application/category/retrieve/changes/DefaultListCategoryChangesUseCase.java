@@ -0,0 +1,24 @@
+package com.tcs.admin.catalog.application.category.retrieve.changes;
+
+import com.tcs.admin.catalog.application.category.retrieve.list.CategoryListOutput;
+import com.tcs.admin.catalog.domain.category.CategoryGateway;
+import com.tcs.admin.catalog.domain.pagination.Change;
+import com.tcs.admin.catalog.domain.pagination.ChangesQuery;
+import com.tcs.admin.catalog.domain.pagination.Pagination;
+
+import java.util.Objects;
+
+public class DefaultListCategoryChangesUseCase extends ListCategoryChangesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultListCategoryChangesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Pagination<Change<CategoryListOutput>> execute(final ChangesQuery aQuery) {
+        return this.categoryGateway.findChanges(aQuery)
+                .map(it -> it.map(CategoryListOutput::from));
+    }
+}
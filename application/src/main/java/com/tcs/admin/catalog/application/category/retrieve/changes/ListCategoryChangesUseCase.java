@@ -0,0 +1,11 @@
+package com.tcs.admin.catalog.application.category.retrieve.changes;
+
+import com.tcs.admin.catalog.application.UseCase;
+import com.tcs.admin.catalog.application.category.retrieve.list.CategoryListOutput;
+import com.tcs.admin.catalog.domain.pagination.Change;
+import com.tcs.admin.catalog.domain.pagination.ChangesQuery;
+import com.tcs.admin.catalog.domain.pagination.Pagination;
+
+public abstract class ListCategoryChangesUseCase
+        extends UseCase<ChangesQuery, Pagination<Change<CategoryListOutput>>> {
+}
@@ -0,0 +1,21 @@
+package com.tcs.admin.catalog.application.category.retrieve.export;
+
+import com.tcs.admin.catalog.application.category.retrieve.list.CategoryListOutput;
+import com.tcs.admin.catalog.domain.category.CategoryGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class DefaultExportCategoriesUseCase extends ExportCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultExportCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public void execute(final Consumer<CategoryListOutput> aConsumer) {
+        this.categoryGateway.forEach(it -> aConsumer.accept(CategoryListOutput.from(it)));
+    }
+}
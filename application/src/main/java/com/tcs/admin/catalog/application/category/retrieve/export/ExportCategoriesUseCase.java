@@ -0,0 +1,9 @@
+package com.tcs.admin.catalog.application.category.retrieve.export;
+
+import com.tcs.admin.catalog.application.UnitUseCase;
+import com.tcs.admin.catalog.application.category.retrieve.list.CategoryListOutput;
+
+import java.util.function.Consumer;
+
+public abstract class ExportCategoriesUseCase extends UnitUseCase<Consumer<CategoryListOutput>> {
+}
@@ -0,0 +1,24 @@
+package com.tcs.admin.catalog.application.genre.retrieve.changes;
+
+import com.tcs.admin.catalog.application.genre.retrieve.list.GenreListOutput;
+import com.tcs.admin.catalog.domain.genre.GenreGateway;
+import com.tcs.admin.catalog.domain.pagination.Change;
+import com.tcs.admin.catalog.domain.pagination.ChangesQuery;
+import com.tcs.admin.catalog.domain.pagination.Pagination;
+
+import java.util.Objects;
+
+public class DefaultListGenreChangesUseCase extends ListGenreChangesUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultListGenreChangesUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public Pagination<Change<GenreListOutput>> execute(final ChangesQuery aQuery) {
+        return this.genreGateway.findChanges(aQuery)
+                .map(it -> it.map(GenreListOutput::from));
+    }
+}
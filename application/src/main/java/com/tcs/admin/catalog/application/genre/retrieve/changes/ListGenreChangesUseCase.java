@@ -0,0 +1,11 @@
+package com.tcs.admin.catalog.application.genre.retrieve.changes;
+
+import com.tcs.admin.catalog.application.UseCase;
+import com.tcs.admin.catalog.application.genre.retrieve.list.GenreListOutput;
+import com.tcs.admin.catalog.domain.pagination.Change;
+import com.tcs.admin.catalog.domain.pagination.ChangesQuery;
+import com.tcs.admin.catalog.domain.pagination.Pagination;
+
+public abstract class ListGenreChangesUseCase
+        extends UseCase<ChangesQuery, Pagination<Change<GenreListOutput>>> {
+}
@@ -0,0 +1,21 @@
+package com.tcs.admin.catalog.application.genre.retrieve.export;
+
+import com.tcs.admin.catalog.application.genre.retrieve.list.GenreListOutput;
+import com.tcs.admin.catalog.domain.genre.GenreGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class DefaultExportGenresUseCase extends ExportGenresUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultExportGenresUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public void execute(final Consumer<GenreListOutput> aConsumer) {
+        this.genreGateway.forEach(it -> aConsumer.accept(GenreListOutput.from(it)));
+    }
+}
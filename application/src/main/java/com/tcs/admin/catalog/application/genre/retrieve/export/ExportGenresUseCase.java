@@ -0,0 +1,9 @@
+package com.tcs.admin.catalog.application.genre.retrieve.export;
+
+import com.tcs.admin.catalog.application.UnitUseCase;
+import com.tcs.admin.catalog.application.genre.retrieve.list.GenreListOutput;
+
+import java.util.function.Consumer;
+
+public abstract class ExportGenresUseCase extends UnitUseCase<Consumer<GenreListOutput>> {
+}
@@ -0,0 +1,18 @@
+package com.tcs.admin.catalog.application.video.bulk;
+
+import com.tcs.admin.catalog.application.video.create.CreateVideoCommand;
+
+import java.util.List;
+
+public record BulkCreateVideosCommand(
+        List<CreateVideoCommand> items
+) {
+
+    public BulkCreateVideosCommand {
+        items = items != null ? List.copyOf(items) : List.of();
+    }
+
+    public static BulkCreateVideosCommand with(final List<CreateVideoCommand> items) {
+        return new BulkCreateVideosCommand(items);
+    }
+}
@@ -0,0 +1,14 @@
+package com.tcs.admin.catalog.application.video.bulk;
+
+import com.tcs.admin.catalog.domain.video.Video;
+
+import java.util.List;
+
+public record BulkCreateVideosOutput(List<String> ids) {
+
+    public static BulkCreateVideosOutput from(final List<Video> aVideos) {
+        return new BulkCreateVideosOutput(aVideos.stream()
+                .map(it -> it.getId().getValue())
+                .toList());
+    }
+}
@@ -0,0 +1,9 @@
+package com.tcs.admin.catalog.application.video.bulk;
+
+import com.tcs.admin.catalog.application.UseCase;
+
+public abstract class BulkCreateVideosUseCase
+        extends UseCase<BulkCreateVideosCommand, BulkCreateVideosOutput> {
+
+    public static final int MAX_ITEMS = 5000;
+}
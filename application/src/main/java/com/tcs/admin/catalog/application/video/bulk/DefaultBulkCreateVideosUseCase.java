@@ -0,0 +1,126 @@
+package com.tcs.admin.catalog.application.video.bulk;
+
+import com.tcs.admin.catalog.application.video.create.CreateVideoCommand;
+import com.tcs.admin.catalog.domain.castmember.CastMemberID;
+import com.tcs.admin.catalog.domain.category.CategoryID;
+import com.tcs.admin.catalog.domain.exceptions.NotificationException;
+import com.tcs.admin.catalog.domain.genre.GenreID;
+import com.tcs.admin.catalog.domain.utils.CollectionUtils;
+import com.tcs.admin.catalog.domain.validation.Error;
+import com.tcs.admin.catalog.domain.validation.handler.Notification;
+import com.tcs.admin.catalog.domain.video.*;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Creates the metadata of every video of the command or of none of them. Media is not part of a
+ * bulk import and is uploaded per video afterwards. The references of all items are resolved with
+ * a single lookup, and the errors of each invalid item are prefixed with its position in the request.
+ */
+public class DefaultBulkCreateVideosUseCase extends BulkCreateVideosUseCase {
+
+    private final VideoGateway videoGateway;
+    private final VideoReferencesGateway videoReferencesGateway;
+
+    public DefaultBulkCreateVideosUseCase(
+            final VideoGateway videoGateway,
+            final VideoReferencesGateway videoReferencesGateway
+    ) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.videoReferencesGateway = Objects.requireNonNull(videoReferencesGateway);
+    }
+
+    @Override
+    public BulkCreateVideosOutput execute(final BulkCreateVideosCommand aCommand) {
+        final var items = aCommand.items();
+        if (items.isEmpty() || items.size() > MAX_ITEMS) {
+            throw new NotificationException("Could not create video aggregates", Notification.create(
+                    new Error("'items' must have between 1 and %d entries".formatted(MAX_ITEMS))));
+        }
+
+        final var references = items.stream().map(DefaultBulkCreateVideosUseCase::referencesOf).toList();
+        final var found = existing(references);
+
+        final var notification = Notification.create();
+        final var videos = new ArrayList<Video>(items.size());
+
+        for (int i = 0; i < items.size(); i++) {
+            final var item = items.get(i);
+            final var itemReferences = references.get(i);
+            final var itemNotification = Notification.create();
+
+            new VideoReferencesValidator(itemReferences, retain(found, itemReferences), itemNotification)
+                    .validate();
+
+            final var aVideo = newVideo(item, itemReferences);
+            aVideo.validate(itemNotification);
+
+            final var index = i;
+            itemNotification.getErrors()
+                    .forEach(it -> notification.append(new Error("[%d] %s".formatted(index, it.message()))));
+            videos.add(aVideo);
+        }
+
+        if (notification.hasErrors()) {
+            throw new NotificationException("Could not create video aggregates", notification);
+        }
+
+        return BulkCreateVideosOutput.from(this.videoGateway.createAll(videos));
+    }
+
+    private VideoReferences existing(final Iterable<VideoReferences> references) {
+        final var categories = new HashSet<CategoryID>();
+        final var genres = new HashSet<GenreID>();
+        final var castMembers = new HashSet<CastMemberID>();
+
+        for (final var it : references) {
+            categories.addAll(it.categories());
+            genres.addAll(it.genres());
+            castMembers.addAll(it.castMembers());
+        }
+
+        final var all = VideoReferences.with(categories, genres, castMembers);
+        return all.isEmpty() ? all : this.videoReferencesGateway.existsByIds(all);
+    }
+
+    private static VideoReferences referencesOf(final CreateVideoCommand aCommand) {
+        return VideoReferences.with(
+                CollectionUtils.mapTo(aCommand.categories(), CategoryID::from),
+                CollectionUtils.mapTo(aCommand.genres(), GenreID::from),
+                CollectionUtils.mapTo(aCommand.castMembers(), CastMemberID::from)
+        );
+    }
+
+    private static VideoReferences retain(final VideoReferences found, final VideoReferences expected) {
+        return VideoReferences.with(
+                retain(found.categories(), expected.categories()),
+                retain(found.genres(), expected.genres()),
+                retain(found.castMembers(), expected.castMembers())
+        );
+    }
+
+    private static <T> Set<T> retain(final Set<T> found, final Set<T> expected) {
+        final var result = new HashSet<>(expected);
+        result.retainAll(found);
+        return result;
+    }
+
+    private static Video newVideo(final CreateVideoCommand aCommand, final VideoReferences references) {
+        return Video.newVideo(
+                aCommand.title(),
+                aCommand.description(),
+                aCommand.launchedAt() != null ? Year.of(aCommand.launchedAt()) : null,
+                aCommand.duration(),
+                Rating.of(aCommand.rating()).orElse(null),
+                aCommand.opened(),
+                aCommand.published(),
+                references.categories(),
+                references.genres(),
+                references.castMembers()
+        );
+    }
+}
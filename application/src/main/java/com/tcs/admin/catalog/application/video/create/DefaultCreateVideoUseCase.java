@@ -1,27 +1,23 @@
 package com.tcs.admin.catalog.application.video.create;
 
-import com.tcs.admin.catalog.domain.Identifier;
-import com.tcs.admin.catalog.domain.castmember.CastMemberGateway;
 import com.tcs.admin.catalog.domain.castmember.CastMemberID;
-import com.tcs.admin.catalog.domain.category.CategoryGateway;
 import com.tcs.admin.catalog.domain.category.CategoryID;
 import com.tcs.admin.catalog.domain.exceptions.InternalErrorException;
 import com.tcs.admin.catalog.domain.exceptions.NotificationException;
-import com.tcs.admin.catalog.domain.genre.GenreGateway;
 import com.tcs.admin.catalog.domain.genre.GenreID;
+import com.tcs.admin.catalog.domain.resource.Resource;
 import com.tcs.admin.catalog.domain.utils.CollectionUtils;
-import com.tcs.admin.catalog.domain.validation.Error;
 import com.tcs.admin.catalog.domain.validation.ValidationHandler;
 import com.tcs.admin.catalog.domain.validation.handler.Notification;
 import com.tcs.admin.catalog.domain.video.*;
 
 import java.time.Year;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
-import java.util.Set;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import static com.tcs.admin.catalog.domain.video.MediaType.*;
 
@@ -29,22 +25,27 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
 
     private final VideoGateway videoGateway;
     private final MediaResourceGateway mediaResourceGateway;
-    private final CategoryGateway categoryGateway;
-    private final GenreGateway genreGateway;
-    private final CastMemberGateway castMemberGateway;
+    private final VideoReferencesGateway videoReferencesGateway;
+    private final Executor mediaExecutor;
 
     public DefaultCreateVideoUseCase(
             final VideoGateway videoGateway,
             final MediaResourceGateway mediaResourceGateway,
-            final CategoryGateway categoryGateway,
-            final GenreGateway genreGateway,
-            final CastMemberGateway castMemberGateway
+            final VideoReferencesGateway videoReferencesGateway
+    ) {
+        this(videoGateway, mediaResourceGateway, videoReferencesGateway, Runnable::run);
+    }
+
+    public DefaultCreateVideoUseCase(
+            final VideoGateway videoGateway,
+            final MediaResourceGateway mediaResourceGateway,
+            final VideoReferencesGateway videoReferencesGateway,
+            final Executor mediaExecutor
     ) {
         this.videoGateway = Objects.requireNonNull(videoGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
-        this.categoryGateway = Objects.requireNonNull(categoryGateway);
-        this.genreGateway = Objects.requireNonNull(genreGateway);
-        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.videoReferencesGateway = Objects.requireNonNull(videoReferencesGateway);
+        this.mediaExecutor = Objects.requireNonNull(mediaExecutor);
     }
 
     @Override
@@ -56,9 +57,7 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
         final var castMembers = CollectionUtils.mapTo(aCommand.castMembers(), CastMemberID::from);
 
         final var notification = Notification.create();
-        notification.append(validateCategories(categories));
-        notification.append(validateGenres(genres));
-        notification.append(validateCastMembers(castMembers));
+        notification.append(validateReferences(VideoReferences.with(categories, genres, castMembers)));
 
         final var aVideo = Video.newVideo(
                 aCommand.title(),
@@ -86,79 +85,57 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
         final var anId = aVideo.getId();
 
         try {
-            final var aVideoMedia = aCommand.getVideo()
-                    .map(it -> mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(it, VIDEO)))
-                    .orElse(null);
+            final var aVideoMedia = store(aCommand.getVideo(),
+                    it -> mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(it, VIDEO)));
+
+            final var aTrailerMedia = store(aCommand.getTrailer(),
+                    it -> mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(it, TRAILER)));
 
-            final var aTrailerMedia = aCommand.getTrailer()
-                    .map(it -> mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(it, TRAILER)))
-                    .orElse(null);
+            final var aBannerMedia = store(aCommand.getBanner(),
+                    it -> mediaResourceGateway.storeImage(anId, VideoResource.with(it, BANNER)));
 
-            final var aBannerMedia = aCommand.getBanner()
-                    .map(it -> mediaResourceGateway.storeImage(anId, VideoResource.with(it, BANNER)))
-                    .orElse(null);
+            final var aThumbMedia = store(aCommand.getThumbnail(),
+                    it -> mediaResourceGateway.storeImage(anId, VideoResource.with(it, THUMBNAIL)));
 
-            final var aThumbMedia = aCommand.getThumbnail()
-                    .map(it -> mediaResourceGateway.storeImage(anId, VideoResource.with(it, THUMBNAIL)))
-                    .orElse(null);
+            final var aThumbHalfMedia = store(aCommand.getThumbnailHalf(),
+                    it -> mediaResourceGateway.storeImage(anId, VideoResource.with(it, THUMBNAIL_HALF)));
 
-            final var aThumbHalfMedia = aCommand.getThumbnailHalf()
-                    .map(it -> mediaResourceGateway.storeImage(anId, VideoResource.with(it, THUMBNAIL_HALF)))
-                    .orElse(null);
+            // Waits for every store to finish, even when one fails, so that clearResources
+            // never races with an upload still in flight
+            CompletableFuture.allOf(aVideoMedia, aTrailerMedia, aBannerMedia, aThumbMedia, aThumbHalfMedia)
+                    .join();
 
             return videoGateway.create(
                     aVideo
-                            .updateVideoMedia(aVideoMedia)
-                            .updateTrailerMedia(aTrailerMedia)
-                            .updateBannerMedia(aBannerMedia)
-                            .updateThumbnailMedia(aThumbMedia)
-                            .updateThumbnailHalfMedia(aThumbHalfMedia)
+                            .updateVideoMedia(aVideoMedia.join())
+                            .updateTrailerMedia(aTrailerMedia.join())
+                            .updateBannerMedia(aBannerMedia.join())
+                            .updateThumbnailMedia(aThumbMedia.join())
+                            .updateThumbnailHalfMedia(aThumbHalfMedia.join())
             );
         } catch (final Throwable t) {
             mediaResourceGateway.clearResources(anId);
             throw InternalErrorException.with(
                     "An error occurred when creating video [videoId:%s]".formatted(anId.getValue()),
-                    t
+                    t instanceof CompletionException && t.getCause() != null ? t.getCause() : t
             );
         }
     }
 
-    private ValidationHandler validateCategories(final Set<CategoryID> ids) {
-        return validateAggregate("categories", ids, categoryGateway::existsByIds);
-    }
-
-    private ValidationHandler validateGenres(final Set<GenreID> ids) {
-        return validateAggregate("genres", ids, genreGateway::existsByIds);
+    private <T> CompletableFuture<T> store(final Optional<Resource> aResource, final Function<Resource, T> aStore) {
+        return aResource
+                .map(it -> CompletableFuture.supplyAsync(() -> aStore.apply(it), this.mediaExecutor))
+                .orElseGet(() -> CompletableFuture.completedFuture(null));
     }
 
-    private ValidationHandler validateCastMembers(final Set<CastMemberID> ids) {
-        return validateAggregate("cast members", ids, castMemberGateway::existsByIds);
-    }
-
-    private <T extends Identifier> ValidationHandler validateAggregate(
-            final String aggregate,
-            final Set<T> ids,
-            final Function<Iterable<T>, List<T>> existsByIds
-    ) {
+    private ValidationHandler validateReferences(final VideoReferences references) {
         final var notification = Notification.create();
-        if (ids == null || ids.isEmpty()) {
+        if (references.isEmpty()) {
             return notification;
         }
 
-        final var retrievedIds = existsByIds.apply(ids);
-
-        if (ids.size() != retrievedIds.size()) {
-            final var missingIds = new ArrayList<>(ids);
-            missingIds.removeAll(retrievedIds);
-
-            final var missingIdsMessage = missingIds.stream()
-                    .map(T::getValue)
-                    .collect(Collectors.joining(", "));
-
-            notification.append(
-                    new Error("Some %s could not be found: %s".formatted(aggregate, missingIdsMessage))
-            );
-        }
+        new VideoReferencesValidator(references, videoReferencesGateway.existsByIds(references), notification)
+                .validate();
 
         return notification;
     }
@@ -3,12 +3,20 @@ package com.tcs.admin.catalog.application.video.media.get;
 import com.tcs.admin.catalog.domain.resource.Resource;
 
 public record MediaOutput(
-        byte[] content,
+        String checksum,
         String contentType,
-        String name
+        String name,
+        long size,
+        Resource.Source content
         ) {
 
         public static MediaOutput with(final Resource aResource) {
-                return new MediaOutput(aResource.content(), aResource.contentType(), aResource.name());
+                return new MediaOutput(
+                        aResource.checksum(),
+                        aResource.contentType(),
+                        aResource.name(),
+                        aResource.size(),
+                        aResource.source()
+                );
         }
 }
@@ -4,7 +4,14 @@ import com.tcs.admin.catalog.domain.exceptions.NotFoundException;
 import com.tcs.admin.catalog.domain.video.*;
 
 import java.util.Objects;
-
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Applies encoder results with a targeted status update instead of rewriting the whole video.
+ * Results may be redelivered or arrive out of order; the gateway only moves a media forward, so
+ * those are skipped.
+ */
 public class DefaultUpdateMediaStatusUseCase extends UpdateMediaStatusUseCase {
 
     private final VideoGateway videoGateway;
@@ -16,32 +23,32 @@ public class DefaultUpdateMediaStatusUseCase extends UpdateMediaStatusUseCase {
     @Override
     public void execute(final UpdateMediaStatusCommand anIn) {
         final var anId = VideoID.from(anIn.videoId());
-        final var resourceId = anIn.resourceId();
-        final var folder = anIn.folder();
-        final var filename = anIn.filename();
+        final var aStatus = anIn.status();
 
-        final var aVideo = this.videoGateway.findById(anId)
-                .orElseThrow(() -> notFound(anId));
+        final var resourceId = anIn.resourceId() != null
+                ? Optional.of(anIn.resourceId())
+                : findByRawLocation(anId, anIn.rawLocation(), aStatus);
 
-        final var encodedPath = "%s/%s".formatted(folder, filename);
-        if (matches(resourceId, aVideo.getVideo().orElse(null))) {
-            updateVideo(anIn.status(), MediaType.VIDEO, aVideo, encodedPath);
-        } else if (matches(resourceId, aVideo.getTrailer().orElse(null))) {
-            updateVideo(anIn.status(), MediaType.TRAILER, aVideo, encodedPath);
-        }
-    }
+        final var encodedPath = MediaStatus.COMPLETED == aStatus
+                ? "%s/%s".formatted(anIn.folder(), anIn.filename())
+                : null;
 
-    private void updateVideo(final MediaStatus aStatus, final MediaType aType, final Video aVideo, final String encodedPath) {
-        switch (aStatus) {
-            case PROCESSING -> this.videoGateway.update(aVideo.processing(aType));
-            case COMPLETED -> this.videoGateway.update(aVideo.completed(aType, encodedPath));
-            default -> {}
-        }
+        resourceId.ifPresent(id -> this.videoGateway.updateMediaStatus(anId, id, aStatus, encodedPath));
     }
 
-    private boolean matches(String anId, AudioVideoMedia aMedia) {
-        if (aMedia == null) return false;
-        return aMedia.id().equals(anId);
+    /**
+     * Encoder failures only echo the raw location that was sent for encoding, so the media is
+     * looked up in the video first.
+     */
+    private Optional<String> findByRawLocation(final VideoID anId, final String rawLocation, final MediaStatus aStatus) {
+        final var aVideo = this.videoGateway.findById(anId)
+                .orElseThrow(() -> notFound(anId));
+
+        return Stream.of(aVideo.getVideo(), aVideo.getTrailer())
+                .flatMap(Optional::stream)
+                .filter(media -> media.rawLocation().equals(rawLocation) && media.canMoveTo(aStatus))
+                .map(AudioVideoMedia::id)
+                .findFirst();
     }
 
     private NotFoundException notFound(VideoID anId) {
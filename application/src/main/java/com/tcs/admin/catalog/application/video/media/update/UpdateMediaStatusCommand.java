@@ -2,12 +2,17 @@ package com.tcs.admin.catalog.application.video.media.update;
 
 import com.tcs.admin.catalog.domain.video.MediaStatus;
 
+/**
+ * Encoder results identify the media by its resource id, except for failures, which only echo
+ * the raw location that was sent for encoding.
+ */
 public record UpdateMediaStatusCommand(
         String videoId,
         String resourceId,
         MediaStatus status,
         String folder,
-        String filename
+        String filename,
+        String rawLocation
 ) {
 
     public static UpdateMediaStatusCommand with(
@@ -17,6 +22,10 @@ public record UpdateMediaStatusCommand(
             final String folder,
             final String filename
     ) {
-        return new UpdateMediaStatusCommand(videoId, resourceId, status, folder, filename);
+        return new UpdateMediaStatusCommand(videoId, resourceId, status, folder, filename, null);
+    }
+
+    public static UpdateMediaStatusCommand failed(final String videoId, final String rawLocation) {
+        return new UpdateMediaStatusCommand(videoId, null, MediaStatus.ERROR, null, null, rawLocation);
     }
 }
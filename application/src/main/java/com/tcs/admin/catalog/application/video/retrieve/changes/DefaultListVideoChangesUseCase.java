@@ -0,0 +1,24 @@
+package com.tcs.admin.catalog.application.video.retrieve.changes;
+
+import com.tcs.admin.catalog.application.video.retrieve.list.VideoListOutput;
+import com.tcs.admin.catalog.domain.video.VideoGateway;
+import com.tcs.admin.catalog.domain.pagination.Change;
+import com.tcs.admin.catalog.domain.pagination.ChangesQuery;
+import com.tcs.admin.catalog.domain.pagination.Pagination;
+
+import java.util.Objects;
+
+public class DefaultListVideoChangesUseCase extends ListVideoChangesUseCase {
+
+    private final VideoGateway videoGateway;
+
+    public DefaultListVideoChangesUseCase(final VideoGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public Pagination<Change<VideoListOutput>> execute(final ChangesQuery aQuery) {
+        return this.videoGateway.findChanges(aQuery)
+                .map(it -> it.map(VideoListOutput::from));
+    }
+}
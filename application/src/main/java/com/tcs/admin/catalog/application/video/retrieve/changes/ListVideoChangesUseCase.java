@@ -0,0 +1,11 @@
+package com.tcs.admin.catalog.application.video.retrieve.changes;
+
+import com.tcs.admin.catalog.application.UseCase;
+import com.tcs.admin.catalog.application.video.retrieve.list.VideoListOutput;
+import com.tcs.admin.catalog.domain.pagination.Change;
+import com.tcs.admin.catalog.domain.pagination.ChangesQuery;
+import com.tcs.admin.catalog.domain.pagination.Pagination;
+
+public abstract class ListVideoChangesUseCase
+        extends UseCase<ChangesQuery, Pagination<Change<VideoListOutput>>> {
+}
@@ -0,0 +1,21 @@
+package com.tcs.admin.catalog.application.video.retrieve.export;
+
+import com.tcs.admin.catalog.application.video.retrieve.list.VideoListOutput;
+import com.tcs.admin.catalog.domain.video.VideoGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class DefaultExportVideosUseCase extends ExportVideosUseCase {
+
+    private final VideoGateway videoGateway;
+
+    public DefaultExportVideosUseCase(final VideoGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public void execute(final Consumer<VideoListOutput> aConsumer) {
+        this.videoGateway.forEach(it -> aConsumer.accept(VideoListOutput.from(it)));
+    }
+}
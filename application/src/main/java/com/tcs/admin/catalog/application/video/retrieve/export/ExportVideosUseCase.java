@@ -0,0 +1,9 @@
+package com.tcs.admin.catalog.application.video.retrieve.export;
+
+import com.tcs.admin.catalog.application.UnitUseCase;
+import com.tcs.admin.catalog.application.video.retrieve.list.VideoListOutput;
+
+import java.util.function.Consumer;
+
+public abstract class ExportVideosUseCase extends UnitUseCase<Consumer<VideoListOutput>> {
+}
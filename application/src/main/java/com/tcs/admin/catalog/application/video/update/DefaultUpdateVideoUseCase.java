@@ -1,29 +1,20 @@
 package com.tcs.admin.catalog.application.video.update;
 
 import com.tcs.admin.catalog.domain.Identifier;
-import com.tcs.admin.catalog.domain.castmember.CastMemberGateway;
 import com.tcs.admin.catalog.domain.castmember.CastMemberID;
-import com.tcs.admin.catalog.domain.category.CategoryGateway;
 import com.tcs.admin.catalog.domain.category.CategoryID;
 import com.tcs.admin.catalog.domain.exceptions.InternalErrorException;
 import com.tcs.admin.catalog.domain.exceptions.NotFoundException;
 import com.tcs.admin.catalog.domain.exceptions.NotificationException;
-import com.tcs.admin.catalog.domain.genre.GenreGateway;
 import com.tcs.admin.catalog.domain.genre.GenreID;
 import com.tcs.admin.catalog.domain.utils.CollectionUtils;
-import com.tcs.admin.catalog.domain.validation.Error;
 import com.tcs.admin.catalog.domain.validation.ValidationHandler;
 import com.tcs.admin.catalog.domain.validation.handler.Notification;
 import com.tcs.admin.catalog.domain.video.*;
 
 import java.time.Year;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
-import java.util.Set;
-import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 import static com.tcs.admin.catalog.domain.video.MediaType.*;
 
@@ -31,22 +22,16 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
 
     private final VideoGateway videoGateway;
     private final MediaResourceGateway mediaResourceGateway;
-    private final CategoryGateway categoryGateway;
-    private final GenreGateway genreGateway;
-    private final CastMemberGateway castMemberGateway;
+    private final VideoReferencesGateway videoReferencesGateway;
 
     public DefaultUpdateVideoUseCase(
             final VideoGateway videoGateway,
             final MediaResourceGateway mediaResourceGateway,
-            final CategoryGateway categoryGateway,
-            final GenreGateway genreGateway,
-            final CastMemberGateway castMemberGateway
+            final VideoReferencesGateway videoReferencesGateway
     ) {
         this.videoGateway = Objects.requireNonNull(videoGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
-        this.categoryGateway = Objects.requireNonNull(categoryGateway);
-        this.genreGateway = Objects.requireNonNull(genreGateway);
-        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.videoReferencesGateway = Objects.requireNonNull(videoReferencesGateway);
     }
 
 
@@ -63,9 +48,7 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
                 .orElseThrow(notFound(anId));
 
         final var notification = Notification.create();
-        notification.append(validateCategories(categories));
-        notification.append(validateGenres(genres));
-        notification.append(validateCastMembers(castMembers));
+        notification.append(validateReferences(VideoReferences.with(categories, genres, castMembers)));
 
         aVideo.update(
                 aCommand.title(),
@@ -128,42 +111,14 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
         }
     }
 
-    private ValidationHandler validateCategories(final Set<CategoryID> ids) {
-        return validateAggregate("categories", ids, categoryGateway::existsByIds);
-    }
-
-    private ValidationHandler validateGenres(final Set<GenreID> ids) {
-        return validateAggregate("genres", ids, genreGateway::existsByIds);
-    }
-
-    private ValidationHandler validateCastMembers(final Set<CastMemberID> ids) {
-        return validateAggregate("cast members", ids, castMemberGateway::existsByIds);
-    }
-
-    private <T extends Identifier> ValidationHandler validateAggregate(
-            final String aggregate,
-            final Set<T> ids,
-            final Function<Iterable<T>, List<T>> existsByIds
-    ) {
+    private ValidationHandler validateReferences(final VideoReferences references) {
         final var notification = Notification.create();
-        if (ids == null || ids.isEmpty()) {
+        if (references.isEmpty()) {
             return notification;
         }
 
-        final var retrievedIds = existsByIds.apply(ids);
-
-        if (ids.size() != retrievedIds.size()) {
-            final var missingIds = new ArrayList<>(ids);
-            missingIds.removeAll(retrievedIds);
-
-            final var missingIdsMessage = missingIds.stream()
-                    .map(T::getValue)
-                    .collect(Collectors.joining(", "));
-
-            notification.append(
-                    new Error("Some %s could not be found: %s".formatted(aggregate, missingIdsMessage))
-            );
-        }
+        new VideoReferencesValidator(references, videoReferencesGateway.existsByIds(references), notification)
+                .validate();
 
         return notification;
     }
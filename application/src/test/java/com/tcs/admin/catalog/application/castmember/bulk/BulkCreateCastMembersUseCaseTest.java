@@ -0,0 +1,101 @@
+package com.tcs.admin.catalog.application.castmember.bulk;
+
+import com.tcs.admin.catalog.application.UseCaseTest;
+import com.tcs.admin.catalog.application.castmember.create.CreateCastMemberCommand;
+import com.tcs.admin.catalog.domain.Fixture;
+import com.tcs.admin.catalog.domain.castmember.CastMemberGateway;
+import com.tcs.admin.catalog.domain.exceptions.NotificationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkCreateCastMembersUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @InjectMocks
+    private DefaultBulkCreateCastMembersUseCase useCase;
+
+    @Override
+    protected void cleanUp() {
+        Mockito.reset(castMemberGateway);
+    }
+
+    @Test
+    public void givenValidCommands_whenCallsBulkCreate_thenCreateAllAtOnce() {
+        final var aCommand = BulkCreateCastMembersCommand.with(List.of(
+                CreateCastMemberCommand.with(Fixture.name(), Fixture.CastMembers.type()),
+                CreateCastMemberCommand.with(Fixture.name(), Fixture.CastMembers.type()),
+                CreateCastMemberCommand.with(Fixture.name(), Fixture.CastMembers.type())
+        ));
+
+        when(castMemberGateway.createAll(any()))
+                .thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(aCommand);
+
+        Assertions.assertEquals(3, actualOutput.ids().size());
+        Assertions.assertTrue(actualOutput.ids().stream().allMatch(Objects::nonNull));
+
+        verify(castMemberGateway, times(1)).createAll(argThat(members ->
+                members.size() == 3
+                        && Objects.equals(aCommand.items().get(0).name(), members.get(0).getName())
+                        && Objects.equals(aCommand.items().get(2).type(), members.get(2).getType())
+        ));
+        verify(castMemberGateway, times(0)).create(any());
+    }
+
+    @Test
+    public void givenInvalidItems_whenCallsBulkCreate_thenReportEveryErrorByPosition() {
+        final var aCommand = BulkCreateCastMembersCommand.with(List.of(
+                CreateCastMemberCommand.with(Fixture.name(), Fixture.CastMembers.type()),
+                CreateCastMemberCommand.with(null, Fixture.CastMembers.type()),
+                CreateCastMemberCommand.with(Fixture.name(), null)
+        ));
+
+        final var actualException = Assertions.assertThrows(
+                NotificationException.class,
+                () -> useCase.execute(aCommand)
+        );
+
+        Assertions.assertEquals(2, actualException.getErrors().size());
+        Assertions.assertEquals("[1] 'name' should not be null", actualException.getErrors().get(0).message());
+        Assertions.assertEquals("[2] 'type' should not be null", actualException.getErrors().get(1).message());
+
+        verify(castMemberGateway, times(0)).createAll(any());
+    }
+
+    @Test
+    public void givenTooManyItems_whenCallsBulkCreate_thenThrowsNotificationException() {
+        final var aCommand = BulkCreateCastMembersCommand.with(Collections.nCopies(
+                BulkCreateCastMembersUseCase.MAX_ITEMS + 1,
+                CreateCastMemberCommand.with(Fixture.name(), Fixture.CastMembers.type())
+        ));
+
+        final var actualException = Assertions.assertThrows(
+                NotificationException.class,
+                () -> useCase.execute(aCommand)
+        );
+
+        Assertions.assertEquals(
+                "'items' must have between 1 and %d entries".formatted(BulkCreateCastMembersUseCase.MAX_ITEMS),
+                actualException.getErrors().get(0).message()
+        );
+        verify(castMemberGateway, times(0)).createAll(any());
+    }
+}
@@ -0,0 +1,62 @@
+package com.tcs.admin.catalog.application.category.retrieve.changes;
+
+import com.tcs.admin.catalog.application.UseCaseTest;
+import com.tcs.admin.catalog.application.category.retrieve.list.CategoryListOutput;
+import com.tcs.admin.catalog.domain.category.Category;
+import com.tcs.admin.catalog.domain.category.CategoryGateway;
+import com.tcs.admin.catalog.domain.pagination.Change;
+import com.tcs.admin.catalog.domain.pagination.ChangesQuery;
+import com.tcs.admin.catalog.domain.pagination.Pagination;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ListCategoryChangesUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @InjectMocks
+    private DefaultListCategoryChangesUseCase useCase;
+
+    @Override
+    protected void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenValidQuery_whenCallsListCategoryChanges_thenReturnUpsertsAndTombstones() {
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var deletedAt = aCategory.getUpdatedAt().plusSeconds(1);
+        final var expectedNextCursor = "abc";
+        final var aQuery = new ChangesQuery("", 10);
+
+        final var changes = List.of(
+                Change.upsert(aCategory.getId().getValue(), aCategory.getUpdatedAt(), aCategory),
+                Change.<Category>deleted("123", deletedAt)
+        );
+
+        final var expectedItems = List.of(
+                Change.upsert(aCategory.getId().getValue(), aCategory.getUpdatedAt(), CategoryListOutput.from(aCategory)),
+                Change.<CategoryListOutput>deleted("123", deletedAt)
+        );
+
+        when(categoryGateway.findChanges(eq(aQuery)))
+                .thenReturn(Pagination.keyset(10, changes, expectedNextCursor));
+
+        final var actualResult = useCase.execute(aQuery);
+
+        Assertions.assertEquals(expectedItems, actualResult.items());
+        Assertions.assertEquals(expectedNextCursor, actualResult.nextCursor());
+    }
+}
@@ -0,0 +1,58 @@
+package com.tcs.admin.catalog.application.category.retrieve.export;
+
+import com.tcs.admin.catalog.application.UseCaseTest;
+import com.tcs.admin.catalog.application.category.retrieve.list.CategoryListOutput;
+import com.tcs.admin.catalog.domain.category.Category;
+import com.tcs.admin.catalog.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+public class ExportCategoriesUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @InjectMocks
+    private DefaultExportCategoriesUseCase useCase;
+
+    @Override
+    protected void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenPersistedCategories_whenCallsExport_thenHandEachOneOver() {
+        final var categories = List.of(
+                Category.newCategory("Movies", null, true),
+                Category.newCategory("Series", null, true)
+        );
+
+        final var expectedItems = categories.stream()
+                .map(CategoryListOutput::from)
+                .toList();
+
+        doAnswer(invocation -> {
+            final Consumer<Category> aConsumer = invocation.getArgument(0);
+            categories.forEach(aConsumer);
+            return null;
+        }).when(categoryGateway).forEach(any());
+
+        final var actualItems = new ArrayList<CategoryListOutput>();
+        useCase.execute(actualItems::add);
+
+        Assertions.assertEquals(expectedItems, actualItems);
+    }
+}
@@ -0,0 +1,154 @@
+package com.tcs.admin.catalog.application.video.bulk;
+
+import com.tcs.admin.catalog.application.UseCaseTest;
+import com.tcs.admin.catalog.application.video.create.CreateVideoCommand;
+import com.tcs.admin.catalog.domain.Fixture;
+import com.tcs.admin.catalog.domain.exceptions.NotificationException;
+import com.tcs.admin.catalog.domain.video.VideoGateway;
+import com.tcs.admin.catalog.domain.video.VideoReferences;
+import com.tcs.admin.catalog.domain.video.VideoReferencesGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkCreateVideosUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Mock
+    private VideoReferencesGateway videoReferencesGateway;
+
+    @InjectMocks
+    private DefaultBulkCreateVideosUseCase useCase;
+
+    @Override
+    protected void cleanUp() {
+        Mockito.reset(videoGateway, videoReferencesGateway);
+    }
+
+    @Test
+    public void givenValidCommands_whenCallsBulkCreate_thenResolveReferencesOnceAndCreateAll() {
+        final var prime = Fixture.Categories.prime().getId();
+        final var netflix = Fixture.Categories.netflix().getId();
+        final var drama = Fixture.Genres.drama().getId();
+        final var mateus = Fixture.CastMembers.mateus().getId();
+
+        final var aCommand = BulkCreateVideosCommand.with(List.of(
+                command(Set.of(prime.getValue()), Set.of(drama.getValue()), Set.of()),
+                command(Set.of(netflix.getValue()), Set.of(), Set.of(mateus.getValue())),
+                command(Set.of(prime.getValue()), Set.of(), Set.of())
+        ));
+
+        when(videoReferencesGateway.existsByIds(any()))
+                .thenReturn(VideoReferences.with(Set.of(prime, netflix), Set.of(drama), Set.of(mateus)));
+
+        when(videoGateway.createAll(any()))
+                .thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(aCommand);
+
+        Assertions.assertEquals(3, actualOutput.ids().size());
+
+        verify(videoReferencesGateway, times(1)).existsByIds(eq(
+                VideoReferences.with(Set.of(prime, netflix), Set.of(drama), Set.of(mateus))
+        ));
+        verify(videoGateway, times(1)).createAll(argThat(videos ->
+                videos.size() == 3
+                        && Objects.equals(Set.of(prime), videos.get(0).getCategories())
+                        && Objects.equals(Set.of(mateus), videos.get(1).getCastMembers())
+                        && videos.get(2).getVideo().isEmpty()
+        ));
+        verify(videoGateway, times(0)).create(any());
+    }
+
+    @Test
+    public void givenMissingReferenceAndInvalidItem_whenCallsBulkCreate_thenReportErrorsByPosition() {
+        final var prime = Fixture.Categories.prime().getId();
+        final var netflix = Fixture.Categories.netflix().getId();
+
+        final var anInvalid = CreateVideoCommand.with(
+                null,
+                Fixture.Videos.description(),
+                Fixture.year().getValue(),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating().getName(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+
+        final var aCommand = BulkCreateVideosCommand.with(List.of(
+                command(Set.of(prime.getValue()), Set.of(), Set.of()),
+                command(Set.of(netflix.getValue()), Set.of(), Set.of()),
+                anInvalid
+        ));
+
+        when(videoReferencesGateway.existsByIds(any()))
+                .thenReturn(VideoReferences.with(Set.of(prime), Set.of(), Set.of()));
+
+        final var actualException = Assertions.assertThrows(
+                NotificationException.class,
+                () -> useCase.execute(aCommand)
+        );
+
+        Assertions.assertEquals(2, actualException.getErrors().size());
+        Assertions.assertEquals(
+                "[1] Some categories could not be found: %s".formatted(netflix.getValue()),
+                actualException.getErrors().get(0).message()
+        );
+        Assertions.assertEquals("[2] 'title' should not be null", actualException.getErrors().get(1).message());
+
+        verify(videoGateway, times(0)).createAll(any());
+    }
+
+    @Test
+    public void givenEmptyCommand_whenCallsBulkCreate_thenThrowsNotificationException() {
+        final var actualException = Assertions.assertThrows(
+                NotificationException.class,
+                () -> useCase.execute(BulkCreateVideosCommand.with(List.of()))
+        );
+
+        Assertions.assertEquals(
+                "'items' must have between 1 and %d entries".formatted(BulkCreateVideosUseCase.MAX_ITEMS),
+                actualException.getErrors().get(0).message()
+        );
+        verify(videoReferencesGateway, times(0)).existsByIds(any());
+        verify(videoGateway, times(0)).createAll(any());
+    }
+
+    private static CreateVideoCommand command(
+            final Set<String> categories,
+            final Set<String> genres,
+            final Set<String> castMembers
+    ) {
+        return CreateVideoCommand.with(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.year().getValue(),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating().getName(),
+                categories,
+                genres,
+                castMembers
+        );
+    }
+}
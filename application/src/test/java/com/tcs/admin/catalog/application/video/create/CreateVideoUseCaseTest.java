@@ -2,27 +2,26 @@ package com.tcs.admin.catalog.application.video.create;
 
 import com.tcs.admin.catalog.application.UseCaseTest;
 import com.tcs.admin.catalog.domain.Fixture;
-import com.tcs.admin.catalog.domain.castmember.CastMemberGateway;
 import com.tcs.admin.catalog.domain.castmember.CastMemberID;
-import com.tcs.admin.catalog.domain.category.CategoryGateway;
 import com.tcs.admin.catalog.domain.category.CategoryID;
+import com.tcs.admin.catalog.domain.exceptions.InternalErrorException;
 import com.tcs.admin.catalog.domain.exceptions.NotificationException;
-import com.tcs.admin.catalog.domain.genre.GenreGateway;
 import com.tcs.admin.catalog.domain.genre.GenreID;
 import com.tcs.admin.catalog.domain.resource.Resource;
 import com.tcs.admin.catalog.domain.utils.IdUtils;
 import com.tcs.admin.catalog.domain.video.*;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.ArrayList;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
@@ -39,15 +38,10 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
     private MediaResourceGateway mediaResourceGateway;
 
     @Mock
-    private CategoryGateway categoryGateway;
+    private VideoReferencesGateway videoReferencesGateway;
 
-    @Mock
-    private GenreGateway genreGateway;
-
-    @Mock
-    private CastMemberGateway castMemberGateway;
+    private static final ExecutorService MEDIA_EXECUTOR = Executors.newFixedThreadPool(5);
 
-    @InjectMocks
     private DefaultCreateVideoUseCase useCase;
 
     @Override
@@ -55,12 +49,22 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         Mockito.reset(
                 videoGateway,
                 mediaResourceGateway,
-                categoryGateway,
-                genreGateway,
-                castMemberGateway
+                videoReferencesGateway
+        );
+
+        this.useCase = new DefaultCreateVideoUseCase(
+                videoGateway,
+                mediaResourceGateway,
+                videoReferencesGateway,
+                MEDIA_EXECUTOR
         );
     }
 
+    @AfterAll
+    public static void shutdown() {
+        MEDIA_EXECUTOR.shutdownNow();
+    }
+
     @Test
     public void givenValidCommand_whenCallsCreateVideo_thenReturnVideoId() {
         final var expectedTitle = Fixture.title();
@@ -100,14 +104,8 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCategories));
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedGenres));
-
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCastMembers));
+        when(videoReferencesGateway.existsByIds(any()))
+                .thenReturn(VideoReferences.with(expectedCategories, expectedGenres, expectedCastMembers));
 
         when(videoGateway.create(any()))
                 .thenAnswer(returnsFirstArg());
@@ -180,11 +178,8 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedGenres));
-
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCastMembers));
+        when(videoReferencesGateway.existsByIds(any()))
+                .thenReturn(VideoReferences.with(Set.of(), expectedGenres, expectedCastMembers));
 
         when(videoGateway.create(any()))
                 .thenAnswer(returnsFirstArg());
@@ -257,11 +252,8 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCategories));
-
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCastMembers));
+        when(videoReferencesGateway.existsByIds(any()))
+                .thenReturn(VideoReferences.with(expectedCategories, Set.of(), expectedCastMembers));
 
         when(videoGateway.create(any()))
                 .thenAnswer(returnsFirstArg());
@@ -331,11 +323,8 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCategories));
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedGenres));
+        when(videoReferencesGateway.existsByIds(any()))
+                .thenReturn(VideoReferences.with(expectedCategories, expectedGenres, Set.of()));
 
         when(videoGateway.create(any()))
                 .thenAnswer(returnsFirstArg());
@@ -408,14 +397,8 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCategories));
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedGenres));
-
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCastMembers));
+        when(videoReferencesGateway.existsByIds(any()))
+                .thenReturn(VideoReferences.with(expectedCategories, expectedGenres, expectedCastMembers));
 
         when(videoGateway.create(any()))
                 .thenAnswer(returnsFirstArg());
@@ -497,9 +480,7 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(videoGateway, times(0)).create(any());
         verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
         verify(mediaResourceGateway, times(0)).storeImage(any(), any());
-        verify(categoryGateway, times(0)).existsByIds(any());
-        verify(genreGateway, times(0)).existsByIds(any());
-        verify(castMemberGateway, times(0)).existsByIds(any());
+        verify(videoReferencesGateway, times(0)).existsByIds(any());
     }
 
     @Test
@@ -553,9 +534,7 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(videoGateway, times(0)).create(any());
         verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
         verify(mediaResourceGateway, times(0)).storeImage(any(), any());
-        verify(categoryGateway, times(0)).existsByIds(any());
-        verify(genreGateway, times(0)).existsByIds(any());
-        verify(castMemberGateway, times(0)).existsByIds(any());
+        verify(videoReferencesGateway, times(0)).existsByIds(any());
     }
 
     @Test
@@ -609,9 +588,7 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(videoGateway, times(0)).create(any());
         verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
         verify(mediaResourceGateway, times(0)).storeImage(any(), any());
-        verify(categoryGateway, times(0)).existsByIds(any());
-        verify(genreGateway, times(0)).existsByIds(any());
-        verify(castMemberGateway, times(0)).existsByIds(any());
+        verify(videoReferencesGateway, times(0)).existsByIds(any());
     }
 
     @Test
@@ -665,9 +642,7 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(videoGateway, times(0)).create(any());
         verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
         verify(mediaResourceGateway, times(0)).storeImage(any(), any());
-        verify(categoryGateway, times(0)).existsByIds(any());
-        verify(genreGateway, times(0)).existsByIds(any());
-        verify(castMemberGateway, times(0)).existsByIds(any());
+        verify(videoReferencesGateway, times(0)).existsByIds(any());
     }
 
     @Test
@@ -721,9 +696,7 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(videoGateway, times(0)).create(any());
         verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
         verify(mediaResourceGateway, times(0)).storeImage(any(), any());
-        verify(categoryGateway, times(0)).existsByIds(any());
-        verify(genreGateway, times(0)).existsByIds(any());
-        verify(castMemberGateway, times(0)).existsByIds(any());
+        verify(videoReferencesGateway, times(0)).existsByIds(any());
     }
 
     @Test
@@ -769,14 +742,8 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>());
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedGenres));
-
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCastMembers));
+        when(videoReferencesGateway.existsByIds(any()))
+                .thenReturn(VideoReferences.with(Set.of(), expectedGenres, expectedCastMembers));
 
         final var actualException = Assertions.assertThrows(
                 NotificationException.class,
@@ -790,9 +757,8 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(videoGateway, times(0)).create(any());
         verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
         verify(mediaResourceGateway, times(0)).storeImage(any(), any());
-        verify(categoryGateway, times(1)).existsByIds(eq(expectedCategories));
-        verify(genreGateway, times(1)).existsByIds(eq(expectedGenres));
-        verify(castMemberGateway, times(1)).existsByIds(eq(expectedCastMembers));
+        verify(videoReferencesGateway, times(1))
+                .existsByIds(eq(VideoReferences.with(expectedCategories, expectedGenres, expectedCastMembers)));
     }
 
     @Test
@@ -838,14 +804,8 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCategories));
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>());
-
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCastMembers));
+        when(videoReferencesGateway.existsByIds(any()))
+                .thenReturn(VideoReferences.with(expectedCategories, Set.of(), expectedCastMembers));
 
         final var actualException = Assertions.assertThrows(
                 NotificationException.class,
@@ -859,9 +819,8 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(videoGateway, times(0)).create(any());
         verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
         verify(mediaResourceGateway, times(0)).storeImage(any(), any());
-        verify(categoryGateway, times(1)).existsByIds(eq(expectedCategories));
-        verify(genreGateway, times(1)).existsByIds(eq(expectedGenres));
-        verify(castMemberGateway, times(1)).existsByIds(eq(expectedCastMembers));
+        verify(videoReferencesGateway, times(1))
+                .existsByIds(eq(VideoReferences.with(expectedCategories, expectedGenres, expectedCastMembers)));
     }
 
     @Test
@@ -904,14 +863,8 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCategories));
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedGenres));
-
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>());
+        when(videoReferencesGateway.existsByIds(any()))
+                .thenReturn(VideoReferences.with(expectedCategories, expectedGenres, Set.of()));
 
         final var actualException = Assertions.assertThrows(
                 NotificationException.class,
@@ -925,9 +878,8 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(videoGateway, times(0)).create(any());
         verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
         verify(mediaResourceGateway, times(0)).storeImage(any(), any());
-        verify(categoryGateway, times(1)).existsByIds(eq(expectedCategories));
-        verify(genreGateway, times(1)).existsByIds(eq(expectedGenres));
-        verify(castMemberGateway, times(1)).existsByIds(eq(expectedCastMembers));
+        verify(videoReferencesGateway, times(1))
+                .existsByIds(eq(VideoReferences.with(expectedCategories, expectedGenres, expectedCastMembers)));
     }
 
     @Test
@@ -971,14 +923,8 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCategories));
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedGenres));
-
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCastMembers));
+        when(videoReferencesGateway.existsByIds(any()))
+                .thenReturn(VideoReferences.with(expectedCategories, expectedGenres, expectedCastMembers));
 
         when(videoGateway.create(any()))
                 .thenThrow(new RuntimeException(expectedErrorMessage));
@@ -997,6 +943,71 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(mediaResourceGateway).clearResources(any());
     }
 
+    @Test
+    public void givenValidCommand_whenCallsCreateVideoAndOneMediaStoreFails_thenCallClearResourcesAfterAllStores() {
+        final var expectedTitle = Fixture.title();
+        final var expectedDescription = Fixture.Videos.description();
+        final var expectedLaunchYear = Fixture.year();
+        final var expectedDuration = Fixture.duration();
+        final var expectedOpened = Fixture.bool();
+        final var expectedPublished = Fixture.bool();
+        final var expectedRating = Fixture.Videos.rating();
+        final Resource expectedVideo = Fixture.Videos.resource(MediaType.VIDEO);
+        final Resource expectedTrailer = Fixture.Videos.resource(MediaType.TRAILER);
+        final Resource expectedBanner = Fixture.Videos.resource(MediaType.BANNER);
+        final Resource expectedThumb = Fixture.Videos.resource(MediaType.THUMBNAIL);
+        final Resource expectedThumbHalf = Fixture.Videos.resource(MediaType.THUMBNAIL_HALF);
+
+        final var expectedErrorMessage = "An error occurred when creating video [videoId:";
+        final var expectedCause = new IllegalStateException("Banner upload failed");
+
+        final var aCommand = CreateVideoCommand.with(
+                expectedTitle,
+                expectedDescription,
+                expectedLaunchYear.getValue(),
+                expectedDuration,
+                expectedOpened,
+                expectedPublished,
+                expectedRating.getName(),
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                expectedVideo,
+                expectedTrailer,
+                expectedBanner,
+                expectedThumb,
+                expectedThumbHalf
+        );
+
+        mockAudioVideoMedia();
+        when(mediaResourceGateway.storeImage(any(), any())).thenAnswer(t -> {
+            final var videoResource = t.getArgument(1, VideoResource.class);
+            if (videoResource.type() == MediaType.BANNER) {
+                throw expectedCause;
+            }
+            return ImageMedia.with(
+                    videoResource.resource().checksum(),
+                    videoResource.resource().name(),
+                    "/media/img"
+            );
+        });
+
+        final var actualException = Assertions.assertThrows(
+                InternalErrorException.class,
+                () -> useCase.execute(aCommand)
+        );
+
+        Assertions.assertTrue(actualException.getMessage().startsWith(expectedErrorMessage));
+        Assertions.assertEquals(expectedCause, actualException.getCause());
+
+        final var inOrder = inOrder(mediaResourceGateway);
+        inOrder.verify(mediaResourceGateway, times(2)).storeAudioVideo(any(), any());
+        inOrder.verify(mediaResourceGateway, times(1)).clearResources(any());
+
+        verify(mediaResourceGateway, times(3)).storeImage(any(), any());
+        verify(videoGateway, times(0)).create(any());
+    }
+
     private void mockAudioVideoMedia() {
         when(mediaResourceGateway.storeAudioVideo(any(), any())).thenAnswer(t -> {
             final var videoResource = t.getArgument(1, VideoResource.class);
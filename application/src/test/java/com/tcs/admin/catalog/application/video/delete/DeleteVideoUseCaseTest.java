@@ -1,7 +1,6 @@
 package com.tcs.admin.catalog.application.video.delete;
 
 import com.tcs.admin.catalog.application.UseCaseTest;
-import com.tcs.admin.catalog.domain.video.MediaResourceGateway;
 import com.tcs.admin.catalog.domain.video.VideoGateway;
 import com.tcs.admin.catalog.domain.video.VideoID;
 import org.junit.jupiter.api.Assertions;
@@ -21,15 +20,12 @@ public class DeleteVideoUseCaseTest extends UseCaseTest {
     @Mock
     private VideoGateway videoGateway;
 
-    @Mock
-    private MediaResourceGateway mediaResourceGateway;
-
     @InjectMocks
     private DefaultDeleteVideoUseCase useCase;
 
     @Override
     protected void cleanUp() {
-        Mockito.reset(videoGateway, mediaResourceGateway);
+        Mockito.reset(videoGateway);
     }
 
     @Test
@@ -39,13 +35,9 @@ public class DeleteVideoUseCaseTest extends UseCaseTest {
         doNothing()
                 .when(videoGateway).deleteById(any());
 
-        doNothing()
-                .when(mediaResourceGateway).clearResources(any());
-
         Assertions.assertDoesNotThrow(() -> this.useCase.execute(expectedId.getValue()));
 
         verify(videoGateway).deleteById(eq(expectedId));
-        verify(mediaResourceGateway).clearResources(eq(expectedId));
     }
 
     @Test
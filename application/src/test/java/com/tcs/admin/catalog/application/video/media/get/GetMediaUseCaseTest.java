@@ -32,7 +32,7 @@ public class GetMediaUseCaseTest extends UseCaseTest {
     }
 
     @Test
-    public void givenVideoIdAndType_whenValidCommand_thenReturnResource() {
+    public void givenVideoIdAndType_whenValidCommand_thenReturnResource() throws Exception {
         final var expectedId = VideoID.unique();
         final var expectedType = Fixture.mediaType();
         final var expectedResource = Fixture.Videos.resource(expectedType);
@@ -45,7 +45,9 @@ public class GetMediaUseCaseTest extends UseCaseTest {
         final var actualResource = this.useCase.execute(aCommand);
 
         Assertions.assertEquals(expectedResource.name(), actualResource.name());
-        Assertions.assertEquals(expectedResource.content(), actualResource.content());
+        Assertions.assertEquals(expectedResource.checksum(), actualResource.checksum());
+        Assertions.assertEquals(expectedResource.size(), actualResource.size());
+        Assertions.assertArrayEquals(expectedResource.content(), actualResource.content().open().readAllBytes());
         Assertions.assertEquals(expectedResource.contentType(), actualResource.contentType());
     }
 
@@ -4,12 +4,10 @@ import com.tcs.admin.catalog.application.UseCaseTest;
 import com.tcs.admin.catalog.domain.Fixture;
 import com.tcs.admin.catalog.domain.video.MediaStatus;
 import com.tcs.admin.catalog.domain.video.MediaType;
-import com.tcs.admin.catalog.domain.video.Video;
 import com.tcs.admin.catalog.domain.video.VideoGateway;
-import org.junit.jupiter.api.Assertions;
+import com.tcs.admin.catalog.domain.video.VideoID;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -17,8 +15,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
 
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,19 +38,11 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         final var expectedStatus = MediaStatus.COMPLETED;
         final var expectedFolder = "encoded_media";
         final var expectedFilename = "filename.mp4";
-        final var expectedType = MediaType.VIDEO;
-        final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
+        final var expectedMedia = Fixture.Videos.audioVideo(MediaType.VIDEO);
+        final var expectedId = VideoID.unique();
 
-        final var aVideo = Fixture.Videos.fastAndFurious()
-                .updateVideoMedia(expectedMedia);
-
-        final var expectedId = aVideo.getId();
-
-        when(videoGateway.findById(any()))
-                .thenReturn(Optional.of(aVideo));
-
-        when(videoGateway.update(any()))
-                .thenAnswer(returnsFirstArg());
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                .thenReturn(true);
 
         final var aCommand = UpdateMediaStatusCommand.with(
                 expectedId.getValue(),
@@ -64,88 +54,71 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         this.useCase.execute(aCommand);
 
-        verify(videoGateway, times(1)).findById(eq(expectedId));
-
-        final var captor = ArgumentCaptor.forClass(Video.class);
-
-        verify(videoGateway, times(1)).update(captor.capture());
-
-        final var actualVideo = captor.getValue();
-
-        Assertions.assertTrue(actualVideo.getTrailer().isEmpty());
-
-        final var actualVideoMedia = actualVideo.getVideo().get();
-
-        Assertions.assertEquals(expectedMedia.id(), actualVideoMedia.id());
-        Assertions.assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-        Assertions.assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-        Assertions.assertEquals(expectedStatus, actualVideoMedia.status());
-        Assertions.assertEquals(
-                expectedFolder.concat("/").concat(expectedFilename),
-                actualVideoMedia.encodedLocation()
+        verify(videoGateway, times(1)).updateMediaStatus(
+                eq(expectedId),
+                eq(expectedMedia.id()),
+                eq(expectedStatus),
+                eq(expectedFolder.concat("/").concat(expectedFilename))
         );
+        verify(videoGateway, times(0)).findById(any());
+        verify(videoGateway, times(0)).update(any());
     }
 
     @Test
-    public void givenCmdToUpdateTrailer_whenIsValid_thenUpdateStatusAndEncodedLocation() {
-        final var expectedStatus = MediaStatus.COMPLETED;
-        final var expectedFolder = "encoded_media";
-        final var expectedFilename = "filename.mp4";
-        final var expectedType = MediaType.TRAILER;
-        final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
-
-        final var aVideo = Fixture.Videos.fastAndFurious()
-                .updateTrailerMedia(expectedMedia);
-
-        final var expectedId = aVideo.getId();
-
-        when(videoGateway.findById(any()))
-                .thenReturn(Optional.of(aVideo));
+    public void givenCmdToUpdateTrailer_whenIsValidForProcessing_thenUpdateStatusOnly() {
+        final var expectedStatus = MediaStatus.PROCESSING;
+        final var expectedMedia = Fixture.Videos.audioVideo(MediaType.TRAILER);
+        final var expectedId = VideoID.unique();
 
-        when(videoGateway.update(any()))
-                .thenAnswer(returnsFirstArg());
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                .thenReturn(true);
 
         final var aCommand = UpdateMediaStatusCommand.with(
                 expectedId.getValue(),
                 expectedMedia.id(),
                 expectedStatus,
-                expectedFolder,
-                expectedFilename
+                null,
+                null
         );
 
         this.useCase.execute(aCommand);
 
-        verify(videoGateway, times(1)).findById(eq(expectedId));
-
-        final var captor = ArgumentCaptor.forClass(Video.class);
-
-        verify(videoGateway, times(1)).update(captor.capture());
+        verify(videoGateway, times(1)).updateMediaStatus(
+                eq(expectedId),
+                eq(expectedMedia.id()),
+                eq(expectedStatus),
+                isNull()
+        );
+        verify(videoGateway, times(0)).update(any());
+    }
 
-        final var actualVideo = captor.getValue();
+    @Test
+    public void givenCmdForAlreadyCompletedVideo_whenIsDuplicateOrStale_thenNothing() {
+        final var expectedMedia = Fixture.Videos.audioVideo(MediaType.VIDEO);
+        final var expectedId = VideoID.unique();
 
-        Assertions.assertTrue(actualVideo.getVideo().isEmpty());
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                .thenReturn(false);
 
-        final var actualVideoMedia = actualVideo.getTrailer().get();
+        this.useCase.execute(UpdateMediaStatusCommand.with(
+                expectedId.getValue(),
+                expectedMedia.id(),
+                MediaStatus.COMPLETED,
+                "encoded_media",
+                "filename.mp4"
+        ));
 
-        Assertions.assertEquals(expectedMedia.id(), actualVideoMedia.id());
-        Assertions.assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-        Assertions.assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-        Assertions.assertEquals(expectedStatus, actualVideoMedia.status());
-        Assertions.assertEquals(
-                expectedFolder.concat("/").concat(expectedFilename),
-                actualVideoMedia.encodedLocation()
-        );
+        verify(videoGateway, times(1)).updateMediaStatus(any(), any(), any(), any());
+        verify(videoGateway, times(0)).findById(any());
+        verify(videoGateway, times(0)).update(any());
     }
 
     @Test
-    public void givenCmdToUpdateTrailer_whenIsValidForProcessing_thenUpdateStatus() {
-        final var expectedStatus = MediaStatus.PROCESSING;
-        final String expectedFolder = null;
-        final String expectedFilename = null;
-        final var expectedType = MediaType.TRAILER;
-        final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
+    public void givenFailedCmdForTrailer_whenIsValid_thenMoveTrailerToError() {
+        final var expectedMedia = Fixture.Videos.audioVideo(MediaType.TRAILER);
 
         final var aVideo = Fixture.Videos.fastAndFurious()
+                .updateVideoMedia(Fixture.Videos.audioVideo(MediaType.VIDEO))
                 .updateTrailerMedia(expectedMedia);
 
         final var expectedId = aVideo.getId();
@@ -153,64 +126,33 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         when(videoGateway.findById(any()))
                 .thenReturn(Optional.of(aVideo));
 
-        when(videoGateway.update(any()))
-                .thenAnswer(returnsFirstArg());
-
-        final var aCommand = UpdateMediaStatusCommand.with(
-                expectedId.getValue(),
-                expectedMedia.id(),
-                expectedStatus,
-                expectedFolder,
-                expectedFilename
-        );
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                .thenReturn(true);
 
-        this.useCase.execute(aCommand);
+        this.useCase.execute(UpdateMediaStatusCommand.failed(expectedId.getValue(), expectedMedia.rawLocation()));
 
         verify(videoGateway, times(1)).findById(eq(expectedId));
-
-        final var captor = ArgumentCaptor.forClass(Video.class);
-
-        verify(videoGateway, times(1)).update(captor.capture());
-
-        final var actualVideo = captor.getValue();
-
-        Assertions.assertTrue(actualVideo.getVideo().isEmpty());
-
-        final var actualVideoMedia = actualVideo.getTrailer().get();
-
-        Assertions.assertEquals(expectedMedia.id(), actualVideoMedia.id());
-        Assertions.assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-        Assertions.assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-        Assertions.assertEquals(expectedStatus, actualVideoMedia.status());
-        Assertions.assertTrue(actualVideoMedia.encodedLocation().isBlank());
+        verify(videoGateway, times(1)).updateMediaStatus(
+                eq(expectedId),
+                eq(expectedMedia.id()),
+                eq(MediaStatus.ERROR),
+                isNull()
+        );
+        verify(videoGateway, times(0)).update(any());
     }
 
     @Test
-    public void givenCmdToUpdateTrailer_whenIsInvalid_thenNothing() {
-        final var expectedStatus = MediaStatus.COMPLETED;
-        final var expectedFolder = "encoded_media";
-        final var expectedFilename = "filename.mp4";
-        final var expectedType = MediaType.TRAILER;
-        final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
-
+    public void givenFailedCmdForUnknownLocation_whenCallsExecute_thenNothing() {
         final var aVideo = Fixture.Videos.fastAndFurious()
-                .updateTrailerMedia(expectedMedia);
+                .updateVideoMedia(Fixture.Videos.audioVideo(MediaType.VIDEO));
 
         final var expectedId = aVideo.getId();
 
         when(videoGateway.findById(any()))
                 .thenReturn(Optional.of(aVideo));
 
-        final var aCommand = UpdateMediaStatusCommand.with(
-                expectedId.getValue(),
-                "invalid_id",
-                expectedStatus,
-                expectedFolder,
-                expectedFilename
-        );
-
-        this.useCase.execute(aCommand);
+        this.useCase.execute(UpdateMediaStatusCommand.failed(expectedId.getValue(), "/videos/unknown"));
 
-        verify(videoGateway, times(0)).update(any());
+        verify(videoGateway, times(0)).updateMediaStatus(any(), any(), any(), any());
     }
 }
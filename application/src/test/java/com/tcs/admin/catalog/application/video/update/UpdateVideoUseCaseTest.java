@@ -2,12 +2,9 @@ package com.tcs.admin.catalog.application.video.update;
 
 import com.tcs.admin.catalog.application.UseCaseTest;
 import com.tcs.admin.catalog.domain.Fixture;
-import com.tcs.admin.catalog.domain.castmember.CastMemberGateway;
 import com.tcs.admin.catalog.domain.castmember.CastMemberID;
-import com.tcs.admin.catalog.domain.category.CategoryGateway;
 import com.tcs.admin.catalog.domain.category.CategoryID;
 import com.tcs.admin.catalog.domain.exceptions.NotificationException;
-import com.tcs.admin.catalog.domain.genre.GenreGateway;
 import com.tcs.admin.catalog.domain.genre.GenreID;
 import com.tcs.admin.catalog.domain.resource.Resource;
 import com.tcs.admin.catalog.domain.utils.IdUtils;
@@ -36,13 +33,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
     private MediaResourceGateway mediaResourceGateway;
 
     @Mock
-    private CategoryGateway categoryGateway;
-
-    @Mock
-    private GenreGateway genreGateway;
-
-    @Mock
-    private CastMemberGateway castMemberGateway;
+    private VideoReferencesGateway videoReferencesGateway;
 
     @InjectMocks
     private DefaultUpdateVideoUseCase useCase;
@@ -52,9 +43,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         Mockito.reset(
                 videoGateway,
                 mediaResourceGateway,
-                categoryGateway,
-                genreGateway,
-                castMemberGateway
+                videoReferencesGateway
         );
     }
 
@@ -86,14 +75,8 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         when(videoGateway.findById(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCategories));
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedGenres));
-
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCastMembers));
+        when(videoReferencesGateway.existsByIds(any()))
+                .thenReturn(VideoReferences.with(expectedCategories, expectedGenres, expectedCastMembers));
 
         when(videoGateway.update(any()))
                 .thenAnswer(returnsFirstArg());
@@ -176,11 +159,8 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         when(videoGateway.findById(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedGenres));
-
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCastMembers));
+        when(videoReferencesGateway.existsByIds(any()))
+                .thenReturn(VideoReferences.with(Set.of(), expectedGenres, expectedCastMembers));
 
         when(videoGateway.update(any()))
                 .thenAnswer(returnsFirstArg());
@@ -263,11 +243,8 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         when(videoGateway.findById(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCategories));
-
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCastMembers));
+        when(videoReferencesGateway.existsByIds(any()))
+                .thenReturn(VideoReferences.with(expectedCategories, Set.of(), expectedCastMembers));
 
         when(videoGateway.update(any()))
                 .thenAnswer(returnsFirstArg());
@@ -347,11 +324,8 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         when(videoGateway.findById(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCategories));
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedGenres));
+        when(videoReferencesGateway.existsByIds(any()))
+                .thenReturn(VideoReferences.with(expectedCategories, expectedGenres, Set.of()));
 
         when(videoGateway.update(any()))
                 .thenAnswer(returnsFirstArg());
@@ -431,11 +405,8 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         when(videoGateway.findById(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCategories));
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedGenres));
+        when(videoReferencesGateway.existsByIds(any()))
+                .thenReturn(VideoReferences.with(expectedCategories, expectedGenres, Set.of()));
 
         when(videoGateway.update(any()))
                 .thenAnswer(returnsFirstArg());
@@ -546,9 +517,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         verify(videoGateway, times(1)).findById(eq(expectedId));
         verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
         verify(mediaResourceGateway, times(0)).storeImage(any(), any());
-        verify(categoryGateway, times(0)).existsByIds(any());
-        verify(genreGateway, times(0)).existsByIds(any());
-        verify(castMemberGateway, times(0)).existsByIds(any());
+        verify(videoReferencesGateway, times(0)).existsByIds(any());
     }
 
     @Test
@@ -610,9 +579,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         verify(videoGateway, times(1)).findById(eq(expectedId));
         verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
         verify(mediaResourceGateway, times(0)).storeImage(any(), any());
-        verify(categoryGateway, times(0)).existsByIds(any());
-        verify(genreGateway, times(0)).existsByIds(any());
-        verify(castMemberGateway, times(0)).existsByIds(any());
+        verify(videoReferencesGateway, times(0)).existsByIds(any());
     }
 
     @Test
@@ -674,9 +641,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         verify(videoGateway, times(1)).findById(eq(expectedId));
         verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
         verify(mediaResourceGateway, times(0)).storeImage(any(), any());
-        verify(categoryGateway, times(0)).existsByIds(any());
-        verify(genreGateway, times(0)).existsByIds(any());
-        verify(castMemberGateway, times(0)).existsByIds(any());
+        verify(videoReferencesGateway, times(0)).existsByIds(any());
     }
 
     @Test
@@ -738,9 +703,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         verify(videoGateway, times(1)).findById(eq(expectedId));
         verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
         verify(mediaResourceGateway, times(0)).storeImage(any(), any());
-        verify(categoryGateway, times(0)).existsByIds(any());
-        verify(genreGateway, times(0)).existsByIds(any());
-        verify(castMemberGateway, times(0)).existsByIds(any());
+        verify(videoReferencesGateway, times(0)).existsByIds(any());
     }
 
     @Test
@@ -802,9 +765,7 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         verify(videoGateway, times(1)).findById(eq(expectedId));
         verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
         verify(mediaResourceGateway, times(0)).storeImage(any(), any());
-        verify(categoryGateway, times(0)).existsByIds(any());
-        verify(genreGateway, times(0)).existsByIds(any());
-        verify(castMemberGateway, times(0)).existsByIds(any());
+        verify(videoReferencesGateway, times(0)).existsByIds(any());
     }
 
     @Test
@@ -857,14 +818,8 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>());
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedGenres));
-
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCastMembers));
+        when(videoReferencesGateway.existsByIds(any()))
+                .thenReturn(VideoReferences.with(Set.of(), expectedGenres, expectedCastMembers));
 
         final var actualException = Assertions.assertThrows(
                 NotificationException.class,
@@ -878,9 +833,8 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         verify(videoGateway, times(0)).create(any());
         verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
         verify(mediaResourceGateway, times(0)).storeImage(any(), any());
-        verify(categoryGateway, times(1)).existsByIds(eq(expectedCategories));
-        verify(genreGateway, times(1)).existsByIds(eq(expectedGenres));
-        verify(castMemberGateway, times(1)).existsByIds(eq(expectedCastMembers));
+        verify(videoReferencesGateway, times(1))
+                .existsByIds(eq(VideoReferences.with(expectedCategories, expectedGenres, expectedCastMembers)));
     }
 
     @Test
@@ -933,14 +887,8 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCategories));
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>());
-
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCastMembers));
+        when(videoReferencesGateway.existsByIds(any()))
+                .thenReturn(VideoReferences.with(expectedCategories, Set.of(), expectedCastMembers));
 
         final var actualException = Assertions.assertThrows(
                 NotificationException.class,
@@ -954,9 +902,8 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         verify(videoGateway, times(0)).create(any());
         verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
         verify(mediaResourceGateway, times(0)).storeImage(any(), any());
-        verify(categoryGateway, times(1)).existsByIds(eq(expectedCategories));
-        verify(genreGateway, times(1)).existsByIds(eq(expectedGenres));
-        verify(castMemberGateway, times(1)).existsByIds(eq(expectedCastMembers));
+        verify(videoReferencesGateway, times(1))
+                .existsByIds(eq(VideoReferences.with(expectedCategories, expectedGenres, expectedCastMembers)));
     }
 
     @Test
@@ -1006,14 +953,8 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCategories));
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedGenres));
-
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>());
+        when(videoReferencesGateway.existsByIds(any()))
+                .thenReturn(VideoReferences.with(expectedCategories, expectedGenres, Set.of()));
 
         final var actualException = Assertions.assertThrows(
                 NotificationException.class,
@@ -1027,9 +968,8 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         verify(videoGateway, times(0)).create(any());
         verify(mediaResourceGateway, times(0)).storeAudioVideo(any(), any());
         verify(mediaResourceGateway, times(0)).storeImage(any(), any());
-        verify(categoryGateway, times(1)).existsByIds(eq(expectedCategories));
-        verify(genreGateway, times(1)).existsByIds(eq(expectedGenres));
-        verify(castMemberGateway, times(1)).existsByIds(eq(expectedCastMembers));
+        verify(videoReferencesGateway, times(1))
+                .existsByIds(eq(VideoReferences.with(expectedCategories, expectedGenres, expectedCastMembers)));
     }
 
     @Test
@@ -1080,14 +1020,8 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbHalf
         );
 
-        when(categoryGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCategories));
-
-        when(genreGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedGenres));
-
-        when(castMemberGateway.existsByIds(any()))
-                .thenReturn(new ArrayList<>(expectedCastMembers));
+        when(videoReferencesGateway.existsByIds(any()))
+                .thenReturn(VideoReferences.with(expectedCategories, expectedGenres, expectedCastMembers));
 
         when(videoGateway.update(any()))
                 .thenThrow(new RuntimeException(expectedErrorMessage));
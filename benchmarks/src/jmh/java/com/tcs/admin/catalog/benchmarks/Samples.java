@@ -0,0 +1,58 @@
+package com.tcs.admin.catalog.benchmarks;
+
+import com.tcs.admin.catalog.domain.castmember.CastMemberID;
+import com.tcs.admin.catalog.domain.category.CategoryID;
+import com.tcs.admin.catalog.domain.genre.GenreID;
+import com.tcs.admin.catalog.domain.video.AudioVideoMedia;
+import com.tcs.admin.catalog.domain.video.ImageMedia;
+import com.tcs.admin.catalog.domain.video.Rating;
+import com.tcs.admin.catalog.domain.video.Video;
+
+import java.time.Year;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Fixed inputs shared by the suites. Unlike the test fixtures nothing is random, so two runs
+ * measure the same work.
+ */
+public final class Samples {
+
+    public static final String TITLE = "Fast and Furious";
+
+    public static final String DESCRIPTION = "A sample description long enough to look like a real synopsis. ".repeat(8);
+
+    private Samples() {}
+
+    public static Video video(final int associations) {
+        return Video.newVideo(
+                TITLE,
+                DESCRIPTION,
+                Year.of(2025),
+                120.5,
+                Rating.AGE_12,
+                true,
+                true,
+                ids(associations, CategoryID::unique),
+                ids(associations, GenreID::unique),
+                ids(associations, CastMemberID::unique)
+        );
+    }
+
+    public static Video videoWithMedias(final int associations) {
+        return video(associations)
+                .updateVideoMedia(AudioVideoMedia.with("checksum-video", "video.mp4", "videoId-1/type-VIDEO"))
+                .updateTrailerMedia(AudioVideoMedia.with("checksum-trailer", "trailer.mp4", "videoId-1/type-TRAILER"))
+                .updateBannerMedia(ImageMedia.with("checksum-banner", "banner.jpg", "videoId-1/type-BANNER"))
+                .updateThumbnailMedia(ImageMedia.with("checksum-thumbnail", "thumbnail.jpg", "videoId-1/type-THUMBNAIL"))
+                .updateThumbnailHalfMedia(ImageMedia.with("checksum-half", "half.jpg", "videoId-1/type-THUMBNAIL_HALF"));
+    }
+
+    private static <T> Set<T> ids(final int count, final Supplier<T> factory) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> factory.get())
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,48 @@
+package com.tcs.admin.catalog.benchmarks.domain;
+
+import com.tcs.admin.catalog.benchmarks.Samples;
+import com.tcs.admin.catalog.domain.validation.handler.Notification;
+import com.tcs.admin.catalog.domain.video.Rating;
+import com.tcs.admin.catalog.domain.video.Video;
+import com.tcs.admin.catalog.domain.video.VideoValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Year;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VideoBenchmark {
+
+    private Video video;
+
+    @Setup
+    public void setUp() {
+        this.video = Samples.video(3);
+    }
+
+    @Benchmark
+    public Video newVideo() {
+        return Video.newVideo(
+                Samples.TITLE,
+                Samples.DESCRIPTION,
+                Year.of(2025),
+                120.5,
+                Rating.AGE_12,
+                true,
+                true,
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+    }
+
+    @Benchmark
+    public Notification validate() {
+        final var notification = Notification.create();
+        new VideoValidator(this.video, notification).validate();
+        return notification;
+    }
+}
@@ -0,0 +1,113 @@
+package com.tcs.admin.catalog.benchmarks.infrastructure;
+
+import com.tcs.admin.catalog.infrastructure.utils.ChecksumSource;
+import com.tcs.admin.catalog.infrastructure.utils.HashUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CRC32C of uploaded medias, from 1MB images to 1GB videos. Streamed content is generated on
+ * the fly and hashed by the {@link ChecksumSource} uploads are read through, so the large sizes
+ * measure hashing rather than allocating the input.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class ChecksumBenchmark {
+
+    private static final int MB = 1024 * 1024;
+
+    @State(Scope.Benchmark)
+    public static class Streamed {
+
+        @Param({"1", "16", "256", "1024"})
+        private int streamSizeInMb;
+
+        private byte[] chunk;
+
+        @Setup
+        public void setUp() {
+            this.chunk = random(MB);
+        }
+    }
+
+    /**
+     * Only the sizes that are reasonable to hold in memory are hashed from a byte array.
+     */
+    @State(Scope.Benchmark)
+    public static class InMemory {
+
+        @Param({"1", "16"})
+        private int arraySizeInMb;
+
+        private byte[] content;
+
+        @Setup
+        public void setUp() {
+            this.content = random(this.arraySizeInMb * MB);
+        }
+    }
+
+    @Benchmark
+    public String checksumStream(final Streamed state) throws IOException {
+        final var source = new ChecksumSource(() -> new RepeatingInputStream(state.chunk, (long) state.streamSizeInMb * MB));
+        try (final var in = source.open()) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return source.checksum();
+    }
+
+    @Benchmark
+    public String checksumBytes(final InMemory state) {
+        return HashUtils.checksum(state.content);
+    }
+
+    private static byte[] random(final int size) {
+        final var content = new byte[size];
+        new Random(42).nextBytes(content);
+        return content;
+    }
+
+    private static final class RepeatingInputStream extends InputStream {
+
+        private final byte[] chunk;
+
+        private long remaining;
+
+        private int position;
+
+        private RepeatingInputStream(final byte[] chunk, final long length) {
+            this.chunk = chunk;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() {
+            if (this.remaining == 0) {
+                return -1;
+            }
+            final var b = this.chunk[this.position] & 0xFF;
+            this.position = (this.position + 1) % this.chunk.length;
+            this.remaining--;
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (this.remaining == 0) {
+                return -1;
+            }
+            final var read = (int) Math.min(Math.min(len, this.chunk.length - this.position), this.remaining);
+            System.arraycopy(this.chunk, this.position, b, off, read);
+            this.position = (this.position + read) % this.chunk.length;
+            this.remaining -= read;
+            return read;
+        }
+    }
+}
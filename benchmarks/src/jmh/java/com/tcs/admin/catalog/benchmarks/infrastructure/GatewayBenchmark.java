@@ -0,0 +1,186 @@
+package com.tcs.admin.catalog.benchmarks.infrastructure;
+
+import com.tcs.admin.catalog.domain.castmember.CastMember;
+import com.tcs.admin.catalog.domain.castmember.CastMemberGateway;
+import com.tcs.admin.catalog.domain.castmember.CastMemberType;
+import com.tcs.admin.catalog.domain.category.Category;
+import com.tcs.admin.catalog.domain.category.CategoryGateway;
+import com.tcs.admin.catalog.domain.category.CategoryID;
+import com.tcs.admin.catalog.domain.genre.Genre;
+import com.tcs.admin.catalog.domain.genre.GenreGateway;
+import com.tcs.admin.catalog.domain.genre.GenreID;
+import com.tcs.admin.catalog.domain.pagination.Pagination;
+import com.tcs.admin.catalog.domain.pagination.SearchQuery;
+import com.tcs.admin.catalog.domain.video.Rating;
+import com.tcs.admin.catalog.domain.video.Video;
+import com.tcs.admin.catalog.domain.video.VideoGateway;
+import com.tcs.admin.catalog.domain.video.VideoID;
+import com.tcs.admin.catalog.domain.video.VideoPreview;
+import com.tcs.admin.catalog.domain.video.VideoSearchQuery;
+import com.tcs.admin.catalog.infrastructure.configuration.annotations.VideoCreatedQueue;
+import com.tcs.admin.catalog.infrastructure.services.EventService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.time.Year;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Reads through the gateways against the H2 database of the integration tests, migrated by
+ * Flyway and seeded once per trial. Only the persistence beans are started, as in
+ * {@code @MySQLGatewayTest}; events are dropped.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GatewayBenchmark {
+
+    private static final int CATEGORIES = 20;
+
+    private static final int GENRES = 10;
+
+    private static final int CAST_MEMBERS = 50;
+
+    @Param({"1000"})
+    private int videos;
+
+    private ConfigurableApplicationContext context;
+
+    private CategoryGateway categoryGateway;
+
+    private GenreGateway genreGateway;
+
+    private VideoGateway videoGateway;
+
+    private CategoryID categoryId;
+
+    private GenreID genreId;
+
+    private VideoID videoId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = new SpringApplicationBuilder(Persistence.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test-integration")
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "logging.level.com.tcs.admin.catalog=WARN"
+                )
+                .run();
+
+        this.categoryGateway = this.context.getBean(CategoryGateway.class);
+        this.genreGateway = this.context.getBean(GenreGateway.class);
+        this.videoGateway = this.context.getBean(VideoGateway.class);
+
+        final var categories = IntStream.range(0, CATEGORIES)
+                .mapToObj(i -> this.categoryGateway.create(Category.newCategory("Category " + i, "Description " + i, true)))
+                .map(Category::getId)
+                .toList();
+
+        final var genres = IntStream.range(0, GENRES)
+                .mapToObj(i -> this.genreGateway.create(Genre.newGenre("Genre " + i, true)
+                        .addCategories(List.of(categories.get(i % CATEGORIES), categories.get((i + 1) % CATEGORIES)))))
+                .map(Genre::getId)
+                .toList();
+
+        final var castMembers = this.context.getBean(CastMemberGateway.class)
+                .createAll(IntStream.range(0, CAST_MEMBERS)
+                        .mapToObj(i -> CastMember.newMember("Cast member " + i, i % 2 == 0 ? CastMemberType.ACTOR : CastMemberType.DIRECTOR))
+                        .toList())
+                .stream()
+                .map(CastMember::getId)
+                .toList();
+
+        final var created = this.videoGateway.createAll(IntStream.range(0, this.videos)
+                .mapToObj(i -> Video.newVideo(
+                        "Video " + i,
+                        "Description of video " + i,
+                        Year.of(1990 + i % 35),
+                        90.0 + i % 60,
+                        Rating.values()[i % Rating.values().length],
+                        i % 2 == 0,
+                        i % 3 == 0,
+                        Set.of(categories.get(i % CATEGORIES), categories.get((i + 7) % CATEGORIES)),
+                        Set.of(genres.get(i % GENRES)),
+                        Set.of(castMembers.get(i % CAST_MEMBERS), castMembers.get((i + 1) % CAST_MEMBERS), castMembers.get((i + 2) % CAST_MEMBERS))
+                ))
+                .toList());
+
+        this.categoryId = categories.get(CATEGORIES / 2);
+        this.genreId = genres.get(GENRES / 2);
+        this.videoId = created.get(created.size() / 2).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public Optional<Category> categoryFindById() {
+        return this.categoryGateway.findById(this.categoryId);
+    }
+
+    @Benchmark
+    public Pagination<Category> categoryFindAll() {
+        return this.categoryGateway.findAll(new SearchQuery(0, 10, "", "name", "asc"));
+    }
+
+    @Benchmark
+    public Optional<Genre> genreFindById() {
+        return this.genreGateway.findById(this.genreId);
+    }
+
+    @Benchmark
+    public Optional<Video> videoFindById() {
+        return this.videoGateway.findById(this.videoId);
+    }
+
+    @Benchmark
+    public Pagination<VideoPreview> videoFindAll() {
+        return this.videoGateway.findAll(new VideoSearchQuery(0, 25, "", "title", "asc", Set.of(), Set.of(), Set.of()));
+    }
+
+    @Benchmark
+    public Pagination<VideoPreview> videoFindAllByCategory() {
+        return this.videoGateway.findAll(new VideoSearchQuery(0, 25, "", "title", "asc", Set.of(this.categoryId), Set.of(), Set.of()));
+    }
+
+    @Benchmark
+    public Pagination<VideoPreview> videoFindAllKeyset() {
+        return this.videoGateway.findAll(new VideoSearchQuery(0, 25, "", "title", "asc", Set.of(), Set.of(), Set.of(), ""));
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan("com.tcs.admin.catalog.infrastructure")
+    @EnableJpaRepositories("com.tcs.admin.catalog.infrastructure")
+    @ComponentScan(
+            basePackages = "com.tcs.admin.catalog.infrastructure",
+            useDefaultFilters = false,
+            includeFilters = {
+                @ComponentScan.Filter(type = FilterType.REGEX, pattern = {".*MySQLGateway", ".*DefaultVideoGateway", ".*CacheConfig", ".*SearchConfig", ".*ChangesConfig"})
+    })
+    static class Persistence {
+
+        @Bean
+        @VideoCreatedQueue
+        EventService eventService() {
+            return event -> {};
+        }
+    }
+}
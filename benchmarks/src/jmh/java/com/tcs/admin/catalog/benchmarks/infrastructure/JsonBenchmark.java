@@ -0,0 +1,63 @@
+package com.tcs.admin.catalog.benchmarks.infrastructure;
+
+import com.tcs.admin.catalog.infrastructure.configuration.json.Json;
+import com.tcs.admin.catalog.infrastructure.video.models.VideoEncoderCompleted;
+import com.tcs.admin.catalog.infrastructure.video.models.VideoEncoderError;
+import com.tcs.admin.catalog.infrastructure.video.models.VideoEncoderResult;
+import com.tcs.admin.catalog.infrastructure.video.models.VideoMessage;
+import com.tcs.admin.catalog.infrastructure.video.models.VideoMetadata;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trips of the encoder results consumed from the video encoded queue.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonBenchmark {
+
+    private VideoEncoderResult completed;
+
+    private VideoEncoderResult error;
+
+    private String completedJson;
+
+    private String errorJson;
+
+    @Setup
+    public void setUp() {
+        this.completed = new VideoEncoderCompleted(
+                "0b6e0a2c8e8f4f0a9a6d2a1f3c4b5d6e",
+                "codeeducationtest",
+                new VideoMetadata("anyfolder", "0b6e0a2c8e8f4f0a9a6d2a1f3c4b5d6e", "videoId-1/type-VIDEO")
+        );
+        this.error = new VideoEncoderError(
+                new VideoMessage("0b6e0a2c8e8f4f0a9a6d2a1f3c4b5d6e", "videoId-1/type-VIDEO"),
+                "Resource not found"
+        );
+        this.completedJson = Json.writeValueAsString(this.completed);
+        this.errorJson = Json.writeValueAsString(this.error);
+    }
+
+    @Benchmark
+    public String writeCompleted() {
+        return Json.writeValueAsString(this.completed);
+    }
+
+    @Benchmark
+    public String writeError() {
+        return Json.writeValueAsString(this.error);
+    }
+
+    @Benchmark
+    public VideoEncoderResult readCompleted() {
+        return Json.readValue(this.completedJson, VideoEncoderResult.class);
+    }
+
+    @Benchmark
+    public VideoEncoderResult readError() {
+        return Json.readValue(this.errorJson, VideoEncoderResult.class);
+    }
+}
@@ -0,0 +1,52 @@
+package com.tcs.admin.catalog.benchmarks.infrastructure;
+
+import com.tcs.admin.catalog.application.video.retrieve.get.VideoOutput;
+import com.tcs.admin.catalog.benchmarks.Samples;
+import com.tcs.admin.catalog.domain.video.Video;
+import com.tcs.admin.catalog.infrastructure.video.models.VideoResponse;
+import com.tcs.admin.catalog.infrastructure.video.persistence.VideoJpaEntity;
+import com.tcs.admin.catalog.infrastructure.video.presenters.VideoApiPresenter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The conversions every video read and write goes through: domain to entity and back, and
+ * output to response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VideoMappingBenchmark {
+
+    @Param({"0", "10", "100"})
+    private int associations;
+
+    private Video video;
+
+    private VideoJpaEntity entity;
+
+    private VideoOutput output;
+
+    @Setup
+    public void setUp() {
+        this.video = Samples.videoWithMedias(this.associations);
+        this.entity = VideoJpaEntity.from(this.video);
+        this.output = VideoOutput.from(this.video);
+    }
+
+    @Benchmark
+    public VideoJpaEntity entityFrom() {
+        return VideoJpaEntity.from(this.video);
+    }
+
+    @Benchmark
+    public Video entityToDomain() {
+        return this.entity.toDomain();
+    }
+
+    @Benchmark
+    public VideoResponse present() {
+        return VideoApiPresenter.present(this.output);
+    }
+}
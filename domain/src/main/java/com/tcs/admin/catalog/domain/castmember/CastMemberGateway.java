@@ -1,15 +1,23 @@
 package com.tcs.admin.catalog.domain.castmember;
 
+import com.tcs.admin.catalog.domain.pagination.Change;
+import com.tcs.admin.catalog.domain.pagination.ChangesQuery;
 import com.tcs.admin.catalog.domain.pagination.Pagination;
 import com.tcs.admin.catalog.domain.pagination.SearchQuery;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CastMemberGateway {
 
     CastMember create(CastMember aCastMember);
 
+    /**
+     * Inserts all the given cast members in a single transaction.
+     */
+    List<CastMember> createAll(List<CastMember> aCastMembers);
+
     void deleteById(CastMemberID anId);
 
     Optional<CastMember> findById(CastMemberID anId);
@@ -18,5 +26,9 @@ public interface CastMemberGateway {
 
     Pagination<CastMember> findAll(SearchQuery aQuery);
 
+    void forEach(Consumer<CastMember> aConsumer);
+
+    Pagination<Change<CastMember>> findChanges(ChangesQuery aQuery);
+
     List<CastMemberID> existsByIds(Iterable<CastMemberID> ids);
 }
@@ -1,10 +1,13 @@
 package com.tcs.admin.catalog.domain.category;
 
+import com.tcs.admin.catalog.domain.pagination.Change;
+import com.tcs.admin.catalog.domain.pagination.ChangesQuery;
 import com.tcs.admin.catalog.domain.pagination.SearchQuery;
 import com.tcs.admin.catalog.domain.pagination.Pagination;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CategoryGateway {
 
@@ -18,5 +21,9 @@ public interface CategoryGateway {
 
     Pagination<Category> findAll(SearchQuery aQuery);
 
+    void forEach(Consumer<Category> aConsumer);
+
+    Pagination<Change<Category>> findChanges(ChangesQuery aQuery);
+
     List<CategoryID> existsByIds(Iterable<CategoryID> ids);
 }
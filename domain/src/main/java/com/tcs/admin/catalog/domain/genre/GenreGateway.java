@@ -1,10 +1,13 @@
 package com.tcs.admin.catalog.domain.genre;
 
+import com.tcs.admin.catalog.domain.pagination.Change;
+import com.tcs.admin.catalog.domain.pagination.ChangesQuery;
 import com.tcs.admin.catalog.domain.pagination.Pagination;
 import com.tcs.admin.catalog.domain.pagination.SearchQuery;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface GenreGateway {
 
@@ -18,5 +21,9 @@ public interface GenreGateway {
 
     Pagination<Genre> findAll(SearchQuery aQuery);
 
+    void forEach(Consumer<Genre> aConsumer);
+
+    Pagination<Change<Genre>> findChanges(ChangesQuery aQuery);
+
     List<GenreID> existsByIds(Iterable<GenreID> ids);
 }
@@ -0,0 +1,37 @@
+package com.tcs.admin.catalog.domain.pagination;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * An entry of a change feed: the current state of an aggregate that was created or updated at
+ * {@code changedAt}, or a tombstone, with no {@code item}, for one that was deleted at that instant.
+ */
+public record Change<T>(
+        String id,
+        Instant changedAt,
+        T item
+) {
+
+    public Change {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(changedAt);
+    }
+
+    public static <T> Change<T> upsert(final String id, final Instant changedAt, final T item) {
+        return new Change<>(id, changedAt, Objects.requireNonNull(item));
+    }
+
+    public static <T> Change<T> deleted(final String id, final Instant changedAt) {
+        return new Change<>(id, changedAt, null);
+    }
+
+    public boolean isDeleted() {
+        return item == null;
+    }
+
+    public <R> Change<R> map(final Function<T, R> mapper) {
+        return isDeleted() ? deleted(id, changedAt) : upsert(id, changedAt, mapper.apply(item));
+    }
+}
@@ -0,0 +1,12 @@
+package com.tcs.admin.catalog.domain.pagination;
+
+/**
+ * Reads a change feed ordered by {@code (changedAt, id)}. A blank cursor starts from the beginning;
+ * the {@link Pagination#nextCursor()} of a page is always set and continues after it, so it can be
+ * stored and used to poll again later. A page shorter than {@code perPage} means the reader caught up.
+ */
+public record ChangesQuery(
+        String cursor,
+        int perPage
+) {
+}
@@ -3,17 +3,33 @@ package com.tcs.admin.catalog.domain.pagination;
 import java.util.List;
 import java.util.function.Function;
 
+/**
+ * A page of results. Offset pages carry the page number and the total count; keyset pages,
+ * returned when the query asks for a cursor, carry {@code nextCursor} instead and leave
+ * {@code total} as {@link #UNKNOWN_TOTAL} because no count query is run.
+ */
 public record Pagination<T>(
         int currentPage,
         int perPage,
         long total,
-        List<T> items
+        List<T> items,
+        String nextCursor
 ) {
 
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public Pagination(final int currentPage, final int perPage, final long total, final List<T> items) {
+        this(currentPage, perPage, total, items, null);
+    }
+
+    public static <T> Pagination<T> keyset(final int perPage, final List<T> items, final String nextCursor) {
+        return new Pagination<>(0, perPage, UNKNOWN_TOTAL, items, nextCursor);
+    }
+
     public <R> Pagination<R> map(Function<T, R> mapper) {
         final List<R> aNewList = this.items().stream()
                 .map(mapper)
                 .toList();
-        return new Pagination<>(currentPage(), perPage(), total(), aNewList);
+        return new Pagination<>(currentPage(), perPage(), total(), aNewList, nextCursor());
     }
 }
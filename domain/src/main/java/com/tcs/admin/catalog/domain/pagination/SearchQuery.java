@@ -1,10 +1,24 @@
 package com.tcs.admin.catalog.domain.pagination;
 
+/**
+ * A {@code null} cursor selects offset paging by {@code page}. Any other value selects keyset
+ * paging: a blank cursor starts from the first item and a {@link Pagination#nextCursor()}
+ * continues after the last item of the previous page.
+ */
 public record SearchQuery(
         int page,
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        String cursor
 ) {
+
+    public SearchQuery(final int page, final int perPage, final String terms, final String sort, final String direction) {
+        this(page, perPage, terms, sort, direction, null);
+    }
+
+    public boolean isKeyset() {
+        return cursor != null;
+    }
 }
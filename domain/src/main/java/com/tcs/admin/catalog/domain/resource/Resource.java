@@ -2,33 +2,117 @@ package com.tcs.admin.catalog.domain.resource;
 
 import com.tcs.admin.catalog.domain.ValueObject;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 public class Resource extends ValueObject {
 
     private final String checksum;
+    private final Supplier<String> pendingChecksum;
     private final byte[] content;
+    private final Source source;
+    private final long size;
     private final String contentType;
     private final String name;
 
-    private Resource(final String checksum, final byte[] content, final String contentType, final String name){
-        this.checksum = Objects.requireNonNull(checksum);
-        this.content = Objects.requireNonNull(content);
+    private Resource(
+            final String checksum,
+            final Supplier<String> pendingChecksum,
+            final byte[] content,
+            final Source source,
+            final long size,
+            final String contentType,
+            final String name
+    ) {
+        this.checksum = checksum;
+        this.pendingChecksum = checksum != null ? null : Objects.requireNonNull(pendingChecksum);
+        this.content = content;
+        this.source = content != null ? null : Objects.requireNonNull(source);
+        this.size = size;
         this.contentType = Objects.requireNonNull(contentType);
         this.name = Objects.requireNonNull(name);
     }
 
     public static Resource with(final String checksum, final byte[] content, final String contentType, final String name) {
-        return new Resource(checksum, content, contentType, name);
+        Objects.requireNonNull(content);
+        Objects.requireNonNull(checksum);
+        return new Resource(checksum, null, content, null, content.length, contentType, name);
+    }
+
+    /**
+     * Creates a resource whose content is read from the given source on demand,
+     * so large uploads never need to be held in memory.
+     */
+    public static Resource with(
+            final String checksum,
+            final Source source,
+            final long size,
+            final String contentType,
+            final String name
+    ) {
+        Objects.requireNonNull(checksum);
+        return new Resource(checksum, null, null, source, size, contentType, name);
+    }
+
+    /**
+     * Creates a streamed resource whose checksum is computed while the source is read, so the
+     * content is not read once more just to checksum it. The checksum is only available after
+     * the content has been read to the end, e.g. by the storage.
+     * <p>
+     * Until then there is nothing to compare, so such a resource only equals one read from the
+     * same source.
+     */
+    public static Resource with(
+            final Supplier<String> checksum,
+            final Source source,
+            final long size,
+            final String contentType,
+            final String name
+    ) {
+        return new Resource(null, checksum, null, source, size, contentType, name);
     }
 
     public String checksum() {
-        return checksum;
+        return this.checksum != null ? this.checksum : this.pendingChecksum.get();
     }
 
+    /**
+     * Returns the whole content as a byte array. For streamed resources this reads
+     * the source fully, prefer {@link #openStream()} whenever possible.
+     */
     public byte[] content() {
-        return content;
+        if (this.content != null) {
+            return this.content;
+        }
+        try (final var in = openStream()) {
+            return in.readAllBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public InputStream openStream() throws IOException {
+        return source().open();
+    }
+
+    public Source source() {
+        if (this.content != null) {
+            return () -> new ByteArrayInputStream(this.content);
+        }
+        return this.source;
+    }
+
+    public boolean isStreamed() {
+        return this.content == null;
+    }
+
+    public long size() {
+        return size;
     }
 
     public String contentType() {
@@ -43,14 +127,32 @@ public class Resource extends ValueObject {
     public boolean equals(final Object o) {
         if (o == null || getClass() != o.getClass()) return false;
         final Resource resource = (Resource) o;
-        return Objects.equals(checksum, resource.checksum)
-                && Objects.deepEquals(content, resource.content)
+        return size == resource.size
+                && Objects.equals(checksum, resource.checksum)
+                && (checksum != null || source == resource.source)
+                && (isStreamed() || resource.isStreamed() || Arrays.equals(content, resource.content))
                 && Objects.equals(contentType, resource.contentType)
                 && Objects.equals(name, resource.name);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(checksum, Arrays.hashCode(content), contentType, name);
+        return Objects.hash(checksum != null ? checksum : source, size, contentType, name);
+    }
+
+    @FunctionalInterface
+    public interface Source {
+
+        InputStream open() throws IOException;
+
+        /**
+         * Opens the content starting at the given byte offset. Sources backed by
+         * seekable storage should override it to avoid reading the skipped bytes.
+         */
+        default InputStream open(final long position) throws IOException {
+            final var in = open();
+            in.skipNBytes(position);
+            return in;
+        }
     }
 }
@@ -107,6 +107,14 @@ public class AudioVideoMedia extends ValueObject {
         );
     }
 
+    /**
+     * Whether an encoder result with the given status moves this media forward. Duplicated or
+     * stale results return false and should not be written.
+     */
+    public boolean canMoveTo(final MediaStatus aStatus) {
+        return this.status.precedes(aStatus);
+    }
+
     public boolean isPendingEncode() {
         return MediaStatus.PENDING == this.status;
     }
@@ -2,7 +2,9 @@ package com.tcs.admin.catalog.domain.video;
 
 import com.tcs.admin.catalog.domain.resource.Resource;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 public interface MediaResourceGateway {
 
@@ -13,4 +15,14 @@ public interface MediaResourceGateway {
     ImageMedia storeImage(VideoID anId, VideoResource aResource);
 
     void clearResources(VideoID anId);
+
+    /**
+     * Removes the medias of all the given videos at once, so the storage can batch the deletes.
+     */
+    void clearAllResources(Collection<VideoID> ids);
+
+    /**
+     * Ids of every video that still has medias in the storage, whether or not it is in the catalog.
+     */
+    Set<VideoID> findStoredVideos();
 }
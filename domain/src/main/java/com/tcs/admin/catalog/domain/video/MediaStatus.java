@@ -1,5 +1,20 @@
 package com.tcs.admin.catalog.domain.video;
 
+/**
+ * Encoding status of a media. The rank orders the statuses along the encoding flow, so results
+ * delivered twice or out of order can be told apart from real progress: {@code ERROR} may still
+ * be followed by a successful retry, {@code COMPLETED} is final.
+ */
 public enum MediaStatus {
-    PENDING, PROCESSING, COMPLETED, ERROR
+    PENDING(0), PROCESSING(1), COMPLETED(3), ERROR(2);
+
+    private final int rank;
+
+    MediaStatus(final int rank) {
+        this.rank = rank;
+    }
+
+    public boolean precedes(final MediaStatus aStatus) {
+        return aStatus != null && this.rank < aStatus.rank;
+    }
 }
@@ -1,18 +1,42 @@
 package com.tcs.admin.catalog.domain.video;
 
+import com.tcs.admin.catalog.domain.pagination.Change;
+import com.tcs.admin.catalog.domain.pagination.ChangesQuery;
 import com.tcs.admin.catalog.domain.pagination.Pagination;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface VideoGateway {
 
     Video create(Video aVideo);
 
+    /**
+     * Inserts all the given videos, with their associations, in a single transaction.
+     */
+    List<Video> createAll(List<Video> aVideos);
+
     Optional<Video> findById(VideoID anId);
 
     void deleteById(VideoID and);
 
     Video update(Video aVideo);
 
+    /**
+     * Moves the video or trailer media {@code resourceId} of the given video to {@code aStatus},
+     * provided its current status still precedes it. A null {@code encodedPath} keeps the current
+     * one. Returns false when nothing changed: the media is unknown, or a result at least as
+     * recent was already applied.
+     */
+    boolean updateMediaStatus(VideoID anId, String resourceId, MediaStatus aStatus, String encodedPath);
+
     Pagination<VideoPreview> findAll(VideoSearchQuery aQuery);
+
+    /**
+     * Hands every video preview to {@code aConsumer}, in id order, without loading them all at once.
+     */
+    void forEach(Consumer<VideoPreview> aConsumer);
+
+    Pagination<Change<VideoPreview>> findChanges(ChangesQuery aQuery);
 }
@@ -0,0 +1,32 @@
+package com.tcs.admin.catalog.domain.video;
+
+import com.tcs.admin.catalog.domain.castmember.CastMemberID;
+import com.tcs.admin.catalog.domain.category.CategoryID;
+import com.tcs.admin.catalog.domain.genre.GenreID;
+
+import java.util.Set;
+
+public record VideoReferences(
+        Set<CategoryID> categories,
+        Set<GenreID> genres,
+        Set<CastMemberID> castMembers
+) {
+
+    public VideoReferences {
+        categories = categories != null ? Set.copyOf(categories) : Set.of();
+        genres = genres != null ? Set.copyOf(genres) : Set.of();
+        castMembers = castMembers != null ? Set.copyOf(castMembers) : Set.of();
+    }
+
+    public static VideoReferences with(
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final Set<CastMemberID> castMembers
+    ) {
+        return new VideoReferences(categories, genres, castMembers);
+    }
+
+    public boolean isEmpty() {
+        return categories.isEmpty() && genres.isEmpty() && castMembers.isEmpty();
+    }
+}
@@ -0,0 +1,9 @@
+package com.tcs.admin.catalog.domain.video;
+
+public interface VideoReferencesGateway {
+
+    /**
+     * Resolves every category, genre and cast member id at once and returns only the ones that exist.
+     */
+    VideoReferences existsByIds(VideoReferences references);
+}
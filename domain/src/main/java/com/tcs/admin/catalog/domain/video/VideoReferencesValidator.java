@@ -0,0 +1,50 @@
+package com.tcs.admin.catalog.domain.video;
+
+import com.tcs.admin.catalog.domain.Identifier;
+import com.tcs.admin.catalog.domain.validation.Error;
+import com.tcs.admin.catalog.domain.validation.ValidationHandler;
+import com.tcs.admin.catalog.domain.validation.Validator;
+
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class VideoReferencesValidator extends Validator {
+
+    private final VideoReferences expected;
+    private final VideoReferences found;
+
+    public VideoReferencesValidator(
+            final VideoReferences expected,
+            final VideoReferences found,
+            final ValidationHandler aHandler
+    ) {
+        super(aHandler);
+        this.expected = expected;
+        this.found = found;
+    }
+
+    @Override
+    public void validate() {
+        checkMissing("categories", this.expected.categories(), this.found.categories());
+        checkMissing("genres", this.expected.genres(), this.found.genres());
+        checkMissing("cast members", this.expected.castMembers(), this.found.castMembers());
+    }
+
+    private <T extends Identifier> void checkMissing(final String aggregate, final Set<T> ids, final Set<T> retrievedIds) {
+        if (ids.isEmpty() || ids.size() == retrievedIds.size()) {
+            return;
+        }
+
+        final var missingIds = new ArrayList<>(ids);
+        missingIds.removeAll(retrievedIds);
+
+        final var missingIdsMessage = missingIds.stream()
+                .map(T::getValue)
+                .collect(Collectors.joining(", "));
+
+        this.validationHandler().append(
+                new Error("Some %s could not be found: %s".formatted(aggregate, missingIdsMessage))
+        );
+    }
+}
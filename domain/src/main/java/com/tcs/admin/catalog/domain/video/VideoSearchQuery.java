@@ -6,6 +6,9 @@ import com.tcs.admin.catalog.domain.genre.GenreID;
 
 import java.util.Set;
 
+/**
+ * See {@link com.tcs.admin.catalog.domain.pagination.SearchQuery} for how {@code cursor} selects the paging mode.
+ */
 public record VideoSearchQuery(
         int page,
         int perPage,
@@ -14,6 +17,24 @@ public record VideoSearchQuery(
         String direction,
         Set<CategoryID> categories,
         Set<GenreID> genres,
-        Set<CastMemberID> castMembers
+        Set<CastMemberID> castMembers,
+        String cursor
 ) {
+
+    public VideoSearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final Set<CastMemberID> castMembers
+    ) {
+        this(page, perPage, terms, sort, direction, categories, genres, castMembers, null);
+    }
+
+    public boolean isKeyset() {
+        return cursor != null;
+    }
 }
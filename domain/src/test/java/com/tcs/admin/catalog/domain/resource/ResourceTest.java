@@ -0,0 +1,44 @@
+package com.tcs.admin.catalog.domain.resource;
+
+import com.tcs.admin.catalog.domain.DomainTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+
+class ResourceTest extends DomainTest {
+
+    @Test
+    public void givenTwoResourcesWithSameChecksum_whenCallsEquals_thenReturnTrue() {
+        final var content = "content".getBytes();
+
+        final var actualResource1 = Resource.with("abc", content, "video/mp4", "video.mp4");
+        final var actualResource2 = Resource.with("abc", () -> new ByteArrayInputStream(content), content.length, "video/mp4", "video.mp4");
+
+        Assertions.assertEquals(actualResource1, actualResource2);
+        Assertions.assertEquals(actualResource1.hashCode(), actualResource2.hashCode());
+    }
+
+    @Test
+    public void givenUnreadPendingChecksum_whenCallsEqualsAndHashCode_thenDoNotAskForIt() {
+        final Resource.Source source = () -> new ByteArrayInputStream("content".getBytes());
+        final var actualResource = Resource.with(
+                () -> {
+                    throw new IllegalStateException("Checksum is only known once the content has been read");
+                },
+                source,
+                7,
+                "video/mp4",
+                "video.mp4"
+        );
+        final var sameSource = Resource.with(() -> "abc", source, 7, "video/mp4", "video.mp4");
+        final var otherSource = Resource.with(() -> "abc", () -> new ByteArrayInputStream("content".getBytes()), 7, "video/mp4", "video.mp4");
+        final var knownChecksum = Resource.with("abc", source, 7, "video/mp4", "video.mp4");
+
+        Assertions.assertEquals(actualResource, sameSource);
+        Assertions.assertEquals(actualResource.hashCode(), sameSource.hashCode());
+        Assertions.assertNotEquals(actualResource, otherSource);
+        Assertions.assertNotEquals(actualResource, knownChecksum);
+        Assertions.assertThrows(IllegalStateException.class, actualResource::checksum);
+    }
+}
@@ -145,4 +145,31 @@ class AudioVideoMediaTest extends DomainTest {
                 )
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenEncoderResults_whenCallsCanMoveTo_thenAcceptOnlyProgress() {
+        final var pending = AudioVideoMedia.with("abc", "video.mp4", "/media/videos");
+        final var processing = pending.processing();
+        final var completed = processing.completed("/media/videos-encoded");
+        final var error = AudioVideoMedia.with(
+                processing.id(),
+                processing.checksum(),
+                processing.name(),
+                processing.rawLocation(),
+                processing.encodedLocation(),
+                MediaStatus.ERROR
+        );
+
+        Assertions.assertTrue(pending.canMoveTo(MediaStatus.PROCESSING));
+        Assertions.assertTrue(pending.canMoveTo(MediaStatus.COMPLETED));
+        Assertions.assertTrue(processing.canMoveTo(MediaStatus.COMPLETED));
+        Assertions.assertTrue(processing.canMoveTo(MediaStatus.ERROR));
+        Assertions.assertTrue(error.canMoveTo(MediaStatus.COMPLETED));
+
+        Assertions.assertFalse(processing.canMoveTo(MediaStatus.PROCESSING));
+        Assertions.assertFalse(completed.canMoveTo(MediaStatus.COMPLETED));
+        Assertions.assertFalse(completed.canMoveTo(MediaStatus.PROCESSING));
+        Assertions.assertFalse(completed.canMoveTo(MediaStatus.ERROR));
+        Assertions.assertFalse(error.canMoveTo(MediaStatus.PROCESSING));
+    }
+}
@@ -0,0 +1,67 @@
+package com.tcs.admin.catalog.infrastructure.amqp;
+
+import com.tcs.admin.catalog.infrastructure.cache.ReferenceCache;
+import com.tcs.admin.catalog.infrastructure.cache.ReferenceCacheInvalidated;
+import com.tcs.admin.catalog.infrastructure.configuration.annotations.CacheInvalidationQueue;
+import com.tcs.admin.catalog.infrastructure.configuration.json.Json;
+import com.tcs.admin.catalog.infrastructure.services.EventService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the reference caches of every node in sync: local invalidations are broadcast through
+ * the cache invalidation fanout exchange, and broadcasts received from any node evict the entry
+ * here. The per-node queue is declared by {@link CacheInvalidationTopology}.
+ */
+@Component
+public class CacheInvalidationListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CacheInvalidationListener.class);
+
+    public static final String LISTENER_ID = "cacheInvalidationListener";
+
+    private final Map<String, ReferenceCache<?>> caches;
+
+    private final EventService eventService;
+
+    public CacheInvalidationListener(
+            final List<ReferenceCache<?>> caches,
+            @CacheInvalidationQueue final EventService eventService
+    ) {
+        this.caches = caches.stream().collect(Collectors.toMap(ReferenceCache::name, Function.identity()));
+        this.eventService = Objects.requireNonNull(eventService);
+    }
+
+    @EventListener
+    public void onLocalInvalidation(final ReferenceCacheInvalidated event) {
+        this.eventService.send(event);
+    }
+
+    @RabbitListener(
+            id = LISTENER_ID,
+            queues = "#{cacheInvalidationQueue.name}",
+            autoStartup = "${amqp.listeners.cache-invalidation.auto-startup:true}"
+    )
+    public void onCacheInvalidationMessage(@Payload final String message) {
+        final var event = Json.readValue(message, ReferenceCacheInvalidated.class);
+        final var cache = this.caches.get(event.cache());
+
+        if (cache == null) {
+            LOGGER.warn("[message:cache.listener.income] [status:unknown] [payload:{}]", message);
+            return;
+        }
+
+        LOGGER.debug("[message:cache.listener.income] [status:evicted] [payload:{}]", message);
+        cache.evict(event.id());
+    }
+}
@@ -0,0 +1,57 @@
+package com.tcs.admin.catalog.infrastructure.amqp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.connection.Connection;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionListener;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+
+import java.util.Objects;
+
+/**
+ * Declares the cache invalidation exchange, this node's queue and their binding every time a
+ * connection to the broker is opened, whether or not the application manages the rest of the
+ * topology ({@code amqp.admin.auto-create}). The queue is server named and exclusive, so ops
+ * cannot create it ahead of time and it goes away with the connection that declared it.
+ * <p>
+ * The admin is kept out of the context on purpose: as a bean it would replace Spring Boot's own
+ * and declare every other exchange and queue too.
+ */
+public class CacheInvalidationTopology implements ConnectionListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CacheInvalidationTopology.class);
+
+    private final RabbitAdmin admin;
+
+    private final FanoutExchange exchange;
+
+    private final Queue queue;
+
+    private final Binding binding;
+
+    public CacheInvalidationTopology(
+            final ConnectionFactory connectionFactory,
+            final FanoutExchange exchange,
+            final Queue queue,
+            final Binding binding
+    ) {
+        this.exchange = Objects.requireNonNull(exchange);
+        this.queue = Objects.requireNonNull(queue);
+        this.binding = Objects.requireNonNull(binding);
+        this.admin = new RabbitAdmin(connectionFactory);
+        this.admin.setIgnoreDeclarationExceptions(true);
+        connectionFactory.addConnectionListener(this);
+    }
+
+    @Override
+    public void onCreate(final Connection connection) {
+        this.admin.declareExchange(this.exchange);
+        this.admin.declareQueue(this.queue);
+        this.admin.declareBinding(this.binding);
+        LOGGER.debug("[message:cache.topology.declared] [exchange:{}] [queue:{}]", this.exchange.getName(), this.queue.getName());
+    }
+}
@@ -0,0 +1,77 @@
+package com.tcs.admin.catalog.infrastructure.amqp;
+
+import com.tcs.admin.catalog.infrastructure.configuration.properties.amqp.RetryProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+
+import java.util.Objects;
+
+/**
+ * Sends a message whose listener failed to the dead letter exchange instead of requeueing it.
+ * Each failure moves it to the next retry queue, whose TTL holds it for the configured delay
+ * before it is dead lettered back to the work queue. Once the delays are exhausted, or when the
+ * listener rejects it as unprocessable, the message is parked for manual inspection.
+ */
+public class RetryMessageRecoverer implements MessageRecoverer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RetryMessageRecoverer.class);
+
+    public static final String RETRIES_HEADER = "x-retries";
+
+    public static final String EXCEPTION_HEADER = "x-exception-message";
+
+    public static final String PARKING_LOT_KEY = "parking-lot";
+
+    private final RabbitOperations ops;
+
+    private final RetryProperties props;
+
+    public RetryMessageRecoverer(final RabbitOperations ops, final RetryProperties props) {
+        this.ops = Objects.requireNonNull(ops);
+        this.props = Objects.requireNonNull(props);
+    }
+
+    public static String retryKey(final int attempt) {
+        return "retry." + attempt;
+    }
+
+    @Override
+    public void recover(final Message message, final Throwable cause) {
+        final var headers = message.getMessageProperties();
+        final var retries = headers.getHeader(RETRIES_HEADER) instanceof Number n ? n.intValue() : 0;
+        headers.setHeader(EXCEPTION_HEADER, String.valueOf(rootCause(cause).getMessage()));
+
+        if (isUnprocessable(cause) || retries >= this.props.getDelays().size()) {
+            LOGGER.warn("[message:amqp.retry] [status:parked] [queue:{}] [retries:{}]",
+                    headers.getConsumerQueue(), retries, cause);
+            this.ops.send(this.props.getExchange(), PARKING_LOT_KEY, message);
+            return;
+        }
+
+        LOGGER.info("[message:amqp.retry] [status:retry] [queue:{}] [retries:{}] [delay:{}]",
+                headers.getConsumerQueue(), retries, this.props.getDelays().get(retries));
+        headers.setHeader(RETRIES_HEADER, retries + 1);
+        this.ops.send(this.props.getExchange(), retryKey(retries), message);
+    }
+
+    private static boolean isUnprocessable(final Throwable cause) {
+        for (var it = cause; it != null; it = it.getCause()) {
+            if (it instanceof AmqpRejectAndDontRequeueException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Throwable rootCause(final Throwable cause) {
+        var it = cause;
+        while (it.getCause() != null && it.getCause() != it) {
+            it = it.getCause();
+        }
+        return it;
+    }
+}
@@ -7,8 +7,11 @@ import com.tcs.admin.catalog.infrastructure.configuration.json.Json;
 import com.tcs.admin.catalog.infrastructure.video.models.VideoEncoderCompleted;
 import com.tcs.admin.catalog.infrastructure.video.models.VideoEncoderError;
 import com.tcs.admin.catalog.infrastructure.video.models.VideoEncoderResult;
+import com.tcs.admin.catalog.infrastructure.video.persistence.VideoEncoderErrorJpaEntity;
+import com.tcs.admin.catalog.infrastructure.video.persistence.VideoEncoderErrorRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
@@ -24,16 +27,30 @@ public class VideoEncoderListener {
 
     private final UpdateMediaStatusUseCase updateMediaStatusUseCase;
 
-    public VideoEncoderListener(final UpdateMediaStatusUseCase updateMediaStatusUseCase) {
+    private final VideoEncoderErrorRepository videoEncoderErrorRepository;
+
+    public VideoEncoderListener(
+            final UpdateMediaStatusUseCase updateMediaStatusUseCase,
+            final VideoEncoderErrorRepository videoEncoderErrorRepository
+    ) {
         this.updateMediaStatusUseCase = Objects.requireNonNull(updateMediaStatusUseCase);
+        this.videoEncoderErrorRepository = Objects.requireNonNull(videoEncoderErrorRepository);
     }
 
-    @RabbitListener(id = LISTENER_ID, queues = "${amqp.queues.video-encoded.queue}")
+    /**
+     * Exceptions are not requeued: the container hands the message to the retry topology, and
+     * payloads that can never be processed are rejected straight to the parking lot.
+     */
+    @RabbitListener(
+            id = LISTENER_ID,
+            queues = "${amqp.queues.video-encoded.queue}",
+            containerFactory = "videoEncodedContainerFactory"
+    )
     public void onVideoEncodedMessage(@Payload final String message) {
-        final var aResult = Json.readValue(message, VideoEncoderResult.class);
+        final var aResult = readResult(message);
 
         if (aResult instanceof VideoEncoderCompleted dto) {
-            LOGGER.error("[message:video.listener.income] [status:completed] [payload:{}]", message);
+            LOGGER.info("[message:video.listener.income] [status:completed] [payload:{}]", message);
             final var aCommand = UpdateMediaStatusCommand.with(
                     dto.id(),
                     dto.video().resourceId(),
@@ -43,10 +60,25 @@ public class VideoEncoderListener {
             );
 
             this.updateMediaStatusUseCase.execute(aCommand);
-        } else if (aResult instanceof VideoEncoderError dto) {
-            LOGGER.error("[message:video.listener.income] [status:error] [payload:{}]", message);
+        } else if (aResult instanceof VideoEncoderError dto && dto.message() != null) {
+            LOGGER.warn("[message:video.listener.income] [status:error] [payload:{}]", message);
+            final var videoId = dto.message().resourceId();
+            final var filePath = dto.message().filePath();
+
+            this.updateMediaStatusUseCase.execute(UpdateMediaStatusCommand.failed(videoId, filePath));
+            this.videoEncoderErrorRepository.save(VideoEncoderErrorJpaEntity.with(videoId, filePath, dto.error()));
         } else {
-            LOGGER.error("[message:video.listener.income] [status:unknown] [payload:{}]", message);
+            LOGGER.warn("[message:video.listener.income] [status:unknown] [payload:{}]", message);
+            throw new AmqpRejectAndDontRequeueException("Unknown video encoder result");
+        }
+    }
+
+    private static VideoEncoderResult readResult(final String message) {
+        try {
+            return Json.readValue(message, VideoEncoderResult.class);
+        } catch (final RuntimeException e) {
+            LOGGER.warn("[message:video.listener.income] [status:unreadable] [payload:{}]", message);
+            throw new AmqpRejectAndDontRequeueException("Unreadable video encoder result", e);
         }
     }
 }
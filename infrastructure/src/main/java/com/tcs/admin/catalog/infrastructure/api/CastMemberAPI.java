@@ -2,17 +2,22 @@ package com.tcs.admin.catalog.infrastructure.api;
 
 import com.tcs.admin.catalog.domain.pagination.Pagination;
 import com.tcs.admin.catalog.infrastructure.castmember.models.CastMemberListResponse;
-import com.tcs.admin.catalog.infrastructure.castmember.models.CastMemberResponse;
 import com.tcs.admin.catalog.infrastructure.castmember.models.CreateCastMemberRequest;
 import com.tcs.admin.catalog.infrastructure.castmember.models.UpdateCastMemberRequest;
+import com.tcs.admin.catalog.infrastructure.changes.models.ChangeResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RequestMapping("/cast_members")
 @Tag(name = "Cast Members")
@@ -30,6 +35,19 @@ public interface CastMemberAPI {
     })
     ResponseEntity<?> create(@RequestBody CreateCastMemberRequest input);
 
+    @PostMapping(
+            value = "/bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create many cast members at once, all or none")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Created successfully"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown for at least one item"),
+            @ApiResponse(responseCode = "500", description = "Internal server error"),
+    })
+    ResponseEntity<?> createAll(@RequestBody List<CreateCastMemberRequest> input);
+
     @GetMapping
     @Operation(summary = "List all cast members - filtered and paginated")
     @ApiResponses(value = {
@@ -42,7 +60,30 @@ public interface CastMemberAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @Parameter(description = "Switches to keyset paging: empty for the first page, then the returned next_cursor")
+            @RequestParam(name = "cursor", required = false) final String cursor
+    );
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all cast members as newline delimited JSON, one list item per line")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exported successfully"),
+            @ApiResponse(responseCode = "500", description = "Internal server error"),
+    })
+    ResponseEntity<StreamingResponseBody> export();
+
+    @GetMapping("/changes")
+    @Operation(summary = "List the cast members created, updated or deleted after a cursor, oldest change first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "422", description = "Invalid parameter received"),
+            @ApiResponse(responseCode = "500", description = "Internal server error"),
+    })
+    Pagination<ChangeResponse<CastMemberListResponse>> listChanges(
+            @Parameter(description = "Empty to start from the beginning, then the next_cursor of the previous page")
+            @RequestParam(name = "cursor", required = false, defaultValue = "") final String cursor,
+            @RequestParam(name = "perPage", required = false, defaultValue = "100") final int perPage
     );
 
     @GetMapping(
@@ -53,10 +94,14 @@ public interface CastMemberAPI {
     @Operation(summary = "Get a cast member by it's id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cast member retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Cast member not modified"),
             @ApiResponse(responseCode = "404", description = "Cast member not found"),
             @ApiResponse(responseCode = "500", description = "Internal server error"),
     })
-    CastMemberResponse getById(@PathVariable String id);
+    ResponseEntity<?> getById(
+            @PathVariable String id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    );
 
     @PutMapping(
             value = "/{id}",
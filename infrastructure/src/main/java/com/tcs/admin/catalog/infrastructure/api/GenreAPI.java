@@ -1,18 +1,21 @@
 package com.tcs.admin.catalog.infrastructure.api;
 
 import com.tcs.admin.catalog.domain.pagination.Pagination;
+import com.tcs.admin.catalog.infrastructure.changes.models.ChangeResponse;
 import com.tcs.admin.catalog.infrastructure.genre.models.CreateGenreRequest;
 import com.tcs.admin.catalog.infrastructure.genre.models.GenreListResponse;
-import com.tcs.admin.catalog.infrastructure.genre.models.GenreResponse;
 import com.tcs.admin.catalog.infrastructure.genre.models.UpdateGenreRequest;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RequestMapping("/genres")
 @Tag(name = "Genres")
@@ -42,7 +45,30 @@ public interface GenreAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @Parameter(description = "Switches to keyset paging: empty for the first page, then the returned next_cursor")
+            @RequestParam(name = "cursor", required = false) final String cursor
+    );
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all genres as newline delimited JSON, one list item per line")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exported successfully"),
+            @ApiResponse(responseCode = "500", description = "Internal server error"),
+    })
+    ResponseEntity<StreamingResponseBody> export();
+
+    @GetMapping("/changes")
+    @Operation(summary = "List the genres created, updated or deleted after a cursor, oldest change first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "422", description = "Invalid parameter received"),
+            @ApiResponse(responseCode = "500", description = "Internal server error"),
+    })
+    Pagination<ChangeResponse<GenreListResponse>> listChanges(
+            @Parameter(description = "Empty to start from the beginning, then the next_cursor of the previous page")
+            @RequestParam(name = "cursor", required = false, defaultValue = "") final String cursor,
+            @RequestParam(name = "perPage", required = false, defaultValue = "100") final int perPage
     );
 
     @GetMapping(
@@ -53,10 +79,14 @@ public interface GenreAPI {
     @Operation(summary = "Get a genre by it's id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Genre retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Genre not modified"),
             @ApiResponse(responseCode = "404", description = "Gene not found"),
             @ApiResponse(responseCode = "500", description = "Internal server error"),
     })
-    GenreResponse getById(@PathVariable String id);
+    ResponseEntity<?> getById(
+            @PathVariable String id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    );
 
     @PutMapping(
             value = "/{id}",
@@ -1,20 +1,24 @@
 package com.tcs.admin.catalog.infrastructure.api;
 
 import com.tcs.admin.catalog.domain.pagination.Pagination;
+import com.tcs.admin.catalog.infrastructure.changes.models.ChangeResponse;
 import com.tcs.admin.catalog.infrastructure.video.models.CreateVideoRequest;
 import com.tcs.admin.catalog.infrastructure.video.models.UpdateVideoRequest;
 import com.tcs.admin.catalog.infrastructure.video.models.VideoListResponse;
-import com.tcs.admin.catalog.infrastructure.video.models.VideoResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
 import java.util.Set;
 
 @RequestMapping("/videos")
@@ -36,8 +40,31 @@ public interface VideoAPI {
             @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
             @RequestParam(name = "categories_ids", required = false, defaultValue = "") final Set<String> categories,
             @RequestParam(name = "genres_ids", required = false, defaultValue = "") final Set<String> genres,
-            @RequestParam(name = "cast_members_ids", required = false, defaultValue = "") final Set<String> castMembers
-            );
+            @RequestParam(name = "cast_members_ids", required = false, defaultValue = "") final Set<String> castMembers,
+            @Parameter(description = "Switches to keyset paging: empty for the first page, then the returned next_cursor")
+            @RequestParam(name = "cursor", required = false) final String cursor
+    );
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all videos, without their media as newline delimited JSON, one list item per line")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exported successfully"),
+            @ApiResponse(responseCode = "500", description = "Internal server error"),
+    })
+    ResponseEntity<StreamingResponseBody> export();
+
+    @GetMapping("/changes")
+    @Operation(summary = "List the videos created, updated or deleted after a cursor, oldest change first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "422", description = "Invalid parameter received"),
+            @ApiResponse(responseCode = "500", description = "Internal server error"),
+    })
+    Pagination<ChangeResponse<VideoListResponse>> listChanges(
+            @Parameter(description = "Empty to start from the beginning, then the next_cursor of the previous page")
+            @RequestParam(name = "cursor", required = false, defaultValue = "") final String cursor,
+            @RequestParam(name = "perPage", required = false, defaultValue = "100") final int perPage
+    );
 
     @PostMapping(
             consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
@@ -79,6 +106,19 @@ public interface VideoAPI {
     })
     ResponseEntity<?> createDraft(@RequestBody CreateVideoRequest payload);
 
+    @PostMapping(
+            value = "/bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create many videos with no media at once, all or none")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Created successfully"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown for at least one item"),
+            @ApiResponse(responseCode = "500", description = "Internal server error"),
+    })
+    ResponseEntity<?> createAll(@RequestBody List<CreateVideoRequest> payload);
+
     @GetMapping(
             value = "/{id}",
             produces = MediaType.APPLICATION_JSON_VALUE
@@ -86,10 +126,14 @@ public interface VideoAPI {
     @Operation(summary = "Get a video by it's id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Video retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Video not modified"),
             @ApiResponse(responseCode = "404", description = "Video not found"),
             @ApiResponse(responseCode = "500", description = "Internal server error"),
     })
-    VideoResponse getById(@PathVariable String id);
+    ResponseEntity<?> getById(
+            @PathVariable String id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    );
 
     @PutMapping(
             value = "/{id}",
@@ -121,12 +165,17 @@ public interface VideoAPI {
     @Operation(summary = "Get a video media by it's type")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Media retrieved successfully"),
+            @ApiResponse(responseCode = "206", description = "Media range retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Media not modified"),
             @ApiResponse(responseCode = "404", description = "Media not found"),
+            @ApiResponse(responseCode = "416", description = "Requested range not satisfiable"),
             @ApiResponse(responseCode = "500", description = "Internal server error"),
     })
-    ResponseEntity<byte[]> getMediaByType(
+    ResponseEntity<?> getMediaByType(
             @PathVariable String id,
-            @PathVariable String type
+            @PathVariable String type,
+            @RequestHeader(name = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     );
 
     @PostMapping("/{id}/medias/{type}")
@@ -1,24 +1,34 @@
 package com.tcs.admin.catalog.infrastructure.api.controllers;
 
+import com.tcs.admin.catalog.application.castmember.bulk.BulkCreateCastMembersCommand;
+import com.tcs.admin.catalog.application.castmember.bulk.BulkCreateCastMembersUseCase;
 import com.tcs.admin.catalog.application.castmember.create.CreateCastMemberCommand;
 import com.tcs.admin.catalog.application.castmember.create.CreateCastMemberUseCase;
 import com.tcs.admin.catalog.application.castmember.delete.DeleteCastMemberUseCase;
+import com.tcs.admin.catalog.application.castmember.retrieve.changes.ListCastMemberChangesUseCase;
+import com.tcs.admin.catalog.application.castmember.retrieve.export.ExportCastMembersUseCase;
 import com.tcs.admin.catalog.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
 import com.tcs.admin.catalog.application.castmember.retrieve.list.ListCastMembersUseCase;
 import com.tcs.admin.catalog.application.castmember.update.UpdateCastMemberCommand;
 import com.tcs.admin.catalog.application.castmember.update.UpdateCastMemberUseCase;
+import com.tcs.admin.catalog.domain.pagination.ChangesQuery;
 import com.tcs.admin.catalog.domain.pagination.Pagination;
 import com.tcs.admin.catalog.domain.pagination.SearchQuery;
 import com.tcs.admin.catalog.infrastructure.api.CastMemberAPI;
+import com.tcs.admin.catalog.infrastructure.cache.ResponseCache;
 import com.tcs.admin.catalog.infrastructure.castmember.models.CastMemberListResponse;
-import com.tcs.admin.catalog.infrastructure.castmember.models.CastMemberResponse;
 import com.tcs.admin.catalog.infrastructure.castmember.models.CreateCastMemberRequest;
 import com.tcs.admin.catalog.infrastructure.castmember.models.UpdateCastMemberRequest;
 import com.tcs.admin.catalog.infrastructure.castmember.presenters.CastMemberApiPresenter;
+import com.tcs.admin.catalog.infrastructure.changes.models.ChangeResponse;
+import com.tcs.admin.catalog.infrastructure.utils.NdJsonUtils;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 
 @RestController
@@ -26,6 +36,8 @@ public class CastMemberController implements CastMemberAPI {
 
     private final CreateCastMemberUseCase createCastMemberUseCase;
 
+    private final BulkCreateCastMembersUseCase bulkCreateCastMembersUseCase;
+
     private final GetCastMemberByIdUseCase getCastMemberByIdUseCase;
 
     private final UpdateCastMemberUseCase updateCastMemberUseCase;
@@ -34,18 +46,32 @@ public class CastMemberController implements CastMemberAPI {
 
     private final ListCastMembersUseCase listCastMembersUseCase;
 
+    private final ExportCastMembersUseCase exportCastMembersUseCase;
+
+    private final ListCastMemberChangesUseCase listCastMemberChangesUseCase;
+
+    private final ResponseCache responseCache;
+
     public CastMemberController(
             final CreateCastMemberUseCase createCastMemberUseCase,
+            final BulkCreateCastMembersUseCase bulkCreateCastMembersUseCase,
             final GetCastMemberByIdUseCase getCastMemberByIdUseCase,
             final UpdateCastMemberUseCase updateCastMemberUseCase,
             final DeleteCastMemberUseCase deleteCastMemberUseCase,
-            final ListCastMembersUseCase listCastMembersUseCase
+            final ListCastMembersUseCase listCastMembersUseCase,
+            final ExportCastMembersUseCase exportCastMembersUseCase,
+            final ListCastMemberChangesUseCase listCastMemberChangesUseCase,
+            final ResponseCache responseCache
     ) {
         this.createCastMemberUseCase = Objects.requireNonNull(createCastMemberUseCase);
+        this.bulkCreateCastMembersUseCase = Objects.requireNonNull(bulkCreateCastMembersUseCase);
         this.getCastMemberByIdUseCase = Objects.requireNonNull(getCastMemberByIdUseCase);
         this.updateCastMemberUseCase = Objects.requireNonNull(updateCastMemberUseCase);
         this.deleteCastMemberUseCase = Objects.requireNonNull(deleteCastMemberUseCase);
         this.listCastMembersUseCase = Objects.requireNonNull(listCastMembersUseCase);
+        this.exportCastMembersUseCase = Objects.requireNonNull(exportCastMembersUseCase);
+        this.listCastMemberChangesUseCase = Objects.requireNonNull(listCastMemberChangesUseCase);
+        this.responseCache = Objects.requireNonNull(responseCache);
     }
 
     @Override
@@ -57,21 +83,44 @@ public class CastMemberController implements CastMemberAPI {
                 .body(output);
     }
 
+    @Override
+    public ResponseEntity<?> createAll(final List<CreateCastMemberRequest> input) {
+        final var aCommand = BulkCreateCastMembersCommand.with(input.stream()
+                .map(it -> CreateCastMemberCommand.with(it.name(), it.type()))
+                .toList());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(bulkCreateCastMembersUseCase.execute(aCommand));
+    }
+
     @Override
     public Pagination<CastMemberListResponse> list(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String cursor
     ) {
-        return this.listCastMembersUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+        return this.listCastMembersUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, cursor))
                 .map(CastMemberApiPresenter::present);
     }
 
     @Override
-    public CastMemberResponse getById(final String id) {
-        return CastMemberApiPresenter.present(this.getCastMemberByIdUseCase.execute(id));
+    public ResponseEntity<StreamingResponseBody> export() {
+        return NdJsonUtils.stream(aConsumer ->
+                this.exportCastMembersUseCase.execute(it -> aConsumer.accept(CastMemberApiPresenter.present(it))));
+    }
+
+    @Override
+    public Pagination<ChangeResponse<CastMemberListResponse>> listChanges(final String cursor, final int perPage) {
+        return this.listCastMemberChangesUseCase.execute(new ChangesQuery(cursor, perPage))
+                .map(it -> ChangeResponse.from(it, CastMemberApiPresenter::present));
+    }
+
+    @Override
+    public ResponseEntity<?> getById(final String id, final String ifNoneMatch) {
+        return this.responseCache.respond(ResponseCache.CAST_MEMBERS, id, ifNoneMatch, () ->
+                ResponseCache.Entry.of(CastMemberApiPresenter.present(this.getCastMemberByIdUseCase.execute(id))));
     }
 
     @Override
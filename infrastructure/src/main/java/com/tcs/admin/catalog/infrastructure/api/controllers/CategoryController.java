@@ -4,22 +4,28 @@ import com.tcs.admin.catalog.application.category.create.CreateCategoryCommand;
 import com.tcs.admin.catalog.application.category.create.CreateCategoryOutput;
 import com.tcs.admin.catalog.application.category.create.CreateCategoryUseCase;
 import com.tcs.admin.catalog.application.category.delete.DeleteCategoryUseCase;
+import com.tcs.admin.catalog.application.category.retrieve.changes.ListCategoryChangesUseCase;
+import com.tcs.admin.catalog.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.tcs.admin.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.tcs.admin.catalog.application.category.retrieve.list.ListCategoriesUseCase;
 import com.tcs.admin.catalog.application.category.update.UpdateCategoryCommand;
 import com.tcs.admin.catalog.application.category.update.UpdateCategoryOutput;
 import com.tcs.admin.catalog.application.category.update.UpdateCategoryUseCase;
 import com.tcs.admin.catalog.domain.pagination.SearchQuery;
+import com.tcs.admin.catalog.domain.pagination.ChangesQuery;
 import com.tcs.admin.catalog.domain.pagination.Pagination;
 import com.tcs.admin.catalog.domain.validation.handler.Notification;
 import com.tcs.admin.catalog.infrastructure.api.CategoryAPI;
+import com.tcs.admin.catalog.infrastructure.cache.ResponseCache;
 import com.tcs.admin.catalog.infrastructure.category.models.CategoryListResponse;
-import com.tcs.admin.catalog.infrastructure.category.models.CategoryResponse;
 import com.tcs.admin.catalog.infrastructure.category.models.CreateCategoryRequest;
 import com.tcs.admin.catalog.infrastructure.category.models.UpdateCategoryRequest;
 import com.tcs.admin.catalog.infrastructure.category.presenters.CategoryApiPresenter;
+import com.tcs.admin.catalog.infrastructure.changes.models.ChangeResponse;
+import com.tcs.admin.catalog.infrastructure.utils.NdJsonUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
 import java.util.Objects;
@@ -33,19 +39,28 @@ public class CategoryController implements CategoryAPI {
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
     private final ListCategoriesUseCase listCategoriesUseCase;
+    private final ExportCategoriesUseCase exportCategoriesUseCase;
+    private final ListCategoryChangesUseCase listCategoryChangesUseCase;
+    private final ResponseCache responseCache;
 
     public CategoryController(
             final CreateCategoryUseCase createCategoryUseCase,
             final GetCategoryByIdUseCase getCategoryByIdUseCase,
             final UpdateCategoryUseCase updateCategoryUseCase,
             final DeleteCategoryUseCase deleteCategoryUseCase,
-            final ListCategoriesUseCase listCategoriesUseCase
+            final ListCategoriesUseCase listCategoriesUseCase,
+            final ExportCategoriesUseCase exportCategoriesUseCase,
+            final ListCategoryChangesUseCase listCategoryChangesUseCase,
+            final ResponseCache responseCache
     ) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.exportCategoriesUseCase = Objects.requireNonNull(exportCategoriesUseCase);
+        this.listCategoryChangesUseCase = Objects.requireNonNull(listCategoryChangesUseCase);
+        this.responseCache = Objects.requireNonNull(responseCache);
     }
 
     @Override
@@ -72,15 +87,29 @@ public class CategoryController implements CategoryAPI {
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String cursor
     ) {
-        return this.listCategoriesUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+        return this.listCategoriesUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, cursor))
                 .map(CategoryApiPresenter::present);
     }
 
     @Override
-    public CategoryResponse getById(final String id) {
-        return CategoryApiPresenter.present(this.getCategoryByIdUseCase.execute(id));
+    public ResponseEntity<StreamingResponseBody> export() {
+        return NdJsonUtils.stream(aConsumer ->
+                this.exportCategoriesUseCase.execute(it -> aConsumer.accept(CategoryApiPresenter.present(it))));
+    }
+
+    @Override
+    public Pagination<ChangeResponse<CategoryListResponse>> listChanges(final String cursor, final int perPage) {
+        return this.listCategoryChangesUseCase.execute(new ChangesQuery(cursor, perPage))
+                .map(it -> ChangeResponse.from(it, CategoryApiPresenter::present));
+    }
+
+    @Override
+    public ResponseEntity<?> getById(final String id, final String ifNoneMatch) {
+        return this.responseCache.respond(ResponseCache.CATEGORIES, id, ifNoneMatch, () ->
+                ResponseCache.Entry.of(CategoryApiPresenter.present(this.getCategoryByIdUseCase.execute(id))));
     }
 
     @Override
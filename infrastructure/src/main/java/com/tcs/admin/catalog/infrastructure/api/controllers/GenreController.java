@@ -3,20 +3,26 @@ package com.tcs.admin.catalog.infrastructure.api.controllers;
 import com.tcs.admin.catalog.application.genre.create.CreateGenreCommand;
 import com.tcs.admin.catalog.application.genre.create.CreateGenreUseCase;
 import com.tcs.admin.catalog.application.genre.delete.DeleteGenreUseCase;
+import com.tcs.admin.catalog.application.genre.retrieve.changes.ListGenreChangesUseCase;
+import com.tcs.admin.catalog.application.genre.retrieve.export.ExportGenresUseCase;
 import com.tcs.admin.catalog.application.genre.retrieve.get.GetGenreByIdUseCase;
 import com.tcs.admin.catalog.application.genre.retrieve.list.ListGenresUseCase;
 import com.tcs.admin.catalog.application.genre.update.UpdateGenreCommand;
 import com.tcs.admin.catalog.application.genre.update.UpdateGenreUseCase;
+import com.tcs.admin.catalog.domain.pagination.ChangesQuery;
 import com.tcs.admin.catalog.domain.pagination.Pagination;
 import com.tcs.admin.catalog.domain.pagination.SearchQuery;
 import com.tcs.admin.catalog.infrastructure.api.GenreAPI;
+import com.tcs.admin.catalog.infrastructure.cache.ResponseCache;
+import com.tcs.admin.catalog.infrastructure.changes.models.ChangeResponse;
 import com.tcs.admin.catalog.infrastructure.genre.models.CreateGenreRequest;
 import com.tcs.admin.catalog.infrastructure.genre.models.GenreListResponse;
-import com.tcs.admin.catalog.infrastructure.genre.models.GenreResponse;
 import com.tcs.admin.catalog.infrastructure.genre.models.UpdateGenreRequest;
 import com.tcs.admin.catalog.infrastructure.genre.presenters.GenreApiPresenter;
+import com.tcs.admin.catalog.infrastructure.utils.NdJsonUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
 import java.util.Objects;
@@ -29,19 +35,28 @@ public class GenreController implements GenreAPI {
     private final UpdateGenreUseCase updateGenreUseCase;
     private final DeleteGenreUseCase deleteGenreUseCase;
     private final ListGenresUseCase listGenresUseCase;
+    private final ExportGenresUseCase exportGenresUseCase;
+    private final ListGenreChangesUseCase listGenreChangesUseCase;
+    private final ResponseCache responseCache;
 
     public GenreController(
             final CreateGenreUseCase createGenreUseCase,
             final GetGenreByIdUseCase getGenreByIdUseCase,
             final UpdateGenreUseCase updateGenreUseCase,
             final DeleteGenreUseCase deleteGenreUseCase,
-            final ListGenresUseCase listGenresUseCase
+            final ListGenresUseCase listGenresUseCase,
+            final ExportGenresUseCase exportGenresUseCase,
+            final ListGenreChangesUseCase listGenreChangesUseCase,
+            final ResponseCache responseCache
     ) {
         this.createGenreUseCase = Objects.requireNonNull(createGenreUseCase);
         this.getGenreByIdUseCase = Objects.requireNonNull(getGenreByIdUseCase);
         this.updateGenreUseCase = Objects.requireNonNull(updateGenreUseCase);
         this.deleteGenreUseCase = Objects.requireNonNull(deleteGenreUseCase);
         this.listGenresUseCase = Objects.requireNonNull(listGenresUseCase);
+        this.exportGenresUseCase = Objects.requireNonNull(exportGenresUseCase);
+        this.listGenreChangesUseCase = Objects.requireNonNull(listGenreChangesUseCase);
+        this.responseCache = Objects.requireNonNull(responseCache);
     }
 
     @Override
@@ -59,15 +74,29 @@ public class GenreController implements GenreAPI {
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String cursor
     ) {
-        return this.listGenresUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+        return this.listGenresUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, cursor))
                 .map(GenreApiPresenter::present);
     }
 
     @Override
-    public GenreResponse getById(final String id) {
-        return GenreApiPresenter.present(this.getGenreByIdUseCase.execute(id));
+    public ResponseEntity<StreamingResponseBody> export() {
+        return NdJsonUtils.stream(aConsumer ->
+                this.exportGenresUseCase.execute(it -> aConsumer.accept(GenreApiPresenter.present(it))));
+    }
+
+    @Override
+    public Pagination<ChangeResponse<GenreListResponse>> listChanges(final String cursor, final int perPage) {
+        return this.listGenreChangesUseCase.execute(new ChangesQuery(cursor, perPage))
+                .map(it -> ChangeResponse.from(it, GenreApiPresenter::present));
+    }
+
+    @Override
+    public ResponseEntity<?> getById(final String id, final String ifNoneMatch) {
+        return this.responseCache.respond(ResponseCache.GENRES, id, ifNoneMatch, () ->
+                ResponseCache.Entry.of(GenreApiPresenter.present(this.getGenreByIdUseCase.execute(id))));
     }
 
     @Override
@@ -3,6 +3,8 @@ package com.tcs.admin.catalog.infrastructure.api.controllers;
 import com.tcs.admin.catalog.domain.exceptions.DomainException;
 import com.tcs.admin.catalog.domain.exceptions.NotFoundException;
 import com.tcs.admin.catalog.domain.validation.Error;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -23,6 +25,13 @@ public class GlobalExceptionHandler {
         return ResponseEntity.unprocessableEntity().body(ApiError.from(ex));
     }
 
+    @ExceptionHandler(value = TaskRejectedException.class)
+    public ResponseEntity<?> handleTaskRejectedException(final TaskRejectedException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(new ApiError("Too many concurrent requests, try again later", List.of()));
+    }
+
     record ApiError(String message, List<Error> errors){
 
         static ApiError from(final DomainException ex) {
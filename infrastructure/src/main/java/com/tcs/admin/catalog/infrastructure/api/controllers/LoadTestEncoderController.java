@@ -0,0 +1,39 @@
+package com.tcs.admin.catalog.infrastructure.api.controllers;
+
+import com.tcs.admin.catalog.infrastructure.amqp.VideoEncoderListener;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Objects;
+
+/**
+ * Hands encoder results posted over HTTP to the {@link VideoEncoderListener}, standing in for
+ * the video encoded queue when the application runs without a broker.
+ */
+@RestController
+@Profile("loadtest")
+@RequestMapping("/loadtest")
+public class LoadTestEncoderController {
+
+    private final VideoEncoderListener videoEncoderListener;
+
+    public LoadTestEncoderController(final VideoEncoderListener videoEncoderListener) {
+        this.videoEncoderListener = Objects.requireNonNull(videoEncoderListener);
+    }
+
+    @PostMapping(value = "/video-encoded", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Void> onVideoEncoded(@RequestBody final String message) {
+        try {
+            this.videoEncoderListener.onVideoEncodedMessage(message);
+            return ResponseEntity.noContent().build();
+        } catch (final AmqpRejectAndDontRequeueException e) {
+            return ResponseEntity.unprocessableEntity().build();
+        }
+    }
+}
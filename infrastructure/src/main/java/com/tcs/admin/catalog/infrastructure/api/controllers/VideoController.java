@@ -1,12 +1,18 @@
 package com.tcs.admin.catalog.infrastructure.api.controllers;
 
+import com.google.common.io.ByteStreams;
+import com.tcs.admin.catalog.application.video.bulk.BulkCreateVideosCommand;
+import com.tcs.admin.catalog.application.video.bulk.BulkCreateVideosUseCase;
 import com.tcs.admin.catalog.application.video.create.CreateVideoCommand;
 import com.tcs.admin.catalog.application.video.create.CreateVideoUseCase;
 import com.tcs.admin.catalog.application.video.delete.DeleteVideoUseCase;
 import com.tcs.admin.catalog.application.video.media.get.GetMediaCommand;
 import com.tcs.admin.catalog.application.video.media.get.GetMediaUseCase;
+import com.tcs.admin.catalog.application.video.media.get.MediaOutput;
 import com.tcs.admin.catalog.application.video.media.upload.UploadMediaCommand;
 import com.tcs.admin.catalog.application.video.media.upload.UploadMediaUseCase;
+import com.tcs.admin.catalog.application.video.retrieve.changes.ListVideoChangesUseCase;
+import com.tcs.admin.catalog.application.video.retrieve.export.ExportVideosUseCase;
 import com.tcs.admin.catalog.application.video.retrieve.get.GetVideoByIdUseCase;
 import com.tcs.admin.catalog.application.video.retrieve.list.ListVideosUseCase;
 import com.tcs.admin.catalog.application.video.update.UpdateVideoCommand;
@@ -15,6 +21,7 @@ import com.tcs.admin.catalog.domain.castmember.CastMemberID;
 import com.tcs.admin.catalog.domain.category.CategoryID;
 import com.tcs.admin.catalog.domain.exceptions.NotificationException;
 import com.tcs.admin.catalog.domain.genre.GenreID;
+import com.tcs.admin.catalog.domain.pagination.ChangesQuery;
 import com.tcs.admin.catalog.domain.pagination.Pagination;
 import com.tcs.admin.catalog.domain.resource.Resource;
 import com.tcs.admin.catalog.domain.utils.CollectionUtils;
@@ -22,49 +29,76 @@ import com.tcs.admin.catalog.domain.validation.Error;
 import com.tcs.admin.catalog.domain.video.VideoResource;
 import com.tcs.admin.catalog.domain.video.VideoSearchQuery;
 import com.tcs.admin.catalog.infrastructure.api.VideoAPI;
-import com.tcs.admin.catalog.infrastructure.utils.HashUtils;
+import com.tcs.admin.catalog.infrastructure.cache.ResponseCache;
+import com.tcs.admin.catalog.infrastructure.changes.models.ChangeResponse;
+import com.tcs.admin.catalog.infrastructure.utils.ChecksumSource;
+import com.tcs.admin.catalog.infrastructure.utils.ETagUtils;
+import com.tcs.admin.catalog.infrastructure.utils.NdJsonUtils;
 import com.tcs.admin.catalog.infrastructure.video.models.CreateVideoRequest;
 import com.tcs.admin.catalog.infrastructure.video.models.UpdateVideoRequest;
 import com.tcs.admin.catalog.infrastructure.video.models.VideoListResponse;
-import com.tcs.admin.catalog.infrastructure.video.models.VideoResponse;
 import com.tcs.admin.catalog.infrastructure.video.presenters.VideoApiPresenter;
+import org.springframework.core.io.AbstractResource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
 @RestController
 public class VideoController implements VideoAPI {
 
+    // Gap under which two ranges are cheaper to send as one than as separate parts
+    private static final long MAX_RANGE_GAP = 80;
+
     private final CreateVideoUseCase createVideoUseCase;
+    private final BulkCreateVideosUseCase bulkCreateVideosUseCase;
     private final GetVideoByIdUseCase getVideoByIdUseCase;
     private final UpdateVideoUseCase updateVideoUseCase;
     private final DeleteVideoUseCase deleteVideoUseCase;
     private final ListVideosUseCase listVideosUseCase;
+    private final ExportVideosUseCase exportVideosUseCase;
+    private final ListVideoChangesUseCase listVideoChangesUseCase;
     private final GetMediaUseCase getMediaUseCase;
     private final UploadMediaUseCase uploadMediaUseCase;
+    private final ResponseCache responseCache;
 
     public VideoController(
             final CreateVideoUseCase createVideoUseCase,
+            final BulkCreateVideosUseCase bulkCreateVideosUseCase,
             final GetVideoByIdUseCase getVideoByIdUseCase,
             final UpdateVideoUseCase updateVideoUseCase,
             final DeleteVideoUseCase deleteVideoUseCase,
             final ListVideosUseCase listVideosUseCase,
+            final ExportVideosUseCase exportVideosUseCase,
+            final ListVideoChangesUseCase listVideoChangesUseCase,
             final GetMediaUseCase getMediaUseCase,
-            final UploadMediaUseCase uploadMediaUseCase
+            final UploadMediaUseCase uploadMediaUseCase,
+            final ResponseCache responseCache
     ) {
         this.createVideoUseCase = Objects.requireNonNull(createVideoUseCase);
+        this.bulkCreateVideosUseCase = Objects.requireNonNull(bulkCreateVideosUseCase);
         this.getVideoByIdUseCase = Objects.requireNonNull(getVideoByIdUseCase);
         this.updateVideoUseCase = Objects.requireNonNull(updateVideoUseCase);
         this.deleteVideoUseCase = Objects.requireNonNull(deleteVideoUseCase);
         this.listVideosUseCase = Objects.requireNonNull(listVideosUseCase);
+        this.exportVideosUseCase = Objects.requireNonNull(exportVideosUseCase);
+        this.listVideoChangesUseCase = Objects.requireNonNull(listVideoChangesUseCase);
         this.getMediaUseCase = Objects.requireNonNull(getMediaUseCase);
         this.uploadMediaUseCase = Objects.requireNonNull(uploadMediaUseCase);
+        this.responseCache = Objects.requireNonNull(responseCache);
     }
 
     @Override
@@ -76,7 +110,8 @@ public class VideoController implements VideoAPI {
             final String direction,
             final Set<String> categories,
             final Set<String> genres,
-            final Set<String> castMembers
+            final Set<String> castMembers,
+            final String cursor
     ) {
         final var aQuery = new VideoSearchQuery(
                 page,
@@ -86,7 +121,8 @@ public class VideoController implements VideoAPI {
                 direction,
                 CollectionUtils.mapTo(categories, CategoryID::from),
                 CollectionUtils.mapTo(genres, GenreID::from),
-                CollectionUtils.mapTo(castMembers, CastMemberID::from)
+                CollectionUtils.mapTo(castMembers, CastMemberID::from),
+                cursor
         );
 
         return VideoApiPresenter.present(this.listVideosUseCase.execute(aQuery));
@@ -135,27 +171,36 @@ public class VideoController implements VideoAPI {
 
     @Override
     public ResponseEntity<?> createDraft(final CreateVideoRequest payload) {
-        final var aCommand = CreateVideoCommand.with(
-                payload.title(),
-                payload.description(),
-                payload.yearLaunched(),
-                payload.duration(),
-                payload.opened(),
-                payload.published(),
-                payload.rating(),
-                payload.categories(),
-                payload.genres(),
-                payload.castMembers()
-        );
-
-        final var output = this.createVideoUseCase.execute(aCommand);
+        final var output = this.createVideoUseCase.execute(toCommand(payload));
 
         return ResponseEntity.created(URI.create("/videos/" + output.id())).body(output);
     }
 
     @Override
-    public VideoResponse getById(final String id) {
-        return VideoApiPresenter.present(this.getVideoByIdUseCase.execute(id));
+    public ResponseEntity<?> createAll(final List<CreateVideoRequest> payload) {
+        final var aCommand = BulkCreateVideosCommand.with(payload.stream()
+                .map(VideoController::toCommand)
+                .toList());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(this.bulkCreateVideosUseCase.execute(aCommand));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export() {
+        return NdJsonUtils.stream(aConsumer ->
+                this.exportVideosUseCase.execute(it -> aConsumer.accept(VideoApiPresenter.present(it))));
+    }
+
+    @Override
+    public Pagination<ChangeResponse<VideoListResponse>> listChanges(final String cursor, final int perPage) {
+        return this.listVideoChangesUseCase.execute(new ChangesQuery(cursor, perPage))
+                .map(it -> ChangeResponse.from(it, VideoApiPresenter::present));
+    }
+
+    @Override
+    public ResponseEntity<?> getById(final String id, final String ifNoneMatch) {
+        return this.responseCache.respond(ResponseCache.VIDEOS, id, ifNoneMatch, () ->
+                ResponseCache.Entry.of(VideoApiPresenter.present(this.getVideoByIdUseCase.execute(id))));
     }
 
     @Override
@@ -187,14 +232,67 @@ public class VideoController implements VideoAPI {
     }
 
     @Override
-    public ResponseEntity<byte[]> getMediaByType(final String id, final String type) {
+    public ResponseEntity<?> getMediaByType(final String id, final String type, final String range, final String ifNoneMatch) {
         final var aMedia = this.getMediaUseCase.execute(GetMediaCommand.with(id, type));
+        final var eTag = ETagUtils.strong(aMedia.checksum());
+        final var size = aMedia.size();
 
-        return ResponseEntity.ok()
+        if (ETagUtils.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .build();
+        }
+
+        final List<HttpRange> ranges;
+        try {
+            ranges = range != null ? HttpRange.parseRanges(range) : List.of();
+        } catch (IllegalArgumentException ex) {
+            return rangeNotSatisfiable(size);
+        }
+
+        if (ranges.isEmpty()) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.valueOf(aMedia.contentType()))
+                    .contentLength(size)
+                    .eTag(eTag)
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aMedia.name()))
+                    .body(new MediaContent(aMedia, 0, size));
+        }
+
+        // Multiple ranges are rare for media players. Overlapping or nearby ones are coalesced and
+        // only the first resulting range is served, so far apart ranges never turn into a span of
+        // the whole media. Answering them with a 200 would let Spring rewrite the body into a
+        // multipart/byteranges response that no longer matches the headers set here.
+        final var spans = new ArrayList<long[]>(ranges.size());
+        try {
+            for (final var it : ranges) {
+                spans.add(new long[]{it.getRangeStart(size), it.getRangeEnd(size)});
+            }
+        } catch (IllegalArgumentException ex) {
+            return rangeNotSatisfiable(size);
+        }
+        spans.sort(Comparator.comparingLong(it -> it[0]));
+
+        final long start = spans.get(0)[0];
+        long end = spans.get(0)[1];
+        for (final var it : spans) {
+            if (it[0] > end + 1 + MAX_RANGE_GAP) {
+                break;
+            }
+            end = Math.max(end, it[1]);
+        }
+
+        final var length = end - start + 1;
+
+        return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
                 .contentType(MediaType.valueOf(aMedia.contentType()))
-                .contentLength(aMedia.content().length)
+                .contentLength(length)
+                .eTag(eTag)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_RANGE, "bytes %d-%d/%d".formatted(start, end, size))
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aMedia.name()))
-                .body(aMedia.content());
+                .body(new MediaContent(aMedia, start, length));
     }
 
     @Override
@@ -217,15 +315,72 @@ public class VideoController implements VideoAPI {
     private Resource resourceOf(final MultipartFile part) {
         if (part == null) return null;
 
-        try {
-            return Resource.with(
-                    HashUtils.checksum(part.getBytes()),
-                    part.getBytes(),
-                    part.getContentType(),
-                    part.getOriginalFilename()
-            );
-        } catch (Throwable t) {
-            throw new RuntimeException(t);
+        // The checksum is computed while the storage reads the part, so it is only read once
+        final var source = new ChecksumSource(part::getInputStream);
+        return Resource.with(
+                source::checksum,
+                source,
+                part.getSize(),
+                part.getContentType(),
+                part.getOriginalFilename()
+        );
+    }
+
+    private static CreateVideoCommand toCommand(final CreateVideoRequest payload) {
+        return CreateVideoCommand.with(
+                payload.title(),
+                payload.description(),
+                payload.yearLaunched(),
+                payload.duration(),
+                payload.opened(),
+                payload.published(),
+                payload.rating(),
+                payload.categories(),
+                payload.genres(),
+                payload.castMembers()
+        );
+    }
+
+    private static ResponseEntity<?> rangeNotSatisfiable(final long size) {
+        return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes */%d".formatted(size))
+                .build();
+    }
+
+    /**
+     * Lazily opened media body, Spring copies it straight to the response
+     * so the content is never held in memory.
+     */
+    private static class MediaContent extends AbstractResource {
+
+        private final MediaOutput media;
+        private final long position;
+        private final long length;
+
+        private MediaContent(final MediaOutput media, final long position, final long length) {
+            this.media = media;
+            this.position = position;
+            this.length = length;
+        }
+
+        @Override
+        public String getDescription() {
+            return "Media [%s]".formatted(this.media.name());
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public long contentLength() {
+            return this.length;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return ByteStreams.limit(this.media.content().open(this.position), this.length);
         }
     }
 }
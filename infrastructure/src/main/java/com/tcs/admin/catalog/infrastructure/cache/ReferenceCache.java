@@ -0,0 +1,208 @@
+package com.tcs.admin.catalog.infrastructure.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded near-cache for rarely changing reference data (categories, genres, cast members).
+ * It keeps the aggregates returned by {@code findById} and the outcome of {@code existsByIds}
+ * lookups, both expiring after a fixed TTL. Writes go through {@link #invalidate(String)},
+ * which evicts locally and publishes a {@link ReferenceCacheInvalidated} so other nodes can
+ * {@link #evict(String)} the same entry.
+ * <p>
+ * Cached aggregates are mutable, so they are copied both when stored and when returned.
+ * <p>
+ * A load that overlaps an eviction of the same id is returned but not stored: it may have read
+ * the state the eviction was for. Ids are tracked through a fixed set of generation counters, so
+ * an unrelated id sharing a counter costs an extra miss at worst.
+ */
+public class ReferenceCache<T> implements MeterBinder {
+
+    private static final int GENERATIONS = 64;
+
+    private final String name;
+
+    private final UnaryOperator<T> copier;
+
+    private final ApplicationEventPublisher publisher;
+
+    private final Cache<String, T> entries;
+
+    private final Cache<String, Boolean> existence;
+
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATIONS);
+
+    public ReferenceCache(
+            final String name,
+            final UnaryOperator<T> copier,
+            final long maximumSize,
+            final Duration expireAfterWrite,
+            final ApplicationEventPublisher publisher
+    ) {
+        this.name = Objects.requireNonNull(name);
+        this.copier = Objects.requireNonNull(copier);
+        this.publisher = Objects.requireNonNull(publisher);
+        this.entries = newCache(maximumSize, expireAfterWrite);
+        this.existence = newCache(maximumSize, expireAfterWrite);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Optional<T> get(final String id, final Function<String, Optional<T>> loader) {
+        final var cached = this.entries.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(this.copier.apply(cached));
+        }
+
+        final var generation = generationOf(id);
+        final var loaded = loader.apply(id);
+        loaded.ifPresent(it -> {
+            if (generationOf(id) != generation) {
+                return;
+            }
+            this.entries.put(id, this.copier.apply(it));
+            this.existence.put(id, Boolean.TRUE);
+            // An eviction may have landed between the check and the put
+            if (generationOf(id) != generation) {
+                this.entries.invalidate(id);
+                this.existence.invalidate(id);
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * Returns which of the given ids exist, asking the loader only for the ids whose existence
+     * is not cached yet. Both positive and negative answers are cached.
+     */
+    public Set<String> existsByIds(
+            final Collection<String> ids,
+            final Function<List<String>, ? extends Collection<String>> loader
+    ) {
+        final var lookup = lookup(ids);
+        if (lookup.unknown().isEmpty()) {
+            return lookup.found();
+        }
+
+        final var found = new HashSet<>(lookup.found());
+        found.addAll(record(lookup, loader.apply(List.copyOf(lookup.unknown()))));
+        return found;
+    }
+
+    /**
+     * Splits the given ids into the ones known to exist and the ones that still have to be checked
+     * against the database. Ids cached as missing are in neither set. Must be called before the
+     * database is checked, so {@link #record(Lookup, Collection)} can tell the evictions that
+     * overlapped the check.
+     */
+    public Lookup lookup(final Collection<String> ids) {
+        final var found = new HashSet<String>();
+        final var unknown = new HashSet<String>();
+        final var generations = new HashMap<String, Long>();
+        for (final var id : ids) {
+            final var exists = this.existence.getIfPresent(id);
+            if (exists == null) {
+                unknown.add(id);
+                generations.put(id, generationOf(id));
+            } else if (exists) {
+                found.add(id);
+            }
+        }
+        return new Lookup(found, unknown, generations);
+    }
+
+    /**
+     * Caches the result of checking the unknown ids of the lookup against the database, returning
+     * the checked ids that were found. As in {@link #get(String, Function)}, an id evicted since
+     * the lookup is returned but not cached.
+     */
+    public Set<String> record(final Lookup lookup, final Collection<String> found) {
+        final var checked = lookup.unknown();
+        final var existing = new HashSet<String>(found.size());
+        for (final var id : found) {
+            if (checked.contains(id)) {
+                existing.add(id);
+            }
+        }
+        for (final var id : checked) {
+            final long generation = lookup.generations().get(id);
+            if (generationOf(id) != generation) {
+                continue;
+            }
+            this.existence.put(id, existing.contains(id));
+            // An eviction may have landed between the check and the put
+            if (generationOf(id) != generation) {
+                this.existence.invalidate(id);
+            }
+        }
+        return existing;
+    }
+
+    /**
+     * Evicts the entry on this node and asks the other nodes to do the same. Within a transaction
+     * this happens after commit, otherwise a concurrent read could cache the old state again.
+     */
+    public void invalidate(final String id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doInvalidate(id);
+                }
+            });
+        } else {
+            doInvalidate(id);
+        }
+    }
+
+    private void doInvalidate(final String id) {
+        evict(id);
+        this.publisher.publishEvent(new ReferenceCacheInvalidated(this.name, id));
+    }
+
+    public void evict(final String id) {
+        this.generations.incrementAndGet(slotOf(id));
+        this.entries.invalidate(id);
+        this.existence.invalidate(id);
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        GuavaCacheMetrics.monitor(registry, this.entries, "references", Tags.of("reference", this.name, "lookup", "findById"));
+        GuavaCacheMetrics.monitor(registry, this.existence, "references", Tags.of("reference", this.name, "lookup", "existsByIds"));
+    }
+
+    private long generationOf(final String id) {
+        return this.generations.get(slotOf(id));
+    }
+
+    private static int slotOf(final String id) {
+        return Math.floorMod(id.hashCode(), GENERATIONS);
+    }
+
+    private static <V> Cache<String, V> newCache(final long maximumSize, final Duration expireAfterWrite) {
+        return CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    public record Lookup(Set<String> found, Set<String> unknown, Map<String, Long> generations) {
+    }
+}
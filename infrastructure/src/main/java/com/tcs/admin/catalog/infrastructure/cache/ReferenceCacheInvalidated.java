@@ -0,0 +1,17 @@
+package com.tcs.admin.catalog.infrastructure.cache;
+
+import com.tcs.admin.catalog.domain.events.DomainEvent;
+import com.tcs.admin.catalog.domain.utils.InstantUtils;
+
+import java.time.Instant;
+
+public record ReferenceCacheInvalidated(
+        String cache,
+        String id,
+        Instant occurredOn
+) implements DomainEvent {
+
+    public ReferenceCacheInvalidated(final String cache, final String id) {
+        this(cache, id, InstantUtils.now());
+    }
+}
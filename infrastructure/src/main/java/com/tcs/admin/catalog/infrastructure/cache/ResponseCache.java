@@ -0,0 +1,78 @@
+package com.tcs.admin.catalog.infrastructure.cache;
+
+import com.tcs.admin.catalog.infrastructure.configuration.json.Json;
+import com.tcs.admin.catalog.infrastructure.utils.ETagUtils;
+import com.tcs.admin.catalog.infrastructure.utils.HashUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Serialized bodies of the {@code GET /{id}} endpoints, so a hit neither loads the aggregate nor
+ * writes its JSON again. Every body carries a strong ETag, the checksum of the body itself, and a
+ * matching {@code If-None-Match} is answered with a 304.
+ * <p>
+ * Gateways {@link #invalidate(String, String)} an aggregate whenever they write it; being a
+ * {@link ReferenceCache}, the eviction happens after commit and reaches every node.
+ */
+public class ResponseCache extends ReferenceCache<ResponseCache.Entry> {
+
+    public static final String CATEGORIES = "categories";
+
+    public static final String GENRES = "genres";
+
+    public static final String CAST_MEMBERS = "cast_members";
+
+    public static final String VIDEOS = "videos";
+
+    public ResponseCache(
+            final long maximumSize,
+            final Duration expireAfterWrite,
+            final ApplicationEventPublisher publisher
+    ) {
+        // Entries are never modified, so they are shared instead of copied
+        super("responses", UnaryOperator.identity(), maximumSize, expireAfterWrite, publisher);
+    }
+
+    public ResponseEntity<byte[]> respond(
+            final String aggregate,
+            final String id,
+            final String ifNoneMatch,
+            final Supplier<Entry> loader
+    ) {
+        final var entry = get(key(aggregate, id), key -> Optional.of(loader.get())).orElseThrow();
+
+        if (ETagUtils.matches(ifNoneMatch, entry.eTag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(entry.eTag())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(entry.eTag())
+                .body(entry.body());
+    }
+
+    public void invalidate(final String aggregate, final String id) {
+        invalidate(key(aggregate, id));
+    }
+
+    private static String key(final String aggregate, final String id) {
+        return aggregate + ":" + id;
+    }
+
+    public record Entry(String eTag, byte[] body) {
+
+        public static Entry of(final Object response) {
+            final var body = Json.writeValueAsBytes(response);
+            return new Entry(ETagUtils.strong(HashUtils.checksum(body)), body);
+        }
+    }
+}
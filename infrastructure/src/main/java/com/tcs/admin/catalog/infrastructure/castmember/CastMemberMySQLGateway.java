@@ -3,28 +3,59 @@ package com.tcs.admin.catalog.infrastructure.castmember;
 import com.tcs.admin.catalog.domain.castmember.CastMember;
 import com.tcs.admin.catalog.domain.castmember.CastMemberGateway;
 import com.tcs.admin.catalog.domain.castmember.CastMemberID;
+import com.tcs.admin.catalog.domain.pagination.Change;
+import com.tcs.admin.catalog.domain.pagination.ChangesQuery;
 import com.tcs.admin.catalog.domain.pagination.Pagination;
 import com.tcs.admin.catalog.domain.pagination.SearchQuery;
+import com.tcs.admin.catalog.infrastructure.cache.ReferenceCache;
+import com.tcs.admin.catalog.infrastructure.cache.ResponseCache;
 import com.tcs.admin.catalog.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import com.tcs.admin.catalog.infrastructure.castmember.persistence.CastMemberRepository;
+import com.tcs.admin.catalog.infrastructure.changes.ChangeFeed;
+import com.tcs.admin.catalog.infrastructure.search.TermsSearch;
+import com.tcs.admin.catalog.infrastructure.utils.BulkUtils;
+import com.tcs.admin.catalog.infrastructure.utils.KeysetUtils;
+import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
-import static com.tcs.admin.catalog.infrastructure.utils.SpecificationUtils.like;
-
 @Component
 public class CastMemberMySQLGateway implements CastMemberGateway {
 
     private final CastMemberRepository repository;
 
-    public CastMemberMySQLGateway(final CastMemberRepository repository) {
-        this.repository = repository;
+    private final EntityManager entityManager;
+
+    private final ReferenceCache<CastMember> castMemberCache;
+
+    private final ResponseCache responseCache;
+
+    private final TermsSearch<CastMemberJpaEntity> castMemberSearch;
+
+    private final ChangeFeed<CastMember> castMemberChanges;
+
+    public CastMemberMySQLGateway(
+            final CastMemberRepository repository,
+            final EntityManager entityManager,
+            final ReferenceCache<CastMember> castMemberCache,
+            final ResponseCache responseCache,
+            final TermsSearch<CastMemberJpaEntity> castMemberSearch,
+            final ChangeFeed<CastMember> castMemberChanges
+    ) {
+        this.repository = Objects.requireNonNull(repository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.castMemberCache = Objects.requireNonNull(castMemberCache);
+        this.responseCache = Objects.requireNonNull(responseCache);
+        this.castMemberSearch = Objects.requireNonNull(castMemberSearch);
+        this.castMemberChanges = Objects.requireNonNull(castMemberChanges);
     }
 
     @Override
@@ -33,17 +64,38 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
     }
 
     @Override
+    @Transactional
+    public List<CastMember> createAll(final List<CastMember> aCastMembers) {
+        final var entities = aCastMembers.stream()
+                .map(CastMemberJpaEntity::from)
+                .toList();
+
+        BulkUtils.persistAll(this.entityManager, entities);
+
+        // Fresh ids cannot be in the cache yet, so unlike save() there is nothing to invalidate
+        entities.forEach(this.castMemberSearch::index);
+        return entities.stream()
+                .map(CastMemberJpaEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional
     public void deleteById(final CastMemberID anId) {
         final var anIdValue = anId.getValue();
         if (this.repository.existsById(anIdValue)) {
             this.repository.deleteById(anIdValue);
+            this.castMemberChanges.tombstone(anIdValue);
+            this.castMemberCache.invalidate(anIdValue);
+            this.responseCache.invalidate(ResponseCache.CAST_MEMBERS, anIdValue);
+            this.castMemberSearch.remove(anIdValue);
         }
     }
 
     @Override
     public Optional<CastMember> findById(final CastMemberID anId) {
-        return this.repository.findById(anId.getValue())
-                .map(CastMemberJpaEntity::toDomain);
+        return this.castMemberCache.get(anId.getValue(), id -> this.repository.findById(id)
+                .map(CastMemberJpaEntity::toDomain));
     }
 
     @Override
@@ -53,6 +105,21 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
 
     @Override
     public Pagination<CastMember> findAll(final SearchQuery aQuery) {
+        // Dynamic search
+        final var specifications = this.castMemberSearch.matching(aQuery.terms());
+
+        if (aQuery.isKeyset()) {
+            return KeysetUtils.seek(
+                    this.repository,
+                    specifications,
+                    aQuery.perPage(),
+                    aQuery.sort(),
+                    aQuery.direction(),
+                    aQuery.cursor(),
+                    CastMemberJpaEntity::toDomain
+            );
+        }
+
         // Pagination
         final var page = PageRequest.of(
                 aQuery.page(),
@@ -60,12 +127,6 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
                 Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
         );
 
-        // Dynamic search
-        final var specifications = Optional.ofNullable(aQuery.terms())
-                .filter(str -> !str.isBlank())
-                .map(this::assembleSpecifications)
-                .orElse(null);
-
         final var pageResult = this.repository.findAll(specifications, page);
 
         return new Pagination<>(
@@ -76,23 +137,37 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
         );
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(final Consumer<CastMember> aConsumer) {
+        BulkUtils.forEach(this.entityManager, this.repository.streamAll(), it -> aConsumer.accept(it.toDomain()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<Change<CastMember>> findChanges(final ChangesQuery aQuery) {
+        return this.castMemberChanges.read(aQuery, (changedAt, id, until, page) ->
+                this.repository.findChangedAfter(changedAt, id, until, page).stream()
+                        .map(it -> Change.upsert(it.getId(), it.getUpdatedAt(), it.toDomain()))
+                        .toList());
+    }
+
     @Override
     public List<CastMemberID> existsByIds(final Iterable<CastMemberID> castMembersIds) {
         final var ids = StreamSupport.stream(castMembersIds.spliterator(), false)
                 .map(CastMemberID::getValue)
                 .toList();
-        return this.repository.existsByIds(ids).stream()
+        return this.castMemberCache.existsByIds(ids, this.repository::existsByIds).stream()
                 .map(CastMemberID::from)
                 .toList();
     }
 
     private CastMember save(final CastMember aCastMember) {
-        return this.repository.save(CastMemberJpaEntity.from(aCastMember))
-                .toDomain();
-    }
-
-    private Specification<CastMemberJpaEntity> assembleSpecifications(String str) {
-        return like("name", str);
+        final var castMember = this.repository.save(CastMemberJpaEntity.from(aCastMember));
+        this.castMemberCache.invalidate(castMember.getId());
+        this.responseCache.invalidate(ResponseCache.CAST_MEMBERS, castMember.getId());
+        this.castMemberSearch.index(castMember);
+        return castMember.toDomain();
     }
 
 }
@@ -1,19 +1,45 @@
 package com.tcs.admin.catalog.infrastructure.castmember.persistence;
 
+import com.tcs.admin.catalog.infrastructure.utils.BulkUtils;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity, String> {
+public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity, String>, JpaSpecificationExecutor<CastMemberJpaEntity> {
 
     @Query(value = "select cm.id from CastMember cm where cm.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
 
     Page<CastMemberJpaEntity> findAll(Specification<CastMemberJpaEntity> whereClause, Pageable page);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + BulkUtils.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select cm from CastMember cm order by cm.id")
+    Stream<CastMemberJpaEntity> streamAll();
+
+    @Query("""
+            select cm from CastMember cm
+            where (cm.updatedAt > :changedAt or (cm.updatedAt = :changedAt and cm.id > :id))
+              and cm.updatedAt <= :until
+            order by cm.updatedAt, cm.id
+            """)
+    List<CastMemberJpaEntity> findChangedAfter(
+            @Param("changedAt") Instant changedAt,
+            @Param("id") String id,
+            @Param("until") Instant until,
+            Pageable page
+    );
 }
@@ -3,28 +3,70 @@ package com.tcs.admin.catalog.infrastructure.category;
 import com.tcs.admin.catalog.domain.category.Category;
 import com.tcs.admin.catalog.domain.category.CategoryGateway;
 import com.tcs.admin.catalog.domain.category.CategoryID;
+import com.tcs.admin.catalog.domain.genre.Genre;
+import com.tcs.admin.catalog.domain.pagination.Change;
+import com.tcs.admin.catalog.domain.pagination.ChangesQuery;
 import com.tcs.admin.catalog.domain.pagination.Pagination;
 import com.tcs.admin.catalog.domain.pagination.SearchQuery;
+import com.tcs.admin.catalog.domain.utils.InstantUtils;
 import com.tcs.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
 import com.tcs.admin.catalog.infrastructure.category.persistence.CategoryRepository;
+import com.tcs.admin.catalog.infrastructure.cache.ReferenceCache;
+import com.tcs.admin.catalog.infrastructure.cache.ResponseCache;
+import com.tcs.admin.catalog.infrastructure.changes.ChangeFeed;
+import com.tcs.admin.catalog.infrastructure.genre.persistence.GenreRepository;
+import com.tcs.admin.catalog.infrastructure.search.TermsSearch;
+import com.tcs.admin.catalog.infrastructure.utils.BulkUtils;
+import com.tcs.admin.catalog.infrastructure.utils.KeysetUtils;
+import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
-import static com.tcs.admin.catalog.infrastructure.utils.SpecificationUtils.like;
-
 @Component
 public class CategoryMySQLGateway implements CategoryGateway {
 
     private final CategoryRepository repository;
 
-    public CategoryMySQLGateway(final CategoryRepository repository) {
-        this.repository = repository;
+    private final EntityManager entityManager;
+
+    private final ReferenceCache<Category> categoryCache;
+
+    private final ResponseCache responseCache;
+
+    private final TermsSearch<CategoryJpaEntity> categorySearch;
+
+    private final ChangeFeed<Category> categoryChanges;
+
+    private final GenreRepository genreRepository;
+
+    private final ReferenceCache<Genre> genreCache;
+
+    public CategoryMySQLGateway(
+            final CategoryRepository repository,
+            final EntityManager entityManager,
+            final ReferenceCache<Category> categoryCache,
+            final ResponseCache responseCache,
+            final TermsSearch<CategoryJpaEntity> categorySearch,
+            final ChangeFeed<Category> categoryChanges,
+            final GenreRepository genreRepository,
+            final ReferenceCache<Genre> genreCache
+    ) {
+        this.repository = Objects.requireNonNull(repository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.categoryCache = Objects.requireNonNull(categoryCache);
+        this.responseCache = Objects.requireNonNull(responseCache);
+        this.categorySearch = Objects.requireNonNull(categorySearch);
+        this.categoryChanges = Objects.requireNonNull(categoryChanges);
+        this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.genreCache = Objects.requireNonNull(genreCache);
     }
 
     @Override
@@ -33,17 +75,33 @@ public class CategoryMySQLGateway implements CategoryGateway {
     }
 
     @Override
+    @Transactional
     public void deleteById(final CategoryID anId) {
         final var anIdValue = anId.getValue();
         if (this.repository.existsById(anIdValue)) {
+            // The links to the genres go away with the category (ON DELETE CASCADE), so the genres
+            // are touched for their change feed to report them without it
+            final var genreIds = this.genreRepository.findIdsByCategoryId(anIdValue);
+            if (!genreIds.isEmpty()) {
+                this.genreRepository.touchAll(genreIds, InstantUtils.now());
+            }
+
             this.repository.deleteById(anIdValue);
+            this.categoryChanges.tombstone(anIdValue);
+            this.categoryCache.invalidate(anIdValue);
+            this.responseCache.invalidate(ResponseCache.CATEGORIES, anIdValue);
+            this.categorySearch.remove(anIdValue);
+            genreIds.forEach(it -> {
+                this.genreCache.invalidate(it);
+                this.responseCache.invalidate(ResponseCache.GENRES, it);
+            });
         }
     }
 
     @Override
     public Optional<Category> findById(final CategoryID anId) {
-        return this.repository.findById(anId.getValue())
-                .map(CategoryJpaEntity::toDomain);
+        return this.categoryCache.get(anId.getValue(), id -> this.repository.findById(id)
+                .map(CategoryJpaEntity::toDomain));
     }
 
     @Override
@@ -53,6 +111,21 @@ public class CategoryMySQLGateway implements CategoryGateway {
 
     @Override
     public Pagination<Category> findAll(final SearchQuery aQuery) {
+        // Dynamic search
+        final var specifications = this.categorySearch.matching(aQuery.terms());
+
+        if (aQuery.isKeyset()) {
+            return KeysetUtils.seek(
+                    this.repository,
+                    specifications,
+                    aQuery.perPage(),
+                    aQuery.sort(),
+                    aQuery.direction(),
+                    aQuery.cursor(),
+                    CategoryJpaEntity::toDomain
+            );
+        }
+
         // Pagination
         final var page = PageRequest.of(
                 aQuery.page(),
@@ -60,12 +133,6 @@ public class CategoryMySQLGateway implements CategoryGateway {
                 Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
         );
 
-        // Dynamic search
-        final var specifications = Optional.ofNullable(aQuery.terms())
-                .filter(str -> !str.isBlank())
-                .map(this::assembleSpecifications)
-                .orElse(null);
-
         final var pageResult = this.repository.findAll(specifications, page);
 
         return new Pagination<>(
@@ -76,25 +143,37 @@ public class CategoryMySQLGateway implements CategoryGateway {
         );
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(final Consumer<Category> aConsumer) {
+        BulkUtils.forEach(this.entityManager, this.repository.streamAll(), it -> aConsumer.accept(it.toDomain()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<Change<Category>> findChanges(final ChangesQuery aQuery) {
+        return this.categoryChanges.read(aQuery, (changedAt, id, until, page) ->
+                this.repository.findChangedAfter(changedAt, id, until, page).stream()
+                        .map(it -> Change.upsert(it.getId(), it.getUpdatedAt(), it.toDomain()))
+                        .toList());
+    }
+
     @Override
     public List<CategoryID> existsByIds(final Iterable<CategoryID> categoryIDs) {
         final var ids = StreamSupport.stream(categoryIDs.spliterator(), false)
                 .map(CategoryID::getValue)
                 .toList();
-        return this.repository.existsByIds(ids).stream()
+        return this.categoryCache.existsByIds(ids, this.repository::existsByIds).stream()
                 .map(CategoryID::from)
                 .toList();
     }
 
     private Category save(final Category aCategory) {
         CategoryJpaEntity category = this.repository.save(CategoryJpaEntity.from(aCategory));
+        this.categoryCache.invalidate(category.getId());
+        this.responseCache.invalidate(ResponseCache.CATEGORIES, category.getId());
+        this.categorySearch.index(category);
         return category.toDomain();
     }
 
-    private Specification<CategoryJpaEntity> assembleSpecifications(String str) {
-        final Specification<CategoryJpaEntity> nameLike = like("name", str);
-        final Specification<CategoryJpaEntity> descriptionLike = like("description", str);
-        return nameLike.or(descriptionLike);
-    }
-
 }
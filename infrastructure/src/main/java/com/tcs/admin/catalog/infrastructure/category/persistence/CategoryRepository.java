@@ -1,18 +1,45 @@
 package com.tcs.admin.catalog.infrastructure.category.persistence;
 
+import com.tcs.admin.catalog.infrastructure.utils.BulkUtils;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
+public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String>, JpaSpecificationExecutor<CategoryJpaEntity> {
 
     Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable page);
 
     @Query(value = "select c.id from Category c where c.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + BulkUtils.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select c from Category c order by c.id")
+    Stream<CategoryJpaEntity> streamAll();
+
+    @Query("""
+            select c from Category c
+            where (c.updatedAt > :changedAt or (c.updatedAt = :changedAt and c.id > :id))
+              and c.updatedAt <= :until
+            order by c.updatedAt, c.id
+            """)
+    List<CategoryJpaEntity> findChangedAfter(
+            @Param("changedAt") Instant changedAt,
+            @Param("id") String id,
+            @Param("until") Instant until,
+            Pageable page
+    );
 }
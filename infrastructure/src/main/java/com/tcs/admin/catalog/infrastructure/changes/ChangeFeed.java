@@ -0,0 +1,102 @@
+package com.tcs.admin.catalog.infrastructure.changes;
+
+import com.tcs.admin.catalog.domain.exceptions.DomainException;
+import com.tcs.admin.catalog.domain.pagination.Change;
+import com.tcs.admin.catalog.domain.pagination.ChangesQuery;
+import com.tcs.admin.catalog.domain.pagination.Pagination;
+import com.tcs.admin.catalog.domain.utils.InstantUtils;
+import com.tcs.admin.catalog.domain.validation.Error;
+import com.tcs.admin.catalog.infrastructure.changes.persistence.TombstoneJpaEntity;
+import com.tcs.admin.catalog.infrastructure.changes.persistence.TombstoneRepository;
+import com.tcs.admin.catalog.infrastructure.configuration.properties.changes.ChangesProperties;
+import com.tcs.admin.catalog.infrastructure.utils.Cursor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Change feed of one aggregate: its rows ordered by {@code (updated_at, id)}, merged with the
+ * tombstones of the ones deleted. Both sides are read with the same seek predicate and the
+ * {@code (changedAt, id)} of the last entry returned becomes the cursor of the next read.
+ * <p>
+ * Timestamps are taken before commit, so a slow transaction can make a row visible after later
+ * ones were already read. Entries newer than the settle time are therefore held back until they
+ * can no longer be overtaken.
+ * <p>
+ * Only a bumped {@code updated_at} puts a row back in the feed, so a delete that cascades into
+ * another aggregate must touch its rows in the same transaction: deleting a category touches the
+ * genres linked to it. Videos need no touch, as their links to categories, genres and cast
+ * members have no {@code ON DELETE CASCADE}: a row a live video refers to cannot be deleted, and
+ * a soft-deleted video loses its links along with its visibility.
+ */
+public class ChangeFeed<T> {
+
+    private static final Comparator<Change<?>> ORDER =
+            Comparator.<Change<?>, Instant>comparing(Change::changedAt).thenComparing(Change::id);
+
+    private final String aggregate;
+
+    private final TombstoneRepository tombstoneRepository;
+
+    private final ChangesProperties props;
+
+    public ChangeFeed(
+            final String aggregate,
+            final TombstoneRepository tombstoneRepository,
+            final ChangesProperties props
+    ) {
+        this.aggregate = Objects.requireNonNull(aggregate);
+        this.tombstoneRepository = Objects.requireNonNull(tombstoneRepository);
+        this.props = Objects.requireNonNull(props);
+    }
+
+    /**
+     * Records the deletion of {@code id}; call it in the transaction that deletes the row.
+     */
+    public void tombstone(final String id) {
+        this.tombstoneRepository.save(TombstoneJpaEntity.with(this.aggregate, id));
+    }
+
+    public Pagination<Change<T>> read(final ChangesQuery aQuery, final Seek<T> rows) {
+        final var perPage = aQuery.perPage();
+        if (perPage < 1 || perPage > this.props.getMaxPerPage()) {
+            throw DomainException.with(new Error("'perPage' must be between 1 and %d".formatted(this.props.getMaxPerPage())));
+        }
+
+        final var after = Cursor.decode(aQuery.cursor());
+        final var changedAt = after == null ? Instant.EPOCH : (Instant) after.keyAs(Instant.class);
+        final var id = after == null ? "" : after.id();
+        if (changedAt == null) {
+            throw DomainException.with(new Error("'cursor' is invalid"));
+        }
+
+        final var until = InstantUtils.now().minus(this.props.getSettleTime());
+        final var page = PageRequest.of(0, perPage + 1);
+
+        final var changes = new ArrayList<>(rows.after(changedAt, id, until, page));
+        this.tombstoneRepository.findDeletedAfter(this.aggregate, changedAt, id, until, page)
+                .forEach(it -> changes.add(Change.deleted(it.getId(), it.getDeletedAt())));
+        changes.sort(ORDER);
+
+        final var items = changes.size() > perPage ? changes.subList(0, perPage) : changes;
+        final var nextCursor = items.isEmpty()
+                ? Objects.requireNonNullElse(aQuery.cursor(), "")
+                : Cursor.of(items.get(items.size() - 1).changedAt(), items.get(items.size() - 1).id()).encode();
+
+        return Pagination.keyset(perPage, List.copyOf(items), nextCursor);
+    }
+
+    /**
+     * Reads up to {@code page} rows of the aggregate updated after {@code (changedAt, id)} and
+     * no later than {@code until}, in that order.
+     */
+    @FunctionalInterface
+    public interface Seek<T> {
+        List<Change<T>> after(Instant changedAt, String id, Instant until, Pageable page);
+    }
+}
@@ -0,0 +1,23 @@
+package com.tcs.admin.catalog.infrastructure.changes.models;
+
+import com.tcs.admin.catalog.domain.pagination.Change;
+
+import java.time.Instant;
+import java.util.function.Function;
+
+public record ChangeResponse<T>(
+        String id,
+        Instant changedAt,
+        boolean deleted,
+        T item
+) {
+
+    public static <T, R> ChangeResponse<R> from(final Change<T> aChange, final Function<T, R> presenter) {
+        return new ChangeResponse<>(
+                aChange.id(),
+                aChange.changedAt(),
+                aChange.isDeleted(),
+                aChange.isDeleted() ? null : presenter.apply(aChange.item())
+        );
+    }
+}
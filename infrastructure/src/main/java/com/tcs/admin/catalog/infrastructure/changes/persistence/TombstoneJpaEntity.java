@@ -0,0 +1,51 @@
+package com.tcs.admin.catalog.infrastructure.changes.persistence;
+
+import com.tcs.admin.catalog.domain.utils.InstantUtils;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+/**
+ * Marks the id of a hard deleted aggregate so that change feed readers learn about the deletion,
+ * since the row they would otherwise see is gone.
+ */
+@Entity(name = "Tombstone")
+@Table(name = "tombstones")
+public class TombstoneJpaEntity {
+
+    @Id
+    private String id;
+
+    @Column(name = "aggregate", nullable = false)
+    private String aggregate;
+
+    @Column(name = "deleted_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant deletedAt;
+
+    public TombstoneJpaEntity() {}
+
+    private TombstoneJpaEntity(final String id, final String aggregate, final Instant deletedAt) {
+        this.id = id;
+        this.aggregate = aggregate;
+        this.deletedAt = deletedAt;
+    }
+
+    public static TombstoneJpaEntity with(final String aggregate, final String id) {
+        return new TombstoneJpaEntity(id, aggregate, InstantUtils.now());
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getAggregate() {
+        return aggregate;
+    }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+}
@@ -0,0 +1,27 @@
+package com.tcs.admin.catalog.infrastructure.changes.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface TombstoneRepository extends JpaRepository<TombstoneJpaEntity, String> {
+
+    @Query("""
+            select t from Tombstone t
+            where t.aggregate = :aggregate
+              and (t.deletedAt > :changedAt or (t.deletedAt = :changedAt and t.id > :id))
+              and t.deletedAt <= :until
+            order by t.deletedAt, t.id
+            """)
+    List<TombstoneJpaEntity> findDeletedAfter(
+            @Param("aggregate") String aggregate,
+            @Param("changedAt") Instant changedAt,
+            @Param("id") String id,
+            @Param("until") Instant until,
+            Pageable page
+    );
+}
@@ -1,14 +1,26 @@
 package com.tcs.admin.catalog.infrastructure.configuration;
 
+import com.tcs.admin.catalog.infrastructure.amqp.CacheInvalidationTopology;
+import com.tcs.admin.catalog.infrastructure.amqp.RetryMessageRecoverer;
+import com.tcs.admin.catalog.infrastructure.configuration.annotations.CacheInvalidationQueue;
 import com.tcs.admin.catalog.infrastructure.configuration.annotations.VideoCreatedQueue;
 import com.tcs.admin.catalog.infrastructure.configuration.annotations.VideoEncodedQueue;
 import com.tcs.admin.catalog.infrastructure.configuration.annotations.VideoEvents;
+import com.tcs.admin.catalog.infrastructure.configuration.properties.amqp.ListenerProperties;
+import com.tcs.admin.catalog.infrastructure.configuration.properties.amqp.PublisherProperties;
 import com.tcs.admin.catalog.infrastructure.configuration.properties.amqp.QueueProperties;
+import com.tcs.admin.catalog.infrastructure.configuration.properties.amqp.RetryProperties;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+
 @Configuration
 public class AmqpConfig {
 
@@ -26,6 +38,74 @@ public class AmqpConfig {
         return new QueueProperties();
     }
 
+    @Bean
+    @ConfigurationProperties("amqp.listeners.video-encoded")
+    @VideoEncodedQueue
+    public ListenerProperties videoEncodedListenerProperties() {
+        return new ListenerProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("amqp.queues.video-encoded.retry")
+    @VideoEncodedQueue
+    public RetryProperties videoEncodedRetryProperties() {
+        return new RetryProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("amqp.queues.cache-invalidation")
+    @CacheInvalidationQueue
+    public QueueProperties cacheInvalidationQueueProperties() {
+        return new QueueProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("amqp.publisher")
+    public PublisherProperties publisherProperties() {
+        return new PublisherProperties();
+    }
+
+    /**
+     * Encoder results arrive in bursts when the encoder drains a backlog, so they get their own
+     * pool of consumers. Deliveries are acknowledged {@code batch-size} at a time. A failed
+     * message is not requeued: it is handed to the {@link RetryMessageRecoverer}, which delays
+     * it through the retry queues and finally parks it.
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory videoEncodedContainerFactory(
+            final ConnectionFactory connectionFactory,
+            final RabbitOperations ops,
+            @VideoEncodedQueue final ListenerProperties props,
+            @VideoEncodedQueue final RetryProperties retryProps
+    ) {
+        final var factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setAdviceChain(RetryInterceptorBuilder.stateless()
+                .maxAttempts(1)
+                .recoverer(new RetryMessageRecoverer(ops, retryProps))
+                .build());
+        factory.setConcurrentConsumers(props.getConcurrency());
+        factory.setMaxConcurrentConsumers(Math.max(props.getConcurrency(), props.getMaxConcurrency()));
+        factory.setPrefetchCount(Math.max(props.getPrefetch(), props.getBatchSize()));
+        factory.setBatchSize(props.getBatchSize());
+        factory.setAutoStartup(props.isAutoStartup());
+        return factory;
+    }
+
+    /**
+     * Cross-node cache invalidation does not depend on {@code amqp.admin.auto-create}: its
+     * topology is declared by the application on every connection.
+     */
+    @Bean
+    public CacheInvalidationTopology cacheInvalidationTopology(
+            final ConnectionFactory connectionFactory,
+            @CacheInvalidationQueue final FanoutExchange exchange,
+            @CacheInvalidationQueue final Queue queue,
+            @CacheInvalidationQueue final Binding binding
+    ) {
+        return new CacheInvalidationTopology(connectionFactory, exchange, queue, binding);
+    }
+
     @Configuration
     static class Admin {
 
@@ -51,10 +131,20 @@ public class AmqpConfig {
             return BindingBuilder.bind(queue).to(exchange).with(props.getRoutingKey());
         }
 
+        /**
+         * Messages rejected without going through the recoverer (e.g. unreadable payloads) are
+         * dead lettered straight to the parking lot.
+         */
         @Bean
         @VideoEncodedQueue
-        public Queue videoEncodedQueue(@VideoEncodedQueue QueueProperties props) {
-            return new Queue(props.getQueue());
+        public Queue videoEncodedQueue(
+                @VideoEncodedQueue QueueProperties props,
+                @VideoEncodedQueue RetryProperties retryProps
+        ) {
+            return QueueBuilder.durable(props.getQueue())
+                    .deadLetterExchange(retryProps.getExchange())
+                    .deadLetterRoutingKey(RetryMessageRecoverer.PARKING_LOT_KEY)
+                    .build();
         }
 
         @Bean
@@ -66,5 +156,62 @@ public class AmqpConfig {
         ) {
             return BindingBuilder.bind(queue).to(exchange).with(props.getRoutingKey());
         }
+
+        /**
+         * One queue per retry delay, each holding messages for its TTL and then dead lettering
+         * them back to the work queue, plus the parking lot for the ones out of retries.
+         */
+        @Bean
+        @VideoEncodedQueue
+        public Declarables videoEncodedRetryTopology(
+                @VideoEncodedQueue QueueProperties props,
+                @VideoEncodedQueue RetryProperties retryProps
+        ) {
+            final var exchange = new DirectExchange(retryProps.getExchange());
+            final var declarables = new ArrayList<Declarable>();
+            declarables.add(exchange);
+
+            final var delays = retryProps.getDelays();
+            for (int i = 0; i < delays.size(); i++) {
+                final var queue = QueueBuilder.durable("%s.retry.%d".formatted(props.getQueue(), i))
+                        .ttl((int) delays.get(i).toMillis())
+                        .deadLetterExchange("")
+                        .deadLetterRoutingKey(props.getQueue())
+                        .build();
+                declarables.add(queue);
+                declarables.add(BindingBuilder.bind(queue).to(exchange).with(RetryMessageRecoverer.retryKey(i)));
+            }
+
+            final var parkingLot = QueueBuilder.durable(retryProps.getParkingLot()).build();
+            declarables.add(parkingLot);
+            declarables.add(BindingBuilder.bind(parkingLot).to(exchange).with(RetryMessageRecoverer.PARKING_LOT_KEY));
+
+            return new Declarables(declarables);
+        }
+
+        @Bean
+        @CacheInvalidationQueue
+        public FanoutExchange cacheInvalidationExchange(@CacheInvalidationQueue QueueProperties props) {
+            return new FanoutExchange(props.getExchange());
+        }
+
+        /**
+         * Every node needs its own copy of each invalidation, so the queue is a server-named,
+         * exclusive and auto-delete one prefixed by the configured queue name.
+         */
+        @Bean
+        @CacheInvalidationQueue
+        public Queue cacheInvalidationQueue(@CacheInvalidationQueue QueueProperties props) {
+            return new AnonymousQueue(new Base64UrlNamingStrategy(props.getQueue() + "."));
+        }
+
+        @Bean
+        @CacheInvalidationQueue
+        public Binding cacheInvalidationBinding(
+                @CacheInvalidationQueue FanoutExchange exchange,
+                @CacheInvalidationQueue Queue queue
+        ) {
+            return BindingBuilder.bind(queue).to(exchange);
+        }
     }
 }
@@ -0,0 +1,54 @@
+package com.tcs.admin.catalog.infrastructure.configuration;
+
+import com.tcs.admin.catalog.domain.castmember.CastMember;
+import com.tcs.admin.catalog.domain.category.Category;
+import com.tcs.admin.catalog.domain.genre.Genre;
+import com.tcs.admin.catalog.infrastructure.cache.ReferenceCache;
+import com.tcs.admin.catalog.infrastructure.cache.ResponseCache;
+import com.tcs.admin.catalog.infrastructure.configuration.properties.cache.CacheProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    @ConfigurationProperties("cache.references")
+    public CacheProperties referenceCacheProperties() {
+        return new CacheProperties();
+    }
+
+    @Bean
+    public ReferenceCache<Category> categoryCache(
+            final CacheProperties props,
+            final ApplicationEventPublisher publisher
+    ) {
+        return new ReferenceCache<>("categories", Category::with, props.getMaximumSize(), props.getExpireAfterWrite(), publisher);
+    }
+
+    @Bean
+    public ReferenceCache<Genre> genreCache(
+            final CacheProperties props,
+            final ApplicationEventPublisher publisher
+    ) {
+        return new ReferenceCache<>("genres", Genre::with, props.getMaximumSize(), props.getExpireAfterWrite(), publisher);
+    }
+
+    @Bean
+    public ReferenceCache<CastMember> castMemberCache(
+            final CacheProperties props,
+            final ApplicationEventPublisher publisher
+    ) {
+        return new ReferenceCache<>("cast_members", CastMember::with, props.getMaximumSize(), props.getExpireAfterWrite(), publisher);
+    }
+
+    @Bean
+    public ResponseCache responseCache(
+            final CacheProperties props,
+            final ApplicationEventPublisher publisher
+    ) {
+        return new ResponseCache(props.getMaximumSize(), props.getExpireAfterWrite(), publisher);
+    }
+}
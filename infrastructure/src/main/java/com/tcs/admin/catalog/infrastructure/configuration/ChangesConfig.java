@@ -0,0 +1,42 @@
+package com.tcs.admin.catalog.infrastructure.configuration;
+
+import com.tcs.admin.catalog.domain.castmember.CastMember;
+import com.tcs.admin.catalog.domain.category.Category;
+import com.tcs.admin.catalog.domain.genre.Genre;
+import com.tcs.admin.catalog.domain.video.VideoPreview;
+import com.tcs.admin.catalog.infrastructure.changes.ChangeFeed;
+import com.tcs.admin.catalog.infrastructure.changes.persistence.TombstoneRepository;
+import com.tcs.admin.catalog.infrastructure.configuration.properties.changes.ChangesProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ChangesConfig {
+
+    @Bean
+    @ConfigurationProperties("changes")
+    public ChangesProperties changesProperties() {
+        return new ChangesProperties();
+    }
+
+    @Bean
+    public ChangeFeed<Category> categoryChanges(final TombstoneRepository repository, final ChangesProperties props) {
+        return new ChangeFeed<>("categories", repository, props);
+    }
+
+    @Bean
+    public ChangeFeed<Genre> genreChanges(final TombstoneRepository repository, final ChangesProperties props) {
+        return new ChangeFeed<>("genres", repository, props);
+    }
+
+    @Bean
+    public ChangeFeed<CastMember> castMemberChanges(final TombstoneRepository repository, final ChangesProperties props) {
+        return new ChangeFeed<>("cast_members", repository, props);
+    }
+
+    @Bean
+    public ChangeFeed<VideoPreview> videoChanges(final TombstoneRepository repository, final ChangesProperties props) {
+        return new ChangeFeed<>("videos", repository, props);
+    }
+}
@@ -0,0 +1,56 @@
+package com.tcs.admin.catalog.infrastructure.configuration;
+
+import com.tcs.admin.catalog.infrastructure.configuration.properties.diagnostics.DiagnosticsProperties;
+import com.tcs.admin.catalog.infrastructure.observability.QueryDiagnostics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Only active with {@code diagnostics.enabled}; the Hibernate statistics and the pool histograms
+ * it also turns on are plain properties, see application.yml.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "diagnostics", name = "enabled", havingValue = "true")
+public class DiagnosticsConfig {
+
+    @Bean
+    @ConfigurationProperties("diagnostics")
+    public DiagnosticsProperties diagnosticsProperties() {
+        return new DiagnosticsProperties();
+    }
+
+    @Bean
+    public QueryDiagnostics queryDiagnostics(
+            final ObjectProvider<ObservationRegistry> observations,
+            final ObjectProvider<MeterRegistry> meters,
+            final DiagnosticsProperties props
+    ) {
+        return new QueryDiagnostics(observations, meters, props);
+    }
+
+    @Bean
+    public static BeanPostProcessor queryDiagnosticsDataSourceProxy(final ObjectProvider<QueryDiagnostics> diagnostics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(diagnostics.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
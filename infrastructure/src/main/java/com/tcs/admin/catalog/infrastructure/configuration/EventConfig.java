@@ -1,11 +1,18 @@
 package com.tcs.admin.catalog.infrastructure.configuration;
 
+import com.tcs.admin.catalog.infrastructure.configuration.annotations.CacheInvalidationQueue;
 import com.tcs.admin.catalog.infrastructure.configuration.annotations.VideoCreatedQueue;
+import com.tcs.admin.catalog.infrastructure.configuration.properties.amqp.PublisherProperties;
 import com.tcs.admin.catalog.infrastructure.configuration.properties.amqp.QueueProperties;
+import com.tcs.admin.catalog.infrastructure.outbox.OutboxEventService;
+import com.tcs.admin.catalog.infrastructure.outbox.persistence.OutboxEventRepository;
 import com.tcs.admin.catalog.infrastructure.services.EventService;
+import com.tcs.admin.catalog.infrastructure.services.impl.AsyncRabbitEventService;
 import com.tcs.admin.catalog.infrastructure.services.impl.RabbitEventService;
 import com.tcs.admin.catalog.infrastructure.services.local.InMemoryEventService;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -16,7 +23,7 @@ public class EventConfig {
 
     @Bean
     @VideoCreatedQueue
-    @Profile("development")
+    @Profile({"development", "loadtest"})
     public EventService localVideoCreatedEventService() {
         return new InMemoryEventService();
     }
@@ -26,8 +33,43 @@ public class EventConfig {
     @ConditionalOnMissingBean
     public EventService videoCreatedEventService(
             @VideoCreatedQueue final QueueProperties props,
-            final RabbitOperations ops
+            final OutboxEventRepository repository
     ) {
-        return new RabbitEventService(props.getExchange(), props.getRoutingKey(), ops);
+        return new OutboxEventService(props.getExchange(), props.getRoutingKey(), repository);
+    }
+
+    @Bean
+    @CacheInvalidationQueue
+    @Profile({"development", "loadtest"})
+    public EventService localCacheInvalidationEventService() {
+        return new InMemoryEventService();
+    }
+
+    @Bean
+    @CacheInvalidationQueue
+    @Profile("!development & !loadtest")
+    public EventService cacheInvalidationEventService(
+            @CacheInvalidationQueue final QueueProperties props,
+            final PublisherProperties publisherProps,
+            final RabbitOperations ops,
+            final ObjectProvider<MeterRegistry> registry
+    ) {
+        return rabbitEventService(props, publisherProps, ops, registry);
+    }
+
+    private static EventService rabbitEventService(
+            final QueueProperties props,
+            final PublisherProperties publisherProps,
+            final RabbitOperations ops,
+            final ObjectProvider<MeterRegistry> registry
+    ) {
+        if (publisherProps.getMode() == PublisherProperties.Mode.ASYNC) {
+            final var service = new AsyncRabbitEventService(props.getExchange(), props.getRoutingKey(), ops, publisherProps);
+            registry.ifAvailable(service::bindTo);
+            return service;
+        }
+        final var service = new RabbitEventService(props.getExchange(), props.getRoutingKey(), ops);
+        registry.ifAvailable(service::bindTo);
+        return service;
     }
 }
@@ -8,6 +8,7 @@ import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
 import com.tcs.admin.catalog.infrastructure.configuration.properties.google.GoogleCloudProperties;
 import com.tcs.admin.catalog.infrastructure.configuration.properties.google.GoogleCloudStorageProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,6 +21,7 @@ import java.util.Base64;
 
 @Configuration
 @Profile({"!development & !test-integration & !test-e2e"})
+@ConditionalOnProperty(prefix = "storage.video-catalog", name = "type", havingValue = "gcs", matchIfMissing = true)
 public class GoogleCloudConfig {
 
     @Bean
@@ -0,0 +1,34 @@
+package com.tcs.admin.catalog.infrastructure.configuration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+
+/**
+ * Lets every request through while keeping the security filter chain in the request path, so
+ * load tests run without Keycloak but still pay for the filters.
+ */
+@Configuration
+@EnableWebSecurity
+@Profile("loadtest")
+public class LoadTestSecurityConfig {
+
+    @Bean
+    public SecurityFilterChain permitAllFilterChain(final HttpSecurity http) throws Exception {
+        return http
+                .csrf(csrf -> {
+                    csrf.disable();
+                })
+                .authorizeHttpRequests(authorize -> {
+                    authorize.anyRequest().permitAll();
+                })
+                .sessionManagement(session -> {
+                    session.sessionCreationPolicy(SessionCreationPolicy.STATELESS);
+                })
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.tcs.admin.catalog.infrastructure.configuration;
+
+import com.tcs.admin.catalog.domain.video.MediaResourceGateway;
+import com.tcs.admin.catalog.infrastructure.configuration.properties.storage.MediaReaperProperties;
+import com.tcs.admin.catalog.infrastructure.video.MediaReaper;
+import com.tcs.admin.catalog.infrastructure.video.persistence.VideoEncoderErrorRepository;
+import com.tcs.admin.catalog.infrastructure.video.persistence.VideoMediaCleanupRepository;
+import com.tcs.admin.catalog.infrastructure.video.persistence.VideoRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@EnableScheduling
+public class MediaReaperConfig {
+
+    @Bean
+    @ConfigurationProperties("media-reaper")
+    public MediaReaperProperties mediaReaperProperties() {
+        return new MediaReaperProperties();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "media-reaper", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public MediaReaper mediaReaper(
+            final VideoMediaCleanupRepository cleanupRepository,
+            final VideoRepository videoRepository,
+            final VideoEncoderErrorRepository encoderErrorRepository,
+            final MediaResourceGateway mediaResourceGateway,
+            final PlatformTransactionManager transactionManager,
+            final MediaReaperProperties props
+    ) {
+        return new MediaReaper(
+                cleanupRepository,
+                videoRepository,
+                encoderErrorRepository,
+                mediaResourceGateway,
+                new TransactionTemplate(transactionManager),
+                props
+        );
+    }
+}
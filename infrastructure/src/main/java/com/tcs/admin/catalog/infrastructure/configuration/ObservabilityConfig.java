@@ -0,0 +1,25 @@
+package com.tcs.admin.catalog.infrastructure.configuration;
+
+import com.tcs.admin.catalog.infrastructure.observability.InstrumentationAdvisor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+@Configuration
+public class ObservabilityConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    @ConditionalOnProperty(prefix = "instrumentation", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public static InstrumentationAdvisor instrumentationAdvisor(
+            final ObjectProvider<ObservationRegistry> observations,
+            final ObjectProvider<MeterRegistry> meters
+    ) {
+        return new InstrumentationAdvisor(observations, meters);
+    }
+}
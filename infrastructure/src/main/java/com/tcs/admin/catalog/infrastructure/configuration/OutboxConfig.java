@@ -0,0 +1,32 @@
+package com.tcs.admin.catalog.infrastructure.configuration;
+
+import com.tcs.admin.catalog.infrastructure.configuration.properties.outbox.OutboxProperties;
+import com.tcs.admin.catalog.infrastructure.outbox.OutboxRelay;
+import com.tcs.admin.catalog.infrastructure.outbox.persistence.OutboxEventRepository;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class OutboxConfig {
+
+    @Bean
+    @ConfigurationProperties("outbox")
+    public OutboxProperties outboxProperties() {
+        return new OutboxProperties();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+    public OutboxRelay outboxRelay(
+            final OutboxEventRepository repository,
+            final RabbitOperations ops,
+            final OutboxProperties props
+    ) {
+        return new OutboxRelay(repository, ops, props);
+    }
+}
@@ -0,0 +1,134 @@
+package com.tcs.admin.catalog.infrastructure.configuration;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.tcs.admin.catalog.infrastructure.castmember.persistence.CastMemberJpaEntity;
+import com.tcs.admin.catalog.infrastructure.castmember.persistence.CastMemberRepository;
+import com.tcs.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+import com.tcs.admin.catalog.infrastructure.category.persistence.CategoryRepository;
+import com.tcs.admin.catalog.infrastructure.configuration.properties.search.SearchProperties;
+import com.tcs.admin.catalog.infrastructure.genre.persistence.GenreJpaEntity;
+import com.tcs.admin.catalog.infrastructure.genre.persistence.GenreRepository;
+import com.tcs.admin.catalog.infrastructure.search.*;
+import com.tcs.admin.catalog.infrastructure.video.persistence.VideoJpaEntity;
+import com.tcs.admin.catalog.infrastructure.video.persistence.VideoRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Picks the terms search strategy of each aggregate. The columns searched are the same in every
+ * mode; {@code FULLTEXT} relies on the MySQL indexes created by the {@code db/mysql} migrations.
+ */
+@Configuration
+public class SearchConfig implements DisposableBean {
+
+    /**
+     * Rebuilds the in-memory indexes off the request threads and the common pool. Not a bean, so
+     * it does not replace Spring Boot's task executor; one thread is enough, as each index queues
+     * at most one rebuild at a time.
+     */
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("search-index-refresh-%d")
+            .setDaemon(true)
+            .build());
+
+    @Bean
+    @ConfigurationProperties("search")
+    public SearchProperties searchProperties() {
+        return new SearchProperties();
+    }
+
+    @Bean
+    public TermsSearch<CategoryJpaEntity> categorySearch(
+            final SearchProperties props,
+            final CategoryRepository repository
+    ) {
+        final Function<CategoryJpaEntity, SearchDocument> documentOf = it ->
+                new SearchDocument(it.getId(), it.getName() + " " + Objects.toString(it.getDescription(), ""));
+        return termsSearch(
+                "categories",
+                props.getCategories(),
+                props,
+                documentOf,
+                () -> repository.findAll().stream().map(documentOf).toList(),
+                "name", "description"
+        );
+    }
+
+    @Bean
+    public TermsSearch<GenreJpaEntity> genreSearch(
+            final SearchProperties props,
+            final GenreRepository repository
+    ) {
+        final Function<GenreJpaEntity, SearchDocument> documentOf = it ->
+                new SearchDocument(it.getId(), it.getName());
+        return termsSearch(
+                "genres",
+                props.getGenres(),
+                props,
+                documentOf,
+                () -> repository.findAll().stream().map(documentOf).toList(),
+                "name"
+        );
+    }
+
+    @Bean
+    public TermsSearch<CastMemberJpaEntity> castMemberSearch(
+            final SearchProperties props,
+            final CastMemberRepository repository
+    ) {
+        final Function<CastMemberJpaEntity, SearchDocument> documentOf = it ->
+                new SearchDocument(it.getId(), it.getName());
+        return termsSearch(
+                "cast_members",
+                props.getCastMembers(),
+                props,
+                documentOf,
+                () -> repository.findAll().stream().map(documentOf).toList(),
+                "name"
+        );
+    }
+
+    @Bean
+    public TermsSearch<VideoJpaEntity> videoSearch(
+            final SearchProperties props,
+            final VideoRepository repository
+    ) {
+        return termsSearch(
+                "videos",
+                props.getVideos(),
+                props,
+                it -> new SearchDocument(it.getId(), it.getTitle()),
+                repository::findAllSearchDocuments,
+                "title"
+        );
+    }
+
+    @Override
+    public void destroy() {
+        this.refreshExecutor.shutdown();
+    }
+
+    private <T> TermsSearch<T> termsSearch(
+            final String name,
+            final SearchMode mode,
+            final SearchProperties props,
+            final Function<T, SearchDocument> documentOf,
+            final Supplier<? extends Collection<SearchDocument>> loader,
+            final String... columns
+    ) {
+        return switch (mode) {
+            case LIKE -> new LikeTermsSearch<>(columns);
+            case FULLTEXT -> new FullTextTermsSearch<>(columns);
+            case INDEX -> new IndexedTermsSearch<>(name, documentOf, loader, props.getRefreshInterval(), this.refreshExecutor);
+        };
+    }
+}
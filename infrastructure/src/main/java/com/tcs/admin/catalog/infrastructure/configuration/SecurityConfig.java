@@ -24,7 +24,7 @@ import java.util.stream.Stream;
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(securedEnabled = true, jsr250Enabled = true)
-@Profile("!development")
+@Profile("!development & !loadtest")
 public class SecurityConfig {
 
     private static final String ROLE_CATALOG_ADMIN = "CATALOG_ADMIN";
@@ -6,12 +6,16 @@ import com.tcs.admin.catalog.infrastructure.configuration.properties.storage.Sto
 import com.tcs.admin.catalog.infrastructure.services.StorageService;
 import com.tcs.admin.catalog.infrastructure.services.impl.GCStorageService;
 import com.tcs.admin.catalog.infrastructure.services.local.InMemoryStorageService;
+import com.tcs.admin.catalog.infrastructure.services.local.LocalFileStorageService;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
+import java.nio.file.Path;
+
 @Configuration
 public class StorageConfig {
 
@@ -22,6 +26,13 @@ public class StorageConfig {
     }
 
     @Bean(name = "storageService")
+    @ConditionalOnProperty(prefix = "storage.video-catalog", name = "type", havingValue = "local")
+    public StorageService localFileStorageService(final StorageProperties props) {
+        return new LocalFileStorageService(Path.of(props.getLocalPath()));
+    }
+
+    @Bean(name = "storageService")
+    @ConditionalOnMissingBean
     @Profile({"development", "test-integration", "test-e2e"})
     public StorageService inMemoryStorageService() {
         return new InMemoryStorageService();
@@ -0,0 +1,51 @@
+package com.tcs.admin.catalog.infrastructure.configuration;
+
+import com.tcs.admin.catalog.infrastructure.configuration.properties.executor.ExecutorProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Async requests, i.e. the NDJSON exports, run on their own bounded pool. Each of them holds a
+ * database connection while it streams, so {@code executors.mvc-async.threads} caps how many
+ * connections the exports can take, and exports beyond the queue are rejected with a 503.
+ * <p>
+ * The pool is not a bean, which would make Spring Boot back off from its own task executor.
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer, DisposableBean {
+
+    private ThreadPoolTaskExecutor asyncExecutor;
+
+    @Bean
+    @ConfigurationProperties("executors.mvc-async")
+    public ExecutorProperties mvcAsyncExecutorProperties() {
+        return new ExecutorProperties();
+    }
+
+    @Override
+    public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+        final var props = mvcAsyncExecutorProperties();
+
+        final var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(props.getThreads());
+        executor.setMaxPoolSize(props.getThreads());
+        executor.setQueueCapacity(props.getQueueCapacity());
+        executor.setThreadNamePrefix("mvc-async-");
+        executor.initialize();
+
+        this.asyncExecutor = executor;
+        configurer.setTaskExecutor(executor);
+    }
+
+    @Override
+    public void destroy() {
+        if (this.asyncExecutor != null) {
+            this.asyncExecutor.shutdown();
+        }
+    }
+}
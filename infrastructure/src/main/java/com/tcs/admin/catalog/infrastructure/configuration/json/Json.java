@@ -20,6 +20,10 @@ public enum Json {
         return invoke(() -> INSTANCE.mapper.writeValueAsString(obj));
     }
 
+    public static byte[] writeValueAsBytes(Object obj) {
+        return invoke(() -> INSTANCE.mapper.writeValueAsBytes(obj));
+    }
+
     public static <T> T readValue(final String json, final Class<T> clazz) {
         return invoke(() -> INSTANCE.mapper.readValue(json, clazz));
     }
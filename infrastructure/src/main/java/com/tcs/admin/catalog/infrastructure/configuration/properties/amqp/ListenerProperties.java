@@ -0,0 +1,84 @@
+package com.tcs.admin.catalog.infrastructure.configuration.properties.amqp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class ListenerProperties implements InitializingBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ListenerProperties.class);
+
+    private int concurrency = 1;
+
+    private int maxConcurrency = 1;
+
+    private int prefetch = 250;
+
+    private int batchSize = 1;
+
+    private boolean autoStartup = true;
+
+    public ListenerProperties() {
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public ListenerProperties setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public ListenerProperties setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    public ListenerProperties setPrefetch(int prefetch) {
+        this.prefetch = prefetch;
+        return this;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public ListenerProperties setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public boolean isAutoStartup() {
+        return autoStartup;
+    }
+
+    public ListenerProperties setAutoStartup(boolean autoStartup) {
+        this.autoStartup = autoStartup;
+        return this;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        LOGGER.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ListenerProperties{" +
+                "concurrency=" + concurrency +
+                ", maxConcurrency=" + maxConcurrency +
+                ", prefetch=" + prefetch +
+                ", batchSize=" + batchSize +
+                ", autoStartup=" + autoStartup +
+                '}';
+    }
+}
@@ -0,0 +1,115 @@
+package com.tcs.admin.catalog.infrastructure.configuration.properties.amqp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class PublisherProperties implements InitializingBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PublisherProperties.class);
+
+    private Mode mode = Mode.SYNC;
+
+    private int batchSize = 500;
+
+    private int capacity = 10_000;
+
+    private int maxAttempts = 5;
+
+    private Duration initialBackoff = Duration.ofMillis(100);
+
+    private Duration maxBackoff = Duration.ofSeconds(5);
+
+    private Duration confirmTimeout = Duration.ofSeconds(5);
+
+    public PublisherProperties() {
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public PublisherProperties setMode(Mode mode) {
+        this.mode = mode;
+        return this;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public PublisherProperties setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public PublisherProperties setCapacity(int capacity) {
+        this.capacity = capacity;
+        return this;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public PublisherProperties setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public PublisherProperties setInitialBackoff(Duration initialBackoff) {
+        this.initialBackoff = initialBackoff;
+        return this;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public PublisherProperties setMaxBackoff(Duration maxBackoff) {
+        this.maxBackoff = maxBackoff;
+        return this;
+    }
+
+    public Duration getConfirmTimeout() {
+        return confirmTimeout;
+    }
+
+    public PublisherProperties setConfirmTimeout(Duration confirmTimeout) {
+        this.confirmTimeout = confirmTimeout;
+        return this;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        LOGGER.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "PublisherProperties{" +
+                "mode=" + mode +
+                ", batchSize=" + batchSize +
+                ", capacity=" + capacity +
+                ", maxAttempts=" + maxAttempts +
+                ", initialBackoff=" + initialBackoff +
+                ", maxBackoff=" + maxBackoff +
+                ", confirmTimeout=" + confirmTimeout +
+                '}';
+    }
+
+    public enum Mode {
+        SYNC,
+        ASYNC
+    }
+}
@@ -0,0 +1,63 @@
+package com.tcs.admin.catalog.infrastructure.configuration.properties.amqp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+import java.util.List;
+
+public class RetryProperties implements InitializingBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RetryProperties.class);
+
+    private String exchange;
+
+    private List<Duration> delays = List.of();
+
+    private String parkingLot;
+
+    public RetryProperties() {
+    }
+
+    public String getExchange() {
+        return exchange;
+    }
+
+    public RetryProperties setExchange(String exchange) {
+        this.exchange = exchange;
+        return this;
+    }
+
+    public List<Duration> getDelays() {
+        return delays;
+    }
+
+    public RetryProperties setDelays(List<Duration> delays) {
+        this.delays = delays;
+        return this;
+    }
+
+    public String getParkingLot() {
+        return parkingLot;
+    }
+
+    public RetryProperties setParkingLot(String parkingLot) {
+        this.parkingLot = parkingLot;
+        return this;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        LOGGER.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "RetryProperties{" +
+                "exchange='" + exchange + '\'' +
+                ", delays=" + delays +
+                ", parkingLot='" + parkingLot + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,50 @@
+package com.tcs.admin.catalog.infrastructure.configuration.properties.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class CacheProperties implements InitializingBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CacheProperties.class);
+
+    private long maximumSize = 10_000;
+
+    private Duration expireAfterWrite = Duration.ofMinutes(5);
+
+    public CacheProperties() {
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public CacheProperties setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+        return this;
+    }
+
+    public Duration getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    public CacheProperties setExpireAfterWrite(Duration expireAfterWrite) {
+        this.expireAfterWrite = expireAfterWrite;
+        return this;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        LOGGER.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "CacheProperties{" +
+                "maximumSize=" + maximumSize +
+                ", expireAfterWrite=" + expireAfterWrite +
+                '}';
+    }
+}
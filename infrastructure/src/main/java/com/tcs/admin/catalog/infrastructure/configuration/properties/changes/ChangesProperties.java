@@ -0,0 +1,50 @@
+package com.tcs.admin.catalog.infrastructure.configuration.properties.changes;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class ChangesProperties implements InitializingBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChangesProperties.class);
+
+    private Duration settleTime = Duration.ofSeconds(5);
+
+    private int maxPerPage = 1000;
+
+    public ChangesProperties() {
+    }
+
+    public Duration getSettleTime() {
+        return settleTime;
+    }
+
+    public ChangesProperties setSettleTime(Duration settleTime) {
+        this.settleTime = settleTime;
+        return this;
+    }
+
+    public int getMaxPerPage() {
+        return maxPerPage;
+    }
+
+    public ChangesProperties setMaxPerPage(int maxPerPage) {
+        this.maxPerPage = maxPerPage;
+        return this;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        LOGGER.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ChangesProperties{" +
+                "settleTime=" + settleTime +
+                ", maxPerPage=" + maxPerPage +
+                '}';
+    }
+}
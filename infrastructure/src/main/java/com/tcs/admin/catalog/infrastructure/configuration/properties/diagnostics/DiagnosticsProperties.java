@@ -0,0 +1,38 @@
+package com.tcs.admin.catalog.infrastructure.configuration.properties.diagnostics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class DiagnosticsProperties implements InitializingBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DiagnosticsProperties.class);
+
+    private Duration slowQueryThreshold = Duration.ofMillis(100);
+
+    public DiagnosticsProperties() {
+    }
+
+    public Duration getSlowQueryThreshold() {
+        return slowQueryThreshold;
+    }
+
+    public DiagnosticsProperties setSlowQueryThreshold(Duration slowQueryThreshold) {
+        this.slowQueryThreshold = slowQueryThreshold;
+        return this;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        LOGGER.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "DiagnosticsProperties{" +
+                "slowQueryThreshold=" + slowQueryThreshold +
+                '}';
+    }
+}
@@ -0,0 +1,48 @@
+package com.tcs.admin.catalog.infrastructure.configuration.properties.executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class ExecutorProperties implements InitializingBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutorProperties.class);
+
+    private int threads = 8;
+
+    private int queueCapacity = 64;
+
+    public ExecutorProperties() {
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public ExecutorProperties setThreads(int threads) {
+        this.threads = threads;
+        return this;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public ExecutorProperties setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+        return this;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        LOGGER.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutorProperties{" +
+                "threads=" + threads +
+                ", queueCapacity=" + queueCapacity +
+                '}';
+    }
+}
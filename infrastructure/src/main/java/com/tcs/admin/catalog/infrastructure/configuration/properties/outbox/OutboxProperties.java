@@ -0,0 +1,62 @@
+package com.tcs.admin.catalog.infrastructure.configuration.properties.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class OutboxProperties implements InitializingBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxProperties.class);
+
+    private int batchSize = 100;
+
+    private Duration claimTimeout = Duration.ofSeconds(30);
+
+    private Duration confirmTimeout = Duration.ofSeconds(5);
+
+    public OutboxProperties() {
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public OutboxProperties setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public Duration getClaimTimeout() {
+        return claimTimeout;
+    }
+
+    public OutboxProperties setClaimTimeout(Duration claimTimeout) {
+        this.claimTimeout = claimTimeout;
+        return this;
+    }
+
+    public Duration getConfirmTimeout() {
+        return confirmTimeout;
+    }
+
+    public OutboxProperties setConfirmTimeout(Duration confirmTimeout) {
+        this.confirmTimeout = confirmTimeout;
+        return this;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        LOGGER.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "OutboxProperties{" +
+                "batchSize=" + batchSize +
+                ", claimTimeout=" + claimTimeout +
+                ", confirmTimeout=" + confirmTimeout +
+                '}';
+    }
+}
@@ -0,0 +1,87 @@
+package com.tcs.admin.catalog.infrastructure.configuration.properties.search;
+
+import com.tcs.admin.catalog.infrastructure.search.SearchMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class SearchProperties implements InitializingBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SearchProperties.class);
+
+    private SearchMode categories = SearchMode.LIKE;
+
+    private SearchMode genres = SearchMode.LIKE;
+
+    private SearchMode castMembers = SearchMode.LIKE;
+
+    private SearchMode videos = SearchMode.LIKE;
+
+    private Duration refreshInterval = Duration.ofMinutes(5);
+
+    public SearchProperties() {
+    }
+
+    public SearchMode getCategories() {
+        return categories;
+    }
+
+    public SearchProperties setCategories(SearchMode categories) {
+        this.categories = categories;
+        return this;
+    }
+
+    public SearchMode getGenres() {
+        return genres;
+    }
+
+    public SearchProperties setGenres(SearchMode genres) {
+        this.genres = genres;
+        return this;
+    }
+
+    public SearchMode getCastMembers() {
+        return castMembers;
+    }
+
+    public SearchProperties setCastMembers(SearchMode castMembers) {
+        this.castMembers = castMembers;
+        return this;
+    }
+
+    public SearchMode getVideos() {
+        return videos;
+    }
+
+    public SearchProperties setVideos(SearchMode videos) {
+        this.videos = videos;
+        return this;
+    }
+
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public SearchProperties setRefreshInterval(Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+        return this;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        LOGGER.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "SearchProperties{" +
+                "categories=" + categories +
+                ", genres=" + genres +
+                ", castMembers=" + castMembers +
+                ", videos=" + videos +
+                ", refreshInterval=" + refreshInterval +
+                '}';
+    }
+}
@@ -0,0 +1,86 @@
+package com.tcs.admin.catalog.infrastructure.configuration.properties.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class MediaReaperProperties implements InitializingBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MediaReaperProperties.class);
+
+    private int batchSize = 50;
+
+    private Duration claimTimeout = Duration.ofMinutes(5);
+
+    private Duration initialBackoff = Duration.ofSeconds(30);
+
+    private Duration maxBackoff = Duration.ofHours(1);
+
+    private Duration sweepGrace = Duration.ofHours(1);
+
+    public MediaReaperProperties() {
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public MediaReaperProperties setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public Duration getClaimTimeout() {
+        return claimTimeout;
+    }
+
+    public MediaReaperProperties setClaimTimeout(Duration claimTimeout) {
+        this.claimTimeout = claimTimeout;
+        return this;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public MediaReaperProperties setInitialBackoff(Duration initialBackoff) {
+        this.initialBackoff = initialBackoff;
+        return this;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public MediaReaperProperties setMaxBackoff(Duration maxBackoff) {
+        this.maxBackoff = maxBackoff;
+        return this;
+    }
+
+    public Duration getSweepGrace() {
+        return sweepGrace;
+    }
+
+    public MediaReaperProperties setSweepGrace(Duration sweepGrace) {
+        this.sweepGrace = sweepGrace;
+        return this;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        LOGGER.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "MediaReaperProperties{" +
+                "batchSize=" + batchSize +
+                ", claimTimeout=" + claimTimeout +
+                ", initialBackoff=" + initialBackoff +
+                ", maxBackoff=" + maxBackoff +
+                ", sweepGrace=" + sweepGrace +
+                '}';
+    }
+}
@@ -12,6 +12,10 @@ public class StorageProperties implements InitializingBean {
 
     private String locationPattern;
 
+    private String type;
+
+    private String localPath;
+
     public StorageProperties() {
     }
 
@@ -33,6 +37,24 @@ public class StorageProperties implements InitializingBean {
         return this;
     }
 
+    public String getType() {
+        return type;
+    }
+
+    public StorageProperties setType(String type) {
+        this.type = type;
+        return this;
+    }
+
+    public String getLocalPath() {
+        return localPath;
+    }
+
+    public StorageProperties setLocalPath(String localPath) {
+        this.localPath = localPath;
+        return this;
+    }
+
     @Override
     public void afterPropertiesSet() {
         LOGGER.debug(toString());
@@ -43,6 +65,8 @@ public class StorageProperties implements InitializingBean {
         return "StorageProperties{" +
                 "filenamePattern='" + filenamePattern + '\'' +
                 ", locationPattern='" + locationPattern + '\'' +
+                ", type='" + type + '\'' +
+                ", localPath='" + localPath + '\'' +
                 '}';
     }
 }
@@ -1,9 +1,15 @@
 package com.tcs.admin.catalog.infrastructure.configuration.usecases;
 
+import com.tcs.admin.catalog.application.castmember.bulk.BulkCreateCastMembersUseCase;
+import com.tcs.admin.catalog.application.castmember.bulk.DefaultBulkCreateCastMembersUseCase;
 import com.tcs.admin.catalog.application.castmember.create.CreateCastMemberUseCase;
 import com.tcs.admin.catalog.application.castmember.create.DefaultCreateCastMemberUseCase;
 import com.tcs.admin.catalog.application.castmember.delete.DefaultDeleteCastMemberUseCase;
 import com.tcs.admin.catalog.application.castmember.delete.DeleteCastMemberUseCase;
+import com.tcs.admin.catalog.application.castmember.retrieve.changes.DefaultListCastMemberChangesUseCase;
+import com.tcs.admin.catalog.application.castmember.retrieve.changes.ListCastMemberChangesUseCase;
+import com.tcs.admin.catalog.application.castmember.retrieve.export.DefaultExportCastMembersUseCase;
+import com.tcs.admin.catalog.application.castmember.retrieve.export.ExportCastMembersUseCase;
 import com.tcs.admin.catalog.application.castmember.retrieve.get.DefaultGetCastMemberByIdUseCase;
 import com.tcs.admin.catalog.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
 import com.tcs.admin.catalog.application.castmember.retrieve.list.DefaultListCastMembersUseCase;
@@ -28,6 +34,11 @@ public class CastMemberUseCaseConfig {
         return new DefaultCreateCastMemberUseCase(castMemberGateway);
     }
 
+    @Bean
+    public BulkCreateCastMembersUseCase bulkCreateCastMembersUseCase() {
+        return new DefaultBulkCreateCastMembersUseCase(castMemberGateway);
+    }
+
     @Bean
     public UpdateCastMemberUseCase updateCastMemberUseCase() {
         return new DefaultUpdateCastMemberUseCase(castMemberGateway);
@@ -43,6 +54,16 @@ public class CastMemberUseCaseConfig {
         return new DefaultListCastMembersUseCase(castMemberGateway);
     }
 
+    @Bean
+    public ExportCastMembersUseCase exportCastMembersUseCase() {
+        return new DefaultExportCastMembersUseCase(castMemberGateway);
+    }
+
+    @Bean
+    public ListCastMemberChangesUseCase listCastMemberChangesUseCase() {
+        return new DefaultListCastMemberChangesUseCase(castMemberGateway);
+    }
+
     @Bean
     public DeleteCastMemberUseCase deleteCastMemberUseCase() {
         return new DefaultDeleteCastMemberUseCase(castMemberGateway);
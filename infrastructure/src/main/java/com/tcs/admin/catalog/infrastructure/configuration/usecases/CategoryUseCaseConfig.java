@@ -4,6 +4,10 @@ import com.tcs.admin.catalog.application.category.create.CreateCategoryUseCase;
 import com.tcs.admin.catalog.application.category.create.DefaultCreateCategoryUseCase;
 import com.tcs.admin.catalog.application.category.delete.DefaultDeleteCategoryUseCase;
 import com.tcs.admin.catalog.application.category.delete.DeleteCategoryUseCase;
+import com.tcs.admin.catalog.application.category.retrieve.changes.DefaultListCategoryChangesUseCase;
+import com.tcs.admin.catalog.application.category.retrieve.changes.ListCategoryChangesUseCase;
+import com.tcs.admin.catalog.application.category.retrieve.export.DefaultExportCategoriesUseCase;
+import com.tcs.admin.catalog.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.tcs.admin.catalog.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
 import com.tcs.admin.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.tcs.admin.catalog.application.category.retrieve.list.DefaultListCategoriesUseCase;
@@ -43,6 +47,16 @@ public class CategoryUseCaseConfig {
         return new DefaultListCategoriesUseCase(categoryGateway);
     }
 
+    @Bean
+    public ExportCategoriesUseCase exportCategoriesUseCase() {
+        return new DefaultExportCategoriesUseCase(categoryGateway);
+    }
+
+    @Bean
+    public ListCategoryChangesUseCase listCategoryChangesUseCase() {
+        return new DefaultListCategoryChangesUseCase(categoryGateway);
+    }
+
     @Bean
     public DeleteCategoryUseCase deleteCategoryUseCase() {
         return new DefaultDeleteCategoryUseCase(categoryGateway);
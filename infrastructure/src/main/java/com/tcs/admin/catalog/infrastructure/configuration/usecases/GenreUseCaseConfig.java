@@ -4,6 +4,10 @@ import com.tcs.admin.catalog.application.genre.create.CreateGenreUseCase;
 import com.tcs.admin.catalog.application.genre.create.DefaultCreateGenreUseCase;
 import com.tcs.admin.catalog.application.genre.delete.DefaultDeleteGenreUseCase;
 import com.tcs.admin.catalog.application.genre.delete.DeleteGenreUseCase;
+import com.tcs.admin.catalog.application.genre.retrieve.changes.DefaultListGenreChangesUseCase;
+import com.tcs.admin.catalog.application.genre.retrieve.changes.ListGenreChangesUseCase;
+import com.tcs.admin.catalog.application.genre.retrieve.export.DefaultExportGenresUseCase;
+import com.tcs.admin.catalog.application.genre.retrieve.export.ExportGenresUseCase;
 import com.tcs.admin.catalog.application.genre.retrieve.get.DefaultGetGenreByIdUseCase;
 import com.tcs.admin.catalog.application.genre.retrieve.get.GetGenreByIdUseCase;
 import com.tcs.admin.catalog.application.genre.retrieve.list.DefaultListGenresUseCase;
@@ -50,6 +54,16 @@ public class GenreUseCaseConfig {
         return new DefaultListGenresUseCase(genreGateway);
     }
 
+    @Bean
+    public ExportGenresUseCase exportGenresUseCase() {
+        return new DefaultExportGenresUseCase(genreGateway);
+    }
+
+    @Bean
+    public ListGenreChangesUseCase listGenreChangesUseCase() {
+        return new DefaultListGenreChangesUseCase(genreGateway);
+    }
+
     @Bean
     public DeleteGenreUseCase deleteGenreUseCase() {
         return new DefaultDeleteGenreUseCase(genreGateway);
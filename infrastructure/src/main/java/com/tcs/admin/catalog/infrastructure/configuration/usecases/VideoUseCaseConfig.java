@@ -1,5 +1,8 @@
 package com.tcs.admin.catalog.infrastructure.configuration.usecases;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.tcs.admin.catalog.application.video.bulk.BulkCreateVideosUseCase;
+import com.tcs.admin.catalog.application.video.bulk.DefaultBulkCreateVideosUseCase;
 import com.tcs.admin.catalog.application.video.create.CreateVideoUseCase;
 import com.tcs.admin.catalog.application.video.create.DefaultCreateVideoUseCase;
 import com.tcs.admin.catalog.application.video.delete.DefaultDeleteVideoUseCase;
@@ -10,66 +13,79 @@ import com.tcs.admin.catalog.application.video.media.update.DefaultUpdateMediaSt
 import com.tcs.admin.catalog.application.video.media.update.UpdateMediaStatusUseCase;
 import com.tcs.admin.catalog.application.video.media.upload.DefaultUploadMediaUseCase;
 import com.tcs.admin.catalog.application.video.media.upload.UploadMediaUseCase;
+import com.tcs.admin.catalog.application.video.retrieve.changes.DefaultListVideoChangesUseCase;
+import com.tcs.admin.catalog.application.video.retrieve.changes.ListVideoChangesUseCase;
+import com.tcs.admin.catalog.application.video.retrieve.export.DefaultExportVideosUseCase;
+import com.tcs.admin.catalog.application.video.retrieve.export.ExportVideosUseCase;
 import com.tcs.admin.catalog.application.video.retrieve.get.DefaultGetVideoByIdUseCase;
 import com.tcs.admin.catalog.application.video.retrieve.get.GetVideoByIdUseCase;
 import com.tcs.admin.catalog.application.video.retrieve.list.DefaultListVideosUseCase;
 import com.tcs.admin.catalog.application.video.retrieve.list.ListVideosUseCase;
 import com.tcs.admin.catalog.application.video.update.DefaultUpdateVideoUseCase;
 import com.tcs.admin.catalog.application.video.update.UpdateVideoUseCase;
-import com.tcs.admin.catalog.domain.castmember.CastMemberGateway;
-import com.tcs.admin.catalog.domain.category.CategoryGateway;
-import com.tcs.admin.catalog.domain.genre.GenreGateway;
 import com.tcs.admin.catalog.domain.video.MediaResourceGateway;
 import com.tcs.admin.catalog.domain.video.VideoGateway;
+import com.tcs.admin.catalog.domain.video.VideoReferencesGateway;
+import com.tcs.admin.catalog.infrastructure.configuration.properties.executor.ExecutorProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 @Configuration
-public class VideoUseCaseConfig {
+public class VideoUseCaseConfig implements DisposableBean {
 
     private final VideoGateway videoGateway;
 
     private final MediaResourceGateway mediaResourceGateway;
 
-    private final CategoryGateway categoryGateway;
-
-    private final GenreGateway genreGateway;
+    private final VideoReferencesGateway videoReferencesGateway;
 
-    private final CastMemberGateway castMemberGateway;
+    private ExecutorService mediaStoreExecutor;
 
     public VideoUseCaseConfig(
             final VideoGateway videoGateway,
             final MediaResourceGateway mediaResourceGateway,
-            final CategoryGateway categoryGateway,
-            final GenreGateway genreGateway,
-            final CastMemberGateway castMemberGateway
+            final VideoReferencesGateway videoReferencesGateway
     ) {
         this.videoGateway = videoGateway;
         this.mediaResourceGateway = mediaResourceGateway;
-        this.categoryGateway = categoryGateway;
-        this.genreGateway = genreGateway;
-        this.castMemberGateway = castMemberGateway;
+        this.videoReferencesGateway = videoReferencesGateway;
+    }
+
+    @Bean
+    @ConfigurationProperties("executors.media-store")
+    public ExecutorProperties mediaStoreExecutorProperties() {
+        return new ExecutorProperties();
     }
 
     @Bean
     public CreateVideoUseCase createVideoUseCase() {
+        this.mediaStoreExecutor = newMediaStoreExecutor(mediaStoreExecutorProperties());
         return new DefaultCreateVideoUseCase(
                 videoGateway,
                 mediaResourceGateway,
-                categoryGateway,
-                genreGateway,
-                castMemberGateway
+                videoReferencesGateway,
+                this.mediaStoreExecutor
         );
     }
 
+    @Bean
+    public BulkCreateVideosUseCase bulkCreateVideosUseCase() {
+        return new DefaultBulkCreateVideosUseCase(videoGateway, videoReferencesGateway);
+    }
+
     @Bean
     public UpdateVideoUseCase updateVideoUseCase() {
         return new DefaultUpdateVideoUseCase(
                 videoGateway,
                 mediaResourceGateway,
-                categoryGateway,
-                genreGateway,
-                castMemberGateway
+                videoReferencesGateway
         );
     }
 
@@ -83,9 +99,19 @@ public class VideoUseCaseConfig {
         return new DefaultListVideosUseCase(videoGateway);
     }
 
+    @Bean
+    public ExportVideosUseCase exportVideosUseCase() {
+        return new DefaultExportVideosUseCase(videoGateway);
+    }
+
+    @Bean
+    public ListVideoChangesUseCase listVideoChangesUseCase() {
+        return new DefaultListVideoChangesUseCase(videoGateway);
+    }
+
     @Bean
     public DeleteVideoUseCase deleteVideoUseCase() {
-        return new DefaultDeleteVideoUseCase(videoGateway, mediaResourceGateway);
+        return new DefaultDeleteVideoUseCase(videoGateway);
     }
 
     @Bean
@@ -102,4 +128,32 @@ public class VideoUseCaseConfig {
     public UploadMediaUseCase uploadMediaUseCase() {
         return new DefaultUploadMediaUseCase(videoGateway, mediaResourceGateway);
     }
+
+    @Override
+    public void destroy() {
+        if (this.mediaStoreExecutor != null) {
+            this.mediaStoreExecutor.shutdown();
+        }
+    }
+
+    /**
+     * The pool stays out of the context: an {@code Executor} bean would make Spring Boot back
+     * off from its own task executor. Both the threads and the queue are bounded, so concurrent
+     * creates cannot open an unbounded number of uploads; once the queue is full the request
+     * thread stores the media itself, slowing the caller down instead of failing it.
+     */
+    private static ExecutorService newMediaStoreExecutor(final ExecutorProperties props) {
+        return new ThreadPoolExecutor(
+                props.getThreads(),
+                props.getThreads(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(props.getQueueCapacity()),
+                new ThreadFactoryBuilder()
+                        .setNameFormat("media-store-%d")
+                        .setDaemon(true)
+                        .build(),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
 }
@@ -3,18 +3,28 @@ package com.tcs.admin.catalog.infrastructure.genre;
 import com.tcs.admin.catalog.domain.genre.Genre;
 import com.tcs.admin.catalog.domain.genre.GenreGateway;
 import com.tcs.admin.catalog.domain.genre.GenreID;
+import com.tcs.admin.catalog.domain.pagination.Change;
+import com.tcs.admin.catalog.domain.pagination.ChangesQuery;
 import com.tcs.admin.catalog.domain.pagination.Pagination;
 import com.tcs.admin.catalog.domain.pagination.SearchQuery;
 import com.tcs.admin.catalog.infrastructure.genre.persistence.GenreJpaEntity;
 import com.tcs.admin.catalog.infrastructure.genre.persistence.GenreRepository;
-import com.tcs.admin.catalog.infrastructure.utils.SpecificationUtils;
+import com.tcs.admin.catalog.infrastructure.cache.ReferenceCache;
+import com.tcs.admin.catalog.infrastructure.cache.ResponseCache;
+import com.tcs.admin.catalog.infrastructure.changes.ChangeFeed;
+import com.tcs.admin.catalog.infrastructure.search.TermsSearch;
+import com.tcs.admin.catalog.infrastructure.utils.BulkUtils;
+import com.tcs.admin.catalog.infrastructure.utils.KeysetUtils;
+import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
 @Component
@@ -22,47 +32,88 @@ public class GenreMySQLGateway implements GenreGateway {
 
     private final GenreRepository genreRepository;
 
-    public GenreMySQLGateway(final GenreRepository genreRepository) {
-        this.genreRepository = genreRepository;
+    private final EntityManager entityManager;
+
+    private final ReferenceCache<Genre> genreCache;
+
+    private final ResponseCache responseCache;
+
+    private final TermsSearch<GenreJpaEntity> genreSearch;
+
+    private final ChangeFeed<Genre> genreChanges;
+
+    public GenreMySQLGateway(
+            final GenreRepository genreRepository,
+            final EntityManager entityManager,
+            final ReferenceCache<Genre> genreCache,
+            final ResponseCache responseCache,
+            final TermsSearch<GenreJpaEntity> genreSearch,
+            final ChangeFeed<Genre> genreChanges
+    ) {
+        this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.genreCache = Objects.requireNonNull(genreCache);
+        this.responseCache = Objects.requireNonNull(responseCache);
+        this.genreSearch = Objects.requireNonNull(genreSearch);
+        this.genreChanges = Objects.requireNonNull(genreChanges);
     }
 
     @Override
     public Genre create(Genre aGenre) {
-        return save(aGenre);
+        return save(GenreJpaEntity.from(aGenre));
     }
 
     @Override
+    @Transactional
     public void deleteById(GenreID anId) {
         final var id = anId.getValue();
         if (this.genreRepository.existsById(id)) {
             this.genreRepository.deleteById(id);
+            this.genreChanges.tombstone(id);
+            this.genreCache.invalidate(id);
+            this.responseCache.invalidate(ResponseCache.GENRES, id);
+            this.genreSearch.remove(id);
         }
     }
 
     @Override
     public Optional<Genre> findById(GenreID anId) {
-        return this.genreRepository.findById(anId.getValue())
-                .map(GenreJpaEntity::toDomain);
+        return this.genreCache.get(anId.getValue(), id -> this.genreRepository.findById(id)
+                .map(GenreJpaEntity::toDomain));
     }
 
     @Override
+    @Transactional
     public Genre update(Genre aGenre) {
-        return save(aGenre);
+        // Applied onto the managed entity, so only the changed category links are written
+        final var entity = this.genreRepository.findById(aGenre.getId().getValue())
+                .map(it -> it.update(aGenre))
+                .orElseGet(() -> GenreJpaEntity.from(aGenre));
+        return save(entity);
     }
 
     @Override
     public Pagination<Genre> findAll(SearchQuery aQuery) {
+        final var specifications = this.genreSearch.matching(aQuery.terms());
+
+        if (aQuery.isKeyset()) {
+            return KeysetUtils.seek(
+                    this.genreRepository,
+                    specifications,
+                    aQuery.perPage(),
+                    aQuery.sort(),
+                    aQuery.direction(),
+                    aQuery.cursor(),
+                    GenreJpaEntity::toDomain
+            );
+        }
+
         final var page = PageRequest.of(
                 aQuery.page(),
                 aQuery.perPage(),
                 Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
         );
 
-        final var specifications = Optional.ofNullable(aQuery.terms())
-                .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
-                .orElse(null);
-
         final var pageResult = this.genreRepository.findAll(specifications, page);
 
         return new Pagination<>(
@@ -73,21 +124,36 @@ public class GenreMySQLGateway implements GenreGateway {
         );
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(final Consumer<Genre> aConsumer) {
+        BulkUtils.forEach(this.entityManager, this.genreRepository.streamAll(), it -> aConsumer.accept(it.toDomain()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<Change<Genre>> findChanges(final ChangesQuery aQuery) {
+        return this.genreChanges.read(aQuery, (changedAt, id, until, page) ->
+                this.genreRepository.findChangedAfter(changedAt, id, until, page).stream()
+                        .map(it -> Change.upsert(it.getId(), it.getUpdatedAt(), it.toDomain()))
+                        .toList());
+    }
+
     @Override
     public List<GenreID> existsByIds(Iterable<GenreID> genreIDs) {
         final var ids = StreamSupport.stream(genreIDs.spliterator(), false)
                 .map(GenreID::getValue)
                 .toList();
-        return this.genreRepository.existsByIds(ids).stream()
+        return this.genreCache.existsByIds(ids, this.genreRepository::existsByIds).stream()
                 .map(GenreID::from)
                 .toList();
     }
 
-    private Genre save(Genre aGenre) {
-        return this.genreRepository.save(GenreJpaEntity.from(aGenre)).toDomain();
-    }
-
-    private Specification<GenreJpaEntity> assembleSpecification(final String terms) {
-        return SpecificationUtils.like("name", terms);
+    private Genre save(GenreJpaEntity anEntity) {
+        final var genre = this.genreRepository.save(anEntity);
+        this.genreCache.invalidate(genre.getId());
+        this.responseCache.invalidate(ResponseCache.GENRES, genre.getId());
+        this.genreSearch.index(genre);
+        return genre.toDomain();
     }
 }
@@ -9,6 +9,7 @@ import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Entity(name = "Genre")
 @Table(name = "genres")
@@ -69,6 +70,32 @@ public class GenreJpaEntity {
         return anEntity;
     }
 
+    /**
+     * Applies {@code aGenre} onto this managed entity, adding and removing only the category
+     * links that changed.
+     */
+    public GenreJpaEntity update(final Genre aGenre) {
+        this.name = aGenre.getName();
+        this.active = aGenre.isActive();
+        this.updatedAt = aGenre.getUpdatedAt();
+        this.deletedAt = aGenre.getDeletedAt();
+
+        final var target = aGenre.getCategories().stream()
+                .map(CategoryID::getValue)
+                .collect(Collectors.toSet());
+        this.categories.removeIf(it -> !target.contains(it.getId().getCategoryId()));
+
+        final var current = this.categories.stream()
+                .map(it -> it.getId().getCategoryId())
+                .collect(Collectors.toSet());
+        target.stream()
+                .filter(id -> !current.contains(id))
+                .map(CategoryID::from)
+                .forEach(this::addCategory);
+
+        return this;
+    }
+
     public Genre toDomain() {
         return Genre.with(
                 GenreID.from(this.id),
@@ -1,18 +1,54 @@
 package com.tcs.admin.catalog.infrastructure.genre.persistence;
 
+import com.tcs.admin.catalog.infrastructure.utils.BulkUtils;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
+public interface GenreRepository extends JpaRepository<GenreJpaEntity, String>, JpaSpecificationExecutor<GenreJpaEntity> {
 
     Page<GenreJpaEntity> findAll(Specification<GenreJpaEntity> whereClause, Pageable page);
 
     @Query(value = "select g.id from Genre g where g.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Query("select gc.id.genreId from GenreCategoryJpaEntity gc where gc.id.categoryId = :categoryId")
+    List<String> findIdsByCategoryId(@Param("categoryId") String categoryId);
+
+    @Modifying
+    @Query("update Genre g set g.updatedAt = :updatedAt where g.id in :ids")
+    int touchAll(@Param("ids") Collection<String> ids, @Param("updatedAt") Instant updatedAt);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + BulkUtils.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select g from Genre g order by g.id")
+    Stream<GenreJpaEntity> streamAll();
+
+    @Query("""
+            select g from Genre g
+            where (g.updatedAt > :changedAt or (g.updatedAt = :changedAt and g.id > :id))
+              and g.updatedAt <= :until
+            order by g.updatedAt, g.id
+            """)
+    List<GenreJpaEntity> findChangedAfter(
+            @Param("changedAt") Instant changedAt,
+            @Param("id") String id,
+            @Param("until") Instant until,
+            Pageable page
+    );
 }
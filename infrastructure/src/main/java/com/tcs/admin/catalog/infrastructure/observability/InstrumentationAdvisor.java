@@ -0,0 +1,167 @@
+package com.tcs.admin.catalog.infrastructure.observability;
+
+import com.tcs.admin.catalog.application.NullaryUseCase;
+import com.tcs.admin.catalog.application.UnitUseCase;
+import com.tcs.admin.catalog.application.UseCase;
+import com.tcs.admin.catalog.domain.resource.Resource;
+import com.tcs.admin.catalog.infrastructure.services.EventService;
+import com.tcs.admin.catalog.infrastructure.services.StorageService;
+import io.micrometer.common.KeyValues;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aopalliance.aop.Advice;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.AbstractPointcutAdvisor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.MethodClassKey;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Observes every use case {@code execute} and every call to a domain gateway, {@link StorageService}
+ * or {@link EventService}, whatever bean declares them. Each call becomes a {@code catalog.usecase} or
+ * {@code catalog.gateway} timer, tagged with the exception that failed it, and a span when a tracing
+ * bridge is configured. Resources going in and out of the storage also record their size in bytes.
+ * <p>
+ * Advising the beans, instead of decorating them one by one, covers the sealed cast member use cases
+ * and the gateways that are already proxied for their transactions.
+ */
+public class InstrumentationAdvisor extends AbstractPointcutAdvisor {
+
+    public static final String USE_CASE_OBSERVATION = "catalog.usecase";
+
+    public static final String GATEWAY_OBSERVATION = "catalog.gateway";
+
+    public static final String STORAGE_PAYLOAD = "catalog.storage.payload";
+
+    private static final String DOMAIN_PACKAGE = "com.tcs.admin.catalog.domain";
+
+    private static final Set<Class<?>> USE_CASES = Set.of(UseCase.class, UnitUseCase.class, NullaryUseCase.class);
+
+    private static final Set<Class<?>> SERVICES = Set.of(StorageService.class, EventService.class);
+
+    private static final Operation NONE = new Operation(null, KeyValues.empty());
+
+    private final Supplier<ObservationRegistry> observations;
+
+    private final Supplier<MeterRegistry> meters;
+
+    private final Map<MethodClassKey, Operation> operations = new ConcurrentHashMap<>();
+
+    private final Pointcut pointcut = new StaticMethodMatcherPointcut() {
+        @Override
+        public boolean matches(final Method method, final Class<?> targetClass) {
+            return operationOf(method, targetClass) != NONE;
+        }
+    };
+
+    private final MethodInterceptor interceptor = this::observe;
+
+    public InstrumentationAdvisor(
+            final ObjectProvider<ObservationRegistry> observations,
+            final ObjectProvider<MeterRegistry> meters
+    ) {
+        // Resolved on first use, the advisor is created before the registries are
+        this.observations = SingletonSupplier.of(() -> observations.getIfAvailable(() -> ObservationRegistry.NOOP));
+        this.meters = SingletonSupplier.of(meters::getIfAvailable);
+    }
+
+    @Override
+    public Pointcut getPointcut() {
+        return this.pointcut;
+    }
+
+    @Override
+    public Advice getAdvice() {
+        return this.interceptor;
+    }
+
+    private Object observe(final MethodInvocation invocation) throws Throwable {
+        final var targetClass = invocation.getThis() != null
+                ? AopUtils.getTargetClass(invocation.getThis())
+                : invocation.getMethod().getDeclaringClass();
+        final var operation = operationOf(invocation.getMethod(), targetClass);
+        if (operation == NONE) {
+            return invocation.proceed();
+        }
+
+        final var result = Observation.createNotStarted(operation.name(), this.observations.get())
+                .lowCardinalityKeyValues(operation.keyValues())
+                .observeChecked(invocation::proceed);
+
+        if (invocation.getThis() instanceof StorageService) {
+            recordPayload(invocation, result);
+        }
+        return result;
+    }
+
+    private void recordPayload(final MethodInvocation invocation, final Object result) {
+        final var registry = this.meters.get();
+        if (registry == null) {
+            return;
+        }
+
+        final var method = invocation.getMethod().getName();
+        final var resource = switch (method) {
+            case "store" -> invocation.getArguments()[1];
+            case "get" -> result instanceof Optional<?> it ? it.orElse(null) : null;
+            default -> null;
+        };
+
+        if (resource instanceof Resource it) {
+            DistributionSummary.builder(STORAGE_PAYLOAD)
+                    .baseUnit(BaseUnits.BYTES)
+                    .tag("method", method)
+                    .register(registry)
+                    .record(it.size());
+        }
+    }
+
+    private Operation operationOf(final Method method, final Class<?> targetClass) {
+        return this.operations.computeIfAbsent(new MethodClassKey(method, targetClass), key -> resolve(method, targetClass));
+    }
+
+    private static Operation resolve(final Method method, final Class<?> targetClass) {
+        if ("execute".equals(method.getName())) {
+            for (var it = targetClass; it != null && it.getSuperclass() != null; it = it.getSuperclass()) {
+                if (USE_CASES.contains(it.getSuperclass())) {
+                    return new Operation(USE_CASE_OBSERVATION, KeyValues.of("usecase", it.getSimpleName()));
+                }
+            }
+        }
+
+        for (final var type : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            if (isGateway(type) && ReflectionUtils.findMethod(type, method.getName(), method.getParameterTypes()) != null) {
+                return new Operation(GATEWAY_OBSERVATION, KeyValues.of(
+                        "gateway", type.getSimpleName(),
+                        "method", method.getName(),
+                        "implementation", ClassUtils.getUserClass(targetClass).getSimpleName()
+                ));
+            }
+        }
+        return NONE;
+    }
+
+    private static boolean isGateway(final Class<?> type) {
+        return SERVICES.contains(type)
+                || (type.getPackageName().startsWith(DOMAIN_PACKAGE) && type.getSimpleName().endsWith("Gateway"));
+    }
+
+    private record Operation(String name, KeyValues keyValues) {
+    }
+}
@@ -0,0 +1,131 @@
+package com.tcs.admin.catalog.infrastructure.observability;
+
+import com.tcs.admin.catalog.infrastructure.configuration.properties.diagnostics.DiagnosticsProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.ObservationView;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Follows the statements sent through the proxied data source, on the thread that sends them.
+ * Each round trip is counted against the use case being observed, giving the
+ * {@code catalog.usecase.statements} distribution, and the ones slower than
+ * {@code slow-query-threshold} are logged and counted under that use case's name.
+ */
+public class QueryDiagnostics implements QueryExecutionListener, ObservationHandler<Observation.Context> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(QueryDiagnostics.class);
+
+    public static final String STATEMENTS = "catalog.usecase.statements";
+
+    public static final String SLOW_QUERIES = "catalog.sql.slow";
+
+    private static final String USE_CASE = "usecase";
+
+    private static final String NONE = "none";
+
+    private final Supplier<ObservationRegistry> observations;
+
+    private final Supplier<MeterRegistry> meters;
+
+    private final long slowQueryMillis;
+
+    public QueryDiagnostics(
+            final ObjectProvider<ObservationRegistry> observations,
+            final ObjectProvider<MeterRegistry> meters,
+            final DiagnosticsProperties props
+    ) {
+        this.observations = SingletonSupplier.of(() -> observations.getIfAvailable(() -> ObservationRegistry.NOOP));
+        this.meters = SingletonSupplier.of(meters::getIfAvailable);
+        this.slowQueryMillis = props.getSlowQueryThreshold().toMillis();
+    }
+
+    @Override
+    public boolean supportsContext(final Observation.Context context) {
+        return InstrumentationAdvisor.USE_CASE_OBSERVATION.equals(context.getName());
+    }
+
+    @Override
+    public void onStart(final Observation.Context context) {
+        context.put(Statements.class, new Statements());
+    }
+
+    @Override
+    public void onStop(final Observation.Context context) {
+        final var registry = this.meters.get();
+        final var statements = context.<Statements>get(Statements.class);
+        if (registry != null && statements != null) {
+            DistributionSummary.builder(STATEMENTS)
+                    .tag(USE_CASE, useCaseName(context))
+                    .register(registry)
+                    .record(statements.count.get());
+        }
+    }
+
+    @Override
+    public void beforeQuery(final ExecutionInfo execution, final List<QueryInfo> queries) {
+    }
+
+    @Override
+    public void afterQuery(final ExecutionInfo execution, final List<QueryInfo> queries) {
+        final var useCase = currentUseCase();
+        if (useCase != null) {
+            useCase.<Statements>get(Statements.class).count.incrementAndGet();
+        }
+
+        if (execution.getElapsedTime() < this.slowQueryMillis) {
+            return;
+        }
+
+        final var name = useCase != null ? useCaseName(useCase) : NONE;
+        LOGGER.warn("[message:sql.slow] [usecase:{}] [elapsed:{}ms] [batch:{}] [sql:{}]",
+                name,
+                execution.getElapsedTime(),
+                execution.isBatch() ? execution.getBatchSize() : 0,
+                queries.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; ")));
+
+        final var registry = this.meters.get();
+        if (registry != null) {
+            Counter.builder(SLOW_QUERIES)
+                    .tag(USE_CASE, name)
+                    .register(registry)
+                    .increment();
+        }
+    }
+
+    private Observation.ContextView currentUseCase() {
+        ObservationView it = this.observations.get().getCurrentObservation();
+        while (it != null) {
+            final var context = it.getContextView();
+            if (context.get(Statements.class) != null) {
+                return context;
+            }
+            it = context.getParentObservation();
+        }
+        return null;
+    }
+
+    private static String useCaseName(final Observation.ContextView context) {
+        final var name = context.getLowCardinalityKeyValue(USE_CASE);
+        return name != null ? name.getValue() : NONE;
+    }
+
+    private static class Statements {
+        private final AtomicInteger count = new AtomicInteger();
+    }
+}
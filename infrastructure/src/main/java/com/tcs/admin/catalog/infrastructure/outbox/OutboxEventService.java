@@ -0,0 +1,37 @@
+package com.tcs.admin.catalog.infrastructure.outbox;
+
+import com.tcs.admin.catalog.domain.events.DomainEvent;
+import com.tcs.admin.catalog.infrastructure.configuration.json.Json;
+import com.tcs.admin.catalog.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.tcs.admin.catalog.infrastructure.outbox.persistence.OutboxEventRepository;
+import com.tcs.admin.catalog.infrastructure.services.EventService;
+
+import java.util.Objects;
+
+/**
+ * Stores the event in the outbox table, joining the caller's transaction: the event is only
+ * published, by the {@link OutboxRelay}, if the changes that produced it are committed.
+ */
+public class OutboxEventService implements EventService {
+
+    private final String exchange;
+
+    private final String routingKey;
+
+    private final OutboxEventRepository repository;
+
+    public OutboxEventService(
+            final String exchange,
+            final String routingKey,
+            final OutboxEventRepository repository
+    ) {
+        this.exchange = Objects.requireNonNull(exchange);
+        this.routingKey = Objects.requireNonNull(routingKey);
+        this.repository = Objects.requireNonNull(repository);
+    }
+
+    @Override
+    public void send(final DomainEvent event) {
+        this.repository.save(OutboxEventJpaEntity.with(this.exchange, this.routingKey, Json.writeValueAsString(event)));
+    }
+}
@@ -0,0 +1,121 @@
+package com.tcs.admin.catalog.infrastructure.outbox;
+
+import com.tcs.admin.catalog.domain.utils.IdUtils;
+import com.tcs.admin.catalog.domain.utils.InstantUtils;
+import com.tcs.admin.catalog.infrastructure.configuration.properties.outbox.OutboxProperties;
+import com.tcs.admin.catalog.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.tcs.admin.catalog.infrastructure.outbox.persistence.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Publishes the outbox to RabbitMQ in batches. Each batch is claimed with a conditional update,
+ * so several nodes can run the relay without publishing the same event twice, then sent without
+ * waiting and matched to the broker confirms by correlation id; only confirmed rows are deleted.
+ * Events nacked or not confirmed within {@code confirm-timeout} stay claimed until
+ * {@code claim-timeout} and are retried, so delivery is at-least-once.
+ */
+public class OutboxRelay {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final String owner = IdUtils.uuid();
+
+    private final OutboxEventRepository repository;
+
+    private final RabbitOperations ops;
+
+    private final OutboxProperties props;
+
+    public OutboxRelay(
+            final OutboxEventRepository repository,
+            final RabbitOperations ops,
+            final OutboxProperties props
+    ) {
+        this.repository = Objects.requireNonNull(repository);
+        this.ops = Objects.requireNonNull(ops);
+        this.props = Objects.requireNonNull(props);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay-interval}")
+    public void drain() {
+        try {
+            int published;
+            do {
+                published = relay(claim());
+            } while (published == this.props.getBatchSize());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final Exception e) {
+            LOGGER.warn("[message:outbox.relay] [status:error] [owner:{}]", this.owner, e);
+        }
+    }
+
+    private List<OutboxEventJpaEntity> claim() {
+        final var now = InstantUtils.now();
+        final var expiredBefore = now.minus(this.props.getClaimTimeout());
+
+        final var ids = this.repository.findClaimable(expiredBefore, PageRequest.of(0, this.props.getBatchSize()));
+        if (ids.isEmpty() || this.repository.claim(ids, this.owner, now, expiredBefore) == 0) {
+            return List.of();
+        }
+        return this.repository.findAllByClaimedByAndIdInOrderByCreatedAt(this.owner, ids);
+    }
+
+    private int relay(final List<OutboxEventJpaEntity> events) throws InterruptedException {
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        final var correlations = new ArrayList<CorrelationData>(events.size());
+        for (final var it : events) {
+            final var correlation = new CorrelationData(it.getId());
+            this.ops.convertAndSend(it.getExchange(), it.getRoutingKey(), it.getPayload(), correlation);
+            correlations.add(correlation);
+        }
+
+        awaitConfirms(correlations);
+
+        final var confirmed = correlations.stream()
+                .filter(OutboxRelay::isAck)
+                .map(CorrelationData::getId)
+                .toList();
+
+        if (!confirmed.isEmpty()) {
+            this.repository.deleteAllByIdInBatch(confirmed);
+        }
+        if (confirmed.size() < events.size()) {
+            LOGGER.warn("[message:outbox.relay] [status:unconfirmed] [owner:{}] [events:{}]", this.owner, events.size() - confirmed.size());
+        }
+        LOGGER.debug("[message:outbox.relay] [status:published] [owner:{}] [events:{}]", this.owner, confirmed.size());
+        return confirmed.size();
+    }
+
+    private void awaitConfirms(final List<CorrelationData> correlations) throws InterruptedException {
+        final var confirms = correlations.stream()
+                .map(CorrelationData::getFuture)
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(confirms).get(this.props.getConfirmTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException | ExecutionException e) {
+            // Events without a positive confirm stay claimed and are retried
+        }
+    }
+
+    private static boolean isAck(final CorrelationData correlation) {
+        final var confirm = correlation.getFuture().getNow(null);
+        return confirm != null && confirm.isAck();
+    }
+}
@@ -0,0 +1,84 @@
+package com.tcs.admin.catalog.infrastructure.outbox.persistence;
+
+import com.tcs.admin.catalog.domain.utils.IdUtils;
+import com.tcs.admin.catalog.domain.utils.InstantUtils;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+@Entity(name = "OutboxEvent")
+@Table(name = "events_outbox")
+public class OutboxEventJpaEntity {
+
+    @Id
+    private String id;
+
+    @Column(name = "exchange", nullable = false)
+    private String exchange;
+
+    @Column(name = "routing_key", nullable = false)
+    private String routingKey;
+
+    @Column(name = "payload", nullable = false, length = 4000)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    @Column(name = "claimed_by")
+    private String claimedBy;
+
+    @Column(name = "claimed_at", columnDefinition = "DATETIME(6)")
+    private Instant claimedAt;
+
+    public OutboxEventJpaEntity() {}
+
+    private OutboxEventJpaEntity(
+            final String id,
+            final String exchange,
+            final String routingKey,
+            final String payload,
+            final Instant createdAt
+    ) {
+        this.id = id;
+        this.exchange = exchange;
+        this.routingKey = routingKey;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public static OutboxEventJpaEntity with(final String exchange, final String routingKey, final String payload) {
+        return new OutboxEventJpaEntity(IdUtils.uuid(), exchange, routingKey, payload, InstantUtils.now());
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getExchange() {
+        return exchange;
+    }
+
+    public String getRoutingKey() {
+        return routingKey;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getClaimedBy() {
+        return claimedBy;
+    }
+
+    public Instant getClaimedAt() {
+        return claimedAt;
+    }
+}
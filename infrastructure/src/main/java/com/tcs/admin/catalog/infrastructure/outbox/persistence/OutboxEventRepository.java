@@ -0,0 +1,41 @@
+package com.tcs.admin.catalog.infrastructure.outbox.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventJpaEntity, String> {
+
+    @Query("""
+            select e.id from OutboxEvent e
+            where e.claimedAt is null or e.claimedAt < :expiredBefore
+            order by e.createdAt
+            """)
+    List<String> findClaimable(@Param("expiredBefore") Instant expiredBefore, Pageable page);
+
+    /**
+     * Claims the given events for {@code owner}, skipping the ones claimed meanwhile by another
+     * relay. The condition is re-evaluated on the locked row, so each event has a single owner.
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+            update OutboxEvent e set e.claimedBy = :owner, e.claimedAt = :now
+            where e.id in :ids and (e.claimedAt is null or e.claimedAt < :expiredBefore)
+            """)
+    int claim(
+            @Param("ids") Collection<String> ids,
+            @Param("owner") String owner,
+            @Param("now") Instant now,
+            @Param("expiredBefore") Instant expiredBefore
+    );
+
+    List<OutboxEventJpaEntity> findAllByClaimedByAndIdInOrderByCreatedAt(String owner, Collection<String> ids);
+}
@@ -0,0 +1,26 @@
+package com.tcs.admin.catalog.infrastructure.search;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers {@code MATCH (...) AGAINST (... IN BOOLEAN MODE)} as HQL functions, one per number of
+ * matched columns, so the full-text search can be expressed with the Criteria API.
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_ONE = "fulltext_match";
+    public static final String MATCH_TWO = "fulltext_match2";
+
+    @Override
+    public void contributeFunctions(final FunctionContributions contributions) {
+        final var score = contributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.DOUBLE);
+
+        final var registry = contributions.getFunctionRegistry();
+        registry.registerPattern(MATCH_ONE, "match(?1) against (?2 in boolean mode)", score);
+        registry.registerPattern(MATCH_TWO, "match(?1, ?2) against (?3 in boolean mode)", score);
+    }
+}
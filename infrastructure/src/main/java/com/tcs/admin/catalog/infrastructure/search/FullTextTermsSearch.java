@@ -0,0 +1,59 @@
+package com.tcs.admin.catalog.infrastructure.search;
+
+import jakarta.persistence.criteria.Expression;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Matches the terms against a MySQL {@code FULLTEXT} index. Every word of the terms is required
+ * and matched as a prefix ({@code +word*}), which keeps the behaviour close to the {@code LIKE}
+ * search while letting the database answer from the index. The columns must be exactly the ones
+ * of a {@code FULLTEXT} index.
+ */
+public class FullTextTermsSearch<T> implements TermsSearch<T> {
+
+    private final List<String> columns;
+
+    private final String function;
+
+    public FullTextTermsSearch(final String... columns) {
+        this.columns = List.of(columns);
+        this.function = switch (columns.length) {
+            case 1 -> FullTextFunctionContributor.MATCH_ONE;
+            case 2 -> FullTextFunctionContributor.MATCH_TWO;
+            default -> throw new IllegalArgumentException("Full-text search supports one or two columns");
+        };
+    }
+
+    @Override
+    public Specification<T> matching(final String terms) {
+        final var expression = booleanQuery(terms);
+        if (expression == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            final var arguments = new ArrayList<Expression<?>>(this.columns.size() + 1);
+            this.columns.forEach(column -> arguments.add(root.get(column)));
+            arguments.add(cb.literal(expression));
+            return cb.greaterThan(
+                    cb.function(this.function, Double.class, arguments.toArray(Expression[]::new)),
+                    0.0
+            );
+        };
+    }
+
+    static String booleanQuery(final String terms) {
+        if (terms == null) {
+            return null;
+        }
+        final var expression = Arrays.stream(terms.split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .map(word -> "+" + word + "*")
+                .collect(Collectors.joining(" "));
+        return expression.isEmpty() ? null : expression;
+    }
+}
@@ -0,0 +1,173 @@
+package com.tcs.admin.catalog.infrastructure.search;
+
+import com.tcs.admin.catalog.domain.utils.InstantUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Resolves the terms against an {@link InvertedIndex} kept in memory and filters the query by the
+ * matching ids. The index is built on the first search and kept current by the writes of this
+ * node; writes made by other nodes show up when the index is rebuilt in the background, once
+ * {@code refreshInterval} has elapsed. Writes made while an index is being rebuilt are recorded
+ * and replayed on it before it replaces the current one, so they are not lost with the old index.
+ * Best suited to selective terms, as every match ends up in an {@code IN} list.
+ * <p>
+ * Matching is by word prefix, as with {@code FULLTEXT}: "dra" finds "Drama" but "ama" does not,
+ * while {@code LIKE} matches the terms anywhere in the column.
+ */
+public class IndexedTermsSearch<T> implements TermsSearch<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IndexedTermsSearch.class);
+
+    private static final String ID = "id";
+
+    private final String name;
+
+    private final Function<T, SearchDocument> documentOf;
+
+    private final Supplier<? extends Collection<SearchDocument>> loader;
+
+    private final Duration refreshInterval;
+
+    private final Executor refresher;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private final Object writes = new Object();
+
+    private volatile InvertedIndex index;
+
+    private volatile Instant loadedAt;
+
+    // Writes made while a reload is running, guarded by writes; null when no reload is running
+    private List<Consumer<InvertedIndex>> pending;
+
+    public IndexedTermsSearch(
+            final String name,
+            final Function<T, SearchDocument> documentOf,
+            final Supplier<? extends Collection<SearchDocument>> loader,
+            final Duration refreshInterval,
+            final Executor refresher
+    ) {
+        this.name = Objects.requireNonNull(name);
+        this.documentOf = Objects.requireNonNull(documentOf);
+        this.loader = Objects.requireNonNull(loader);
+        this.refreshInterval = Objects.requireNonNull(refreshInterval);
+        this.refresher = Objects.requireNonNull(refresher);
+    }
+
+    @Override
+    public Specification<T> matching(final String terms) {
+        if (terms == null || terms.isBlank()) {
+            return null;
+        }
+
+        final var ids = search(terms);
+        if (ids == null) {
+            return null;
+        }
+        return (root, query, cb) -> ids.isEmpty() ? cb.disjunction() : root.get(ID).in(ids);
+    }
+
+    /**
+     * Returns the ids of the documents matching the terms, {@code null} when the terms have no words.
+     */
+    Set<String> search(final String terms) {
+        return current().search(terms);
+    }
+
+    @Override
+    public void index(final T entity) {
+        final var document = this.documentOf.apply(entity);
+        write(it -> it.put(document.id(), document.text()));
+    }
+
+    @Override
+    public void remove(final String id) {
+        write(it -> it.remove(id));
+    }
+
+    private void write(final Consumer<InvertedIndex> aWrite) {
+        synchronized (this.writes) {
+            final var current = this.index;
+            if (current != null) {
+                aWrite.accept(current);
+            }
+            if (this.pending != null) {
+                this.pending.add(aWrite);
+            }
+        }
+    }
+
+    private InvertedIndex current() {
+        final var current = this.index;
+        if (current == null) {
+            synchronized (this) {
+                if (this.index == null) {
+                    reload();
+                }
+                return this.index;
+            }
+        }
+
+        if (this.loadedAt.plus(this.refreshInterval).isBefore(InstantUtils.now())
+                && this.refreshing.compareAndSet(false, true)) {
+            try {
+                this.refresher.execute(this::refresh);
+            } catch (final RejectedExecutionException e) {
+                this.refreshing.set(false);
+            }
+        }
+        return current;
+    }
+
+    private void refresh() {
+        try {
+            reload();
+        } catch (final RuntimeException e) {
+            LOGGER.warn("[message:search.index.refresh] [status:error] [index:{}]", this.name, e);
+        } finally {
+            this.refreshing.set(false);
+        }
+    }
+
+    private void reload() {
+        synchronized (this.writes) {
+            this.pending = new ArrayList<>();
+        }
+
+        final var fresh = new InvertedIndex();
+        try {
+            this.loader.get().forEach(document -> fresh.put(document.id(), document.text()));
+        } catch (final RuntimeException e) {
+            synchronized (this.writes) {
+                this.pending = null;
+            }
+            throw e;
+        }
+
+        synchronized (this.writes) {
+            // The load may have read some of these already; replaying them again is harmless
+            this.pending.forEach(it -> it.accept(fresh));
+            this.pending = null;
+            this.loadedAt = InstantUtils.now();
+            this.index = fresh;
+        }
+        LOGGER.debug("[message:search.index.refresh] [status:loaded] [index:{}] [documents:{}]", this.name, fresh.size());
+    }
+}
@@ -0,0 +1,118 @@
+package com.tcs.admin.catalog.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-process inverted index from words to document ids. Text is split into lower-cased words
+ * without accents; a search returns the documents containing, for every word of the terms, a
+ * word starting with it. Words are kept sorted, so each term is resolved with a range scan
+ * whose cost depends on the matches rather than on the number of documents.
+ */
+public class InvertedIndex {
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private final NavigableMap<String, Set<String>> postings = new TreeMap<>();
+
+    private final Map<String, Set<String>> documents = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(final String id, final String text) {
+        final var words = tokenize(text);
+        this.lock.writeLock().lock();
+        try {
+            unlink(id);
+            this.documents.put(id, words);
+            words.forEach(word -> this.postings.computeIfAbsent(word, it -> new HashSet<>()).add(id));
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(final String id) {
+        this.lock.writeLock().lock();
+        try {
+            unlink(id);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of the matching documents, {@code null} when the terms have no words.
+     */
+    public Set<String> search(final String terms) {
+        final var words = tokenize(terms);
+        if (words.isEmpty()) {
+            return null;
+        }
+
+        this.lock.readLock().lock();
+        try {
+            Set<String> result = null;
+            for (final var word : words) {
+                final var matches = new HashSet<String>();
+                this.postings.subMap(word, true, word + Character.MAX_VALUE, true)
+                        .values()
+                        .forEach(matches::addAll);
+
+                if (result == null) {
+                    result = matches;
+                } else {
+                    result.retainAll(matches);
+                }
+                if (result.isEmpty()) {
+                    break;
+                }
+            }
+            return result;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.documents.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    static Set<String> tokenize(final String text) {
+        final var words = new LinkedHashSet<String>();
+        if (text == null) {
+            return words;
+        }
+        final var normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        for (final var word : SEPARATOR.split(normalized)) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private void unlink(final String id) {
+        final var words = this.documents.remove(id);
+        if (words == null) {
+            return;
+        }
+        for (final var word : words) {
+            final var ids = this.postings.get(word);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                this.postings.remove(word);
+            }
+        }
+    }
+}
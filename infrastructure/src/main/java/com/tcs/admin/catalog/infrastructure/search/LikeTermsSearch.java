@@ -0,0 +1,30 @@
+package com.tcs.admin.catalog.infrastructure.search;
+
+import com.tcs.admin.catalog.infrastructure.utils.SpecificationUtils;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Matches the terms anywhere in any of the columns with {@code UPPER(column) LIKE '%TERMS%'}.
+ * Works on every database but cannot use an index, so each search scans the whole table.
+ */
+public class LikeTermsSearch<T> implements TermsSearch<T> {
+
+    private final List<String> columns;
+
+    public LikeTermsSearch(final String... columns) {
+        this.columns = List.of(columns);
+    }
+
+    @Override
+    public Specification<T> matching(final String terms) {
+        if (terms == null || terms.isBlank()) {
+            return null;
+        }
+        return this.columns.stream()
+                .map(column -> SpecificationUtils.<T>like(column, terms))
+                .reduce(Specification::or)
+                .orElse(null);
+    }
+}
@@ -0,0 +1,4 @@
+package com.tcs.admin.catalog.infrastructure.search;
+
+public record SearchDocument(String id, String text) {
+}
@@ -0,0 +1,7 @@
+package com.tcs.admin.catalog.infrastructure.search;
+
+public enum SearchMode {
+    LIKE,
+    FULLTEXT,
+    INDEX
+}
@@ -0,0 +1,22 @@
+package com.tcs.admin.catalog.infrastructure.search;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Turns the free-text terms of a list query into a filter over {@code T}. Gateways report their
+ * writes through {@link #index(Object)} and {@link #remove(String)} so strategies that keep their
+ * own index stay up to date; database-backed strategies ignore them.
+ */
+public interface TermsSearch<T> {
+
+    /**
+     * Returns the filter for the given terms, {@code null} when they do not restrict the results.
+     */
+    Specification<T> matching(String terms);
+
+    default void index(final T entity) {
+    }
+
+    default void remove(final String id) {
+    }
+}
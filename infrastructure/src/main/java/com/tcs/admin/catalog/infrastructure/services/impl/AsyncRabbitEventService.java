@@ -0,0 +1,239 @@
+package com.tcs.admin.catalog.infrastructure.services.impl;
+
+import com.tcs.admin.catalog.domain.events.DomainEvent;
+import com.tcs.admin.catalog.domain.exceptions.InternalErrorException;
+import com.tcs.admin.catalog.domain.utils.IdUtils;
+import com.tcs.admin.catalog.infrastructure.configuration.json.Json;
+import com.tcs.admin.catalog.infrastructure.configuration.properties.amqp.PublisherProperties;
+import com.tcs.admin.catalog.infrastructure.services.EventService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes events without waiting for the broker. {@link #send(DomainEvent)} only queues the
+ * serialized event; a sender thread drains the queue in batches and sends them back to back,
+ * and broker confirms are matched through {@link CorrelationData}. Nacked or unconfirmed events
+ * are re-queued with exponential backoff up to {@code max-attempts}.
+ * <p>
+ * The caller no longer learns about publishing failures, and events still queued when the
+ * application stops are lost, so this mode is meant for events that tolerate it. Events that
+ * must follow a committed transaction go through the outbox instead.
+ */
+public class AsyncRabbitEventService implements EventService, MeterBinder, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncRabbitEventService.class);
+
+    private final String exchange;
+
+    private final String routingKey;
+
+    private final RabbitOperations ops;
+
+    private final PublisherProperties props;
+
+    private final BlockingQueue<Pending> queue;
+
+    private final ScheduledExecutorService retries;
+
+    private final Thread sender;
+
+    private final AtomicLong inFlight = new AtomicLong();
+
+    private final AtomicLong confirmed = new AtomicLong();
+
+    private final AtomicLong nacked = new AtomicLong();
+
+    private volatile DistributionSummary payloads;
+
+    private volatile boolean running = true;
+
+    public AsyncRabbitEventService(
+            final String exchange,
+            final String routingKey,
+            final RabbitOperations ops,
+            final PublisherProperties props
+    ) {
+        this.exchange = Objects.requireNonNull(exchange);
+        this.routingKey = Objects.requireNonNull(routingKey);
+        this.ops = Objects.requireNonNull(ops);
+        this.props = Objects.requireNonNull(props);
+        this.queue = new LinkedBlockingQueue<>(props.getCapacity());
+        this.retries = Executors.newSingleThreadScheduledExecutor(daemon("rabbit-publisher-retry-" + routingKey));
+        this.sender = daemon("rabbit-publisher-" + routingKey).newThread(this::run);
+        this.sender.start();
+    }
+
+    @Override
+    public void send(final DomainEvent event) {
+        // Same wire format as convertAndSend(String), so the consumers are unaffected
+        final var message = MessageBuilder.withBody(Json.writeValueAsBytes(event))
+                .setContentType(MessageProperties.CONTENT_TYPE_TEXT_PLAIN)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .build();
+
+        final var payloads = this.payloads;
+        if (payloads != null) {
+            payloads.record(message.getBody().length);
+        }
+        try {
+            // Blocks when the queue is full, slowing producers down to the broker's pace
+            this.queue.put(new Pending(message, 1));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw InternalErrorException.with("Interrupted while queueing event", e);
+        }
+    }
+
+    public long inFlight() {
+        return this.inFlight.get();
+    }
+
+    public long confirmed() {
+        return this.confirmed.get();
+    }
+
+    public long nacked() {
+        return this.nacked.get();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        this.payloads = DistributionSummary.builder("rabbit.publisher.payload")
+                .baseUnit(BaseUnits.BYTES)
+                .tag("routing_key", this.routingKey)
+                .register(registry);
+        Gauge.builder("rabbit.publisher.queued", this.queue, BlockingQueue::size)
+                .tag("routing_key", this.routingKey)
+                .register(registry);
+        Gauge.builder("rabbit.publisher.in.flight", this.inFlight, AtomicLong::get)
+                .tag("routing_key", this.routingKey)
+                .register(registry);
+        FunctionCounter.builder("rabbit.publisher.confirmed", this.confirmed, AtomicLong::get)
+                .tag("routing_key", this.routingKey)
+                .register(registry);
+        FunctionCounter.builder("rabbit.publisher.nacked", this.nacked, AtomicLong::get)
+                .tag("routing_key", this.routingKey)
+                .register(registry);
+    }
+
+    /**
+     * Gives queued and unconfirmed events up to {@code confirm-timeout} to go out, then stops.
+     */
+    @Override
+    public void close() {
+        final var deadline = System.nanoTime() + this.props.getConfirmTimeout().toNanos();
+        try {
+            while ((!this.queue.isEmpty() || this.inFlight.get() > 0) && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        this.running = false;
+        this.sender.interrupt();
+        this.retries.shutdownNow();
+
+        if (!this.queue.isEmpty()) {
+            LOGGER.warn("[message:rabbit.publisher] [status:dropped] [routingKey:{}] [events:{}]", this.routingKey, this.queue.size());
+        }
+    }
+
+    private void run() {
+        final var batch = new ArrayList<Pending>(this.props.getBatchSize());
+        while (this.running) {
+            try {
+                batch.add(this.queue.take());
+                this.queue.drainTo(batch, this.props.getBatchSize() - 1);
+                batch.forEach(this::publish);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (final RuntimeException e) {
+                LOGGER.error("[message:rabbit.publisher] [status:error] [routingKey:{}]", this.routingKey, e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void publish(final Pending pending) {
+        final var correlation = new CorrelationData(IdUtils.uuid());
+        this.inFlight.incrementAndGet();
+
+        try {
+            this.ops.send(this.exchange, this.routingKey, pending.message(), correlation);
+        } catch (final AmqpException e) {
+            this.inFlight.decrementAndGet();
+            failed(pending, e.getMessage());
+            return;
+        }
+
+        correlation.getFuture()
+                .orTimeout(this.props.getConfirmTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((confirm, error) -> {
+                    this.inFlight.decrementAndGet();
+                    if (error == null && confirm.isAck()) {
+                        this.confirmed.incrementAndGet();
+                    } else {
+                        failed(pending, error != null ? error.toString() : confirm.getReason());
+                    }
+                });
+    }
+
+    private void failed(final Pending pending, final String reason) {
+        this.nacked.incrementAndGet();
+
+        if (pending.attempt() >= this.props.getMaxAttempts() || !this.running) {
+            LOGGER.error("[message:rabbit.publisher] [status:dropped] [routingKey:{}] [attempt:{}] [reason:{}]",
+                    this.routingKey, pending.attempt(), reason);
+            return;
+        }
+
+        LOGGER.warn("[message:rabbit.publisher] [status:retry] [routingKey:{}] [attempt:{}] [reason:{}]",
+                this.routingKey, pending.attempt(), reason);
+        this.retries.schedule(() -> {
+            if (!this.queue.offer(pending.next())) {
+                LOGGER.error("[message:rabbit.publisher] [status:dropped] [routingKey:{}] [reason:queue full]", this.routingKey);
+            }
+        }, backoff(pending.attempt()), TimeUnit.MILLISECONDS);
+    }
+
+    private long backoff(final int attempt) {
+        final var delay = this.props.getInitialBackoff().toMillis() << Math.min(attempt - 1, 20);
+        return Math.min(delay, this.props.getMaxBackoff().toMillis());
+    }
+
+    private static ThreadFactory daemon(final String name) {
+        return runnable -> {
+            final var thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record Pending(Message message, int attempt) {
+
+        Pending next() {
+            return new Pending(this.message, this.attempt + 1);
+        }
+    }
+}
@@ -1,13 +1,20 @@
 package com.tcs.admin.catalog.infrastructure.services.impl;
 
+import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import com.tcs.admin.catalog.domain.exceptions.InternalErrorException;
 import com.tcs.admin.catalog.domain.resource.Resource;
 import com.tcs.admin.catalog.infrastructure.services.StorageService;
+import com.tcs.admin.catalog.infrastructure.utils.HashUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
 
@@ -35,7 +42,8 @@ public class GCStorageService implements StorageService {
         return Optional.ofNullable(this.storage.get(this.bucket, name))
                 .map(blob -> Resource.with(
                         blob.getCrc32cToHexString(),
-                        blob.getContent(),
+                        new BlobSource(blob),
+                        blob.getSize(),
                         blob.getContentType(),
                         blob.getName())
                 );
@@ -53,9 +61,45 @@ public class GCStorageService implements StorageService {
     @Override
     public void store(final String name, final Resource resource) {
         final var blobInfo = BlobInfo.newBuilder(this.bucket, name)
-                .setContentType(resource.contentType())
-                .setCrc32cFromHexString(resource.checksum())
-                .build();
-        this.storage.create(blobInfo, resource.content());
+                .setContentType(resource.contentType());
+
+        if (resource.isStreamed()) {
+            upload(blobInfo.build(), resource);
+        } else {
+            this.storage.create(blobInfo.setCrc32c(HashUtils.crc32c(resource.checksum())).build(), resource.content());
+        }
+    }
+
+    private void upload(final BlobInfo blobInfo, final Resource resource) {
+        // Resumable upload: the content is pushed in chunks and never fully buffered
+        try (final var in = resource.openStream();
+             final var out = Channels.newOutputStream(this.storage.writer(blobInfo))) {
+            in.transferTo(out);
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Error on upload resource %s".formatted(blobInfo.getName()), e);
+        }
+
+        // A streamed checksum may only be known once the upload has read the content, so it is
+        // verified against the stored object instead of being sent along with it
+        final var blob = this.storage.get(blobInfo.getBlobId());
+        if (blob == null || !Objects.equals(blob.getCrc32c(), HashUtils.crc32c(resource.checksum()))) {
+            this.storage.delete(blobInfo.getBlobId());
+            throw InternalErrorException.with("Checksum mismatch on upload resource %s".formatted(blobInfo.getName()), null);
+        }
+    }
+
+    private record BlobSource(Blob blob) implements Resource.Source {
+
+        @Override
+        public InputStream open() {
+            return Channels.newInputStream(this.blob.reader());
+        }
+
+        @Override
+        public InputStream open(final long position) throws IOException {
+            final var reader = this.blob.reader();
+            reader.seek(position);
+            return Channels.newInputStream(reader);
+        }
     }
 }
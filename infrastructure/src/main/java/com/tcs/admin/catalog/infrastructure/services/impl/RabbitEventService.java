@@ -3,11 +3,18 @@ package com.tcs.admin.catalog.infrastructure.services.impl;
 import com.tcs.admin.catalog.domain.events.DomainEvent;
 import com.tcs.admin.catalog.infrastructure.configuration.json.Json;
 import com.tcs.admin.catalog.infrastructure.services.EventService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.core.RabbitOperations;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
-public class RabbitEventService implements EventService {
+public class RabbitEventService implements EventService, MeterBinder {
 
     private final String exchange;
 
@@ -15,6 +22,8 @@ public class RabbitEventService implements EventService {
 
     private final RabbitOperations ops;
 
+    private volatile DistributionSummary payloads;
+
     public RabbitEventService(
             final String exchange,
             final String routingKey,
@@ -27,6 +36,24 @@ public class RabbitEventService implements EventService {
 
     @Override
     public void send(DomainEvent event) {
-        this.ops.convertAndSend(this.exchange, this.routingKey, Json.writeValueAsString(event));
+        // Same wire format as convertAndSend(String), built by hand to measure the payload
+        final var message = MessageBuilder.withBody(Json.writeValueAsBytes(event))
+                .setContentType(MessageProperties.CONTENT_TYPE_TEXT_PLAIN)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .build();
+
+        final var payloads = this.payloads;
+        if (payloads != null) {
+            payloads.record(message.getBody().length);
+        }
+        this.ops.send(this.exchange, this.routingKey, message);
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        this.payloads = DistributionSummary.builder("rabbit.publisher.payload")
+                .baseUnit(BaseUnits.BYTES)
+                .tag("routing_key", this.routingKey)
+                .register(registry);
     }
 }
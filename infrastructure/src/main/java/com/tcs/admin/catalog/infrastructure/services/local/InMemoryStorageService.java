@@ -44,6 +44,17 @@ public class InMemoryStorageService implements StorageService {
 
     @Override
     public void store(final String name, final Resource resource) {
-        this.storage.put(name, resource);
+        if (resource.isStreamed()) {
+            // Read the content first: a streamed checksum may only be known once it has been read
+            final var content = resource.content();
+            this.storage.put(name, Resource.with(
+                    resource.checksum(),
+                    content,
+                    resource.contentType(),
+                    resource.name()
+            ));
+        } else {
+            this.storage.put(name, resource);
+        }
     }
 }
@@ -0,0 +1,248 @@
+package com.tcs.admin.catalog.infrastructure.services.local;
+
+import com.tcs.admin.catalog.domain.exceptions.InternalErrorException;
+import com.tcs.admin.catalog.domain.resource.Resource;
+import com.tcs.admin.catalog.infrastructure.services.StorageService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * Stores resources on the local filesystem. Every object is kept as a data file plus a
+ * {@code .meta} sidecar, both written to a temporary file first and atomically moved into place.
+ * A sorted in-memory index of the stored objects is rebuilt on startup and serves
+ * {@link #list(String)} and metadata lookups without touching the disk.
+ * <p>
+ * Temporary files left behind by a crash are deleted on startup, so the root must not be shared
+ * with another instance still writing to it.
+ */
+public class LocalFileStorageService implements StorageService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LocalFileStorageService.class);
+
+    private static final String META_SUFFIX = ".meta";
+    private static final String TMP_SUFFIX = ".tmp";
+
+    private static final String CHECKSUM = "checksum";
+    private static final String CONTENT_TYPE = "contentType";
+    private static final String NAME = "name";
+
+    private final Path root;
+
+    private final NavigableMap<String, Metadata> index;
+
+    public LocalFileStorageService(final Path root) {
+        this.root = Objects.requireNonNull(root).toAbsolutePath().normalize();
+        this.index = new ConcurrentSkipListMap<>();
+        init();
+    }
+
+    @Override
+    public void deleteAll(final Collection<String> names) {
+        final var removed = names.stream()
+                .filter(name -> this.index.remove(name) != null)
+                .map(this::pathOf)
+                .toList();
+
+        final var parents = new TreeSet<Path>(Comparator.reverseOrder());
+        for (final var path : removed) {
+            try {
+                Files.deleteIfExists(path);
+                Files.deleteIfExists(metaPathOf(path));
+                parents.add(path.getParent());
+            } catch (final IOException e) {
+                LOGGER.warn("Error on delete resource {}", path, e);
+            }
+        }
+
+        // Prune emptied folders once per batch, deepest first
+        parents.forEach(this::deleteIfEmpty);
+    }
+
+    @Override
+    public Optional<Resource> get(final String name) {
+        final var path = pathOf(name);
+        return Optional.ofNullable(this.index.get(name))
+                .map(meta -> Resource.with(
+                        meta.checksum(),
+                        new FileSource(path),
+                        meta.size(),
+                        meta.contentType(),
+                        meta.name()
+                ));
+    }
+
+    @Override
+    public List<String> list(final String prefix) {
+        if (prefix == null) {
+            return Collections.emptyList();
+        }
+        return this.index.tailMap(prefix, true).keySet().stream()
+                .takeWhile(it -> it.startsWith(prefix))
+                .toList();
+    }
+
+    @Override
+    public void store(final String name, final Resource resource) {
+        final var path = pathOf(name);
+
+        try {
+            Files.createDirectories(path.getParent());
+
+            final long size;
+            try (final var in = resource.openStream()) {
+                size = write(path, in);
+            }
+
+            final var meta = new Metadata(resource.checksum(), resource.contentType(), resource.name(), size);
+            writeMeta(metaPathOf(path), meta);
+
+            this.index.put(name, meta);
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Error on store resource %s".formatted(name), e);
+        }
+    }
+
+    private void init() {
+        try {
+            Files.createDirectories(this.root);
+            final List<Path> files;
+            try (final Stream<Path> walk = Files.walk(this.root)) {
+                files = walk.filter(Files::isRegularFile).toList();
+            }
+            files.stream()
+                    .filter(LocalFileStorageService::isTemporary)
+                    .forEach(this::deleteStale);
+            files.stream()
+                    .filter(it -> it.getFileName().toString().endsWith(META_SUFFIX))
+                    .forEach(this::load);
+            LOGGER.info("Loaded {} resources from {}", this.index.size(), this.root);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void load(final Path metaPath) {
+        final var metaName = metaPath.getFileName().toString();
+        final var path = metaPath.resolveSibling(metaName.substring(0, metaName.length() - META_SUFFIX.length()));
+        if (!Files.isRegularFile(path)) {
+            return;
+        }
+
+        try (final var in = Files.newInputStream(metaPath)) {
+            final var props = new Properties();
+            props.load(in);
+            final var name = this.root.relativize(path).toString().replace('\\', '/');
+            this.index.put(name, new Metadata(
+                    props.getProperty(CHECKSUM),
+                    props.getProperty(CONTENT_TYPE),
+                    props.getProperty(NAME),
+                    Files.size(path)
+            ));
+        } catch (final IOException e) {
+            LOGGER.warn("Ignoring unreadable resource metadata {}", metaPath, e);
+        }
+    }
+
+    private void deleteStale(final Path tmp) {
+        try {
+            Files.deleteIfExists(tmp);
+            deleteIfEmpty(tmp.getParent());
+            LOGGER.info("Deleted stale temporary file {}", tmp);
+        } catch (final IOException e) {
+            LOGGER.warn("Could not delete stale temporary file {}", tmp, e);
+        }
+    }
+
+    private long write(final Path target, final InputStream content) throws IOException {
+        final var tmp = Files.createTempFile(target.getParent(), ".", TMP_SUFFIX);
+        try {
+            final long size;
+            try (final var channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                size = content.transferTo(Channels.newOutputStream(channel));
+                channel.force(true);
+            }
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return size;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private void writeMeta(final Path target, final Metadata meta) throws IOException {
+        final var props = new Properties();
+        props.setProperty(CHECKSUM, meta.checksum());
+        props.setProperty(CONTENT_TYPE, meta.contentType());
+        props.setProperty(NAME, meta.name());
+
+        final var tmp = Files.createTempFile(target.getParent(), ".", TMP_SUFFIX);
+        try {
+            try (final var out = Files.newOutputStream(tmp)) {
+                props.store(out, null);
+            }
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private void deleteIfEmpty(final Path folder) {
+        if (folder == null || folder.equals(this.root)) {
+            return;
+        }
+        try (final var children = Files.list(folder)) {
+            if (children.findAny().isEmpty()) {
+                Files.deleteIfExists(folder);
+            }
+        } catch (final IOException e) {
+            LOGGER.debug("Could not prune folder {}", folder, e);
+        }
+    }
+
+    private Path pathOf(final String name) {
+        final var path = this.root.resolve(name).normalize();
+        if (!path.startsWith(this.root) || path.equals(this.root)) {
+            throw new IllegalArgumentException("Invalid resource name %s".formatted(name));
+        }
+        return path;
+    }
+
+    private static boolean isTemporary(final Path path) {
+        final var fileName = path.getFileName().toString();
+        return fileName.startsWith(".") && fileName.endsWith(TMP_SUFFIX);
+    }
+
+    private static Path metaPathOf(final Path path) {
+        return path.resolveSibling(path.getFileName() + META_SUFFIX);
+    }
+
+    private record Metadata(String checksum, String contentType, String name, long size) {
+    }
+
+    private record FileSource(Path path) implements Resource.Source {
+
+        @Override
+        public InputStream open() throws IOException {
+            return Files.newInputStream(this.path);
+        }
+
+        @Override
+        public InputStream open(final long position) throws IOException {
+            final var channel = FileChannel.open(this.path, StandardOpenOption.READ);
+            channel.position(position);
+            return Channels.newInputStream(channel);
+        }
+    }
+}
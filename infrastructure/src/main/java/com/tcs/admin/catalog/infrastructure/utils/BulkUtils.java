@@ -0,0 +1,58 @@
+package com.tcs.admin.catalog.infrastructure.utils;
+
+import jakarta.persistence.EntityManager;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public final class BulkUtils {
+
+    /**
+     * Entities kept in the persistence context before it is flushed and cleared. A multiple of
+     * {@code hibernate.jdbc.batch_size}, so every flush sends full JDBC batches.
+     */
+    public static final int FLUSH_SIZE = 500;
+
+    /**
+     * Rows fetched per round trip by the streaming queries. The MySQL driver only honours it with
+     * {@code useCursorFetch}, without which it reads the whole result set up front.
+     */
+    public static final int FETCH_SIZE = 1000;
+
+    private BulkUtils() {}
+
+    /**
+     * Persists new entities with assigned ids, skipping the select that {@code save} issues to
+     * tell a new entity from a detached one. The context is flushed and cleared every
+     * {@link #FLUSH_SIZE} entities so memory stays flat whatever the size of the import; the
+     * given entities are detached afterwards but keep their state.
+     */
+    public static <T> void persistAll(final EntityManager entityManager, final List<T> entities) {
+        for (int i = 0; i < entities.size(); i++) {
+            entityManager.persist(entities.get(i));
+            if ((i + 1) % FLUSH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Hands every streamed entity to {@code aConsumer} and closes the stream. The context is
+     * cleared after every {@link #FETCH_SIZE} entities, so no more than one fetched chunk is kept.
+     */
+    public static <T> void forEach(final EntityManager entityManager, final Stream<T> entities, final Consumer<T> aConsumer) {
+        try (entities) {
+            final var it = entities.iterator();
+            for (int i = 1; it.hasNext(); i++) {
+                aConsumer.accept(it.next());
+                if (i % FETCH_SIZE == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+}
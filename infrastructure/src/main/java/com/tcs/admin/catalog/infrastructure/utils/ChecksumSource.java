@@ -0,0 +1,99 @@
+package com.tcs.admin.catalog.infrastructure.utils;
+
+import com.google.common.hash.Hasher;
+import com.tcs.admin.catalog.domain.resource.Resource;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+/**
+ * Source whose checksum is computed as it is read. An upload handed to the storage this way is
+ * read once from its temporary file, instead of once to checksum it and once more to store it.
+ * {@link #checksum()} is available as soon as a stream opened from it has been read to the end.
+ */
+public final class ChecksumSource implements Resource.Source {
+
+    private final Resource.Source delegate;
+
+    private volatile String checksum;
+
+    public ChecksumSource(final Resource.Source delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+    @Override
+    public InputStream open() throws IOException {
+        return new HashingStream(this.delegate.open());
+    }
+
+    @Override
+    public InputStream open(final long position) throws IOException {
+        if (position != 0) {
+            // The skipped bytes would be missing from the checksum
+            return this.delegate.open(position);
+        }
+        return open();
+    }
+
+    public String checksum() {
+        final var it = this.checksum;
+        if (it == null) {
+            throw new IllegalStateException("Checksum is only known once the content has been read");
+        }
+        return it;
+    }
+
+    private class HashingStream extends FilterInputStream {
+
+        private final Hasher hasher = HashUtils.newHasher();
+
+        private boolean completed;
+
+        private HashingStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final var b = super.read();
+            if (b == -1) {
+                complete();
+            } else {
+                this.hasher.putByte((byte) b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final var read = super.read(b, off, len);
+            if (read == -1) {
+                complete();
+            } else {
+                this.hasher.putBytes(b, off, read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            // Skipped bytes are read through, so they are part of the checksum
+            final var skipped = read(new byte[(int) Math.min(n, 8192)]);
+            return Math.max(skipped, 0);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void complete() {
+            if (!this.completed) {
+                this.completed = true;
+                ChecksumSource.this.checksum = this.hasher.hash().toString();
+            }
+        }
+    }
+}
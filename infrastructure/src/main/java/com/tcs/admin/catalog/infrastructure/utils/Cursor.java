@@ -0,0 +1,86 @@
+package com.tcs.admin.catalog.infrastructure.utils;
+
+import com.tcs.admin.catalog.domain.exceptions.DomainException;
+import com.tcs.admin.catalog.domain.validation.Error;
+import com.tcs.admin.catalog.infrastructure.configuration.json.Json;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Position of the last item of a keyset page: the value of the sort key and the id used to break
+ * ties. It travels to clients as an opaque base64url token. A {@code null} key stands for a row
+ * whose sort key is {@code NULL}, which {@link KeysetUtils} seeks past with {@code IS NULL}.
+ */
+public record Cursor(String key, String id) {
+
+    public Cursor {
+        Objects.requireNonNull(id);
+    }
+
+    public static Cursor of(final Object key, final String id) {
+        return new Cursor(key == null ? null : key.toString(), id);
+    }
+
+    /**
+     * Returns {@code null} for a blank token, which stands for the first keyset page.
+     */
+    public static Cursor decode(final String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            final var json = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            return Json.readValue(json, Cursor.class);
+        } catch (final RuntimeException e) {
+            throw DomainException.with(new Error("'cursor' is invalid"));
+        }
+    }
+
+    public String encode() {
+        final var json = Json.writeValueAsString(this);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Converts the sort key back to the Java type of the attribute it was read from.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Comparable<?> keyAs(final Class<?> type) {
+        if (key == null) {
+            return null;
+        }
+        try {
+            if (type == String.class) {
+                return key;
+            }
+            if (type == Instant.class) {
+                return Instant.parse(key);
+            }
+            if (type == Boolean.class || type == boolean.class) {
+                return Boolean.valueOf(key);
+            }
+            if (type == Integer.class || type == int.class) {
+                return Integer.valueOf(key);
+            }
+            if (type == Long.class || type == long.class) {
+                return Long.valueOf(key);
+            }
+            if (type == BigDecimal.class) {
+                return new BigDecimal(key);
+            }
+            if (type == Double.class || type == double.class) {
+                return Double.valueOf(key);
+            }
+            if (type.isEnum()) {
+                return Enum.valueOf((Class<Enum>) type, key);
+            }
+        } catch (final RuntimeException e) {
+            throw DomainException.with(new Error("'cursor' is invalid"));
+        }
+        throw DomainException.with(new Error("'cursor' cannot be used with this sort"));
+    }
+}
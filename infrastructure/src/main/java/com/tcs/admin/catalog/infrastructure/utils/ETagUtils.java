@@ -0,0 +1,26 @@
+package com.tcs.admin.catalog.infrastructure.utils;
+
+import java.util.Arrays;
+
+public final class ETagUtils {
+
+    private ETagUtils() {}
+
+    public static String strong(final String value) {
+        return "\"%s\"".formatted(value);
+    }
+
+    /**
+     * Whether an {@code If-None-Match} header lets the response be answered with a 304.
+     * As RFC 9110 asks for this header, weak and strong tags compare alike.
+     */
+    public static boolean matches(final String ifNoneMatch, final String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(it -> it.startsWith("W/") ? it.substring(2) : it)
+                .anyMatch(it -> it.equals("*") || it.equals(eTag));
+    }
+}
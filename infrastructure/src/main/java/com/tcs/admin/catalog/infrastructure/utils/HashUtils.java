@@ -1,7 +1,11 @@
 package com.tcs.admin.catalog.infrastructure.utils;
 
+import com.google.common.hash.HashCode;
 import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
+import com.google.common.io.BaseEncoding;
+import com.google.common.primitives.Ints;
 
 public final class HashUtils {
 
@@ -13,4 +17,16 @@ public final class HashUtils {
     public static String checksum(final byte[] content) {
         return CHECKSUM.hashBytes(content).toString();
     }
+
+    static Hasher newHasher() {
+        return CHECKSUM.newHasher();
+    }
+
+    /**
+     * Returns a checksum of this class in the form GCS reports a CRC32C: base64 of its big-endian
+     * bytes. The hex of {@link HashCode#toString()} lists the same bytes little-endian.
+     */
+    public static String crc32c(final String checksum) {
+        return BaseEncoding.base64().encode(Ints.toByteArray(HashCode.fromString(checksum).asInt()));
+    }
 }
@@ -0,0 +1,127 @@
+package com.tcs.admin.catalog.infrastructure.utils;
+
+import com.tcs.admin.catalog.domain.pagination.Pagination;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset (seek) paging: instead of an offset and a count query, each page is read with
+ * {@code WHERE (sort, id) > (:key, :id) ORDER BY sort, id LIMIT perPage + 1}, which the database
+ * can answer with an index seek no matter how deep the page is. The extra row only tells whether
+ * there is a next page.
+ * <p>
+ * A {@code NULL} sort key ranks below every value, as MySQL orders them: first when ascending,
+ * last when descending. Comparisons with {@code NULL} match nothing, so rows with a {@code NULL}
+ * key are sought with {@code IS NULL} / {@code IS NOT NULL} instead.
+ */
+public final class KeysetUtils {
+
+    public static final String ID = "id";
+
+    private KeysetUtils() {
+    }
+
+    public static <T, R> Pagination<R> seek(
+            final JpaSpecificationExecutor<T> repository,
+            final Specification<T> filter,
+            final int perPage,
+            final String sort,
+            final String direction,
+            final String cursor,
+            final Function<T, R> mapper
+    ) {
+        final var aDirection = Sort.Direction.fromString(direction);
+        final var after = Cursor.decode(cursor);
+
+        Specification<T> spec = (root, query, cb) -> {
+            // Ordered here rather than through a Sort, which cannot tell where the NULLs go
+            query.orderBy(orderOf(cb, root.get(sort), aDirection), orderOf(cb, root.get(ID), aDirection));
+            return after(cb, root.get(sort), root.get(ID), aDirection, after);
+        };
+        if (filter != null) {
+            spec = spec.and(filter);
+        }
+
+        final var rows = repository.findBy(spec, q -> q
+                .limit(perPage + 1)
+                .all());
+
+        return page(rows, perPage, it -> cursorOf(it, sort)).map(mapper);
+    }
+
+    /**
+     * Orders by the given key with {@code NULL}s ranked below every value. That is MySQL's own
+     * order, so nothing extra is rendered there and the index can still be used.
+     */
+    public static Order orderOf(final CriteriaBuilder cb, final Expression<?> path, final Sort.Direction direction) {
+        final var hcb = (HibernateCriteriaBuilder) cb;
+        return direction.isAscending() ? hcb.asc(path, true) : hcb.desc(path, false);
+    }
+
+    /**
+     * Builds the seek predicate, {@code null} (no restriction) for the first page.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Predicate after(
+            final CriteriaBuilder cb,
+            final Path<?> sortPath,
+            final Path<String> idPath,
+            final Sort.Direction direction,
+            final Cursor cursor
+    ) {
+        if (cursor == null) {
+            return null;
+        }
+
+        final var key = (Comparable) cursor.keyAs(sortPath.getJavaType());
+        final var path = (Expression<Comparable>) sortPath;
+
+        if (key == null) {
+            // NULLs come first ascending, so every non-NULL key is still ahead; last descending
+            final var nulls = direction.isAscending()
+                    ? cb.greaterThan(idPath, cursor.id())
+                    : cb.lessThan(idPath, cursor.id());
+            final var tie = cb.and(cb.isNull(path), nulls);
+            return direction.isAscending() ? cb.or(cb.isNotNull(path), tie) : tie;
+        }
+
+        if (direction.isAscending()) {
+            return cb.or(
+                    cb.greaterThan(path, key),
+                    cb.and(cb.equal(path, key), cb.greaterThan(idPath, cursor.id()))
+            );
+        }
+        return cb.or(
+                cb.lessThan(path, key),
+                cb.and(cb.equal(path, key), cb.lessThan(idPath, cursor.id())),
+                cb.isNull(path)
+        );
+    }
+
+    /**
+     * Trims the extra row read to detect a next page and builds the cursor from the last item kept.
+     */
+    public static <T> Pagination<T> page(final List<T> rows, final int perPage, final Function<T, Cursor> cursorOf) {
+        if (perPage <= 0 || rows.size() <= perPage) {
+            return Pagination.keyset(perPage, rows, null);
+        }
+        final var items = rows.subList(0, perPage);
+        return Pagination.keyset(perPage, items, cursorOf.apply(items.get(perPage - 1)).encode());
+    }
+
+    private static Cursor cursorOf(final Object entity, final String sort) {
+        final var accessor = PropertyAccessorFactory.forDirectFieldAccess(entity);
+        return Cursor.of(accessor.getPropertyValue(sort), (String) accessor.getPropertyValue(ID));
+    }
+}
@@ -0,0 +1,43 @@
+package com.tcs.admin.catalog.infrastructure.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.tcs.admin.catalog.infrastructure.configuration.json.Json;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+public final class NdJsonUtils {
+
+    private NdJsonUtils() {}
+
+    /**
+     * Writes every item {@code aSource} hands over as one JSON document per line, straight to the
+     * response while the source is still producing them. Nothing but the generator buffer is held.
+     */
+    public static <T> ResponseEntity<StreamingResponseBody> stream(final Consumer<Consumer<T>> aSource) {
+        final StreamingResponseBody body = out -> {
+            try (final var generator = Json.mapper().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                aSource.accept(it -> write(generator, it));
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private static void write(final JsonGenerator generator, final Object item) {
+        try {
+            generator.writeObject(item);
+            generator.writeRaw('\n');
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -6,12 +6,18 @@ import com.tcs.admin.catalog.infrastructure.configuration.properties.storage.Sto
 import com.tcs.admin.catalog.infrastructure.services.StorageService;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 
 @Component
 public class DefaultMediaResourceGateway implements MediaResourceGateway {
 
+    private static final String VIDEO_ID = "{videoId}";
+
     private final String filenamePattern;
 
     private final String locationPattern;
@@ -47,8 +53,30 @@ public class DefaultMediaResourceGateway implements MediaResourceGateway {
 
     @Override
     public void clearResources(final VideoID anId) {
-        final var ids = this.storageService.list(folder(anId));
-        this.storageService.deleteAll(ids);
+        clearAllResources(List.of(anId));
+    }
+
+    @Override
+    public void clearAllResources(final Collection<VideoID> ids) {
+        final var names = ids.stream()
+                .flatMap(it -> this.storageService.list(folder(it).concat("/")).stream())
+                .toList();
+        if (!names.isEmpty()) {
+            this.storageService.deleteAll(names);
+        }
+    }
+
+    @Override
+    public Set<VideoID> findStoredVideos() {
+        final var at = locationPattern.indexOf(VIDEO_ID);
+        final var prefix = locationPattern.substring(0, at);
+        final var suffix = locationPattern.substring(at + VIDEO_ID.length()).concat("/");
+
+        return this.storageService.list(prefix).stream()
+                .map(it -> it.substring(prefix.length()))
+                .filter(it -> it.indexOf(suffix) > 0)
+                .map(it -> VideoID.from(it.substring(0, it.indexOf(suffix))))
+                .collect(Collectors.toSet());
     }
 
     private String filename(final MediaType aType) {
@@ -56,7 +84,7 @@ public class DefaultMediaResourceGateway implements MediaResourceGateway {
     }
 
     private String folder(final VideoID anId) {
-        return locationPattern.replace("{videoId}", anId.getValue());
+        return locationPattern.replace(VIDEO_ID, anId.getValue());
     }
 
     private String filepath(final VideoID anId, final MediaType aType) {
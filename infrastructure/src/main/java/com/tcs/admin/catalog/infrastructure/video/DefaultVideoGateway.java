@@ -1,77 +1,191 @@
 package com.tcs.admin.catalog.infrastructure.video;
 
 import com.tcs.admin.catalog.domain.Identifier;
+import com.tcs.admin.catalog.domain.pagination.Change;
+import com.tcs.admin.catalog.domain.pagination.ChangesQuery;
 import com.tcs.admin.catalog.domain.pagination.Pagination;
+import com.tcs.admin.catalog.domain.utils.InstantUtils;
 import com.tcs.admin.catalog.domain.video.*;
+import com.tcs.admin.catalog.infrastructure.cache.ResponseCache;
+import com.tcs.admin.catalog.infrastructure.changes.ChangeFeed;
 import com.tcs.admin.catalog.infrastructure.configuration.annotations.VideoCreatedQueue;
+import com.tcs.admin.catalog.infrastructure.search.TermsSearch;
 import com.tcs.admin.catalog.infrastructure.services.EventService;
+import com.tcs.admin.catalog.infrastructure.utils.BulkUtils;
+import com.tcs.admin.catalog.infrastructure.video.persistence.AudioVideoMediaRepository;
 import com.tcs.admin.catalog.infrastructure.video.persistence.VideoJpaEntity;
+import com.tcs.admin.catalog.infrastructure.video.persistence.VideoMediaCleanupJpaEntity;
+import com.tcs.admin.catalog.infrastructure.video.persistence.VideoMediaCleanupRepository;
 import com.tcs.admin.catalog.infrastructure.video.persistence.VideoRepository;
+import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static com.tcs.admin.catalog.domain.utils.CollectionUtils.mapTo;
 import static com.tcs.admin.catalog.domain.utils.CollectionUtils.nullIfEmpty;
-import static com.tcs.admin.catalog.infrastructure.utils.SqlUtils.like;
-import static com.tcs.admin.catalog.infrastructure.utils.SqlUtils.upper;
 
 @Component
 public class DefaultVideoGateway implements VideoGateway {
 
     private final VideoRepository videoRepository;
 
+    private final AudioVideoMediaRepository audioVideoMediaRepository;
+
+    private final VideoMediaCleanupRepository videoMediaCleanupRepository;
+
+    private final EntityManager entityManager;
+
     private final EventService eventService;
 
+    private final TermsSearch<VideoJpaEntity> videoSearch;
+
+    private final ResponseCache responseCache;
+
+    private final ChangeFeed<VideoPreview> videoChanges;
+
     public DefaultVideoGateway(
             final VideoRepository videoRepository,
-            @VideoCreatedQueue final EventService eventService
+            final AudioVideoMediaRepository audioVideoMediaRepository,
+            final VideoMediaCleanupRepository videoMediaCleanupRepository,
+            final EntityManager entityManager,
+            @VideoCreatedQueue final EventService eventService,
+            final TermsSearch<VideoJpaEntity> videoSearch,
+            final ResponseCache responseCache,
+            final ChangeFeed<VideoPreview> videoChanges
     ) {
         this.videoRepository = Objects.requireNonNull(videoRepository);
+        this.audioVideoMediaRepository = Objects.requireNonNull(audioVideoMediaRepository);
+        this.videoMediaCleanupRepository = Objects.requireNonNull(videoMediaCleanupRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
         this.eventService = Objects.requireNonNull(eventService);
+        this.videoSearch = Objects.requireNonNull(videoSearch);
+        this.responseCache = Objects.requireNonNull(responseCache);
+        this.videoChanges = Objects.requireNonNull(videoChanges);
     }
 
     @Override
     @Transactional
     public Video create(final Video aVideo) {
-        return save(aVideo);
+        return save(VideoJpaEntity.from(aVideo), aVideo);
+    }
+
+    @Override
+    @Transactional
+    public List<Video> createAll(final List<Video> aVideos) {
+        final var entities = aVideos.stream()
+                .map(VideoJpaEntity::from)
+                .toList();
+
+        BulkUtils.persistAll(this.entityManager, entities);
+
+        entities.forEach(this.videoSearch::index);
+        aVideos.forEach(it -> it.publishDomainEvent(this.eventService::send));
+
+        return entities.stream()
+                .map(VideoJpaEntity::toDomain)
+                .toList();
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<Video> findById(final VideoID anId) {
-        return this.videoRepository.findById(anId.getValue())
+        return this.videoRepository.findWithAssociationsById(anId.getValue())
                 .map(VideoJpaEntity::toDomain);
     }
 
     @Override
+    @Transactional
     public void deleteById(final VideoID anId) {
+        // The row is only marked: the medias are cleared from the storage and the row purged by the reaper
         final var id = anId.getValue();
-        if (this.videoRepository.existsById(id)) {
-            this.videoRepository.deleteById(id);
+        final var now = InstantUtils.now();
+        if (this.videoRepository.softDelete(id, now) > 0) {
+            // The links would otherwise keep the deleted video's categories, genres and cast members
+            // from being deleted until the row is purged
+            this.videoRepository.deleteCategories(id);
+            this.videoRepository.deleteGenres(id);
+            this.videoRepository.deleteCastMembers(id);
+            this.videoMediaCleanupRepository.save(VideoMediaCleanupJpaEntity.with(id, now));
+            this.videoChanges.tombstone(id);
+            this.videoSearch.remove(id);
+            this.responseCache.invalidate(ResponseCache.VIDEOS, id);
         }
     }
 
     @Override
     @Transactional
     public Video update(final Video aVideo) {
-        return save(aVideo);
+        // Applied onto the managed entity, so only the changed columns and join rows are written
+        final var entity = this.videoRepository.findWithAssociationsById(aVideo.getId().getValue())
+                .map(it -> it.update(aVideo))
+                .orElseGet(() -> VideoJpaEntity.from(aVideo));
+        return save(entity, aVideo);
+    }
+
+    /**
+     * Touches the media row and the video's {@code updated_at} only, leaving the rest of the
+     * aggregate and its association tables alone.
+     */
+    @Override
+    @Transactional
+    public boolean updateMediaStatus(
+            final VideoID anId,
+            final String resourceId,
+            final MediaStatus aStatus,
+            final String encodedPath
+    ) {
+        final var expected = Arrays.stream(MediaStatus.values())
+                .filter(it -> it.precedes(aStatus))
+                .toList();
+
+        if (expected.isEmpty()) {
+            return false;
+        }
+
+        final var videoId = anId.getValue();
+        final var updated = this.audioVideoMediaRepository.updateStatus(videoId, resourceId, aStatus, encodedPath, expected);
+        if (updated == 0) {
+            return false;
+        }
+
+        this.videoRepository.touch(videoId, InstantUtils.now());
+        this.responseCache.invalidate(ResponseCache.VIDEOS, videoId);
+        return true;
     }
 
     @Override
     public Pagination<VideoPreview> findAll(VideoSearchQuery aQuery) {
+        final var terms = this.videoSearch.matching(aQuery.terms());
+
+        if (aQuery.isKeyset()) {
+            return this.videoRepository.seek(
+                    terms,
+                    nullIfEmpty(mapTo(aQuery.categories(), Identifier::getValue)),
+                    nullIfEmpty(mapTo(aQuery.genres(), Identifier::getValue)),
+                    nullIfEmpty(mapTo(aQuery.castMembers(), Identifier::getValue)),
+                    aQuery.sort(),
+                    aQuery.direction(),
+                    aQuery.cursor(),
+                    aQuery.perPage()
+            );
+        }
+
         final var aPage = PageRequest.of(
                 aQuery.page(),
                 aQuery.perPage(),
                 Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
         );
 
-        final var actualPage = this.videoRepository.findAll(
-                like(upper(aQuery.terms())),
+        final var actualPage = this.videoRepository.search(
+                terms,
                 nullIfEmpty(mapTo(aQuery.categories(), Identifier::getValue)),
                 nullIfEmpty(mapTo(aQuery.genres(), Identifier::getValue)),
                 nullIfEmpty(mapTo(aQuery.castMembers(), Identifier::getValue)),
@@ -86,9 +200,29 @@ public class DefaultVideoGateway implements VideoGateway {
         );
     }
 
-    private Video save(final Video aVideo) {
-        final var result  = this.videoRepository.save(VideoJpaEntity.from(aVideo))
-                .toDomain();
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(final Consumer<VideoPreview> aConsumer) {
+        // Projections are not managed, so there is no persistence context to keep clearing
+        try (final var previews = this.videoRepository.streamPreviews()) {
+            previews.forEach(aConsumer);
+        }
+    }
+
+    @Override
+    public Pagination<Change<VideoPreview>> findChanges(final ChangesQuery aQuery) {
+        return this.videoChanges.read(aQuery, (changedAt, id, until, page) ->
+                this.videoRepository.findChangedAfter(changedAt, id, until, page).stream()
+                        .map(it -> Change.upsert(it.id(), it.updateAt(), it))
+                        .toList());
+    }
+
+    private Video save(final VideoJpaEntity anEntity, final Video aVideo) {
+        final var entity = this.videoRepository.save(anEntity);
+        this.videoSearch.index(entity);
+        this.responseCache.invalidate(ResponseCache.VIDEOS, entity.getId());
+
+        final var result = entity.toDomain();
 
         aVideo.publishDomainEvent(this.eventService::send);
 
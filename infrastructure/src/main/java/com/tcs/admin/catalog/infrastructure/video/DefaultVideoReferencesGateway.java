@@ -0,0 +1,139 @@
+package com.tcs.admin.catalog.infrastructure.video;
+
+import com.tcs.admin.catalog.domain.Identifier;
+import com.tcs.admin.catalog.domain.castmember.CastMember;
+import com.tcs.admin.catalog.domain.castmember.CastMemberID;
+import com.tcs.admin.catalog.domain.category.Category;
+import com.tcs.admin.catalog.domain.category.CategoryID;
+import com.tcs.admin.catalog.domain.genre.Genre;
+import com.tcs.admin.catalog.domain.genre.GenreID;
+import com.tcs.admin.catalog.domain.video.VideoReferences;
+import com.tcs.admin.catalog.domain.video.VideoReferencesGateway;
+import com.tcs.admin.catalog.infrastructure.cache.ReferenceCache;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Checks the categories, genres and cast members referenced by a video. Ids already known to the
+ * reference caches are answered from memory, the remaining ones are resolved with a single
+ * {@code UNION ALL} query, so validating a video costs at most one round trip instead of three.
+ */
+@Component
+public class DefaultVideoReferencesGateway implements VideoReferencesGateway {
+
+    private static final String CATEGORY = "C";
+    private static final String GENRE = "G";
+    private static final String CAST_MEMBER = "M";
+
+    private final EntityManager entityManager;
+
+    private final ReferenceCache<Category> categoryCache;
+
+    private final ReferenceCache<Genre> genreCache;
+
+    private final ReferenceCache<CastMember> castMemberCache;
+
+    public DefaultVideoReferencesGateway(
+            final EntityManager entityManager,
+            final ReferenceCache<Category> categoryCache,
+            final ReferenceCache<Genre> genreCache,
+            final ReferenceCache<CastMember> castMemberCache
+    ) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.categoryCache = Objects.requireNonNull(categoryCache);
+        this.genreCache = Objects.requireNonNull(genreCache);
+        this.castMemberCache = Objects.requireNonNull(castMemberCache);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VideoReferences existsByIds(final VideoReferences references) {
+        if (references == null || references.isEmpty()) {
+            return VideoReferences.with(Set.of(), Set.of(), Set.of());
+        }
+
+        final var categories = this.categoryCache.lookup(valuesOf(references.categories()));
+        final var genres = this.genreCache.lookup(valuesOf(references.genres()));
+        final var castMembers = this.castMemberCache.lookup(valuesOf(references.castMembers()));
+
+        final var found = query(Map.of(
+                CATEGORY, categories.unknown(),
+                GENRE, genres.unknown(),
+                CAST_MEMBER, castMembers.unknown()
+        ));
+
+        return VideoReferences.with(
+                resolve(this.categoryCache, categories, found.get(CATEGORY), CategoryID::from),
+                resolve(this.genreCache, genres, found.get(GENRE), GenreID::from),
+                resolve(this.castMemberCache, castMembers, found.get(CAST_MEMBER), CastMemberID::from)
+        );
+    }
+
+    private Map<String, Set<String>> query(final Map<String, Set<String>> unknown) {
+        final var found = new HashMap<String, Set<String>>(3);
+        unknown.keySet().forEach(kind -> found.put(kind, new HashSet<>()));
+
+        final var selects = new ArrayList<String>(3);
+        final var params = new HashMap<String, List<String>>(3);
+
+        addSelect(selects, params, CATEGORY, "categories", unknown.get(CATEGORY));
+        addSelect(selects, params, GENRE, "genres", unknown.get(GENRE));
+        addSelect(selects, params, CAST_MEMBER, "cast_members", unknown.get(CAST_MEMBER));
+
+        if (selects.isEmpty()) {
+            return found;
+        }
+
+        final var query = this.entityManager.createNativeQuery(String.join(" UNION ALL ", selects));
+        params.forEach(query::setParameter);
+
+        for (final var row : query.getResultList()) {
+            final var columns = (Object[]) row;
+            final var kind = columns[0].toString().trim();
+            final var ids = found.get(kind);
+            if (ids == null) {
+                throw new IllegalStateException("Unexpected reference kind " + kind);
+            }
+            ids.add(columns[1].toString().trim());
+        }
+
+        return found;
+    }
+
+    private static <T, ID> Set<ID> resolve(
+            final ReferenceCache<T> cache,
+            final ReferenceCache.Lookup lookup,
+            final Set<String> found,
+            final Function<String, ID> mapper
+    ) {
+        final var ids = new HashSet<>(lookup.found());
+        if (!lookup.unknown().isEmpty()) {
+            ids.addAll(cache.record(lookup, found));
+        }
+        return ids.stream().map(mapper).collect(Collectors.toSet());
+    }
+
+    private static void addSelect(
+            final List<String> selects,
+            final Map<String, List<String>> params,
+            final String kind,
+            final String table,
+            final Set<String> ids
+    ) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        final var param = "ids" + kind;
+        selects.add("SELECT '%s' AS kind, id FROM %s WHERE id IN (:%s)".formatted(kind, table, param));
+        params.put(param, List.copyOf(ids));
+    }
+
+    private static Set<String> valuesOf(final Set<? extends Identifier> ids) {
+        return ids.stream().map(Identifier::getValue).collect(Collectors.toSet());
+    }
+}
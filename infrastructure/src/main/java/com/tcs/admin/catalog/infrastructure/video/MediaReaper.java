@@ -0,0 +1,162 @@
+package com.tcs.admin.catalog.infrastructure.video;
+
+import com.tcs.admin.catalog.domain.utils.IdUtils;
+import com.tcs.admin.catalog.domain.utils.InstantUtils;
+import com.tcs.admin.catalog.domain.video.MediaResourceGateway;
+import com.tcs.admin.catalog.domain.video.VideoID;
+import com.tcs.admin.catalog.infrastructure.configuration.properties.storage.MediaReaperProperties;
+import com.tcs.admin.catalog.infrastructure.video.persistence.VideoEncoderErrorRepository;
+import com.tcs.admin.catalog.infrastructure.video.persistence.VideoMediaCleanupJpaEntity;
+import com.tcs.admin.catalog.infrastructure.video.persistence.VideoMediaCleanupRepository;
+import com.tcs.admin.catalog.infrastructure.video.persistence.VideoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Clears the medias of deleted videos from the storage and then purges their soft deleted rows.
+ * Cleanups are claimed in batches with a conditional update, so several nodes can run the
+ * reaper, and the medias of a whole batch are deleted together. A batch the storage fails to
+ * clear is retried with an exponential backoff; the rows are only purged once it succeeds.
+ * A periodic sweep also enqueues the folders of videos missing from the catalog, left behind
+ * e.g. by a create that failed halfway.
+ */
+public class MediaReaper {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MediaReaper.class);
+
+    private final String owner = IdUtils.uuid();
+
+    private final VideoMediaCleanupRepository cleanupRepository;
+
+    private final VideoRepository videoRepository;
+
+    private final VideoEncoderErrorRepository encoderErrorRepository;
+
+    private final MediaResourceGateway mediaResourceGateway;
+
+    private final TransactionOperations transactions;
+
+    private final MediaReaperProperties props;
+
+    public MediaReaper(
+            final VideoMediaCleanupRepository cleanupRepository,
+            final VideoRepository videoRepository,
+            final VideoEncoderErrorRepository encoderErrorRepository,
+            final MediaResourceGateway mediaResourceGateway,
+            final TransactionOperations transactions,
+            final MediaReaperProperties props
+    ) {
+        this.cleanupRepository = Objects.requireNonNull(cleanupRepository);
+        this.videoRepository = Objects.requireNonNull(videoRepository);
+        this.encoderErrorRepository = Objects.requireNonNull(encoderErrorRepository);
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.transactions = Objects.requireNonNull(transactions);
+        this.props = Objects.requireNonNull(props);
+    }
+
+    @Scheduled(fixedDelayString = "${media-reaper.reap-interval}")
+    public void reap() {
+        try {
+            int reaped;
+            do {
+                reaped = reap(claim());
+            } while (reaped == this.props.getBatchSize());
+        } catch (final Exception e) {
+            LOGGER.warn("[message:media.reaper] [status:error] [owner:{}]", this.owner, e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${media-reaper.sweep-interval}", fixedDelayString = "${media-reaper.sweep-interval}")
+    public void sweep() {
+        try {
+            final var stored = this.mediaResourceGateway.findStoredVideos().stream()
+                    .map(VideoID::getValue)
+                    .toList();
+
+            final var known = new HashSet<String>();
+            for (int i = 0; i < stored.size(); i += this.props.getBatchSize()) {
+                final var chunk = stored.subList(i, Math.min(i + this.props.getBatchSize(), stored.size()));
+                known.addAll(this.videoRepository.findExistingIds(chunk));
+                this.cleanupRepository.findAllById(chunk).forEach(it -> known.add(it.getVideoId()));
+            }
+
+            // The grace period keeps the medias of a create still in flight out of reach
+            final var dueAt = InstantUtils.now().plus(this.props.getSweepGrace());
+            final var orphans = stored.stream()
+                    .filter(Predicate.not(known::contains))
+                    .map(it -> VideoMediaCleanupJpaEntity.with(it, dueAt))
+                    .toList();
+
+            this.cleanupRepository.saveAll(orphans);
+            LOGGER.info("[message:media.reaper] [status:swept] [owner:{}] [orphans:{}]", this.owner, orphans.size());
+        } catch (final Exception e) {
+            LOGGER.warn("[message:media.reaper] [status:sweep-error] [owner:{}]", this.owner, e);
+        }
+    }
+
+    private List<VideoMediaCleanupJpaEntity> claim() {
+        final var now = InstantUtils.now();
+
+        final var ids = this.cleanupRepository.findDue(now, PageRequest.of(0, this.props.getBatchSize()));
+        if (ids.isEmpty() || this.cleanupRepository.claim(ids, this.owner, now, now.plus(this.props.getClaimTimeout())) == 0) {
+            return List.of();
+        }
+        return this.cleanupRepository.findAllByClaimedByAndVideoIdIn(this.owner, ids);
+    }
+
+    private int reap(final List<VideoMediaCleanupJpaEntity> cleanups) {
+        if (cleanups.isEmpty()) {
+            return 0;
+        }
+
+        final var ids = cleanups.stream()
+                .map(VideoMediaCleanupJpaEntity::getVideoId)
+                .toList();
+
+        // A swept video found in the catalog was still being created: its medias are kept
+        final var live = Set.copyOf(this.videoRepository.findExistingIds(ids));
+        final var deleted = ids.stream()
+                .filter(Predicate.not(live::contains))
+                .toList();
+
+        try {
+            this.mediaResourceGateway.clearAllResources(deleted.stream().map(VideoID::from).toList());
+        } catch (final RuntimeException e) {
+            retry(cleanups);
+            LOGGER.warn("[message:media.reaper] [status:retry] [owner:{}] [videos:{}]", this.owner, cleanups.size(), e);
+            return cleanups.size();
+        }
+
+        this.transactions.executeWithoutResult(status -> {
+            if (!deleted.isEmpty()) {
+                this.videoRepository.deleteAll(this.videoRepository.findDeletedByIds(deleted));
+                this.encoderErrorRepository.deleteAllByVideoIdIn(deleted);
+            }
+            this.cleanupRepository.deleteAllByIdInBatch(ids);
+        });
+
+        LOGGER.debug("[message:media.reaper] [status:reaped] [owner:{}] [videos:{}]", this.owner, deleted.size());
+        return cleanups.size();
+    }
+
+    private void retry(final List<VideoMediaCleanupJpaEntity> cleanups) {
+        final var now = InstantUtils.now();
+        cleanups.forEach(it -> it.retryAt(now.plus(backoff(it.getAttempts()))));
+        this.cleanupRepository.saveAll(cleanups);
+    }
+
+    private Duration backoff(final int attempts) {
+        final var backoff = this.props.getInitialBackoff().multipliedBy(1L << Math.min(attempts, 20));
+        return backoff.compareTo(this.props.getMaxBackoff()) > 0 ? this.props.getMaxBackoff() : backoff;
+    }
+}
@@ -0,0 +1,31 @@
+package com.tcs.admin.catalog.infrastructure.video.persistence;
+
+import com.tcs.admin.catalog.domain.video.MediaStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface AudioVideoMediaRepository extends JpaRepository<AudioVideoMediaJpaEntity, String> {
+
+    /**
+     * Compare-and-set on the media status: the row only changes while its status is one of
+     * {@code expected}, so concurrent or repeated results for the same media apply at most once.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update AudioVideoMedia m
+            set m.status = :status, m.encodedPath = coalesce(:encodedPath, m.encodedPath)
+            where m.id = :id and m.status in :expected
+            and exists (select 1 from Video v where v.id = :videoId and (v.video.id = m.id or v.trailer.id = m.id))
+            """)
+    int updateStatus(
+            @Param("videoId") String videoId,
+            @Param("id") String id,
+            @Param("status") MediaStatus status,
+            @Param("encodedPath") String encodedPath,
+            @Param("expected") Collection<MediaStatus> expected
+    );
+}
@@ -0,0 +1,83 @@
+package com.tcs.admin.catalog.infrastructure.video.persistence;
+
+import com.tcs.admin.catalog.domain.utils.IdUtils;
+import com.tcs.admin.catalog.domain.utils.InstantUtils;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+/**
+ * Failure reported by the encoder for a video media, kept for troubleshooting since the media
+ * itself only records that it ended in {@code ERROR}.
+ */
+@Entity(name = "VideoEncoderError")
+@Table(name = "videos_encoder_errors")
+public class VideoEncoderErrorJpaEntity {
+
+    private static final int MAX_ERROR_LENGTH = 4000;
+
+    @Id
+    private String id;
+
+    @Column(name = "video_id", nullable = false)
+    private String videoId;
+
+    @Column(name = "file_path", nullable = false)
+    private String filePath;
+
+    @Column(name = "reason", nullable = false, length = MAX_ERROR_LENGTH)
+    private String error;
+
+    @Column(name = "occurred_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant occurredAt;
+
+    public VideoEncoderErrorJpaEntity() {}
+
+    private VideoEncoderErrorJpaEntity(
+            final String id,
+            final String videoId,
+            final String filePath,
+            final String error,
+            final Instant occurredAt
+    ) {
+        this.id = id;
+        this.videoId = videoId;
+        this.filePath = filePath;
+        this.error = error;
+        this.occurredAt = occurredAt;
+    }
+
+    public static VideoEncoderErrorJpaEntity with(final String videoId, final String filePath, final String error) {
+        final var message = error == null ? "" : error;
+        return new VideoEncoderErrorJpaEntity(
+                IdUtils.uuid(),
+                videoId,
+                filePath,
+                message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message,
+                InstantUtils.now()
+        );
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+}
@@ -0,0 +1,18 @@
+package com.tcs.admin.catalog.infrastructure.video.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface VideoEncoderErrorRepository extends JpaRepository<VideoEncoderErrorJpaEntity, String> {
+
+    List<VideoEncoderErrorJpaEntity> findAllByVideoIdOrderByOccurredAt(String videoId);
+
+    @Modifying
+    @Query("delete from VideoEncoderError e where e.videoId in :videoIds")
+    int deleteAllByVideoIdIn(@Param("videoIds") Collection<String> videoIds);
+}
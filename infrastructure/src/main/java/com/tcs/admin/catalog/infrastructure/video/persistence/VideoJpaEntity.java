@@ -3,21 +3,27 @@ package com.tcs.admin.catalog.infrastructure.video.persistence;
 import com.tcs.admin.catalog.domain.castmember.CastMemberID;
 import com.tcs.admin.catalog.domain.category.CategoryID;
 import com.tcs.admin.catalog.domain.genre.GenreID;
+import com.tcs.admin.catalog.domain.Identifier;
 import com.tcs.admin.catalog.domain.utils.CollectionUtils;
+import com.tcs.admin.catalog.domain.video.AudioVideoMedia;
 import com.tcs.admin.catalog.domain.video.Rating;
 import com.tcs.admin.catalog.domain.video.Video;
 import com.tcs.admin.catalog.domain.video.VideoID;
 import jakarta.persistence.*;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.Instant;
 import java.time.Year;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Entity(name = "Video")
 @Table(name = "videos")
+@SQLRestriction("deleted_at IS NULL") // Soft deleted rows are only reached natively, by the media reaper
 public class VideoJpaEntity {
 
     @Id
@@ -47,6 +53,9 @@ public class VideoJpaEntity {
     @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
     private Instant updatedAt;
 
+    @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
+    private Instant deletedAt;
+
     @OneToOne(cascade = CascadeType.ALL, orphanRemoval = true)
     @JoinColumn(name = "video_id")
     private AudioVideoMediaJpaEntity video;
@@ -151,6 +160,73 @@ public class VideoJpaEntity {
         return anEntity;
     }
 
+    /**
+     * Applies {@code aVideo} onto this managed entity. Join rows and medias are only added or
+     * removed when they differ, so flushing issues statements for the actual changes instead of
+     * rewriting every association.
+     */
+    public VideoJpaEntity update(final Video aVideo) {
+        this.title = aVideo.getTitle();
+        this.description = aVideo.getDescription();
+        this.yearLaunched = aVideo.getLaunchedAt().getValue();
+        this.opened = aVideo.isOpened();
+        this.published = aVideo.isPublished();
+        this.rating = aVideo.getRating();
+        this.duration = aVideo.getDuration();
+        this.updatedAt = aVideo.getUpdatedAt();
+
+        this.video = merge(this.video, aVideo.getVideo().orElse(null));
+        this.trailer = merge(this.trailer, aVideo.getTrailer().orElse(null));
+        this.banner = merge(this.banner, aVideo.getBanner().map(ImageMediaJpaEntity::from).orElse(null));
+        this.thumbnail = merge(this.thumbnail, aVideo.getThumbnail().map(ImageMediaJpaEntity::from).orElse(null));
+        this.thumbnailHalf = merge(this.thumbnailHalf, aVideo.getThumbnailHalf().map(ImageMediaJpaEntity::from).orElse(null));
+
+        sync(this.categories, aVideo.getCategories(), it -> it.getId().getCategoryId(), CategoryID::from, this::addCategory);
+        sync(this.genres, aVideo.getGenres(), it -> it.getId().getGenreId(), GenreID::from, this::addGenre);
+        sync(this.castMembers, aVideo.getCastMembers(), it -> it.getId().getCastMemberId(), CastMemberID::from, this::addCastMember);
+
+        return this;
+    }
+
+    private static AudioVideoMediaJpaEntity merge(final AudioVideoMediaJpaEntity current, final AudioVideoMedia aMedia) {
+        if (aMedia == null) {
+            return null;
+        }
+        if (current == null || !current.getId().equals(aMedia.id())) {
+            return AudioVideoMediaJpaEntity.from(aMedia);
+        }
+        current.setChecksum(aMedia.checksum());
+        current.setName(aMedia.name());
+        current.setFilePath(aMedia.rawLocation());
+        current.setEncodedPath(aMedia.encodedLocation());
+        current.setStatus(aMedia.status());
+        return current;
+    }
+
+    private static ImageMediaJpaEntity merge(final ImageMediaJpaEntity current, final ImageMediaJpaEntity target) {
+        if (target == null) {
+            return null;
+        }
+        return current != null && current.getId().equals(target.getId()) ? current : target;
+    }
+
+    private static <T, ID extends Identifier> void sync(
+            final Set<T> current,
+            final Set<ID> target,
+            final Function<T, String> idOf,
+            final Function<String, ID> toId,
+            final Consumer<ID> add
+    ) {
+        final var targetIds = CollectionUtils.mapTo(target, Identifier::getValue);
+        current.removeIf(it -> !targetIds.contains(idOf.apply(it)));
+
+        final var currentIds = CollectionUtils.mapTo(current, idOf);
+        targetIds.stream()
+                .filter(id -> !currentIds.contains(id))
+                .map(toId)
+                .forEach(add);
+    }
+
     public Video toDomain() {
         return Video.with(
                 VideoID.from(getId()),
@@ -282,6 +358,14 @@ public class VideoJpaEntity {
         this.updatedAt = updatedAt;
     }
 
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(Instant deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
     public AudioVideoMediaJpaEntity getVideo() {
         return video;
     }
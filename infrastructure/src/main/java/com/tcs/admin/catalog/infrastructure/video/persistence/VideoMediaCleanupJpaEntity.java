@@ -0,0 +1,61 @@
+package com.tcs.admin.catalog.infrastructure.video.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+@Entity(name = "VideoMediaCleanup")
+@Table(name = "videos_media_cleanup")
+public class VideoMediaCleanupJpaEntity {
+
+    @Id
+    @Column(name = "video_id")
+    private String videoId;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant nextAttemptAt;
+
+    @Column(name = "claimed_by")
+    private String claimedBy;
+
+    public VideoMediaCleanupJpaEntity() {}
+
+    private VideoMediaCleanupJpaEntity(final String videoId, final Instant nextAttemptAt) {
+        this.videoId = videoId;
+        this.attempts = 0;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public static VideoMediaCleanupJpaEntity with(final String videoId, final Instant nextAttemptAt) {
+        return new VideoMediaCleanupJpaEntity(videoId, nextAttemptAt);
+    }
+
+    public VideoMediaCleanupJpaEntity retryAt(final Instant nextAttemptAt) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+        this.claimedBy = null;
+        return this;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public String getClaimedBy() {
+        return claimedBy;
+    }
+}
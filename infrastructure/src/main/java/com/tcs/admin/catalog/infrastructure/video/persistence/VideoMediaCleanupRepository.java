@@ -0,0 +1,42 @@
+package com.tcs.admin.catalog.infrastructure.video.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface VideoMediaCleanupRepository extends JpaRepository<VideoMediaCleanupJpaEntity, String> {
+
+    @Query("""
+            select c.videoId from VideoMediaCleanup c
+            where c.nextAttemptAt <= :now
+            order by c.nextAttemptAt
+            """)
+    List<String> findDue(@Param("now") Instant now, Pageable page);
+
+    /**
+     * Claims the given cleanups for {@code owner} until {@code leaseUntil}, skipping the ones
+     * claimed meanwhile by another reaper. A reaper that dies holding a claim lets it lapse,
+     * and the cleanup becomes due again.
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+            update VideoMediaCleanup c set c.claimedBy = :owner, c.nextAttemptAt = :leaseUntil
+            where c.videoId in :ids and c.nextAttemptAt <= :now
+            """)
+    int claim(
+            @Param("ids") Collection<String> ids,
+            @Param("owner") String owner,
+            @Param("now") Instant now,
+            @Param("leaseUntil") Instant leaseUntil
+    );
+
+    List<VideoMediaCleanupJpaEntity> findAllByClaimedByAndVideoIdIn(String owner, Collection<String> ids);
+}
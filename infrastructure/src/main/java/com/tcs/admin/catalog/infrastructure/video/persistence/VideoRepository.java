@@ -1,42 +1,84 @@
 package com.tcs.admin.catalog.infrastructure.video.persistence;
 
 import com.tcs.admin.catalog.domain.video.VideoPreview;
-import org.springframework.data.domain.Page;
+import com.tcs.admin.catalog.infrastructure.search.SearchDocument;
+import com.tcs.admin.catalog.infrastructure.utils.BulkUtils;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-import java.util.Set;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface VideoRepository extends JpaRepository<VideoJpaEntity, String> {
+public interface VideoRepository extends JpaRepository<VideoJpaEntity, String>, VideoSearchRepository {
+
+    /**
+     * Loads the video with its medias, categories and genres in a single statement. Cast members
+     * are left to a second one: joining a third collection would multiply the rows returned.
+     */
+    @EntityGraph(attributePaths = {"video", "trailer", "banner", "thumbnail", "thumbnailHalf", "categories", "genres"})
+    Optional<VideoJpaEntity> findWithAssociationsById(String id);
+
+    @Modifying
+    @Query("update Video v set v.updatedAt = :updatedAt where v.id = :id")
+    int touch(@Param("id") String id, @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * Marks the video as deleted, hiding it from every other query. Its rows are purged by the
+     * media reaper once the medias are gone from the storage.
+     */
+    @Modifying
+    @Query("update Video v set v.deletedAt = :deletedAt, v.updatedAt = :deletedAt where v.id = :id and v.deletedAt is null")
+    int softDelete(@Param("id") String id, @Param("deletedAt") Instant deletedAt);
+
+    @Modifying
+    @Query("delete from VideoCategory vc where vc.id.videoId = :id")
+    int deleteCategories(@Param("id") String id);
+
+    @Modifying
+    @Query("delete from VideoGenre vg where vg.id.videoId = :id")
+    int deleteGenres(@Param("id") String id);
+
+    @Modifying
+    @Query("delete from VideoCastMember vcm where vcm.id.videoId = :id")
+    int deleteCastMembers(@Param("id") String id);
+
+    @Query("select v.id from Video v where v.id in :ids")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
+
+    @Query(value = "SELECT * FROM videos WHERE id IN :ids AND deleted_at IS NOT NULL", nativeQuery = true)
+    List<VideoJpaEntity> findDeletedByIds(@Param("ids") Collection<String> ids);
+
+    @Query("select new com.tcs.admin.catalog.infrastructure.search.SearchDocument(v.id, v.title) from Video v")
+    List<SearchDocument> findAllSearchDocuments();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + BulkUtils.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.tcs.admin.catalog.domain.video.VideoPreview(v.id, v.title, v.description, v.createdAt, v.updatedAt) from Video v order by v.id")
+    Stream<VideoPreview> streamPreviews();
 
     @Query("""
-            select distinct new com.tcs.admin.catalog.domain.video.VideoPreview(
-                v.id as id,
-                v.title as title,
-                v.description as description,
-                v.createdAt as createdAt,
-                v.updatedAt as updatedAt
-            )
+            select new com.tcs.admin.catalog.domain.video.VideoPreview(v.id, v.title, v.description, v.createdAt, v.updatedAt)
             from Video v
-                left join v.categories categories
-                left join v.genres genres
-                left join v.castMembers members
-            where
-                ( :terms is null or UPPER(v.title) like :terms )
-            and
-                ( :categories is null or categories.id.categoryId in :categories )
-            and
-                ( :genres is null or genres.id.genreId in :genres )
-            and
-                ( :castMembers is null or members.id.castMemberId in :castMembers )
+            where (v.updatedAt > :changedAt or (v.updatedAt = :changedAt and v.id > :id))
+              and v.updatedAt <= :until
+            order by v.updatedAt, v.id
             """)
-    Page<VideoPreview> findAll(
-            @Param("terms") String terms,
-            @Param("categories") Set<String> categories,
-            @Param("genres") Set<String> genres,
-            @Param("castMembers") Set<String> castMembers,
+    List<VideoPreview> findChangedAfter(
+            @Param("changedAt") Instant changedAt,
+            @Param("id") String id,
+            @Param("until") Instant until,
             Pageable page
     );
 }
@@ -0,0 +1,36 @@
+package com.tcs.admin.catalog.infrastructure.video.persistence;
+
+import com.tcs.admin.catalog.domain.pagination.Pagination;
+import com.tcs.admin.catalog.domain.video.VideoPreview;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Set;
+
+/**
+ * Video preview listing. The terms come as a specification built by the configured search
+ * strategy; categories, genres and cast members are matched with {@code EXISTS} subqueries so
+ * combining filters does not multiply rows.
+ */
+public interface VideoSearchRepository {
+
+    Page<VideoPreview> search(
+            Specification<VideoJpaEntity> terms,
+            Set<String> categories,
+            Set<String> genres,
+            Set<String> castMembers,
+            Pageable page
+    );
+
+    Pagination<VideoPreview> seek(
+            Specification<VideoJpaEntity> terms,
+            Set<String> categories,
+            Set<String> genres,
+            Set<String> castMembers,
+            String sort,
+            String direction,
+            String cursor,
+            int perPage
+    );
+}
@@ -0,0 +1,191 @@
+package com.tcs.admin.catalog.infrastructure.video.persistence;
+
+import com.tcs.admin.catalog.domain.pagination.Pagination;
+import com.tcs.admin.catalog.domain.video.VideoPreview;
+import com.tcs.admin.catalog.infrastructure.utils.Cursor;
+import com.tcs.admin.catalog.infrastructure.utils.KeysetUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+public class VideoSearchRepositoryImpl implements VideoSearchRepository {
+
+    // Positions of the selected columns, the sort key goes last when seeking
+    private static final int ID = 0;
+    private static final int TITLE = 1;
+    private static final int DESCRIPTION = 2;
+    private static final int CREATED_AT = 3;
+    private static final int UPDATED_AT = 4;
+    private static final int SORT_KEY = 5;
+
+    private final EntityManager entityManager;
+
+    public VideoSearchRepositoryImpl(final EntityManager entityManager) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+    }
+
+    @Override
+    public Page<VideoPreview> search(
+            final Specification<VideoJpaEntity> terms,
+            final Set<String> categories,
+            final Set<String> genres,
+            final Set<String> castMembers,
+            final Pageable page
+    ) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createTupleQuery();
+        final var video = query.from(VideoJpaEntity.class);
+
+        final var predicates = filters(query, cb, video, terms, categories, genres, castMembers);
+
+        query.multiselect(previewColumns(video))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(toOrders(page.getSort(), video, cb));
+
+        final var rows = this.entityManager.createQuery(query)
+                .setFirstResult((int) page.getOffset())
+                .setMaxResults(page.getPageSize())
+                .getResultList();
+
+        return PageableExecutionUtils.getPage(
+                rows.stream().map(VideoSearchRepositoryImpl::previewOf).toList(),
+                page,
+                () -> count(terms, categories, genres, castMembers)
+        );
+    }
+
+    @Override
+    public Pagination<VideoPreview> seek(
+            final Specification<VideoJpaEntity> terms,
+            final Set<String> categories,
+            final Set<String> genres,
+            final Set<String> castMembers,
+            final String sort,
+            final String direction,
+            final String cursor,
+            final int perPage
+    ) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createTupleQuery();
+        final var video = query.from(VideoJpaEntity.class);
+
+        final var aDirection = Sort.Direction.fromString(direction);
+        final Path<?> sortPath = video.get(sort);
+        final Path<String> idPath = video.get(KeysetUtils.ID);
+
+        final var predicates = filters(query, cb, video, terms, categories, genres, castMembers);
+
+        final var after = KeysetUtils.after(cb, sortPath, idPath, aDirection, Cursor.decode(cursor));
+        if (after != null) {
+            predicates.add(after);
+        }
+
+        final var selections = new ArrayList<>(previewColumns(video));
+        selections.add(sortPath);
+
+        query.multiselect(selections)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(KeysetUtils.orderOf(cb, sortPath, aDirection), KeysetUtils.orderOf(cb, idPath, aDirection));
+
+        final var rows = this.entityManager.createQuery(query)
+                .setMaxResults(perPage + 1)
+                .getResultList();
+
+        return KeysetUtils.page(rows, perPage, row -> Cursor.of(row.get(SORT_KEY), row.get(ID, String.class)))
+                .map(VideoSearchRepositoryImpl::previewOf);
+    }
+
+    private long count(
+            final Specification<VideoJpaEntity> terms,
+            final Set<String> categories,
+            final Set<String> genres,
+            final Set<String> castMembers
+    ) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(Long.class);
+        final var video = query.from(VideoJpaEntity.class);
+
+        final var predicates = filters(query, cb, video, terms, categories, genres, castMembers);
+        query.select(cb.count(video)).where(predicates.toArray(Predicate[]::new));
+
+        return this.entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static List<Predicate> filters(
+            final CriteriaQuery<?> query,
+            final CriteriaBuilder cb,
+            final Root<VideoJpaEntity> video,
+            final Specification<VideoJpaEntity> terms,
+            final Set<String> categories,
+            final Set<String> genres,
+            final Set<String> castMembers
+    ) {
+        final var predicates = new ArrayList<Predicate>();
+        if (terms != null) {
+            final var matching = terms.toPredicate(video, query, cb);
+            if (matching != null) {
+                predicates.add(matching);
+            }
+        }
+        if (categories != null) {
+            predicates.add(exists(query, cb, video, VideoCategoryJpaEntity.class, "categoryId", categories));
+        }
+        if (genres != null) {
+            predicates.add(exists(query, cb, video, VideoGenreJpaEntity.class, "genreId", genres));
+        }
+        if (castMembers != null) {
+            predicates.add(exists(query, cb, video, VideoCastMemberJpaEntity.class, "castMemberId", castMembers));
+        }
+        return predicates;
+    }
+
+    private static Predicate exists(
+            final CriteriaQuery<?> query,
+            final CriteriaBuilder cb,
+            final Root<VideoJpaEntity> video,
+            final Class<?> association,
+            final String attribute,
+            final Set<String> ids
+    ) {
+        final var subquery = query.subquery(Integer.class);
+        final var relation = subquery.from(association);
+        subquery.select(cb.literal(1)).where(
+                cb.equal(relation.get("id").get("videoId"), video.get(KeysetUtils.ID)),
+                relation.get("id").get(attribute).in(ids)
+        );
+        return cb.exists(subquery);
+    }
+
+    private static List<Selection<?>> previewColumns(final Root<VideoJpaEntity> video) {
+        return List.of(
+                video.get(KeysetUtils.ID),
+                video.get("title"),
+                video.get("description"),
+                video.get("createdAt"),
+                video.get("updatedAt")
+        );
+    }
+
+    private static VideoPreview previewOf(final Tuple row) {
+        return new VideoPreview(
+                row.get(ID, String.class),
+                row.get(TITLE, String.class),
+                row.get(DESCRIPTION, String.class),
+                row.get(CREATED_AT, Instant.class),
+                row.get(UPDATED_AT, Instant.class)
+        );
+    }
+}
@@ -0,0 +1,3 @@
+DROP TABLE videos_media_cleanup;
+
+ALTER TABLE videos DROP COLUMN deleted_at;
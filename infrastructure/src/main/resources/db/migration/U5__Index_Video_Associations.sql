@@ -0,0 +1,6 @@
+CREATE INDEX fk_vcs_category_id ON videos_categories (category_id);
+CREATE INDEX fk_vgs_genre_id ON videos_genres (genre_id);
+CREATE INDEX fk_vcms_genre_id ON videos_cast_members (cast_member_id);
+DROP INDEX idx_vcs_category_video ON videos_categories;
+DROP INDEX idx_vgs_genre_video ON videos_genres;
+DROP INDEX idx_vcms_member_video ON videos_cast_members;
@@ -0,0 +1 @@
+DROP TABLE videos_encoder_errors;
\ No newline at end of file
@@ -0,0 +1,6 @@
+DROP TABLE tombstones;
+
+DROP INDEX idx_v_updated_at_id ON videos;
+DROP INDEX idx_cm_updated_at_id ON cast_members;
+DROP INDEX idx_g_updated_at_id ON genres;
+DROP INDEX idx_c_updated_at_id ON categories;
@@ -0,0 +1,10 @@
+ALTER TABLE videos ADD COLUMN deleted_at DATETIME(6) NULL;
+
+CREATE TABLE videos_media_cleanup (
+    video_id CHAR(32) NOT NULL PRIMARY KEY,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    claimed_by CHAR(32) NULL
+);
+
+CREATE INDEX idx_vmc_next_attempt_at ON videos_media_cleanup (next_attempt_at);
@@ -0,0 +1,11 @@
+CREATE TABLE events_outbox (
+    id CHAR(32) NOT NULL PRIMARY KEY,
+    exchange VARCHAR(255) NOT NULL,
+    routing_key VARCHAR(255) NOT NULL,
+    payload VARCHAR(4000) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    claimed_by CHAR(32) NULL,
+    claimed_at DATETIME(6) NULL
+);
+
+CREATE INDEX idx_eo_created_at ON events_outbox (created_at);
@@ -0,0 +1,9 @@
+CREATE TABLE videos_encoder_errors (
+    id CHAR(32) NOT NULL PRIMARY KEY,
+    video_id CHAR(32) NOT NULL,
+    file_path VARCHAR(500) NOT NULL,
+    reason VARCHAR(4000) NOT NULL,
+    occurred_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_vee_video_id ON videos_encoder_errors (video_id, occurred_at);
@@ -0,0 +1,4 @@
+CREATE FULLTEXT INDEX ftx_categories_name_description ON categories (name, description);
+CREATE FULLTEXT INDEX ftx_genres_name ON genres (name);
+CREATE FULLTEXT INDEX ftx_cast_members_name ON cast_members (name);
+CREATE FULLTEXT INDEX ftx_videos_title ON videos (title);
@@ -1,5 +1,6 @@
 package com.tcs.admin.catalog;
 
+import com.tcs.admin.catalog.infrastructure.configuration.CacheConfig;
 import com.tcs.admin.catalog.infrastructure.configuration.ObjectMapperConfig;
 import org.junit.jupiter.api.Tag;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -14,7 +15,7 @@ import java.lang.annotation.*;
 @Inherited
 @ActiveProfiles("test-integration")
 @WebMvcTest
-@Import(ObjectMapperConfig.class)
+@Import({ObjectMapperConfig.class, CacheConfig.class})
 @Tag("integrationTest")
 public @interface ControllerTest {
 
@@ -17,7 +17,7 @@ import java.lang.annotation.*;
         basePackages = "com.tcs.admin.catalog",
         useDefaultFilters = false,
         includeFilters = {
-            @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*MySQLGateway")
+            @ComponentScan.Filter(type = FilterType.REGEX, pattern = {".*MySQLGateway", ".*CacheConfig", ".*SearchConfig", ".*ChangesConfig"})
 })
 @Tag("integrationTest")
 public @interface MySQLGatewayTest {
@@ -0,0 +1,54 @@
+package com.tcs.admin.catalog.infrastructure.amqp;
+
+import com.tcs.admin.catalog.AmqpTest;
+import com.tcs.admin.catalog.domain.category.Category;
+import com.tcs.admin.catalog.domain.utils.IdUtils;
+import com.tcs.admin.catalog.infrastructure.cache.ReferenceCache;
+import com.tcs.admin.catalog.infrastructure.cache.ReferenceCacheInvalidated;
+import com.tcs.admin.catalog.infrastructure.configuration.annotations.CacheInvalidationQueue;
+import com.tcs.admin.catalog.infrastructure.configuration.json.Json;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.test.RabbitListenerTestHarness;
+import org.springframework.amqp.rabbit.test.TestRabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@AmqpTest
+public class CacheInvalidationListenerTest {
+
+    @Autowired
+    private TestRabbitTemplate rabbitTemplate;
+
+    @Autowired
+    private RabbitListenerTestHarness harness;
+
+    @Autowired
+    private ReferenceCache<Category> categoryCache;
+
+    @Autowired
+    @CacheInvalidationQueue
+    private Queue queue;
+
+    @Test
+    public void givenInvalidationMessage_whenCallsListener_thenEvictEntry() throws InterruptedException {
+        final var expectedId = IdUtils.uuid();
+        categoryCache.existsByIds(List.of(expectedId), ids -> List.of(expectedId));
+
+        final var expectedMessage =
+                Json.writeValueAsString(new ReferenceCacheInvalidated(categoryCache.name(), expectedId));
+
+        this.rabbitTemplate.convertAndSend(queue.getName(), expectedMessage);
+
+        final var invocationData =
+                harness.getNextInvocationDataFor(CacheInvalidationListener.LISTENER_ID, 1, TimeUnit.SECONDS);
+
+        Assertions.assertNotNull(invocationData);
+        Assertions.assertEquals(expectedMessage, invocationData.getArguments()[0]);
+        Assertions.assertEquals(Set.of(expectedId), categoryCache.lookup(List.of(expectedId)).unknown());
+    }
+}
@@ -0,0 +1,51 @@
+package com.tcs.admin.catalog.infrastructure.amqp;
+
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.impl.AMQImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.rabbit.connection.Connection;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class CacheInvalidationTopologyTest {
+
+    @Test
+    public void givenNewConnection_whenCreated_thenDeclareExchangeQueueAndBinding() throws Exception {
+        final var connectionFactory = mock(ConnectionFactory.class);
+        final var connection = mock(Connection.class);
+        final var channel = mock(Channel.class);
+        final var exchange = new FanoutExchange("catalog.cache.invalidation");
+        final var queue = new AnonymousQueue();
+
+        given(connectionFactory.createConnection()).willReturn(connection);
+        given(connection.createChannel(anyBoolean())).willReturn(channel);
+        given(channel.isOpen()).willReturn(true);
+        given(channel.queueDeclare(anyString(), anyBoolean(), anyBoolean(), anyBoolean(), any()))
+                .willReturn(new AMQImpl.Queue.DeclareOk(queue.getName(), 0, 0));
+
+        final var topology = new CacheInvalidationTopology(
+                connectionFactory,
+                exchange,
+                queue,
+                BindingBuilder.bind(queue).to(exchange)
+        );
+
+        verify(connectionFactory).addConnectionListener(topology);
+
+        topology.onCreate(connection);
+
+        verify(channel).exchangeDeclare(eq(exchange.getName()), eq("fanout"), anyBoolean(), anyBoolean(), anyBoolean(), any());
+        verify(channel).queueDeclare(eq(queue.getName()), anyBoolean(), eq(true), eq(true), any());
+        verify(channel).queueBind(eq(queue.getName()), eq(exchange.getName()), eq(""), any());
+    }
+}
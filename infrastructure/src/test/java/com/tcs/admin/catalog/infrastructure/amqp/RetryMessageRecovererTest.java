@@ -0,0 +1,68 @@
+package com.tcs.admin.catalog.infrastructure.amqp;
+
+import com.tcs.admin.catalog.infrastructure.configuration.properties.amqp.RetryProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+public class RetryMessageRecovererTest {
+
+    private static final String DLX = "video.encoded.dlx";
+
+    private RabbitOperations ops;
+
+    private RetryMessageRecoverer recoverer;
+
+    @BeforeEach
+    void setUp() {
+        this.ops = Mockito.mock(RabbitOperations.class);
+        this.recoverer = new RetryMessageRecoverer(ops, new RetryProperties()
+                .setExchange(DLX)
+                .setDelays(List.of(Duration.ofSeconds(1), Duration.ofSeconds(10)))
+                .setParkingLot("video.encoded.parking-lot"));
+    }
+
+    @Test
+    public void givenFailingMessage_whenCallsRecover_thenMoveThroughRetriesAndPark() {
+        final var message = new Message("{}".getBytes(), new MessageProperties());
+        final var cause = new ListenerExecutionFailedException("failed", new IllegalStateException("boom"), message);
+
+        recoverer.recover(message, cause);
+        verify(ops).send(DLX, "retry.0", message);
+        Assertions.assertEquals(1, message.getMessageProperties().<Integer>getHeader(RetryMessageRecoverer.RETRIES_HEADER));
+        Assertions.assertEquals("boom", message.getMessageProperties().getHeader(RetryMessageRecoverer.EXCEPTION_HEADER));
+
+        recoverer.recover(message, cause);
+        verify(ops).send(DLX, "retry.1", message);
+
+        recoverer.recover(message, cause);
+        verify(ops).send(DLX, RetryMessageRecoverer.PARKING_LOT_KEY, message);
+        verifyNoMoreInteractions(ops);
+    }
+
+    @Test
+    public void givenUnprocessableMessage_whenCallsRecover_thenParkIt() {
+        final var message = new Message("???".getBytes(), new MessageProperties());
+        final var cause = new ListenerExecutionFailedException(
+                "failed",
+                new AmqpRejectAndDontRequeueException("Unreadable video encoder result"),
+                message
+        );
+
+        recoverer.recover(message, cause);
+
+        verify(ops).send(DLX, RetryMessageRecoverer.PARKING_LOT_KEY, message);
+        verifyNoMoreInteractions(ops);
+    }
+}
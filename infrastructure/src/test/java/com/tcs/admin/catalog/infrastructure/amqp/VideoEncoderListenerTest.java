@@ -12,6 +12,7 @@ import com.tcs.admin.catalog.infrastructure.video.models.VideoEncoderCompleted;
 import com.tcs.admin.catalog.infrastructure.video.models.VideoEncoderError;
 import com.tcs.admin.catalog.infrastructure.video.models.VideoMessage;
 import com.tcs.admin.catalog.infrastructure.video.models.VideoMetadata;
+import com.tcs.admin.catalog.infrastructure.video.persistence.VideoEncoderErrorRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -38,14 +39,18 @@ public class VideoEncoderListenerTest {
     @MockitoBean
     private UpdateMediaStatusUseCase updateMediaStatusUseCase;
 
+    @Autowired
+    private VideoEncoderErrorRepository videoEncoderErrorRepository;
+
     @Autowired
     @VideoEncodedQueue
     private QueueProperties queueProperties;
 
     @Test
     public void givenErrorResult_whenCallsListener_thenProcess() throws InterruptedException {
+        final var expectedVideoId = IdUtils.uuid();
         final var expectedError = new VideoEncoderError(
-                new VideoMessage("123", "abc"),
+                new VideoMessage(expectedVideoId, "abc"),
                 "video not found"
         );
 
@@ -61,6 +66,21 @@ public class VideoEncoderListenerTest {
 
         final var actualMessage = (String) invocationData.getArguments()[0];
         Assertions.assertEquals(expectedMessage, actualMessage);
+
+        final var cmdCaptor = ArgumentCaptor.forClass(UpdateMediaStatusCommand.class);
+
+        verify(updateMediaStatusUseCase).execute(cmdCaptor.capture());
+
+        final var actualCommand = cmdCaptor.getValue();
+        Assertions.assertEquals(expectedVideoId, actualCommand.videoId());
+        Assertions.assertEquals(MediaStatus.ERROR, actualCommand.status());
+        Assertions.assertEquals("abc", actualCommand.rawLocation());
+        Assertions.assertNull(actualCommand.resourceId());
+
+        final var actualErrors = videoEncoderErrorRepository.findAllByVideoIdOrderByOccurredAt(expectedVideoId);
+        Assertions.assertEquals(1, actualErrors.size());
+        Assertions.assertEquals("abc", actualErrors.get(0).getFilePath());
+        Assertions.assertEquals("video not found", actualErrors.get(0).getError());
     }
 
     @Test
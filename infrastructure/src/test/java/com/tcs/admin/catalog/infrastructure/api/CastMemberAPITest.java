@@ -3,9 +3,13 @@ package com.tcs.admin.catalog.infrastructure.api;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tcs.admin.catalog.ApiTest;
 import com.tcs.admin.catalog.ControllerTest;
+import com.tcs.admin.catalog.application.castmember.bulk.BulkCreateCastMembersOutput;
+import com.tcs.admin.catalog.application.castmember.bulk.DefaultBulkCreateCastMembersUseCase;
 import com.tcs.admin.catalog.application.castmember.create.CreateCastMemberOutput;
 import com.tcs.admin.catalog.application.castmember.create.DefaultCreateCastMemberUseCase;
 import com.tcs.admin.catalog.application.castmember.delete.DefaultDeleteCastMemberUseCase;
+import com.tcs.admin.catalog.application.castmember.retrieve.changes.DefaultListCastMemberChangesUseCase;
+import com.tcs.admin.catalog.application.castmember.retrieve.export.DefaultExportCastMembersUseCase;
 import com.tcs.admin.catalog.application.castmember.retrieve.get.CastMemberOutput;
 import com.tcs.admin.catalog.application.castmember.retrieve.get.DefaultGetCastMemberByIdUseCase;
 import com.tcs.admin.catalog.application.castmember.retrieve.list.CastMemberListOutput;
@@ -24,6 +28,7 @@ import com.tcs.admin.catalog.infrastructure.castmember.models.UpdateCastMemberRe
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -50,9 +55,18 @@ public class CastMemberAPITest {
     @MockitoBean
     private DefaultCreateCastMemberUseCase createCastMemberUseCase;
 
+    @MockitoBean
+    private DefaultBulkCreateCastMembersUseCase bulkCreateCastMembersUseCase;
+
     @MockitoBean
     private DefaultDeleteCastMemberUseCase deleteCastMemberUseCase;
 
+    @MockitoBean
+    private DefaultExportCastMembersUseCase exportCastMembersUseCase;
+
+    @MockitoBean
+    private DefaultListCastMemberChangesUseCase listCastMemberChangesUseCase;
+
     @MockitoBean
     private DefaultGetCastMemberByIdUseCase getCastMemberByIdUseCase;
 
@@ -121,6 +135,36 @@ public class CastMemberAPITest {
         ));
     }
 
+    @Test
+    public void givenValidCommands_whenCallsCreateAll_thenReturnIds() throws Exception {
+        final var expectedIds = List.of("123", "456");
+
+        final var anInput = List.of(
+                new CreateCastMemberRequest("Vin Diesel", CastMemberType.ACTOR),
+                new CreateCastMemberRequest("Justin Lin", CastMemberType.DIRECTOR)
+        );
+
+        when(bulkCreateCastMembersUseCase.execute(any()))
+                .thenReturn(new BulkCreateCastMembersOutput(expectedIds));
+
+        final var request = MockMvcRequestBuilders.post("/cast_members/bulk")
+                .with(ApiTest.CAST_MEMBERS_JWT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(anInput));
+
+        this.mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.ids", Matchers.equalTo(expectedIds)));
+
+        verify(bulkCreateCastMembersUseCase, times(1)).execute(argThat(cmd ->
+                cmd.items().size() == 2
+                        && Objects.equals("Vin Diesel", cmd.items().get(0).name())
+                        && Objects.equals(CastMemberType.DIRECTOR, cmd.items().get(1).type())
+        ));
+    }
+
     @Test
     public void givenValidId_whenCallsGetCastMember_thenReturnIt() throws Exception {
         final var expectedName = "Vin Diesel";
@@ -149,6 +193,34 @@ public class CastMemberAPITest {
         verify(getCastMemberByIdUseCase, times(1)).execute(expectedId);
     }
 
+    @Test
+    public void givenMatchingETag_whenCallsGetCastMember_thenReturnNotModified() throws Exception {
+        final var aCastMember = CastMember.newMember("Vin Diesel", CastMemberType.ACTOR);
+        final var expectedId = aCastMember.getId().getValue();
+
+        when(getCastMemberByIdUseCase.execute(any()))
+                .thenReturn(CastMemberOutput.from(aCastMember));
+
+        final var eTag = this.mockMvc.perform(MockMvcRequestBuilders.get("/cast_members/{id}", expectedId)
+                        .with(ApiTest.CAST_MEMBERS_JWT))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        final var request = MockMvcRequestBuilders.get("/cast_members/{id}", expectedId)
+                .with(ApiTest.CAST_MEMBERS_JWT)
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"other\", " + eTag);
+
+        this.mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+        verify(getCastMemberByIdUseCase, times(1)).execute(expectedId);
+    }
+
     @Test
     public void givenInvalidId_whenCallsGetCastMember_thenReturnNotFound() throws Exception {
         final var expectedErrorMessage = "CastMember with ID 123 was not found";
@@ -324,6 +396,41 @@ public class CastMemberAPITest {
         ));
     }
 
+    @Test
+    public void givenCursor_whenCallsListCastMember_thenSeekAndReturnNextCursor() throws Exception {
+        final var expectedItems = List.of(CastMemberListOutput.from(CastMember.newMember("Vin Diesel", CastMemberType.ACTOR)));
+        final var expectedPerPage = 10;
+        final var expectedSort = "name";
+        final var expectedDirection = "desc";
+        final var expectedCursor = "abc";
+        final var expectedNextCursor = "def";
+
+        when(listCastMembersUseCase.execute(any()))
+                .thenReturn(Pagination.keyset(expectedPerPage, expectedItems, expectedNextCursor));
+
+        final var request = MockMvcRequestBuilders.get("/cast_members")
+                .with(ApiTest.CAST_MEMBERS_JWT)
+                .queryParam("perPage", String.valueOf(expectedPerPage))
+                .queryParam("sort", expectedSort)
+                .queryParam("dir", expectedDirection)
+                .queryParam("cursor", expectedCursor);
+
+        this.mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", Matchers.equalTo((int) Pagination.UNKNOWN_TOTAL)))
+                .andExpect(jsonPath("$.next_cursor", Matchers.equalTo(expectedNextCursor)))
+                .andExpect(jsonPath("$.items", Matchers.hasSize(1)));
+
+        verify(listCastMembersUseCase, times(1)).execute(argThat(query ->
+                query.isKeyset()
+                        && Objects.equals(expectedCursor, query.cursor())
+                        && Objects.equals(expectedPerPage, query.perPage())
+                        && Objects.equals(expectedSort, query.sort())
+                        && Objects.equals(expectedDirection, query.direction())
+        ));
+    }
+
     @Test
     public void givenEmptyParams_whenCallsListCastMember_thenUseDefaultValuesAndReturnCastMembers() throws Exception {
         final var aCastMember1 = CastMember.newMember("Vin Diesel", CastMemberType.ACTOR);
@@ -6,6 +6,8 @@ import com.tcs.admin.catalog.ControllerTest;
 import com.tcs.admin.catalog.application.category.create.CreateCategoryOutput;
 import com.tcs.admin.catalog.application.category.create.CreateCategoryUseCase;
 import com.tcs.admin.catalog.application.category.delete.DeleteCategoryUseCase;
+import com.tcs.admin.catalog.application.category.retrieve.changes.ListCategoryChangesUseCase;
+import com.tcs.admin.catalog.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.tcs.admin.catalog.application.category.retrieve.get.CategoryOutput;
 import com.tcs.admin.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.tcs.admin.catalog.application.category.retrieve.list.CategoryListOutput;
@@ -16,16 +18,19 @@ import com.tcs.admin.catalog.domain.category.Category;
 import com.tcs.admin.catalog.domain.category.CategoryID;
 import com.tcs.admin.catalog.domain.exceptions.DomainException;
 import com.tcs.admin.catalog.domain.exceptions.NotFoundException;
+import com.tcs.admin.catalog.domain.pagination.Change;
 import com.tcs.admin.catalog.domain.pagination.Pagination;
 import com.tcs.admin.catalog.domain.validation.Error;
 import com.tcs.admin.catalog.domain.validation.handler.Notification;
 import com.tcs.admin.catalog.infrastructure.category.models.CreateCategoryRequest;
 import com.tcs.admin.catalog.infrastructure.category.models.UpdateCategoryRequest;
+import com.tcs.admin.catalog.infrastructure.category.presenters.CategoryApiPresenter;
 import io.vavr.API;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -33,6 +38,7 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -62,6 +68,12 @@ public class CategoryAPITest {
     @MockitoBean
     private ListCategoriesUseCase listCategoriesUseCase;
 
+    @MockitoBean
+    private ExportCategoriesUseCase exportCategoriesUseCase;
+
+    @MockitoBean
+    private ListCategoryChangesUseCase listCategoryChangesUseCase;
+
     @Test
     public void givenValidCommand_whenCallsCreateCategory_thenReturnCategoryId() throws Exception {
         final var expectedName = "Movies";
@@ -196,6 +208,35 @@ public class CategoryAPITest {
                 .andExpect(jsonPath("$.deleted_at", Matchers.equalTo(aCategory.getDeletedAt())));
     }
 
+    @Test
+    public void givenMatchingETag_whenCallGetCategory_thenReturnNotModified() throws Exception {
+        final var aCategory = Category.newCategory("Movies", "Most watched", true);
+        final var expectedId = aCategory.getId().getValue();
+
+        when(getCategoryByIdUseCase.execute(any()))
+                .thenReturn(CategoryOutput.from(aCategory));
+
+        final var eTag = this.mockMvc.perform(MockMvcRequestBuilders.get("/categories/{id}", expectedId)
+                        .with(ApiTest.CATEGORIES_JWT))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        final var request = MockMvcRequestBuilders.get("/categories/{id}", expectedId)
+                .with(ApiTest.CATEGORIES_JWT)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag);
+
+        this.mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        verify(getCategoryByIdUseCase, times(1)).execute(eq(expectedId));
+    }
+
     @Test
     public void givenInvalidId_whenCallGetCategory_thenReturnNotFound() throws Exception {
         final var expectedId = CategoryID.from("123");
@@ -372,4 +413,111 @@ public class CategoryAPITest {
                 .andExpect(jsonPath("$.items[0].created_at", Matchers.equalTo(aCategory.getCreatedAt().toString())))
                 .andExpect(jsonPath("$.items[0].deleted_at", Matchers.equalTo(aCategory.getDeletedAt())));
     }
+
+    @Test
+    public void givenCursor_whenCallsListCategories_thenSeekAndReturnNextCursor() throws Exception {
+        final var expectedItems = List.of(CategoryListOutput.from(Category.newCategory("Movies", null, true)));
+        final var expectedPerPage = 10;
+        final var expectedSort = "name";
+        final var expectedDirection = "desc";
+        final var expectedCursor = "abc";
+        final var expectedNextCursor = "def";
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(Pagination.keyset(expectedPerPage, expectedItems, expectedNextCursor));
+
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .with(ApiTest.CATEGORIES_JWT)
+                .queryParam("perPage", String.valueOf(expectedPerPage))
+                .queryParam("sort", expectedSort)
+                .queryParam("dir", expectedDirection)
+                .queryParam("cursor", expectedCursor);
+
+        this.mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", Matchers.equalTo((int) Pagination.UNKNOWN_TOTAL)))
+                .andExpect(jsonPath("$.next_cursor", Matchers.equalTo(expectedNextCursor)))
+                .andExpect(jsonPath("$.items", Matchers.hasSize(1)));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                query.isKeyset()
+                        && Objects.equals(expectedCursor, query.cursor())
+                        && Objects.equals(expectedPerPage, query.perPage())
+                        && Objects.equals(expectedSort, query.sort())
+                        && Objects.equals(expectedDirection, query.direction())
+        ));
+    }
+
+    @Test
+    public void givenCategories_whenCallsExportCategories_thenStreamOneJsonPerLine() throws Exception {
+        final var movies = CategoryListOutput.from(Category.newCategory("Movies", null, true));
+        final var series = CategoryListOutput.from(Category.newCategory("Series", "Watched in seasons", false));
+
+        final var expectedBody = mapper.writeValueAsString(CategoryApiPresenter.present(movies)) + "\n"
+                + mapper.writeValueAsString(CategoryApiPresenter.present(series)) + "\n";
+
+        doAnswer(invocation -> {
+            final Consumer<CategoryListOutput> aConsumer = invocation.getArgument(0);
+            aConsumer.accept(movies);
+            aConsumer.accept(series);
+            return null;
+        }).when(exportCategoriesUseCase).execute(any());
+
+        final var request = MockMvcRequestBuilders.get("/categories/export")
+                .with(ApiTest.CATEGORIES_JWT);
+
+        final var started = this.mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(started))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE))
+                .andExpect(content().string(expectedBody));
+
+        verify(exportCategoriesUseCase, times(1)).execute(any());
+    }
+
+    @Test
+    public void givenCursor_whenCallsListCategoryChanges_thenReturnUpsertsAndTombstones() throws Exception {
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var deletedAt = aCategory.getUpdatedAt().plusSeconds(1);
+        final var expectedCursor = "abc";
+        final var expectedNextCursor = "def";
+        final var expectedPerPage = 50;
+
+        final var expectedItems = List.of(
+                Change.upsert(aCategory.getId().getValue(), aCategory.getUpdatedAt(), CategoryListOutput.from(aCategory)),
+                Change.<CategoryListOutput>deleted("123", deletedAt)
+        );
+
+        when(listCategoryChangesUseCase.execute(any()))
+                .thenReturn(Pagination.keyset(expectedPerPage, expectedItems, expectedNextCursor));
+
+        final var request = MockMvcRequestBuilders.get("/categories/changes")
+                .with(ApiTest.CATEGORIES_JWT)
+                .queryParam("cursor", expectedCursor)
+                .queryParam("perPage", String.valueOf(expectedPerPage));
+
+        this.mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.next_cursor", Matchers.equalTo(expectedNextCursor)))
+                .andExpect(jsonPath("$.items", Matchers.hasSize(2)))
+                .andExpect(jsonPath("$.items[0].id", Matchers.equalTo(aCategory.getId().getValue())))
+                .andExpect(jsonPath("$.items[0].changed_at", Matchers.equalTo(aCategory.getUpdatedAt().toString())))
+                .andExpect(jsonPath("$.items[0].deleted", Matchers.equalTo(false)))
+                .andExpect(jsonPath("$.items[0].item.name", Matchers.equalTo(aCategory.getName())))
+                .andExpect(jsonPath("$.items[1].id", Matchers.equalTo("123")))
+                .andExpect(jsonPath("$.items[1].changed_at", Matchers.equalTo(deletedAt.toString())))
+                .andExpect(jsonPath("$.items[1].deleted", Matchers.equalTo(true)))
+                .andExpect(jsonPath("$.items[1].item", Matchers.nullValue()));
+
+        verify(listCategoryChangesUseCase, times(1)).execute(argThat(query ->
+                Objects.equals(expectedCursor, query.cursor())
+                        && Objects.equals(expectedPerPage, query.perPage())
+        ));
+    }
 }
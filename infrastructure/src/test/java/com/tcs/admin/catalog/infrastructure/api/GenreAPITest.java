@@ -1 +1 @@
-package com.tcs.admin.catalog.infrastructure.api;import com.fasterxml.jackson.databind.ObjectMapper;import com.tcs.admin.catalog.ApiTest;import com.tcs.admin.catalog.ControllerTest;import com.tcs.admin.catalog.application.genre.create.CreateGenreOutput;import com.tcs.admin.catalog.application.genre.create.CreateGenreUseCase;import com.tcs.admin.catalog.application.genre.delete.DeleteGenreUseCase;import com.tcs.admin.catalog.application.genre.retrieve.get.GenreOutput;import com.tcs.admin.catalog.application.genre.retrieve.get.GetGenreByIdUseCase;import com.tcs.admin.catalog.application.genre.retrieve.list.GenreListOutput;import com.tcs.admin.catalog.application.genre.retrieve.list.ListGenresUseCase;import com.tcs.admin.catalog.application.genre.update.UpdateGenreOutput;import com.tcs.admin.catalog.application.genre.update.UpdateGenreUseCase;import com.tcs.admin.catalog.domain.category.CategoryID;import com.tcs.admin.catalog.domain.exceptions.NotFoundException;import com.tcs.admin.catalog.domain.exceptions.NotificationException;import com.tcs.admin.catalog.domain.genre.Genre;import com.tcs.admin.catalog.domain.genre.GenreID;import com.tcs.admin.catalog.domain.pagination.Pagination;import com.tcs.admin.catalog.domain.validation.Error;import com.tcs.admin.catalog.domain.validation.handler.Notification;import com.tcs.admin.catalog.infrastructure.genre.models.CreateGenreRequest;import com.tcs.admin.catalog.infrastructure.genre.models.UpdateGenreRequest;import org.hamcrest.Matchers;import org.junit.jupiter.api.Test;import org.springframework.beans.factory.annotation.Autowired;import org.springframework.http.MediaType;import org.springframework.test.context.bean.override.mockito.MockitoBean;import org.springframework.test.web.servlet.MockMvc;import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;import java.util.List;import java.util.Objects;import static org.mockito.Mockito.*;import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;@ControllerTest(controllers = GenreAPI.class)public class GenreAPITest {    @Autowired    private MockMvc mockMvc;    @Autowired    private ObjectMapper mapper;    @MockitoBean    private CreateGenreUseCase createGenreUseCase;    @MockitoBean    private GetGenreByIdUseCase getGenreByIdUseCase;    @MockitoBean    private UpdateGenreUseCase updateGenreUseCase;    @MockitoBean    private DeleteGenreUseCase deleteGenreUseCase;    @MockitoBean    private ListGenresUseCase listGenresUseCase;    @Test    public void givenValidCommand_whenCallsCreateGenre_thenReturnGenreId() throws Exception {        final var expectedName = "Drama";        final var expectedIsActive = true;        final var expectedCategories = List.of("123", "456");        final var expectedId = "123";        final var anInput =                new CreateGenreRequest(expectedName, expectedIsActive, expectedCategories);        when(createGenreUseCase.execute(any()))                .thenReturn(CreateGenreOutput.from(expectedId));        final var request = MockMvcRequestBuilders.post("/genres")                .with(ApiTest.GENRES_JWT)                .with(ApiTest.GENRES_JWT)                .contentType(MediaType.APPLICATION_JSON)                .content(mapper.writeValueAsString(anInput));        this.mockMvc.perform(request)                .andDo(print())                .andExpect(status().isCreated())                .andExpect(header().string("Location", "/genres/123"))                .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))                .andExpect(jsonPath("$.id", Matchers.equalTo("123")));        verify(createGenreUseCase, times(1)).execute(argThat(cmd ->                Objects.equals(expectedName, cmd.name())                        && Objects.equals(expectedIsActive, cmd.isActive())                        && Objects.equals(expectedCategories, cmd.categories())        ));    }    @Test    public void givenInvalidName_whenCallsCreateGenre_thenReturnNotification() throws Exception {        final String expectedName = null;        final var expectedIsActive = true;        final var expectedCategories = List.of("123", "456");        final var expectedErrorMessage = "'name' should not be null";        final var anInput =                new CreateGenreRequest(expectedName, expectedIsActive, expectedCategories);        when(createGenreUseCase.execute(any()))                .thenThrow(new NotificationException("Error", Notification.create(new Error(expectedErrorMessage))));        final var request = MockMvcRequestBuilders.post("/genres")                .with(ApiTest.GENRES_JWT)                .contentType(MediaType.APPLICATION_JSON)                .content(mapper.writeValueAsString(anInput));        this.mockMvc.perform(request)                .andDo(print())                .andExpect(status().isUnprocessableEntity())                .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))                .andExpect(jsonPath("$.errors", Matchers.hasSize(1)))                .andExpect(jsonPath("$.errors[0].message", Matchers.equalTo(expectedErrorMessage)));        verify(createGenreUseCase, times(1)).execute(argThat(cmd ->                Objects.equals(expectedName, cmd.name())                        && Objects.equals(expectedIsActive, cmd.isActive())                        && Objects.equals(expectedCategories, cmd.categories())        ));    }    @Test    public void givenValidId_whenCallsGetGenreById_thenReturnGenre() throws Exception {        final var expectedName = "Drama";        final var expectedIsActive = false;        final var expectedCategories = List.of("123", "456");        final var aGenre =                Genre.newGenre(expectedName, expectedIsActive)                        .addCategories(expectedCategories.stream()                                .map(CategoryID::from)                                .toList()                        );        final var expectedId = aGenre.getId().getValue();        when(getGenreByIdUseCase.execute(any()))                .thenReturn(GenreOutput.from(aGenre));        final var request = MockMvcRequestBuilders.get("/genres/{id}", expectedId)                .with(ApiTest.GENRES_JWT)                .contentType(MediaType.APPLICATION_JSON);        this.mockMvc.perform(request)                .andDo(print())                .andExpect(status().isOk())                .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))                .andExpect(jsonPath("$.id", Matchers.equalTo(expectedId)))                .andExpect(jsonPath("$.name", Matchers.equalTo(expectedName)))                .andExpect(jsonPath("$.is_active", Matchers.equalTo(expectedIsActive)))                .andExpect(jsonPath("$.categories_id", Matchers.equalTo(expectedCategories)))                .andExpect(jsonPath("$.created_at", Matchers.equalTo(aGenre.getCreatedAt().toString())))                .andExpect(jsonPath("$.updated_at", Matchers.equalTo(aGenre.getUpdatedAt().toString())))                .andExpect(jsonPath("$.deleted_at", Matchers.equalTo(aGenre.getDeletedAt().toString())))        ;        verify(getGenreByIdUseCase, times(1)).execute(eq(expectedId));    }    @Test    public void givenInvalidId_whenCallsGetGenreById_thenReturnNotFound() throws Exception {        final var expectedErrorMessage = "Genre with ID 123 was not found";        final var expectedId = GenreID.from("123");        when(getGenreByIdUseCase.execute(any()))                .thenThrow(NotFoundException.with(Genre.class, expectedId));        final var request = MockMvcRequestBuilders.get("/genres/{id}", expectedId.getValue())                .with(ApiTest.GENRES_JWT)                .contentType(MediaType.APPLICATION_JSON);        this.mockMvc.perform(request)                .andDo(print())                .andExpect(status().isNotFound())                .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))                .andExpect(jsonPath("$.message", Matchers.equalTo(expectedErrorMessage)));        ;        verify(getGenreByIdUseCase, times(1)).execute(eq(expectedId.getValue()));    }    @Test    public void givenValidCommand_whenCallsUpdateGenre_thenReturnGenreId() throws Exception {        final var expectedName = "Drama";        final var expectedIsActive = true;        final var expectedCategories = List.of("123", "456");        final var aGenre = Genre.newGenre(expectedName, expectedIsActive);        final var expectedId = aGenre.getId().getValue();        final var anInput =                new UpdateGenreRequest(expectedName, expectedIsActive, expectedCategories);        when(updateGenreUseCase.execute(any()))                .thenReturn(UpdateGenreOutput.from(aGenre));        final var request = MockMvcRequestBuilders.put("/genres/{id}", expectedId)                .with(ApiTest.GENRES_JWT)                .contentType(MediaType.APPLICATION_JSON)                .content(mapper.writeValueAsString(anInput));        this.mockMvc.perform(request)                .andDo(print())                .andExpect(status().isOk())                .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))                .andExpect(jsonPath("$.id", Matchers.equalTo(expectedId)));        verify(updateGenreUseCase, times(1)).execute(argThat(cmd ->                Objects.equals(expectedName, cmd.name())                        && Objects.equals(expectedIsActive, cmd.isActive())                        && Objects.equals(expectedCategories, cmd.categories())        ));    }    @Test    public void givenInvalidName_whenCallsUpdateGenre_thenReturnNotification() throws Exception {        final String expectedName = null;        final var expectedIsActive = true;        final var expectedCategories = List.of("123", "456");        final var expectedErrorMessage = "'name' should not be null";        final var expectedId = "123";        final var anInput =                new UpdateGenreRequest(expectedName, expectedIsActive, expectedCategories);        when(updateGenreUseCase.execute(any()))                .thenThrow(new NotificationException("Error", Notification.create(new Error(expectedErrorMessage))));        final var request = MockMvcRequestBuilders.put("/genres/{id}", expectedId)                .with(ApiTest.GENRES_JWT)                .contentType(MediaType.APPLICATION_JSON)                .content(mapper.writeValueAsString(anInput));        this.mockMvc.perform(request)                .andDo(print())                .andExpect(status().isUnprocessableEntity())                .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))                .andExpect(jsonPath("$.errors", Matchers.hasSize(1)))                .andExpect(jsonPath("$.errors[0].message", Matchers.equalTo(expectedErrorMessage)));        verify(updateGenreUseCase, times(1)).execute(argThat(cmd ->                Objects.equals(expectedName, cmd.name())                        && Objects.equals(expectedIsActive, cmd.isActive())                        && Objects.equals(expectedCategories, cmd.categories())        ));    }    @Test    public void givenValidId_whenCallsDeleteGenreById_thenIsOk() throws Exception {        final var expectedId = "123";        doNothing()                .when(deleteGenreUseCase).execute(any());        final var request =                MockMvcRequestBuilders.delete("/genres/{id}", expectedId)                        .with(ApiTest.GENRES_JWT);        this.mockMvc.perform(request)                .andDo(print())                .andExpect(status().isNoContent());        verify(deleteGenreUseCase, times(1)).execute(expectedId);    }    @Test    public void givenValidParams_whenCallsListGenres_thenReturnGenres() throws Exception {        final var aGenre = Genre.newGenre("Drama", false);        final var expectedPage = 0;        final var expectedPerPage = 10;        final var expectedTerms = "dr";        final var expectedSort = "name";        final var expectedDirection = "asc";        final var expectedItemsCount = 1;        final var expectedTotal = 1;        final var expectedItems = List.of(GenreListOutput.from(aGenre));        when(listGenresUseCase.execute(any()))                .thenReturn(new Pagination<>(expectedPage, expectedPerPage, expectedTotal, expectedItems));        final var request = MockMvcRequestBuilders.get("/genres")                .with(ApiTest.GENRES_JWT)                .queryParam("page", String.valueOf(expectedPage))                .queryParam("perPage", String.valueOf(expectedPerPage))                .queryParam("search", expectedTerms)                .queryParam("sort", expectedSort)                .queryParam("dir", expectedDirection);        this.mockMvc.perform(request)                .andDo(print())                .andExpect(status().isOk())                .andExpect(jsonPath("$.current_page", Matchers.equalTo(expectedPage)))                .andExpect(jsonPath("$.per_page", Matchers.equalTo(expectedPerPage)))                .andExpect(jsonPath("$.total", Matchers.equalTo(expectedTotal)))                .andExpect(jsonPath("$.items", Matchers.hasSize(expectedItemsCount)))                .andExpect(jsonPath("$.items[0].id", Matchers.equalTo(aGenre.getId().getValue())))                .andExpect(jsonPath("$.items[0].name", Matchers.equalTo(aGenre.getName())))                .andExpect(jsonPath("$.items[0].is_active", Matchers.equalTo(aGenre.isActive())))                .andExpect(jsonPath("$.items[0].created_at", Matchers.equalTo(aGenre.getCreatedAt().toString())))                .andExpect(jsonPath("$.items[0].deleted_at", Matchers.equalTo(aGenre.getDeletedAt().toString())));        verify(listGenresUseCase, times(1)).execute(argThat( query ->            Objects.equals(expectedPage, query.page())                && Objects.equals(expectedPerPage, query.perPage())                && Objects.equals(expectedDirection, query.direction())                && Objects.equals(expectedSort, query.sort())                && Objects.equals(expectedTerms, query.terms())        ));    }}
\ No newline at end of file
+package com.tcs.admin.catalog.infrastructure.api;import com.fasterxml.jackson.databind.ObjectMapper;import com.tcs.admin.catalog.ApiTest;import com.tcs.admin.catalog.ControllerTest;import com.tcs.admin.catalog.application.genre.create.CreateGenreOutput;import com.tcs.admin.catalog.application.genre.create.CreateGenreUseCase;import com.tcs.admin.catalog.application.genre.delete.DeleteGenreUseCase;import com.tcs.admin.catalog.application.genre.retrieve.changes.ListGenreChangesUseCase;import com.tcs.admin.catalog.application.genre.retrieve.export.ExportGenresUseCase;import com.tcs.admin.catalog.application.genre.retrieve.get.GenreOutput;import com.tcs.admin.catalog.application.genre.retrieve.get.GetGenreByIdUseCase;import com.tcs.admin.catalog.application.genre.retrieve.list.GenreListOutput;import com.tcs.admin.catalog.application.genre.retrieve.list.ListGenresUseCase;import com.tcs.admin.catalog.application.genre.update.UpdateGenreOutput;import com.tcs.admin.catalog.application.genre.update.UpdateGenreUseCase;import com.tcs.admin.catalog.domain.category.CategoryID;import com.tcs.admin.catalog.domain.exceptions.NotFoundException;import com.tcs.admin.catalog.domain.exceptions.NotificationException;import com.tcs.admin.catalog.domain.genre.Genre;import com.tcs.admin.catalog.domain.genre.GenreID;import com.tcs.admin.catalog.domain.pagination.Pagination;import com.tcs.admin.catalog.domain.validation.Error;import com.tcs.admin.catalog.domain.validation.handler.Notification;import com.tcs.admin.catalog.infrastructure.genre.models.CreateGenreRequest;import com.tcs.admin.catalog.infrastructure.genre.models.UpdateGenreRequest;import org.hamcrest.Matchers;import org.junit.jupiter.api.Test;import org.springframework.beans.factory.annotation.Autowired;import org.springframework.http.HttpHeaders;import org.springframework.http.MediaType;import org.springframework.test.context.bean.override.mockito.MockitoBean;import org.springframework.test.web.servlet.MockMvc;import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;import java.util.List;import java.util.Objects;import static org.mockito.Mockito.*;import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;@ControllerTest(controllers = GenreAPI.class)public class GenreAPITest {    @Autowired    private MockMvc mockMvc;    @Autowired    private ObjectMapper mapper;    @MockitoBean    private CreateGenreUseCase createGenreUseCase;    @MockitoBean    private GetGenreByIdUseCase getGenreByIdUseCase;    @MockitoBean    private UpdateGenreUseCase updateGenreUseCase;    @MockitoBean    private DeleteGenreUseCase deleteGenreUseCase;    @MockitoBean    private ListGenresUseCase listGenresUseCase;    @MockitoBean    private ExportGenresUseCase exportGenresUseCase;    @MockitoBean    private ListGenreChangesUseCase listGenreChangesUseCase;    @Test    public void givenValidCommand_whenCallsCreateGenre_thenReturnGenreId() throws Exception {        final var expectedName = "Drama";        final var expectedIsActive = true;        final var expectedCategories = List.of("123", "456");        final var expectedId = "123";        final var anInput =                new CreateGenreRequest(expectedName, expectedIsActive, expectedCategories);        when(createGenreUseCase.execute(any()))                .thenReturn(CreateGenreOutput.from(expectedId));        final var request = MockMvcRequestBuilders.post("/genres")                .with(ApiTest.GENRES_JWT)                .with(ApiTest.GENRES_JWT)                .contentType(MediaType.APPLICATION_JSON)                .content(mapper.writeValueAsString(anInput));        this.mockMvc.perform(request)                .andDo(print())                .andExpect(status().isCreated())                .andExpect(header().string("Location", "/genres/123"))                .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))                .andExpect(jsonPath("$.id", Matchers.equalTo("123")));        verify(createGenreUseCase, times(1)).execute(argThat(cmd ->                Objects.equals(expectedName, cmd.name())                        && Objects.equals(expectedIsActive, cmd.isActive())                        && Objects.equals(expectedCategories, cmd.categories())        ));    }    @Test    public void givenInvalidName_whenCallsCreateGenre_thenReturnNotification() throws Exception {        final String expectedName = null;        final var expectedIsActive = true;        final var expectedCategories = List.of("123", "456");        final var expectedErrorMessage = "'name' should not be null";        final var anInput =                new CreateGenreRequest(expectedName, expectedIsActive, expectedCategories);        when(createGenreUseCase.execute(any()))                .thenThrow(new NotificationException("Error", Notification.create(new Error(expectedErrorMessage))));        final var request = MockMvcRequestBuilders.post("/genres")                .with(ApiTest.GENRES_JWT)                .contentType(MediaType.APPLICATION_JSON)                .content(mapper.writeValueAsString(anInput));        this.mockMvc.perform(request)                .andDo(print())                .andExpect(status().isUnprocessableEntity())                .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))                .andExpect(jsonPath("$.errors", Matchers.hasSize(1)))                .andExpect(jsonPath("$.errors[0].message", Matchers.equalTo(expectedErrorMessage)));        verify(createGenreUseCase, times(1)).execute(argThat(cmd ->                Objects.equals(expectedName, cmd.name())                        && Objects.equals(expectedIsActive, cmd.isActive())                        && Objects.equals(expectedCategories, cmd.categories())        ));    }    @Test    public void givenValidId_whenCallsGetGenreById_thenReturnGenre() throws Exception {        final var expectedName = "Drama";        final var expectedIsActive = false;        final var expectedCategories = List.of("123", "456");        final var aGenre =                Genre.newGenre(expectedName, expectedIsActive)                        .addCategories(expectedCategories.stream()                                .map(CategoryID::from)                                .toList()                        );        final var expectedId = aGenre.getId().getValue();        when(getGenreByIdUseCase.execute(any()))                .thenReturn(GenreOutput.from(aGenre));        final var request = MockMvcRequestBuilders.get("/genres/{id}", expectedId)                .with(ApiTest.GENRES_JWT)                .contentType(MediaType.APPLICATION_JSON);        this.mockMvc.perform(request)                .andDo(print())                .andExpect(status().isOk())                .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))                .andExpect(jsonPath("$.id", Matchers.equalTo(expectedId)))                .andExpect(jsonPath("$.name", Matchers.equalTo(expectedName)))                .andExpect(jsonPath("$.is_active", Matchers.equalTo(expectedIsActive)))                .andExpect(jsonPath("$.categories_id", Matchers.equalTo(expectedCategories)))                .andExpect(jsonPath("$.created_at", Matchers.equalTo(aGenre.getCreatedAt().toString())))                .andExpect(jsonPath("$.updated_at", Matchers.equalTo(aGenre.getUpdatedAt().toString())))                .andExpect(jsonPath("$.deleted_at", Matchers.equalTo(aGenre.getDeletedAt().toString())))        ;        verify(getGenreByIdUseCase, times(1)).execute(eq(expectedId));    }    @Test    public void givenMatchingETag_whenCallsGetGenreById_thenReturnNotModified() throws Exception {        final var aGenre = Genre.newGenre("Drama", true);        final var expectedId = aGenre.getId().getValue();        when(getGenreByIdUseCase.execute(any()))                .thenReturn(GenreOutput.from(aGenre));        final var eTag = this.mockMvc.perform(MockMvcRequestBuilders.get("/genres/{id}", expectedId)                        .with(ApiTest.GENRES_JWT))                .andExpect(status().isOk())                .andExpect(header().exists(HttpHeaders.ETAG))                .andReturn()                .getResponse()                .getHeader(HttpHeaders.ETAG);        final var request = MockMvcRequestBuilders.get("/genres/{id}", expectedId)                .with(ApiTest.GENRES_JWT)                .header(HttpHeaders.IF_NONE_MATCH, eTag);        this.mockMvc.perform(request)                .andDo(print())                .andExpect(status().isNotModified())                .andExpect(header().string(HttpHeaders.ETAG, eTag));        verify(getGenreByIdUseCase, times(1)).execute(eq(expectedId));    }    @Test    public void givenInvalidId_whenCallsGetGenreById_thenReturnNotFound() throws Exception {        final var expectedErrorMessage = "Genre with ID 123 was not found";        final var expectedId = GenreID.from("123");        when(getGenreByIdUseCase.execute(any()))                .thenThrow(NotFoundException.with(Genre.class, expectedId));        final var request = MockMvcRequestBuilders.get("/genres/{id}", expectedId.getValue())                .with(ApiTest.GENRES_JWT)                .contentType(MediaType.APPLICATION_JSON);        this.mockMvc.perform(request)                .andDo(print())                .andExpect(status().isNotFound())                .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))                .andExpect(jsonPath("$.message", Matchers.equalTo(expectedErrorMessage)));        ;        verify(getGenreByIdUseCase, times(1)).execute(eq(expectedId.getValue()));    }    @Test    public void givenValidCommand_whenCallsUpdateGenre_thenReturnGenreId() throws Exception {        final var expectedName = "Drama";        final var expectedIsActive = true;        final var expectedCategories = List.of("123", "456");        final var aGenre = Genre.newGenre(expectedName, expectedIsActive);        final var expectedId = aGenre.getId().getValue();        final var anInput =                new UpdateGenreRequest(expectedName, expectedIsActive, expectedCategories);        when(updateGenreUseCase.execute(any()))                .thenReturn(UpdateGenreOutput.from(aGenre));        final var request = MockMvcRequestBuilders.put("/genres/{id}", expectedId)                .with(ApiTest.GENRES_JWT)                .contentType(MediaType.APPLICATION_JSON)                .content(mapper.writeValueAsString(anInput));        this.mockMvc.perform(request)                .andDo(print())                .andExpect(status().isOk())                .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))                .andExpect(jsonPath("$.id", Matchers.equalTo(expectedId)));        verify(updateGenreUseCase, times(1)).execute(argThat(cmd ->                Objects.equals(expectedName, cmd.name())                        && Objects.equals(expectedIsActive, cmd.isActive())                        && Objects.equals(expectedCategories, cmd.categories())        ));    }    @Test    public void givenInvalidName_whenCallsUpdateGenre_thenReturnNotification() throws Exception {        final String expectedName = null;        final var expectedIsActive = true;        final var expectedCategories = List.of("123", "456");        final var expectedErrorMessage = "'name' should not be null";        final var expectedId = "123";        final var anInput =                new UpdateGenreRequest(expectedName, expectedIsActive, expectedCategories);        when(updateGenreUseCase.execute(any()))                .thenThrow(new NotificationException("Error", Notification.create(new Error(expectedErrorMessage))));        final var request = MockMvcRequestBuilders.put("/genres/{id}", expectedId)                .with(ApiTest.GENRES_JWT)                .contentType(MediaType.APPLICATION_JSON)                .content(mapper.writeValueAsString(anInput));        this.mockMvc.perform(request)                .andDo(print())                .andExpect(status().isUnprocessableEntity())                .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))                .andExpect(jsonPath("$.errors", Matchers.hasSize(1)))                .andExpect(jsonPath("$.errors[0].message", Matchers.equalTo(expectedErrorMessage)));        verify(updateGenreUseCase, times(1)).execute(argThat(cmd ->                Objects.equals(expectedName, cmd.name())                        && Objects.equals(expectedIsActive, cmd.isActive())                        && Objects.equals(expectedCategories, cmd.categories())        ));    }    @Test    public void givenValidId_whenCallsDeleteGenreById_thenIsOk() throws Exception {        final var expectedId = "123";        doNothing()                .when(deleteGenreUseCase).execute(any());        final var request =                MockMvcRequestBuilders.delete("/genres/{id}", expectedId)                        .with(ApiTest.GENRES_JWT);        this.mockMvc.perform(request)                .andDo(print())                .andExpect(status().isNoContent());        verify(deleteGenreUseCase, times(1)).execute(expectedId);    }    @Test    public void givenValidParams_whenCallsListGenres_thenReturnGenres() throws Exception {        final var aGenre = Genre.newGenre("Drama", false);        final var expectedPage = 0;        final var expectedPerPage = 10;        final var expectedTerms = "dr";        final var expectedSort = "name";        final var expectedDirection = "asc";        final var expectedItemsCount = 1;        final var expectedTotal = 1;        final var expectedItems = List.of(GenreListOutput.from(aGenre));        when(listGenresUseCase.execute(any()))                .thenReturn(new Pagination<>(expectedPage, expectedPerPage, expectedTotal, expectedItems));        final var request = MockMvcRequestBuilders.get("/genres")                .with(ApiTest.GENRES_JWT)                .queryParam("page", String.valueOf(expectedPage))                .queryParam("perPage", String.valueOf(expectedPerPage))                .queryParam("search", expectedTerms)                .queryParam("sort", expectedSort)                .queryParam("dir", expectedDirection);        this.mockMvc.perform(request)                .andDo(print())                .andExpect(status().isOk())                .andExpect(jsonPath("$.current_page", Matchers.equalTo(expectedPage)))                .andExpect(jsonPath("$.per_page", Matchers.equalTo(expectedPerPage)))                .andExpect(jsonPath("$.total", Matchers.equalTo(expectedTotal)))                .andExpect(jsonPath("$.items", Matchers.hasSize(expectedItemsCount)))                .andExpect(jsonPath("$.items[0].id", Matchers.equalTo(aGenre.getId().getValue())))                .andExpect(jsonPath("$.items[0].name", Matchers.equalTo(aGenre.getName())))                .andExpect(jsonPath("$.items[0].is_active", Matchers.equalTo(aGenre.isActive())))                .andExpect(jsonPath("$.items[0].created_at", Matchers.equalTo(aGenre.getCreatedAt().toString())))                .andExpect(jsonPath("$.items[0].deleted_at", Matchers.equalTo(aGenre.getDeletedAt().toString())));        verify(listGenresUseCase, times(1)).execute(argThat( query ->            Objects.equals(expectedPage, query.page())                && Objects.equals(expectedPerPage, query.perPage())                && Objects.equals(expectedDirection, query.direction())                && Objects.equals(expectedSort, query.sort())                && Objects.equals(expectedTerms, query.terms())        ));    }    @Test    public void givenCursor_whenCallsListGenres_thenSeekAndReturnNextCursor() throws Exception {        final var expectedItems = List.of(GenreListOutput.from(Genre.newGenre("Drama", false)));        final var expectedPerPage = 10;        final var expectedSort = "name";        final var expectedDirection = "desc";        final var expectedCursor = "abc";        final var expectedNextCursor = "def";        when(listGenresUseCase.execute(any()))                .thenReturn(Pagination.keyset(expectedPerPage, expectedItems, expectedNextCursor));        final var request = MockMvcRequestBuilders.get("/genres")                .with(ApiTest.GENRES_JWT)                .queryParam("perPage", String.valueOf(expectedPerPage))                .queryParam("sort", expectedSort)                .queryParam("dir", expectedDirection)                .queryParam("cursor", expectedCursor);        this.mockMvc.perform(request)                .andDo(print())                .andExpect(status().isOk())                .andExpect(jsonPath("$.total", Matchers.equalTo((int) Pagination.UNKNOWN_TOTAL)))                .andExpect(jsonPath("$.next_cursor", Matchers.equalTo(expectedNextCursor)))                .andExpect(jsonPath("$.items", Matchers.hasSize(1)));        verify(listGenresUseCase, times(1)).execute(argThat(query ->                query.isKeyset()                        && Objects.equals(expectedCursor, query.cursor())                        && Objects.equals(expectedPerPage, query.perPage())                        && Objects.equals(expectedSort, query.sort())                        && Objects.equals(expectedDirection, query.direction())        ));    }}
\ No newline at end of file
@@ -3,10 +3,15 @@ package com.tcs.admin.catalog.infrastructure.api;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tcs.admin.catalog.ApiTest;
 import com.tcs.admin.catalog.ControllerTest;
+import com.tcs.admin.catalog.application.video.bulk.BulkCreateVideosCommand;
+import com.tcs.admin.catalog.application.video.bulk.BulkCreateVideosOutput;
+import com.tcs.admin.catalog.application.video.bulk.BulkCreateVideosUseCase;
 import com.tcs.admin.catalog.application.video.create.CreateVideoCommand;
 import com.tcs.admin.catalog.application.video.create.CreateVideoOutput;
 import com.tcs.admin.catalog.application.video.create.CreateVideoUseCase;
 import com.tcs.admin.catalog.application.video.delete.DeleteVideoUseCase;
+import com.tcs.admin.catalog.application.video.retrieve.changes.ListVideoChangesUseCase;
+import com.tcs.admin.catalog.application.video.retrieve.export.ExportVideosUseCase;
 import com.tcs.admin.catalog.application.video.media.get.GetMediaCommand;
 import com.tcs.admin.catalog.application.video.media.get.GetMediaUseCase;
 import com.tcs.admin.catalog.application.video.media.get.MediaOutput;
@@ -27,10 +32,12 @@ import com.tcs.admin.catalog.domain.exceptions.NotFoundException;
 import com.tcs.admin.catalog.domain.exceptions.NotificationException;
 import com.tcs.admin.catalog.domain.genre.GenreID;
 import com.tcs.admin.catalog.domain.pagination.Pagination;
+import com.tcs.admin.catalog.domain.resource.Resource;
 import com.tcs.admin.catalog.domain.validation.Error;
 import com.tcs.admin.catalog.domain.video.Video;
 import com.tcs.admin.catalog.domain.video.VideoID;
 import com.tcs.admin.catalog.domain.video.VideoSearchQuery;
+import com.tcs.admin.catalog.infrastructure.utils.HashUtils;
 import com.tcs.admin.catalog.infrastructure.video.models.CreateVideoRequest;
 import com.tcs.admin.catalog.infrastructure.video.models.UpdateVideoRequest;
 import org.hamcrest.Matchers;
@@ -43,6 +50,7 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
@@ -69,6 +77,9 @@ class VideoAPITest {
     @MockitoBean
     private CreateVideoUseCase createVideoUseCase;
 
+    @MockitoBean
+    private BulkCreateVideosUseCase bulkCreateVideosUseCase;
+
     @MockitoBean
     private GetVideoByIdUseCase getVideoByIdUseCase;
 
@@ -81,6 +92,12 @@ class VideoAPITest {
     @MockitoBean
     private ListVideosUseCase listVideosUseCase;
 
+    @MockitoBean
+    private ExportVideosUseCase exportVideosUseCase;
+
+    @MockitoBean
+    private ListVideoChangesUseCase listVideoChangesUseCase;
+
     @MockitoBean
     private GetMediaUseCase getMediaUseCase;
 
@@ -274,6 +291,64 @@ class VideoAPITest {
                 .andExpect(jsonPath("$.message", equalTo("error message")));
     }
 
+    @Test
+    public void givenValidCommands_whenCallsCreateAll_thenReturnIds() throws Exception {
+        final var expectedIds = List.of(VideoID.unique().getValue(), VideoID.unique().getValue());
+        final var expectedCategories = Set.of(Fixture.Categories.prime().getId().getValue());
+
+        final var aPayload = List.of(
+                new CreateVideoRequest(Fixture.title(), Fixture.Videos.description(), Fixture.year().getValue(),
+                        Fixture.duration(), true, false, Fixture.Videos.rating().getName(), expectedCategories, Set.of(), Set.of()),
+                new CreateVideoRequest(Fixture.title(), Fixture.Videos.description(), Fixture.year().getValue(),
+                        Fixture.duration(), false, true, Fixture.Videos.rating().getName(), Set.of(), Set.of(), Set.of())
+        );
+
+        when(bulkCreateVideosUseCase.execute(any()))
+                .thenReturn(new BulkCreateVideosOutput(expectedIds));
+
+        final var aRequest = post("/videos/bulk")
+                .with(ApiTest.VIDEOS_JWT)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(aPayload));
+
+        this.mvc.perform(aRequest)
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.ids", equalTo(expectedIds)));
+
+        final var cmdCaptor = ArgumentCaptor.forClass(BulkCreateVideosCommand.class);
+
+        verify(bulkCreateVideosUseCase).execute(cmdCaptor.capture());
+
+        final var actualItems = cmdCaptor.getValue().items();
+
+        Assertions.assertEquals(2, actualItems.size());
+        Assertions.assertEquals(aPayload.get(0).title(), actualItems.get(0).title());
+        Assertions.assertEquals(expectedCategories, actualItems.get(0).categories());
+        Assertions.assertEquals(aPayload.get(1).title(), actualItems.get(1).title());
+        Assertions.assertTrue(actualItems.get(1).getVideo().isEmpty());
+    }
+
+    @Test
+    public void givenInvalidCommands_whenCallsCreateAll_thenReturnError() throws Exception {
+        when(bulkCreateVideosUseCase.execute(any()))
+                .thenThrow(NotificationException.with(new Error("[1] 'title' should not be null")));
+
+        final var aRequest = post("/videos/bulk")
+                .with(ApiTest.VIDEOS_JWT)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        [{ "title": "Fast and Furious" }, {}]
+                        """);
+
+        this.mvc.perform(aRequest)
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.message", equalTo("[1] 'title' should not be null")));
+    }
+
     @Test
     public void givenEmptyBody_whenCallsCreateDraft_thenReturnError() throws Exception {
         final var aRequest = post("/videos")
@@ -393,6 +468,35 @@ class VideoAPITest {
                 .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
     }
 
+    @Test
+    public void givenMatchingETag_whenCallsGetVideoById_thenReturnNotModified() throws Exception {
+        final var aVideo = Fixture.video();
+        final var expectedId = aVideo.getId().getValue();
+
+        when(getVideoByIdUseCase.execute(any()))
+                .thenReturn(VideoOutput.from(aVideo));
+
+        final var eTag = this.mvc.perform(get("/videos/{id}", expectedId)
+                        .with(ApiTest.VIDEOS_JWT)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(ETAG))
+                .andReturn()
+                .getResponse()
+                .getHeader(ETAG);
+
+        final var aRequest = get("/videos/{id}", expectedId)
+                .with(ApiTest.VIDEOS_JWT)
+                .header(IF_NONE_MATCH, eTag)
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(aRequest)
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, eTag));
+
+        verify(getVideoByIdUseCase, times(1)).execute(eq(expectedId));
+    }
+
     @Test
     public void givenValidCommand_whenCallsUpdate_thenReturnVideoId() throws Exception {
         final var mateus = Fixture.CastMembers.mateus();
@@ -638,14 +742,50 @@ class VideoAPITest {
         Assertions.assertTrue(actualQuery.castMembers().isEmpty());
     }
 
+    @Test
+    public void givenCursor_whenCallsListVideos_thenSeekAndReturnNextCursor() throws Exception {
+        final var expectedItems = List.of(VideoListOutput.from(Fixture.videoPreview()));
+        final var expectedPerPage = 10;
+        final var expectedSort = "title";
+        final var expectedDirection = "desc";
+        final var expectedCursor = "abc";
+        final var expectedNextCursor = "def";
+
+        when(listVideosUseCase.execute(any()))
+                .thenReturn(Pagination.keyset(expectedPerPage, expectedItems, expectedNextCursor));
+
+        final var aRequest = get("/videos")
+                .with(ApiTest.VIDEOS_JWT)
+                .queryParam("perPage", String.valueOf(expectedPerPage))
+                .queryParam("sort", expectedSort)
+                .queryParam("dir", expectedDirection)
+                .queryParam("cursor", expectedCursor)
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(aRequest).andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo((int) Pagination.UNKNOWN_TOTAL)))
+                .andExpect(jsonPath("$.next_cursor", equalTo(expectedNextCursor)))
+                .andExpect(jsonPath("$.items", hasSize(1)));
+
+        final var captor = ArgumentCaptor.forClass(VideoSearchQuery.class);
+
+        verify(listVideosUseCase).execute(captor.capture());
+
+        final var actualQuery = captor.getValue();
+        Assertions.assertTrue(actualQuery.isKeyset());
+        Assertions.assertEquals(expectedCursor, actualQuery.cursor());
+        Assertions.assertEquals(expectedPerPage, actualQuery.perPage());
+        Assertions.assertEquals(expectedSort, actualQuery.sort());
+        Assertions.assertEquals(expectedDirection, actualQuery.direction());
+    }
+
     @Test
     public void givenValidVideoIAndFileType_whenCallsGetMediaById_thenReturnContent() throws Exception {
         final var expectedId = VideoID.unique();
         final var expectedMediaType = VIDEO;
         final var expectedResource = Fixture.Videos.resource(expectedMediaType);
 
-        final var expectedMedia =
-                new MediaOutput(expectedResource.content(), expectedResource.contentType(), expectedResource.name());
+        final var expectedMedia = MediaOutput.with(expectedResource);
 
         when(getMediaUseCase.execute(any()))
                 .thenReturn(expectedMedia);
@@ -657,9 +797,11 @@ class VideoAPITest {
         this.mvc.perform(aRequest)
                 .andExpect(status().isOk())
                 .andExpect(header().string(CONTENT_TYPE, expectedMedia.contentType()))
-                .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedMedia.content().length)))
+                .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedResource.content().length)))
                 .andExpect(header().string(CONTENT_DISPOSITION, "attachment; filename=%s".formatted(expectedMedia.name())))
-                .andExpect(content().bytes(expectedMedia.content()));
+                .andExpect(header().string(ETAG, "\"%s\"".formatted(expectedResource.checksum())))
+                .andExpect(header().string(ACCEPT_RANGES, "bytes"))
+                .andExpect(content().bytes(expectedResource.content()));
 
         final var cmdCaptor = ArgumentCaptor.forClass(GetMediaCommand.class);
 
@@ -671,6 +813,115 @@ class VideoAPITest {
         Assertions.assertEquals(expectedMediaType.name(), actualCmd.mediaType());
     }
 
+    @Test
+    public void givenValidRange_whenCallsGetMediaById_thenReturnPartialContent() throws Exception {
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VIDEO;
+        final var expectedContent = "0123456789".getBytes();
+        final var expectedResource = Resource.with("checksum", expectedContent, "video/mp4", "video.mp4");
+
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(MediaOutput.with(expectedResource));
+
+        final var aRequest =
+                get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                        .header(RANGE, "bytes=2-5")
+                        .with(ApiTest.VIDEOS_JWT);
+
+        this.mvc.perform(aRequest)
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(CONTENT_LENGTH, "4"))
+                .andExpect(header().string(CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(content().bytes("2345".getBytes()));
+    }
+
+    @Test
+    public void givenMultipleRanges_whenCallsGetMediaById_thenReturnSpanningPartialContent() throws Exception {
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VIDEO;
+        final var expectedContent = "0123456789".getBytes();
+        final var expectedResource = Resource.with("checksum", expectedContent, "video/mp4", "video.mp4");
+
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(MediaOutput.with(expectedResource));
+
+        final var aRequest =
+                get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                        .header(RANGE, "bytes=6-7, 1-2")
+                        .with(ApiTest.VIDEOS_JWT);
+
+        this.mvc.perform(aRequest)
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(CONTENT_TYPE, "video/mp4"))
+                .andExpect(header().string(CONTENT_LENGTH, "7"))
+                .andExpect(header().string(CONTENT_RANGE, "bytes 1-7/10"))
+                .andExpect(content().bytes("1234567".getBytes()));
+    }
+
+    @Test
+    public void givenFarApartRanges_whenCallsGetMediaById_thenReturnOnlyTheFirstRange() throws Exception {
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VIDEO;
+        final var expectedContent = new byte[1000];
+        Arrays.fill(expectedContent, (byte) 'a');
+        expectedContent[0] = 'b';
+        final var expectedResource = Resource.with("checksum", expectedContent, "video/mp4", "video.mp4");
+
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(MediaOutput.with(expectedResource));
+
+        final var aRequest =
+                get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                        .header(RANGE, "bytes=-1, 0-0")
+                        .with(ApiTest.VIDEOS_JWT);
+
+        this.mvc.perform(aRequest)
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(CONTENT_LENGTH, "1"))
+                .andExpect(header().string(CONTENT_RANGE, "bytes 0-0/1000"))
+                .andExpect(content().bytes("b".getBytes()));
+    }
+
+    @Test
+    public void givenUnsatisfiableRange_whenCallsGetMediaById_thenReturnRangeNotSatisfiable() throws Exception {
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VIDEO;
+        final var expectedResource = Resource.with("checksum", "0123456789".getBytes(), "video/mp4", "video.mp4");
+
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(MediaOutput.with(expectedResource));
+
+        final var aRequest =
+                get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                        .header(RANGE, "bytes=20-30")
+                        .with(ApiTest.VIDEOS_JWT);
+
+        this.mvc.perform(aRequest)
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(CONTENT_RANGE, "bytes */10"));
+    }
+
+    @Test
+    public void givenMatchingETag_whenCallsGetMediaById_thenReturnNotModified() throws Exception {
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VIDEO;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+        final var expectedETag = "\"%s\"".formatted(expectedResource.checksum());
+
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(MediaOutput.with(expectedResource));
+
+        final var aRequest =
+                get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                        .header(IF_NONE_MATCH, expectedETag)
+                        .with(ApiTest.VIDEOS_JWT);
+
+        this.mvc.perform(aRequest)
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, expectedETag))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
     @Test
     public void givenValidVideoIAndFileType_whenCallsUploadMedia_thenStoreIt() throws Exception {
         final var expectedId = VideoID.unique();
@@ -704,7 +955,10 @@ class VideoAPITest {
         final var actualCmd = cmdCaptor.getValue();
 
         Assertions.assertEquals(expectedId.getValue(), actualCmd.videoId());
-        Assertions.assertEquals(expectedResource.content(), actualCmd.videoResource().resource().content());
+        Assertions.assertTrue(actualCmd.videoResource().resource().isStreamed());
+        Assertions.assertThrows(IllegalStateException.class, () -> actualCmd.videoResource().resource().checksum());
+        Assertions.assertArrayEquals(expectedResource.content(), actualCmd.videoResource().resource().content());
+        Assertions.assertEquals(HashUtils.checksum(expectedResource.content()), actualCmd.videoResource().resource().checksum());
         Assertions.assertEquals(expectedResource.name(), actualCmd.videoResource().resource().name());
         Assertions.assertEquals(expectedResource.contentType(), actualCmd.videoResource().resource().contentType());
         Assertions.assertEquals(expectedMediaType, actualCmd.videoResource().type());
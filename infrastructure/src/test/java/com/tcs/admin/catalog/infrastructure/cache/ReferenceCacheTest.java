@@ -0,0 +1,164 @@
+package com.tcs.admin.catalog.infrastructure.cache;
+
+import com.tcs.admin.catalog.domain.category.Category;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ReferenceCacheTest {
+
+    private ApplicationEventPublisher publisher;
+
+    private ReferenceCache<Category> cache;
+
+    @BeforeEach
+    void setUp() {
+        this.publisher = Mockito.mock(ApplicationEventPublisher.class);
+        this.cache = new ReferenceCache<>("categories", Category::with, 100, Duration.ofMinutes(1), publisher);
+    }
+
+    @Test
+    public void givenCachedEntry_whenCallsGet_thenDoNotCallLoaderAgain() {
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var expectedId = aCategory.getId().getValue();
+        final var loads = new AtomicInteger();
+
+        final var first = cache.get(expectedId, id -> {
+            loads.incrementAndGet();
+            return Optional.of(aCategory);
+        });
+        final var second = cache.get(expectedId, id -> {
+            loads.incrementAndGet();
+            return Optional.of(aCategory);
+        });
+
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(aCategory.getId(), first.get().getId());
+        Assertions.assertEquals(aCategory.getId(), second.get().getId());
+    }
+
+    @Test
+    public void givenCachedEntry_whenCallerMutatesIt_thenCacheIsNotAffected() {
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var expectedId = aCategory.getId().getValue();
+
+        cache.get(expectedId, id -> Optional.of(aCategory)).get().update("Series", null, false);
+
+        final var actualCategory = cache.get(expectedId, id -> Optional.empty()).get();
+
+        Assertions.assertEquals("Movies", actualCategory.getName());
+        Assertions.assertTrue(actualCategory.isActive());
+    }
+
+    @Test
+    public void givenKnownIds_whenCallsExistsByIds_thenLoadOnlyUnknownOnes() {
+        final var loaded = new AtomicInteger();
+
+        final var first = cache.existsByIds(List.of("1", "2", "3"), ids -> {
+            loaded.addAndGet(ids.size());
+            return List.of("1", "2");
+        });
+        final var second = cache.existsByIds(List.of("1", "3", "4"), ids -> {
+            loaded.addAndGet(ids.size());
+            Assertions.assertEquals(List.of("4"), ids);
+            return List.of("4");
+        });
+
+        Assertions.assertEquals(Set.of("1", "2"), first);
+        Assertions.assertEquals(Set.of("1", "4"), second);
+        Assertions.assertEquals(4, loaded.get());
+    }
+
+    @Test
+    public void givenCachedEntry_whenCallsInvalidate_thenReloadAndPublishEvent() {
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var expectedId = aCategory.getId().getValue();
+
+        cache.get(expectedId, id -> Optional.of(aCategory));
+        cache.existsByIds(List.of(expectedId), ids -> List.of(expectedId));
+
+        cache.invalidate(expectedId);
+
+        Assertions.assertTrue(cache.get(expectedId, id -> Optional.empty()).isEmpty());
+        Assertions.assertEquals(Set.of(expectedId), cache.lookup(List.of(expectedId)).unknown());
+
+        verify(publisher, times(1)).publishEvent(argThat((Object event) ->
+                event instanceof ReferenceCacheInvalidated it
+                        && it.cache().equals("categories")
+                        && it.id().equals(expectedId)
+        ));
+    }
+
+    @Test
+    public void givenCachedEntry_whenCallsEvict_thenDoNotPublishEvent() {
+        final var expectedId = "123";
+
+        cache.existsByIds(List.of(expectedId), ids -> List.of(expectedId));
+
+        cache.evict(expectedId);
+
+        Assertions.assertEquals(Set.of(expectedId), cache.lookup(List.of(expectedId)).unknown());
+        Mockito.verifyNoInteractions(publisher);
+    }
+
+    @Test
+    public void givenEvictionDuringLoad_whenCallsGet_thenReturnButDoNotCacheLoadedEntry() {
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var expectedId = aCategory.getId().getValue();
+        final var loads = new AtomicInteger();
+
+        final var actualCategory = cache.get(expectedId, id -> {
+            loads.incrementAndGet();
+            // A write committing while the old state is being read
+            cache.evict(id);
+            return Optional.of(aCategory);
+        });
+        cache.get(expectedId, id -> {
+            loads.incrementAndGet();
+            return Optional.of(aCategory);
+        });
+        cache.get(expectedId, id -> {
+            loads.incrementAndGet();
+            return Optional.of(aCategory);
+        });
+
+        Assertions.assertEquals(aCategory.getId(), actualCategory.get().getId());
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void givenEvictionDuringExistsCheck_whenCallsExistsByIds_thenReturnButDoNotCacheTheResult() {
+        final var loads = new AtomicInteger();
+
+        final var actualIds = cache.existsByIds(List.of("1", "2"), ids -> {
+            loads.incrementAndGet();
+            // A delete of "1" committing after the check read it
+            cache.evict("1");
+            return List.of("1", "2");
+        });
+
+        Assertions.assertEquals(Set.of("1", "2"), actualIds);
+        Assertions.assertEquals(Set.of("1"), cache.lookup(List.of("1", "2")).unknown());
+        Assertions.assertEquals(Set.of("2"), cache.lookup(List.of("1", "2")).found());
+
+        final var nextIds = cache.existsByIds(List.of("1"), ids -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        Assertions.assertEquals(Set.of(), nextIds);
+        Assertions.assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,69 @@
+package com.tcs.admin.catalog.infrastructure.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ResponseCacheTest {
+
+    private ResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        this.cache = new ResponseCache(100, Duration.ofMinutes(1), Mockito.mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    public void givenMatchingETag_whenCallsRespond_thenReturnNotModifiedWithoutLoading() {
+        final var loads = new AtomicInteger();
+
+        final var first = cache.respond(ResponseCache.CATEGORIES, "123", null, () -> {
+            loads.incrementAndGet();
+            return ResponseCache.Entry.of(Map.of("name", "Movies"));
+        });
+        final var second = cache.respond(ResponseCache.CATEGORIES, "123", first.getHeaders().getETag(), () -> {
+            loads.incrementAndGet();
+            return ResponseCache.Entry.of(Map.of("name", "Movies"));
+        });
+
+        Assertions.assertEquals(HttpStatus.OK, first.getStatusCode());
+        Assertions.assertEquals(HttpStatus.NOT_MODIFIED, second.getStatusCode());
+        Assertions.assertEquals(first.getHeaders().getETag(), second.getHeaders().getETag());
+        Assertions.assertNull(second.getBody());
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void givenChangedBody_whenCallsRespondAfterInvalidate_thenReturnNewETag() {
+        final var first = cache.respond(ResponseCache.CATEGORIES, "123", null, () ->
+                ResponseCache.Entry.of(Map.of("name", "Movies")));
+
+        cache.invalidate(ResponseCache.CATEGORIES, "123");
+
+        final var second = cache.respond(ResponseCache.CATEGORIES, "123", first.getHeaders().getETag(), () ->
+                ResponseCache.Entry.of(Map.of("name", "Series")));
+
+        Assertions.assertEquals(HttpStatus.OK, second.getStatusCode());
+        Assertions.assertNotEquals(first.getHeaders().getETag(), second.getHeaders().getETag());
+    }
+
+    @Test
+    public void givenSameBody_whenCallsRespondAfterInvalidate_thenKeepETag() {
+        final var first = cache.respond(ResponseCache.GENRES, "123", null, () ->
+                ResponseCache.Entry.of(Map.of("name", "Drama")));
+
+        cache.invalidate(ResponseCache.GENRES, "123");
+
+        final var second = cache.respond(ResponseCache.GENRES, "123", first.getHeaders().getETag(), () ->
+                ResponseCache.Entry.of(Map.of("name", "Drama")));
+
+        Assertions.assertEquals(HttpStatus.NOT_MODIFIED, second.getStatusCode());
+    }
+}
@@ -5,15 +5,21 @@ import com.tcs.admin.catalog.domain.castmember.CastMember;
 import com.tcs.admin.catalog.domain.castmember.CastMemberGateway;
 import com.tcs.admin.catalog.domain.castmember.CastMemberID;
 import com.tcs.admin.catalog.domain.castmember.CastMemberType;
+import com.tcs.admin.catalog.domain.pagination.ChangesQuery;
+import com.tcs.admin.catalog.domain.pagination.Pagination;
 import com.tcs.admin.catalog.domain.pagination.SearchQuery;
 import com.tcs.admin.catalog.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import com.tcs.admin.catalog.infrastructure.castmember.persistence.CastMemberRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 @MySQLGatewayTest
 public class CastMemberMySQLGatewayTest {
@@ -57,6 +63,29 @@ public class CastMemberMySQLGatewayTest {
         Assertions.assertEquals(aCastMember.getUpdatedAt(), actualEntity.getUpdatedAt());
     }
 
+    @Test
+    public void givenValidCastMembers_whenCallsCreateAll_thenPersistAll() {
+        final var aCastMembers = List.of(
+                CastMember.newMember("Vin Diesel", CastMemberType.ACTOR),
+                CastMember.newMember("Justin Lin", CastMemberType.DIRECTOR),
+                CastMember.newMember("Michelle Rodriguez", CastMemberType.ACTOR)
+        );
+
+        final var actualCastMembers = castMemberGateway.createAll(aCastMembers);
+
+        Assertions.assertEquals(3, castMemberRepository.count());
+        Assertions.assertEquals(
+                aCastMembers.stream().map(CastMember::getId).toList(),
+                actualCastMembers.stream().map(CastMember::getId).toList()
+        );
+
+        final var actualEntity
+                = castMemberRepository.findById(aCastMembers.get(1).getId().getValue()).get();
+
+        Assertions.assertEquals("Justin Lin", actualEntity.getName());
+        Assertions.assertEquals(CastMemberType.DIRECTOR, actualEntity.getType());
+    }
+
     @Test
     public void givenValidCastMember_whenCallUpdate_thenReturnCastMemberUpdated() {
         final var expectedName = "Vin Diesel";
@@ -298,4 +327,84 @@ public class CastMemberMySQLGatewayTest {
         Assertions.assertEquals(expectedPerPage, actualResult.items().size());
         Assertions.assertEquals(member1.getId().getValue(), actualResult.items().get(0).getId().getValue());
     }
+
+    @ParameterizedTest
+    @CsvSource({
+            "name,asc,Mel Gibson;Tarantino;Vin Diesel",
+            "name,desc,Vin Diesel;Tarantino;Mel Gibson"
+    })
+    public void givenFollowCursor_whenCallsFindAllWithKeyset_thenReturnEveryCastMemberOnce(
+            final String expectedSort,
+            final String expectedDirection,
+            final String expectedNames
+    ) {
+        mockCastMembers();
+
+        final var actualNames = seekAll(expectedSort, expectedDirection);
+
+        Assertions.assertEquals(List.of(expectedNames.split(";")), actualNames);
+    }
+
+    @Test
+    public void givenTiedSortKeys_whenCallsFindAllWithKeyset_thenBreakTiesById() {
+        mockCastMembers();
+
+        final var actualNames = seekAll("type", "asc");
+
+        Assertions.assertEquals(3, actualNames.size());
+        Assertions.assertEquals("Vin Diesel", actualNames.get(0));
+        Assertions.assertEquals(Set.of("Mel Gibson", "Tarantino"), Set.copyOf(actualNames.subList(1, 3)));
+    }
+
+    @Test
+    public void givenChangedAndDeletedCastMembers_whenCallsFindChanges_thenFollowCursorThroughTombstones() {
+        final var vin = castMemberGateway.create(CastMember.newMember("Vin Diesel", CastMemberType.ACTOR));
+        final var mel = castMemberGateway.create(CastMember.newMember("Mel Gibson", CastMemberType.DIRECTOR));
+
+        var actualPage = castMemberGateway.findChanges(new ChangesQuery("", 1));
+
+        Assertions.assertEquals(1, actualPage.items().size());
+        Assertions.assertEquals(vin.getId().getValue(), actualPage.items().get(0).id());
+        Assertions.assertEquals("Vin Diesel", actualPage.items().get(0).item().getName());
+
+        castMemberGateway.update(vin.update("Vin Diesel Jr", CastMemberType.ACTOR));
+        castMemberGateway.deleteById(mel.getId());
+
+        actualPage = castMemberGateway.findChanges(new ChangesQuery(actualPage.nextCursor(), 10));
+
+        Assertions.assertEquals(2, actualPage.items().size());
+        Assertions.assertEquals(vin.getId().getValue(), actualPage.items().get(0).id());
+        Assertions.assertEquals("Vin Diesel Jr", actualPage.items().get(0).item().getName());
+        Assertions.assertEquals(mel.getId().getValue(), actualPage.items().get(1).id());
+        Assertions.assertTrue(actualPage.items().get(1).isDeleted());
+        Assertions.assertNull(actualPage.items().get(1).item());
+
+        final var lastCursor = actualPage.nextCursor();
+        actualPage = castMemberGateway.findChanges(new ChangesQuery(lastCursor, 10));
+
+        Assertions.assertTrue(actualPage.items().isEmpty());
+        Assertions.assertEquals(lastCursor, actualPage.nextCursor());
+    }
+
+    private List<String> seekAll(final String sort, final String direction) {
+        final var actualNames = new ArrayList<String>();
+        var cursor = "";
+        do {
+            final var actualPage = castMemberGateway.findAll(new SearchQuery(0, 1, "", sort, direction, cursor));
+
+            Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualPage.total());
+
+            actualPage.items().forEach(it -> actualNames.add(it.getName()));
+            cursor = actualPage.nextCursor();
+        } while (cursor != null);
+        return actualNames;
+    }
+
+    private void mockCastMembers() {
+        castMemberRepository.saveAll(List.of(
+                CastMemberJpaEntity.from(CastMember.newMember("Vin Diesel", CastMemberType.ACTOR)),
+                CastMemberJpaEntity.from(CastMember.newMember("Mel Gibson", CastMemberType.DIRECTOR)),
+                CastMemberJpaEntity.from(CastMember.newMember("Tarantino", CastMemberType.DIRECTOR))
+        ));
+    }
 }
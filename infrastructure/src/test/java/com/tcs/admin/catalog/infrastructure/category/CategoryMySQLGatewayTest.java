@@ -2,6 +2,8 @@ package com.tcs.admin.catalog.infrastructure.category;
 
 import com.tcs.admin.catalog.domain.category.Category;
 import com.tcs.admin.catalog.domain.category.CategoryID;
+import com.tcs.admin.catalog.domain.pagination.ChangesQuery;
+import com.tcs.admin.catalog.domain.pagination.Pagination;
 import com.tcs.admin.catalog.domain.pagination.SearchQuery;
 import com.tcs.admin.catalog.MySQLGatewayTest;
 import com.tcs.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
@@ -11,7 +13,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Stream;
 
 @MySQLGatewayTest
 public class CategoryMySQLGatewayTest {
@@ -267,6 +272,67 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertEquals(movies3.getId(), actualResult.items().get(0).getId());
     }
 
+    @Test
+    public void givenFollowCursor_whenCallsFindAllWithKeyset_shouldReturnPaginated() {
+        final var expectedPerPage = 2;
+
+        final var movies1 = Category.newCategory("Movies 1", null, true);
+        final var movies2 = Category.newCategory("Movies 2", null, true);
+        final var movies3 = Category.newCategory("Movies 3", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(movies1),
+                CategoryJpaEntity.from(movies2),
+                CategoryJpaEntity.from(movies3)
+        ));
+
+        // First page
+        var aQuery = new SearchQuery(0, expectedPerPage, "", "name", "asc", "");
+        var actualResult = categoryGateway.findAll(aQuery);
+
+        Assertions.assertEquals(expectedPerPage, actualResult.perPage());
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        Assertions.assertEquals(2, actualResult.items().size());
+        Assertions.assertEquals(movies1.getId(), actualResult.items().get(0).getId());
+        Assertions.assertEquals(movies2.getId(), actualResult.items().get(1).getId());
+        Assertions.assertNotNull(actualResult.nextCursor());
+
+        // Next page
+        aQuery = new SearchQuery(0, expectedPerPage, "", "name", "asc", actualResult.nextCursor());
+        actualResult = categoryGateway.findAll(aQuery);
+
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertEquals(movies3.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    public void givenNullSortKeys_whenCallsFindAllWithKeyset_thenReturnEveryCategoryOnce() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", "B", true);
+        final var docs = Category.newCategory("Docs", null, true);
+        final var kids = Category.newCategory("Kids", "A", true);
+
+        categoryRepository.saveAll(Stream.of(movies, series, docs, kids)
+                .map(CategoryJpaEntity::from)
+                .toList());
+
+        // NULL descriptions rank below any value and tie on the id
+        final var nulls = Stream.of(movies, docs)
+                .map(it -> it.getId().getValue())
+                .sorted()
+                .toList();
+
+        final var expectedAsc = new ArrayList<>(nulls);
+        expectedAsc.addAll(List.of(kids.getId().getValue(), series.getId().getValue()));
+
+        final var expectedDesc = new ArrayList<>(List.of(series.getId().getValue(), kids.getId().getValue()));
+        expectedDesc.addAll(nulls.stream().sorted(Comparator.reverseOrder()).toList());
+
+        Assertions.assertEquals(expectedAsc, seekAll("description", "asc"));
+        Assertions.assertEquals(expectedDesc, seekAll("description", "desc"));
+    }
+
     @Test
     public void givenPrePersistedCategoriesAndDocAsTerms_whenCallsFindAllAndTermsMatchesCategoryNAme_shouldReturnPaginated() {
         final var expectedPage = 0;
@@ -353,4 +419,69 @@ public class CategoryMySQLGatewayTest {
                 && expectedIds.containsAll(actualResult)
         );
     }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsForEach_thenVisitAllOrderedById() {
+        final var movies = Category.newCategory("Movies", "Most watched", true);
+        final var series = Category.newCategory("Series", "Watched in seasons", true);
+        final var documentaries = Category.newCategory("Documentaries", "Popular", false);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries)
+        ));
+
+        final var expectedIds = Stream.of(movies, series, documentaries)
+                .map(Category::getId)
+                .sorted(Comparator.comparing(CategoryID::getValue))
+                .toList();
+
+        final var actualIds = new ArrayList<CategoryID>();
+        categoryGateway.forEach(it -> actualIds.add(it.getId()));
+
+        Assertions.assertEquals(expectedIds, actualIds);
+    }
+
+    @Test
+    public void givenChangedAndDeletedCategories_whenCallsFindChanges_thenFollowCursorThroughTombstones() {
+        final var movies = categoryGateway.create(Category.newCategory("Movies", "Most watched", true));
+        final var series = categoryGateway.create(Category.newCategory("Series", "Watched in seasons", true));
+        final var documentaries = categoryGateway.create(Category.newCategory("Documentaries", "Popular", true));
+
+        var actualPage = categoryGateway.findChanges(new ChangesQuery("", 2));
+
+        Assertions.assertEquals(2, actualPage.items().size());
+        Assertions.assertEquals(movies.getId().getValue(), actualPage.items().get(0).id());
+        Assertions.assertEquals(series.getId().getValue(), actualPage.items().get(1).id());
+        Assertions.assertEquals("Movies", actualPage.items().get(0).item().getName());
+        Assertions.assertNotNull(actualPage.nextCursor());
+
+        categoryGateway.deleteById(movies.getId());
+
+        actualPage = categoryGateway.findChanges(new ChangesQuery(actualPage.nextCursor(), 2));
+
+        Assertions.assertEquals(2, actualPage.items().size());
+        Assertions.assertEquals(documentaries.getId().getValue(), actualPage.items().get(0).id());
+        Assertions.assertFalse(actualPage.items().get(0).isDeleted());
+        Assertions.assertEquals(movies.getId().getValue(), actualPage.items().get(1).id());
+        Assertions.assertTrue(actualPage.items().get(1).isDeleted());
+
+        final var lastCursor = actualPage.nextCursor();
+        actualPage = categoryGateway.findChanges(new ChangesQuery(lastCursor, 2));
+
+        Assertions.assertTrue(actualPage.items().isEmpty());
+        Assertions.assertEquals(lastCursor, actualPage.nextCursor());
+    }
+
+    private List<String> seekAll(final String sort, final String direction) {
+        final var actualIds = new ArrayList<String>();
+        var cursor = "";
+        do {
+            final var actualResult = categoryGateway.findAll(new SearchQuery(0, 1, "", sort, direction, cursor));
+            actualResult.items().forEach(it -> actualIds.add(it.getId().getValue()));
+            cursor = actualResult.nextCursor();
+        } while (cursor != null);
+        return actualIds;
+    }
 }
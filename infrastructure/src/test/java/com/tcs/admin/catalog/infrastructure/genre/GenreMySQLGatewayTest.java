@@ -5,10 +5,13 @@ import com.tcs.admin.catalog.domain.category.Category;
 import com.tcs.admin.catalog.domain.category.CategoryID;
 import com.tcs.admin.catalog.domain.genre.Genre;
 import com.tcs.admin.catalog.domain.genre.GenreID;
+import com.tcs.admin.catalog.domain.pagination.ChangesQuery;
+import com.tcs.admin.catalog.domain.pagination.Pagination;
 import com.tcs.admin.catalog.domain.pagination.SearchQuery;
 import com.tcs.admin.catalog.infrastructure.category.CategoryMySQLGateway;
 import com.tcs.admin.catalog.infrastructure.genre.persistence.GenreJpaEntity;
 import com.tcs.admin.catalog.infrastructure.genre.persistence.GenreRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +19,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
@@ -31,6 +35,9 @@ public class GenreMySQLGatewayTest {
     @Autowired
     private GenreRepository genreRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @BeforeEach
     void cleanUp() {
         this.genreRepository.deleteAll();
@@ -520,6 +527,91 @@ public class GenreMySQLGatewayTest {
         }
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "name,asc,Action;Comedy;Drama;Scientific Fiction;Terror",
+            "name,desc,Terror;Scientific Fiction;Drama;Comedy;Action"
+    })
+    public void givenFollowCursor_whenCallsFindAllWithKeyset_thenReturnEveryGenreOnce(
+            final String expectedSort,
+            final String expectedDirection,
+            final String expectedGenres
+    ) {
+        final var expectedPerPage = 2;
+
+        mockGenres();
+
+        final var actualNames = new ArrayList<String>();
+        var cursor = "";
+        do {
+            final var aQuery = new SearchQuery(0, expectedPerPage, "", expectedSort, expectedDirection, cursor);
+            final var actualPage = genreGateway.findAll(aQuery);
+
+            Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualPage.total());
+            Assertions.assertTrue(actualPage.items().size() <= expectedPerPage);
+
+            actualPage.items().forEach(it -> actualNames.add(it.getName()));
+            cursor = actualPage.nextCursor();
+        } while (cursor != null);
+
+        Assertions.assertEquals(List.of(expectedGenres.split(";")), actualNames);
+    }
+
+    @Test
+    public void givenChangedAndDeletedGenres_whenCallsFindChanges_thenFollowCursorThroughTombstones() {
+        final var drama = genreGateway.create(Genre.newGenre("Drama", true));
+        final var action = genreGateway.create(Genre.newGenre("Action", true));
+
+        var actualPage = genreGateway.findChanges(new ChangesQuery("", 10));
+
+        Assertions.assertEquals(2, actualPage.items().size());
+        Assertions.assertEquals(drama.getId().getValue(), actualPage.items().get(0).id());
+        Assertions.assertEquals(action.getId().getValue(), actualPage.items().get(1).id());
+        Assertions.assertEquals("Drama", actualPage.items().get(0).item().getName());
+
+        genreGateway.update(action.update("Adventure", true, action.getCategories()));
+        genreGateway.deleteById(drama.getId());
+
+        actualPage = genreGateway.findChanges(new ChangesQuery(actualPage.nextCursor(), 10));
+
+        Assertions.assertEquals(2, actualPage.items().size());
+        Assertions.assertEquals(action.getId().getValue(), actualPage.items().get(0).id());
+        Assertions.assertEquals("Adventure", actualPage.items().get(0).item().getName());
+        Assertions.assertEquals(drama.getId().getValue(), actualPage.items().get(1).id());
+        Assertions.assertTrue(actualPage.items().get(1).isDeleted());
+
+        final var lastCursor = actualPage.nextCursor();
+        actualPage = genreGateway.findChanges(new ChangesQuery(lastCursor, 10));
+
+        Assertions.assertTrue(actualPage.items().isEmpty());
+        Assertions.assertEquals(lastCursor, actualPage.nextCursor());
+    }
+
+    @Test
+    public void givenGenreOfDeletedCategory_whenCallsFindChanges_thenReportTheGenreAgain() {
+        final var movies = categoryGateway.create(Category.newCategory("Movies", null, true));
+
+        final var aGenre = Genre.newGenre("Drama", true);
+        aGenre.addCategories(List.of(movies.getId()));
+        final var drama = genreGateway.create(aGenre);
+        genreGateway.create(Genre.newGenre("Action", true));
+
+        final var cursor = genreGateway.findChanges(new ChangesQuery("", 10)).nextCursor();
+
+        categoryGateway.deleteById(movies.getId());
+
+        // As the commit would: the links cascaded by the database are not in the persistence context
+        entityManager.flush();
+        entityManager.clear();
+
+        final var actualPage = genreGateway.findChanges(new ChangesQuery(cursor, 10));
+
+        Assertions.assertEquals(1, actualPage.items().size());
+        Assertions.assertEquals(drama.getId().getValue(), actualPage.items().get(0).id());
+        Assertions.assertFalse(actualPage.items().get(0).isDeleted());
+        Assertions.assertTrue(actualPage.items().get(0).item().getCategories().isEmpty());
+    }
+
     private void mockGenres() {
         genreRepository.saveAllAndFlush(List.of(
                 GenreJpaEntity.from(Genre.newGenre("Drama", true)),
@@ -0,0 +1,124 @@
+package com.tcs.admin.catalog.infrastructure.observability;
+
+import com.tcs.admin.catalog.application.category.delete.DefaultDeleteCategoryUseCase;
+import com.tcs.admin.catalog.application.category.delete.DeleteCategoryUseCase;
+import com.tcs.admin.catalog.domain.Fixture;
+import com.tcs.admin.catalog.domain.category.CategoryGateway;
+import com.tcs.admin.catalog.domain.video.MediaType;
+import com.tcs.admin.catalog.infrastructure.services.StorageService;
+import com.tcs.admin.catalog.infrastructure.services.local.InMemoryStorageService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+
+public class InstrumentationAdvisorTest {
+
+    private MeterRegistry meters;
+
+    private InstrumentationAdvisor advisor;
+
+    @BeforeEach
+    void setUp() {
+        this.meters = new SimpleMeterRegistry();
+        final var observations = ObservationRegistry.create();
+        observations.observationConfig().observationHandler(new DefaultMeterObservationHandler(meters));
+
+        final var beans = new DefaultListableBeanFactory();
+        beans.registerSingleton("observationRegistry", observations);
+        beans.registerSingleton("meterRegistry", meters);
+        this.advisor = new InstrumentationAdvisor(
+                beans.getBeanProvider(ObservationRegistry.class),
+                beans.getBeanProvider(MeterRegistry.class)
+        );
+    }
+
+    @Test
+    public void givenUseCase_whenCallsExecute_thenTimeUseCaseAndItsGateway() {
+        final var gateway = proxy(Mockito.mock(CategoryGateway.class));
+        final DeleteCategoryUseCase useCase = proxy(new DefaultDeleteCategoryUseCase(gateway));
+
+        useCase.execute("123");
+
+        final var execute = meters.get(InstrumentationAdvisor.USE_CASE_OBSERVATION)
+                .tag("usecase", "DeleteCategoryUseCase")
+                .tag("error", "none")
+                .timer();
+        Assertions.assertEquals(1, execute.count());
+
+        final var deleteById = meters.get(InstrumentationAdvisor.GATEWAY_OBSERVATION)
+                .tag("gateway", "CategoryGateway")
+                .tag("method", "deleteById")
+                .timer();
+        Assertions.assertEquals(1, deleteById.count());
+    }
+
+    @Test
+    public void givenFailingGateway_whenCallsExecute_thenTagTimersWithError() {
+        final var gateway = Mockito.mock(CategoryGateway.class);
+        doThrow(new IllegalStateException("boom")).when(gateway).deleteById(any());
+        final DeleteCategoryUseCase useCase = proxy(new DefaultDeleteCategoryUseCase(proxy(gateway)));
+
+        Assertions.assertThrows(IllegalStateException.class, () -> useCase.execute("123"));
+
+        Assertions.assertEquals(1, meters.get(InstrumentationAdvisor.USE_CASE_OBSERVATION)
+                .tag("error", "IllegalStateException")
+                .timer()
+                .count());
+        Assertions.assertEquals(1, meters.get(InstrumentationAdvisor.GATEWAY_OBSERVATION)
+                .tag("error", "IllegalStateException")
+                .timer()
+                .count());
+    }
+
+    @Test
+    public void givenStorage_whenStoresAndGetsResource_thenRecordPayloadSize() {
+        final StorageService storage = proxy(new InMemoryStorageService());
+        final var resource = Fixture.Videos.resource(MediaType.VIDEO);
+
+        storage.store("video", resource);
+        storage.get("video");
+        storage.list("video");
+
+        Assertions.assertEquals(resource.size(), meters.get(InstrumentationAdvisor.STORAGE_PAYLOAD)
+                .tag("method", "store")
+                .summary()
+                .totalAmount());
+        Assertions.assertEquals(resource.size(), meters.get(InstrumentationAdvisor.STORAGE_PAYLOAD)
+                .tag("method", "get")
+                .summary()
+                .totalAmount());
+        Assertions.assertEquals(3, meters.get(InstrumentationAdvisor.GATEWAY_OBSERVATION)
+                .tag("gateway", "StorageService")
+                .timers()
+                .size());
+    }
+
+    @Test
+    public void givenObjectMethods_whenCalled_thenNotObserved() {
+        final StorageService storage = proxy(new InMemoryStorageService());
+        final DeleteCategoryUseCase useCase = proxy(new DefaultDeleteCategoryUseCase(Mockito.mock(CategoryGateway.class)));
+
+        Assertions.assertNotNull(storage.toString());
+        Assertions.assertNotNull(useCase.toString());
+
+        Assertions.assertTrue(meters.find(InstrumentationAdvisor.GATEWAY_OBSERVATION).timers().isEmpty());
+        Assertions.assertTrue(meters.find(InstrumentationAdvisor.USE_CASE_OBSERVATION).timers().isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(final T target) {
+        final var factory = new ProxyFactory(target);
+        factory.addAdvisor(this.advisor);
+        return (T) factory.getProxy();
+    }
+}
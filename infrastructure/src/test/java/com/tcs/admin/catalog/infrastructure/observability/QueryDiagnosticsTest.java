@@ -0,0 +1,83 @@
+package com.tcs.admin.catalog.infrastructure.observability;
+
+import com.tcs.admin.catalog.infrastructure.configuration.properties.diagnostics.DiagnosticsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.time.Duration;
+import java.util.List;
+
+public class QueryDiagnosticsTest {
+
+    private MeterRegistry meters;
+
+    private ObservationRegistry observations;
+
+    private QueryDiagnostics diagnostics;
+
+    @BeforeEach
+    void setUp() {
+        this.meters = new SimpleMeterRegistry();
+        this.observations = ObservationRegistry.create();
+
+        final var beans = new DefaultListableBeanFactory();
+        beans.registerSingleton("observationRegistry", observations);
+        beans.registerSingleton("meterRegistry", meters);
+        this.diagnostics = new QueryDiagnostics(
+                beans.getBeanProvider(ObservationRegistry.class),
+                beans.getBeanProvider(MeterRegistry.class),
+                new DiagnosticsProperties().setSlowQueryThreshold(Duration.ofMillis(100))
+        );
+        this.observations.observationConfig().observationHandler(diagnostics);
+    }
+
+    @Test
+    public void givenUseCase_whenRunsStatements_thenRecordThemUnderItsName() {
+        useCase("ListVideosUseCase").observe(() -> {
+            diagnostics.afterQuery(execution(2), List.of(new QueryInfo("select * from videos")));
+            diagnostics.afterQuery(execution(3), List.of(new QueryInfo("select count(*) from videos")));
+        });
+
+        final var statements = meters.get(QueryDiagnostics.STATEMENTS)
+                .tag("usecase", "ListVideosUseCase")
+                .summary();
+        Assertions.assertEquals(1, statements.count());
+        Assertions.assertEquals(2, statements.totalAmount());
+        Assertions.assertNull(meters.find(QueryDiagnostics.SLOW_QUERIES).counter());
+    }
+
+    @Test
+    public void givenSlowStatement_whenRuns_thenCountItForTheUseCase() {
+        useCase("CreateVideoUseCase").observe(() ->
+                diagnostics.afterQuery(execution(250), List.of(new QueryInfo("insert into videos values (?)"))));
+        diagnostics.afterQuery(execution(300), List.of(new QueryInfo("delete from outbox_events")));
+
+        Assertions.assertEquals(1, meters.get(QueryDiagnostics.SLOW_QUERIES)
+                .tag("usecase", "CreateVideoUseCase")
+                .counter()
+                .count());
+        Assertions.assertEquals(1, meters.get(QueryDiagnostics.SLOW_QUERIES)
+                .tag("usecase", "none")
+                .counter()
+                .count());
+    }
+
+    private Observation useCase(final String name) {
+        return Observation.createNotStarted(InstrumentationAdvisor.USE_CASE_OBSERVATION, observations)
+                .lowCardinalityKeyValue("usecase", name);
+    }
+
+    private static ExecutionInfo execution(final long elapsedMillis) {
+        final var execution = new ExecutionInfo();
+        execution.setElapsedTime(elapsedMillis);
+        return execution;
+    }
+}
@@ -0,0 +1,53 @@
+package com.tcs.admin.catalog.infrastructure.outbox;
+
+import com.tcs.admin.catalog.IntegrationTest;
+import com.tcs.admin.catalog.domain.video.VideoMediaCreated;
+import com.tcs.admin.catalog.infrastructure.configuration.json.Json;
+import com.tcs.admin.catalog.infrastructure.outbox.persistence.OutboxEventRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@IntegrationTest
+public class OutboxEventServiceTest {
+
+    @Autowired
+    private OutboxEventRepository repository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private OutboxEventService eventService;
+
+    @BeforeEach
+    void setUp() {
+        this.repository.deleteAll();
+        this.eventService = new OutboxEventService("video.events", "video.created", repository);
+    }
+
+    @Test
+    public void givenCommittedTransaction_whenCallsSend_thenStoreEvent() {
+        final var event = new VideoMediaCreated("resource", "filepath");
+
+        transactionTemplate.executeWithoutResult(status -> eventService.send(event));
+
+        final var actualEvents = repository.findAll();
+        Assertions.assertEquals(1, actualEvents.size());
+        Assertions.assertEquals("video.events", actualEvents.get(0).getExchange());
+        Assertions.assertEquals("video.created", actualEvents.get(0).getRoutingKey());
+        Assertions.assertEquals(Json.writeValueAsString(event), actualEvents.get(0).getPayload());
+        Assertions.assertNull(actualEvents.get(0).getClaimedBy());
+    }
+
+    @Test
+    public void givenRolledBackTransaction_whenCallsSend_thenDoNotStoreEvent() {
+        transactionTemplate.executeWithoutResult(status -> {
+            eventService.send(new VideoMediaCreated("resource", "filepath"));
+            status.setRollbackOnly();
+        });
+
+        Assertions.assertEquals(0, repository.count());
+    }
+}
@@ -0,0 +1,78 @@
+package com.tcs.admin.catalog.infrastructure.outbox;
+
+import com.tcs.admin.catalog.IntegrationTest;
+import com.tcs.admin.catalog.infrastructure.configuration.properties.outbox.OutboxProperties;
+import com.tcs.admin.catalog.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.tcs.admin.catalog.infrastructure.outbox.persistence.OutboxEventRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@IntegrationTest
+public class OutboxRelayTest {
+
+    @Autowired
+    private OutboxEventRepository repository;
+
+    private RabbitOperations ops;
+
+    @BeforeEach
+    void setUp() {
+        this.repository.deleteAll();
+        this.ops = Mockito.mock(RabbitOperations.class);
+    }
+
+    @Test
+    public void givenPendingEvents_whenCallsDrain_thenPublishInConfirmedBatchesAndDelete() {
+        repository.saveAll(List.of(
+                OutboxEventJpaEntity.with("video.events", "video.created", "{\"id\":1}"),
+                OutboxEventJpaEntity.with("video.events", "video.created", "{\"id\":2}"),
+                OutboxEventJpaEntity.with("video.events", "video.created", "{\"id\":3}")
+        ));
+
+        confirmWith(true);
+
+        final var relay = new OutboxRelay(repository, ops, new OutboxProperties().setBatchSize(2));
+
+        relay.drain();
+
+        verify(ops, times(3)).convertAndSend(eq("video.events"), eq("video.created"), anyString(), any(CorrelationData.class));
+        Assertions.assertEquals(0, repository.count());
+    }
+
+    @Test
+    public void givenNackedBatch_whenCallsDrain_thenKeepEventsClaimed() {
+        repository.saveAll(List.of(
+                OutboxEventJpaEntity.with("video.events", "video.created", "{\"id\":1}"),
+                OutboxEventJpaEntity.with("video.events", "video.created", "{\"id\":2}")
+        ));
+        confirmWith(false);
+
+        new OutboxRelay(repository, ops, new OutboxProperties()).drain();
+
+        Assertions.assertEquals(2, repository.count());
+        repository.findAll().forEach(it -> Assertions.assertNotNull(it.getClaimedBy()));
+
+        final var otherOps = Mockito.mock(RabbitOperations.class);
+        new OutboxRelay(repository, otherOps, new OutboxProperties()).drain();
+
+        verifyNoInteractions(otherOps);
+        Assertions.assertEquals(2, repository.count());
+    }
+
+    private void confirmWith(final boolean ack) {
+        doAnswer(it -> {
+            it.<CorrelationData>getArgument(3).getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+            return null;
+        }).when(ops).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+    }
+}
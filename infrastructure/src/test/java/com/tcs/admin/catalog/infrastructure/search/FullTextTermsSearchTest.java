@@ -0,0 +1,28 @@
+package com.tcs.admin.catalog.infrastructure.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class FullTextTermsSearchTest {
+
+    @Test
+    public void givenTerms_whenCallsBooleanQuery_thenRequireEveryWordAsPrefix() {
+        Assertions.assertEquals("+mais* +assistidos*", FullTextTermsSearch.booleanQuery("mais assistidos"));
+    }
+
+    @Test
+    public void givenOperators_whenCallsBooleanQuery_thenStripThem() {
+        Assertions.assertEquals("+ação* +drama*", FullTextTermsSearch.booleanQuery("-ação \"drama*\""));
+    }
+
+    @Test
+    public void givenBlankTerms_whenCallsBooleanQuery_thenReturnNull() {
+        Assertions.assertNull(FullTextTermsSearch.booleanQuery(null));
+        Assertions.assertNull(FullTextTermsSearch.booleanQuery("  "));
+    }
+
+    @Test
+    public void givenThreeColumns_whenCreates_thenThrowsIllegalArgument() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new FullTextTermsSearch<>("a", "b", "c"));
+    }
+}
@@ -0,0 +1,136 @@
+package com.tcs.admin.catalog.infrastructure.search;
+
+import com.tcs.admin.catalog.MySQLGatewayTest;
+import com.tcs.admin.catalog.domain.castmember.CastMember;
+import com.tcs.admin.catalog.domain.castmember.CastMemberType;
+import com.tcs.admin.catalog.domain.category.Category;
+import com.tcs.admin.catalog.domain.genre.Genre;
+import com.tcs.admin.catalog.domain.pagination.SearchQuery;
+import com.tcs.admin.catalog.infrastructure.castmember.CastMemberMySQLGateway;
+import com.tcs.admin.catalog.infrastructure.category.CategoryMySQLGateway;
+import com.tcs.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+import com.tcs.admin.catalog.infrastructure.category.persistence.CategoryRepository;
+import com.tcs.admin.catalog.infrastructure.genre.GenreMySQLGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+/**
+ * Runs the gateways with {@code SEARCH_*=index}: the terms are resolved by the in-memory index,
+ * which is built on the first search and shared by the tests of the context.
+ */
+@MySQLGatewayTest
+@TestPropertySource(properties = {
+        "search.categories=index",
+        "search.genres=index",
+        "search.cast-members=index"
+})
+public class IndexedSearchGatewayTest {
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private GenreMySQLGateway genreGateway;
+
+    @Autowired
+    private CastMemberMySQLGateway castMemberGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TermsSearch<CategoryJpaEntity> categorySearch;
+
+    @Test
+    public void givenIndexMode_whenStartsTheContext_thenUseTheInMemoryIndex() {
+        Assertions.assertInstanceOf(IndexedTermsSearch.class, categorySearch);
+    }
+
+    @Test
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.BEFORE_METHOD)
+    public void givenPersistedCategories_whenCallsFindAllWithTerms_thenMatchWordPrefixes() {
+        // Saved around the gateway, so they can only be found by loading a fresh index
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Most watched movies", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Series", "Less watched", true))
+        ));
+
+        Assertions.assertEquals(List.of("Most watched movies", "Series"), categoryNames("watch"));
+        Assertions.assertEquals(List.of("Most watched movies"), categoryNames("mov WATCHED"));
+
+        // Unlike LIKE, a word is not matched in the middle
+        Assertions.assertEquals(List.of(), categoryNames("atched"));
+    }
+
+    @Test
+    public void givenUpdatedAndDeletedCategories_whenCallsFindAllWithTerms_thenReflectTheWrites() {
+        final var movies = categoryGateway.create(Category.newCategory("Movies", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Series", null, true));
+
+        Assertions.assertEquals(List.of("Movies"), categoryNames("movies"));
+
+        categoryGateway.update(movies.update("Documentaries", null, true));
+        categoryGateway.deleteById(series.getId());
+
+        Assertions.assertEquals(List.of(), categoryNames("movies"));
+        Assertions.assertEquals(List.of("Documentaries"), categoryNames("docu"));
+        Assertions.assertEquals(List.of(), categoryNames("series"));
+    }
+
+    @Test
+    public void givenGenres_whenCallsFindAllWithTerms_thenReflectTheWrites() {
+        final var drama = genreGateway.create(Genre.newGenre("Drama", true));
+        genreGateway.create(Genre.newGenre("Comedy", true));
+
+        Assertions.assertEquals(List.of("Drama"), genreNames("dra"));
+
+        genreGateway.update(drama.update("Romance", true, drama.getCategories()));
+
+        Assertions.assertEquals(List.of(), genreNames("dra"));
+        Assertions.assertEquals(List.of("Romance"), genreNames("rom"));
+
+        genreGateway.deleteById(drama.getId());
+
+        Assertions.assertEquals(List.of(), genreNames("rom"));
+    }
+
+    @Test
+    public void givenCastMembers_whenCallsFindAllWithTerms_thenReflectTheWrites() {
+        final var vin = castMemberGateway.create(CastMember.newMember("Vin Diesel", CastMemberType.ACTOR));
+        castMemberGateway.create(CastMember.newMember("Mel Gibson", CastMemberType.DIRECTOR));
+
+        Assertions.assertEquals(List.of("Vin Diesel"), castMemberNames("dies"));
+
+        castMemberGateway.update(vin.update("Quentin Tarantino", CastMemberType.DIRECTOR));
+
+        Assertions.assertEquals(List.of(), castMemberNames("dies"));
+        Assertions.assertEquals(List.of("Quentin Tarantino"), castMemberNames("taran"));
+
+        castMemberGateway.deleteById(vin.getId());
+
+        Assertions.assertEquals(List.of(), castMemberNames("taran"));
+    }
+
+    private List<String> categoryNames(final String terms) {
+        return categoryGateway.findAll(new SearchQuery(0, 10, terms, "name", "asc")).items().stream()
+                .map(Category::getName)
+                .toList();
+    }
+
+    private List<String> genreNames(final String terms) {
+        return genreGateway.findAll(new SearchQuery(0, 10, terms, "name", "asc")).items().stream()
+                .map(Genre::getName)
+                .toList();
+    }
+
+    private List<String> castMemberNames(final String terms) {
+        return castMemberGateway.findAll(new SearchQuery(0, 10, terms, "name", "asc")).items().stream()
+                .map(CastMember::getName)
+                .toList();
+    }
+}
@@ -0,0 +1,123 @@
+package com.tcs.admin.catalog.infrastructure.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public class IndexedTermsSearchTest {
+
+    // Always elapsed, so every search after the first load asks for a rebuild
+    private static final Duration EXPIRED = Duration.ofSeconds(-1);
+
+    private final List<SearchDocument> rows = new CopyOnWriteArrayList<>();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        this.rows.add(new SearchDocument("1", "Movies"));
+    }
+
+    @Test
+    public void givenWritesDuringReload_whenReloadCompletes_thenReplayThemOnTheFreshIndex() throws Exception {
+        final var loading = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var refreshes = new ArrayList<Thread>();
+
+        final var search = new IndexedTermsSearch<SearchDocument>(
+                "test",
+                Function.identity(),
+                () -> {
+                    // Read before the writes below, as a query started before them would
+                    final var snapshot = List.copyOf(this.rows);
+                    if (this.loads.incrementAndGet() == 2) {
+                        loading.countDown();
+                        await(release);
+                    }
+                    return snapshot;
+                },
+                EXPIRED,
+                runnable -> {
+                    final var thread = new Thread(runnable);
+                    refreshes.add(thread);
+                    thread.start();
+                }
+        );
+
+        Assertions.assertEquals(Set.of("1"), search.search("movies"));
+
+        // Starts the rebuild, still answered by the current index
+        Assertions.assertEquals(Set.of("1"), search.search("movies"));
+        Assertions.assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        final var drama = new SearchDocument("2", "Drama");
+        this.rows.add(drama);
+        search.index(drama);
+        this.rows.removeIf(it -> it.id().equals("1"));
+        search.remove("1");
+
+        release.countDown();
+        refreshes.get(0).join(TimeUnit.SECONDS.toMillis(5));
+
+        Assertions.assertEquals(Set.of("2"), search.search("drama"));
+        Assertions.assertEquals(Set.of(), search.search("movies"));
+    }
+
+    @Test
+    public void givenRejectedRefresh_whenCallsSearch_thenKeepServingTheCurrentIndex() {
+        final var rejections = new AtomicInteger();
+        final Executor rejecting = runnable -> {
+            rejections.incrementAndGet();
+            throw new RejectedExecutionException();
+        };
+
+        final var search = new IndexedTermsSearch<SearchDocument>(
+                "test",
+                Function.identity(),
+                () -> List.copyOf(this.rows),
+                EXPIRED,
+                rejecting
+        );
+
+        Assertions.assertEquals(Set.of("1"), search.search("movies"));
+        Assertions.assertEquals(Set.of("1"), search.search("movies"));
+        Assertions.assertEquals(Set.of("1"), search.search("movies"));
+
+        // A rejected rebuild does not leave the index marked as refreshing
+        Assertions.assertEquals(2, rejections.get());
+    }
+
+    @Test
+    public void givenWordInTheMiddle_whenCallsSearch_thenMatchOnlyWordPrefixes() {
+        final var search = new IndexedTermsSearch<SearchDocument>(
+                "test",
+                Function.identity(),
+                () -> List.of(new SearchDocument("1", "Drama")),
+                Duration.ofMinutes(5),
+                Runnable::run
+        );
+
+        Assertions.assertEquals(Set.of("1"), search.search("dra"));
+        Assertions.assertEquals(Set.of(), search.search("ama"));
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.tcs.admin.catalog.infrastructure.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+public class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        this.index = new InvertedIndex();
+        this.index.put("1", "Filmes de Ação");
+        this.index.put("2", "Séries mais assistidas");
+        this.index.put("3", "Filmes mais assistidos");
+    }
+
+    @Test
+    public void givenWordPrefixes_whenCallsSearch_thenReturnDocumentsMatchingAllWords() {
+        Assertions.assertEquals(Set.of("3"), index.search("film assist"));
+        Assertions.assertEquals(Set.of("2", "3"), index.search("MAIS"));
+    }
+
+    @Test
+    public void givenTermsWithoutAccents_whenCallsSearch_thenMatchAccentedWords() {
+        Assertions.assertEquals(Set.of("1"), index.search("acao"));
+        Assertions.assertEquals(Set.of("2"), index.search("series"));
+    }
+
+    @Test
+    public void givenUnknownWord_whenCallsSearch_thenReturnEmpty() {
+        Assertions.assertEquals(Set.of(), index.search("filmes documentarios"));
+    }
+
+    @Test
+    public void givenTermsWithoutWords_whenCallsSearch_thenReturnNull() {
+        Assertions.assertNull(index.search(" - "));
+    }
+
+    @Test
+    public void givenUpdatedDocument_whenCallsSearch_thenMatchOnlyNewText() {
+        index.put("1", "Documentários");
+
+        Assertions.assertEquals(Set.of("3"), index.search("filmes"));
+        Assertions.assertEquals(Set.of("1"), index.search("doc"));
+        Assertions.assertEquals(3, index.size());
+    }
+
+    @Test
+    public void givenRemovedDocument_whenCallsSearch_thenDoNotMatchIt() {
+        index.remove("3");
+
+        Assertions.assertEquals(Set.of("2"), index.search("assist"));
+        Assertions.assertEquals(2, index.size());
+    }
+}
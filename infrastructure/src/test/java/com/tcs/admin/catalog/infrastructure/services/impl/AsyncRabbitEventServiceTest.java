@@ -0,0 +1,95 @@
+package com.tcs.admin.catalog.infrastructure.services.impl;
+
+import com.tcs.admin.catalog.domain.video.VideoMediaCreated;
+import com.tcs.admin.catalog.infrastructure.configuration.json.Json;
+import com.tcs.admin.catalog.infrastructure.configuration.properties.amqp.PublisherProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class AsyncRabbitEventServiceTest {
+
+    private RabbitOperations ops;
+
+    private AsyncRabbitEventService publisher;
+
+    @BeforeEach
+    void setUp() {
+        this.ops = Mockito.mock(RabbitOperations.class);
+        this.publisher = new AsyncRabbitEventService("video.events", "video.created", ops, new PublisherProperties()
+                .setBatchSize(10)
+                .setInitialBackoff(Duration.ofMillis(10))
+                .setConfirmTimeout(Duration.ofSeconds(1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.publisher.close();
+    }
+
+    @Test
+    public void givenAckedEvents_whenCallsSend_thenPublishWithoutWaiting() throws Exception {
+        confirmWith(true);
+        final var notification = new VideoMediaCreated("resource", "filepath");
+
+        for (int i = 0; i < 3; i++) {
+            this.publisher.send(notification);
+        }
+
+        final var message = ArgumentCaptor.forClass(Message.class);
+        verify(ops, timeout(1000).times(3)).send(eq("video.events"), eq("video.created"), message.capture(), any(CorrelationData.class));
+        awaitEquals(3, publisher::confirmed);
+
+        Assertions.assertEquals(0, publisher.nacked());
+        Assertions.assertEquals(0, publisher.inFlight());
+        Assertions.assertArrayEquals(Json.writeValueAsBytes(notification), message.getValue().getBody());
+        Assertions.assertEquals(MessageProperties.CONTENT_TYPE_TEXT_PLAIN, message.getValue().getMessageProperties().getContentType());
+    }
+
+    @Test
+    public void givenNackedEvent_whenCallsSend_thenRetryUntilAcked() throws Exception {
+        final var calls = new AtomicInteger();
+        doAnswer(it -> {
+            final var ack = calls.incrementAndGet() > 1;
+            it.<CorrelationData>getArgument(3).getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+            return null;
+        }).when(ops).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+        this.publisher.send(new VideoMediaCreated("resource", "filepath"));
+
+        verify(ops, timeout(1000).times(2)).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+        awaitEquals(1, publisher::confirmed);
+
+        Assertions.assertEquals(1, publisher.nacked());
+    }
+
+    private void confirmWith(final boolean ack) {
+        doAnswer(it -> {
+            it.<CorrelationData>getArgument(3).getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+            return null;
+        }).when(ops).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+    }
+
+    private static void awaitEquals(final long expected, final LongSupplier actual) throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (actual.getAsLong() != expected && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        Assertions.assertEquals(expected, actual.getAsLong());
+    }
+}
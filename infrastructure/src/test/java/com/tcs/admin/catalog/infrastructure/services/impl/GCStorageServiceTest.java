@@ -1,20 +1,29 @@
 package com.tcs.admin.catalog.infrastructure.services.impl;
 
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
 import com.tcs.admin.catalog.domain.Fixture;
+import com.tcs.admin.catalog.domain.exceptions.InternalErrorException;
 import com.tcs.admin.catalog.domain.resource.Resource;
 import com.tcs.admin.catalog.domain.utils.IdUtils;
 import com.tcs.admin.catalog.domain.video.MediaType;
+import com.tcs.admin.catalog.infrastructure.utils.ChecksumSource;
+import com.tcs.admin.catalog.infrastructure.utils.HashUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -56,10 +65,107 @@ class GCStorageServiceTest {
         Assertions.assertEquals(this.bucket, actualBlob.getBlobId().getBucket());
         Assertions.assertEquals(expectedName, actualBlob.getBlobId().getName());
         Assertions.assertEquals(expectedName, actualBlob.getName());
-        Assertions.assertEquals(expectedResource.checksum(), actualBlob.getCrc32cToHexString());
+        Assertions.assertEquals(HashUtils.crc32c(expectedResource.checksum()), actualBlob.getCrc32c());
         Assertions.assertEquals(expectedResource.contentType(), actualBlob.getContentType());
     }
 
+    @Test
+    public void givenStreamedResource_whenCallsStore_thenUploadThroughWriter() throws Exception {
+        final var expectedName = IdUtils.uuid();
+        final var expectedContent = "Streamed content".getBytes();
+        final var expectedChecksum = HashUtils.checksum(expectedContent);
+        final var expectedSource = new ChecksumSource(() -> new ByteArrayInputStream(expectedContent));
+        final var expectedResource = Resource.with(
+                expectedSource::checksum,
+                expectedSource,
+                expectedContent.length,
+                "video/mp4",
+                "video.mp4"
+        );
+
+        final var written = mockWriter();
+
+        final var blob = Mockito.mock(Blob.class);
+        when(blob.getCrc32c()).thenReturn(HashUtils.crc32c(expectedChecksum));
+
+        doReturn(blob)
+                .when(this.storage).get(any(BlobId.class));
+
+        this.taget.store(expectedName, expectedResource);
+
+        final var captor = ArgumentCaptor.forClass(BlobInfo.class);
+
+        verify(storage, times(1)).writer(captor.capture());
+        verify(storage, never()).create(any(BlobInfo.class), any(byte[].class));
+        verify(storage, never()).delete(any(BlobId.class));
+
+        final var actualBlob = captor.getValue();
+
+        Assertions.assertEquals(expectedName, actualBlob.getName());
+        Assertions.assertNull(actualBlob.getCrc32c());
+        Assertions.assertEquals(expectedResource.contentType(), actualBlob.getContentType());
+        Assertions.assertEquals(expectedChecksum, expectedResource.checksum());
+        Assertions.assertArrayEquals(expectedContent, written.toByteArray());
+    }
+
+    @Test
+    public void givenKnownVector_whenCallsStore_thenCompareWithTheCrc32cReportedByGcs() throws Exception {
+        final var expectedName = IdUtils.uuid();
+        final var expectedContent = "123456789".getBytes();
+        final var expectedSource = new ChecksumSource(() -> new ByteArrayInputStream(expectedContent));
+        final var expectedResource = Resource.with(
+                expectedSource::checksum,
+                expectedSource,
+                expectedContent.length,
+                "video/mp4",
+                "video.mp4"
+        );
+
+        mockWriter();
+
+        // CRC32C of "123456789" is 0xE3069283, which GCS reports as its big-endian bytes in base64
+        final var blob = Mockito.mock(Blob.class);
+        when(blob.getCrc32c()).thenReturn("4waSgw==");
+
+        doReturn(blob)
+                .when(this.storage).get(any(BlobId.class));
+
+        this.taget.store(expectedName, expectedResource);
+
+        verify(storage, never()).delete(any(BlobId.class));
+        Assertions.assertEquals("839206e3", expectedResource.checksum());
+        Assertions.assertEquals("4waSgw==", HashUtils.crc32c(expectedResource.checksum()));
+    }
+
+    @Test
+    public void givenStreamedResourceWithMismatchedChecksum_whenCallsStore_thenDeleteItAndThrow() throws Exception {
+        final var expectedName = IdUtils.uuid();
+        final var expectedContent = "Streamed content".getBytes();
+        final var expectedSource = new ChecksumSource(() -> new ByteArrayInputStream(expectedContent));
+        final var expectedResource = Resource.with(
+                expectedSource::checksum,
+                expectedSource,
+                expectedContent.length,
+                "video/mp4",
+                "video.mp4"
+        );
+
+        mockWriter();
+
+        final var blob = Mockito.mock(Blob.class);
+        when(blob.getCrc32c()).thenReturn("AAAAAA==");
+
+        doReturn(blob)
+                .when(this.storage).get(any(BlobId.class));
+
+        Assertions.assertThrows(
+                InternalErrorException.class,
+                () -> this.taget.store(expectedName, expectedResource)
+        );
+
+        verify(storage, times(1)).delete(eq(BlobId.of(this.bucket, expectedName)));
+    }
+
     @Test
     public void givenValidResource_whenCallsGet_thenRetrieveIt() {
         final var expectedName = IdUtils.uuid();
@@ -77,6 +183,54 @@ class GCStorageServiceTest {
         Assertions.assertEquals(expectedResource, actualResource);
     }
 
+    @Test
+    public void givenValidResource_whenReadsFromPosition_thenSeekReaderAndStream() throws Exception {
+        final var expectedName = IdUtils.uuid();
+        final var expectedResource = Fixture.Videos.resource(MediaType.VIDEO);
+        final var expectedPosition = 3L;
+
+        final var remaining = ByteBuffer.wrap(expectedResource.content());
+        final var reader = Mockito.mock(ReadChannel.class);
+        when(reader.isOpen()).thenReturn(true);
+        doAnswer(invocation -> {
+            remaining.position((int) (long) invocation.getArgument(0));
+            return null;
+        }).when(reader).seek(anyLong());
+        when(reader.read(any(ByteBuffer.class))).thenAnswer(invocation -> {
+            final ByteBuffer buffer = invocation.getArgument(0);
+            if (!remaining.hasRemaining()) {
+                return -1;
+            }
+            final var length = Math.min(buffer.remaining(), remaining.remaining());
+            buffer.put(remaining.slice(remaining.position(), length));
+            remaining.position(remaining.position() + length);
+            return length;
+        });
+
+        final var blob = mockBlob(expectedName, expectedResource);
+        when(blob.reader()).thenReturn(reader);
+
+        doReturn(blob)
+                .when(this.storage).get(anyString(), anyString());
+
+        final var actualResource = this.taget.get(expectedName).get();
+
+        Assertions.assertTrue(actualResource.isStreamed());
+        Assertions.assertEquals(expectedResource.size(), actualResource.size());
+
+        try (final var in = actualResource.source().open(expectedPosition)) {
+            final var actualContent = in.readAllBytes();
+            final var expectedContent = expectedResource.content();
+            Assertions.assertArrayEquals(
+                    Arrays.copyOfRange(expectedContent, (int) expectedPosition, expectedContent.length),
+                    actualContent
+            );
+        }
+
+        verify(reader, times(1)).seek(expectedPosition);
+        verify(blob, never()).getContent();
+    }
+
     @Test
     public void givenInvalidResource_whenCallsGet_thenRetrieveIt() {
         final var expectedName = IdUtils.uuid();
@@ -150,14 +304,33 @@ class GCStorageServiceTest {
         );
     }
 
+    private ByteArrayOutputStream mockWriter() throws Exception {
+        final var written = new ByteArrayOutputStream();
+        final var writer = Mockito.mock(WriteChannel.class);
+        when(writer.isOpen()).thenReturn(true);
+        when(writer.write(any(ByteBuffer.class))).thenAnswer(invocation -> {
+            final ByteBuffer buffer = invocation.getArgument(0);
+            final var length = buffer.remaining();
+            final var chunk = new byte[length];
+            buffer.get(chunk);
+            written.write(chunk);
+            return length;
+        });
+
+        doReturn(writer)
+                .when(this.storage).writer(any(BlobInfo.class));
+
+        return written;
+    }
+
     private Blob mockBlob(final String name, final Resource resource) {
         final var blob = Mockito.mock(Blob.class);
         when(blob.getBlobId())
                 .thenReturn(BlobId.of(this.bucket, name));
         when(blob.getCrc32cToHexString())
                 .thenReturn(resource.checksum());
-        when(blob.getContent())
-                .thenReturn(resource.content());
+        when(blob.getSize())
+                .thenReturn(resource.size());
         when(blob.getContentType())
                 .thenReturn(resource.contentType());
         when(blob.getName())
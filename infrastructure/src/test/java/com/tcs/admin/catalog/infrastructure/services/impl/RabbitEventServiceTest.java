@@ -4,10 +4,13 @@ import com.tcs.admin.catalog.AmqpTest;
 import com.tcs.admin.catalog.domain.video.VideoMediaCreated;
 import com.tcs.admin.catalog.infrastructure.configuration.annotations.VideoCreatedQueue;
 import com.tcs.admin.catalog.infrastructure.configuration.json.Json;
+import com.tcs.admin.catalog.infrastructure.configuration.properties.amqp.QueueProperties;
 import com.tcs.admin.catalog.infrastructure.services.EventService;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.amqp.rabbit.test.RabbitListenerTestHarness;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.handler.annotation.Payload;
@@ -22,11 +25,21 @@ public class RabbitEventServiceTest {
 
     @Autowired
     @VideoCreatedQueue
-    private EventService publisher;
+    private QueueProperties queueProperties;
+
+    @Autowired
+    private RabbitOperations ops;
 
     @Autowired
     private RabbitListenerTestHarness harness;
 
+    private EventService publisher;
+
+    @BeforeEach
+    void setUp() {
+        this.publisher = new RabbitEventService(queueProperties.getExchange(), queueProperties.getRoutingKey(), ops);
+    }
+
     @Test
     public void shouldSendMessage() throws Exception {
         final var notification = new VideoMediaCreated("resource", "filepath");
@@ -1,12 +1,14 @@
 package com.tcs.admin.catalog.infrastructure.services.local;
 
 import com.tcs.admin.catalog.domain.Fixture;
+import com.tcs.admin.catalog.domain.resource.Resource;
 import com.tcs.admin.catalog.domain.utils.IdUtils;
 import com.tcs.admin.catalog.domain.video.MediaType;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -32,6 +34,27 @@ class InMemoryStorageServiceTest {
         Assertions.assertEquals(expectedResource, target.storage().get(expectedName));
     }
 
+    @Test
+    public void givenStreamedResource_whenCallsStore_thenStoreItsContent(){
+        final var expectedName = IdUtils.uuid();
+        final var expectedContent = "Content".getBytes();
+        final var expectedResource = Resource.with(
+                "checksum",
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                "video/mp4",
+                "video"
+        );
+
+        target.store(expectedName, expectedResource);
+
+        final var actualResource = target.storage().get(expectedName);
+
+        Assertions.assertFalse(actualResource.isStreamed());
+        Assertions.assertArrayEquals(expectedContent, actualResource.content());
+        Assertions.assertEquals(expectedResource, actualResource);
+    }
+
     @Test
     public void givenValidResource_whenCallsGet_thenRetrieveIt(){
         final var expectedName = IdUtils.uuid();
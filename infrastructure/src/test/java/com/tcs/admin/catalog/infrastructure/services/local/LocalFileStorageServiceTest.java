@@ -0,0 +1,174 @@
+package com.tcs.admin.catalog.infrastructure.services.local;
+
+import com.tcs.admin.catalog.domain.Fixture;
+import com.tcs.admin.catalog.domain.resource.Resource;
+import com.tcs.admin.catalog.domain.utils.IdUtils;
+import com.tcs.admin.catalog.domain.video.MediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+class LocalFileStorageServiceTest {
+
+    @TempDir
+    private Path root;
+
+    private LocalFileStorageService target;
+
+    @BeforeEach
+    public void setUp() {
+        this.target = new LocalFileStorageService(this.root);
+    }
+
+    @Test
+    public void givenValidResource_whenCallsStore_thenStoreIt() throws Exception {
+        final var expectedName = "videoId-123/type-VIDEO";
+        final var expectedResource = Fixture.Videos.resource(MediaType.VIDEO);
+
+        target.store(expectedName, expectedResource);
+
+        Assertions.assertArrayEquals(expectedResource.content(), Files.readAllBytes(root.resolve(expectedName)));
+        Assertions.assertEquals(expectedResource, target.get(expectedName).get());
+    }
+
+    @Test
+    public void givenStreamedResource_whenCallsStore_thenStoreItsContent() {
+        final var expectedName = IdUtils.uuid();
+        final var expectedContent = "Streamed content".getBytes();
+        final var expectedResource = Resource.with(
+                "checksum",
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                "video/mp4",
+                "video.mp4"
+        );
+
+        target.store(expectedName, expectedResource);
+
+        final var actualResource = target.get(expectedName).get();
+
+        Assertions.assertEquals(expectedResource, actualResource);
+        Assertions.assertArrayEquals(expectedContent, actualResource.content());
+    }
+
+    @Test
+    public void givenValidResource_whenReadsFromPosition_thenReturnRemainingContent() throws Exception {
+        final var expectedName = IdUtils.uuid();
+        final var expectedResource = Resource.with("checksum", "0123456789".getBytes(), "video/mp4", "video.mp4");
+
+        target.store(expectedName, expectedResource);
+
+        try (final var in = target.get(expectedName).get().source().open(4)) {
+            Assertions.assertArrayEquals("456789".getBytes(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void givenStoredResources_whenRestarts_thenRebuildIndex() {
+        final var expectedName = "videoId-123/type-BANNER";
+        final var expectedResource = Fixture.Videos.resource(MediaType.BANNER);
+
+        target.store(expectedName, expectedResource);
+
+        final var actualResource = new LocalFileStorageService(this.root).get(expectedName).get();
+
+        Assertions.assertEquals(expectedResource, actualResource);
+    }
+
+    @Test
+    public void givenStaleTemporaryFiles_whenRestarts_thenDeleteThem() throws Exception {
+        final var expectedName = "videoId-123/type-VIDEO";
+        final var expectedResource = Fixture.Videos.resource(MediaType.VIDEO);
+
+        target.store(expectedName, expectedResource);
+
+        // Left behind by writes that crashed before their move
+        final var staleData = Files.createTempFile(root.resolve("videoId-123"), ".", ".tmp");
+        Files.createDirectories(root.resolve("videoId-456"));
+        final var staleMeta = Files.createTempFile(root.resolve("videoId-456"), ".", ".tmp");
+
+        final var actualTarget = new LocalFileStorageService(this.root);
+
+        Assertions.assertFalse(Files.exists(staleData));
+        Assertions.assertFalse(Files.exists(staleMeta));
+        Assertions.assertFalse(Files.exists(root.resolve("videoId-456")));
+        Assertions.assertEquals(List.of(expectedName), actualTarget.list("videoId-"));
+        Assertions.assertEquals(expectedResource, actualTarget.get(expectedName).get());
+    }
+
+    @Test
+    public void givenInvalidResource_whenCallsGet_thenRetrieveIt() {
+        final var actualResource = target.get("abc");
+
+        Assertions.assertTrue(actualResource.isEmpty());
+    }
+
+    @Test
+    public void givenInvalidName_whenCallsStore_thenThrowsException() {
+        final var aResource = Fixture.Videos.resource(MediaType.VIDEO);
+
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> target.store("../outside", aResource)
+        );
+    }
+
+    @Test
+    public void givenValidPrefix_whenCallsList_thenReturnAll() {
+        final var name1 = "video_" + IdUtils.uuid();
+        final var name2 = "video_" + IdUtils.uuid();
+        final var name3 = "video_" + IdUtils.uuid();
+        final var name4 = "image_" + IdUtils.uuid();
+        final var name5 = "image_" + IdUtils.uuid();
+
+        final var expectedNames = List.of(name1, name2, name3);
+        final var all = new ArrayList<>(expectedNames);
+        all.add(name4);
+        all.add(name5);
+
+        all.forEach(it -> target.store(it, Fixture.Videos.resource(MediaType.VIDEO)));
+
+        final var actualResources = target.list("video");
+
+        Assertions.assertTrue(
+                expectedNames.size() == actualResources.size()
+                        && expectedNames.containsAll(actualResources)
+        );
+    }
+
+    @Test
+    public void givenValidNames_whenCallsDeleteAll_thenDeleteAll() {
+        final var name1 = "videoId-1/" + IdUtils.uuid();
+        final var name2 = "videoId-1/" + IdUtils.uuid();
+        final var name3 = "videoId-1/" + IdUtils.uuid();
+        final var name4 = "videoId-2/" + IdUtils.uuid();
+        final var name5 = "videoId-2/" + IdUtils.uuid();
+
+        final var videos = List.of(name1, name2, name3);
+
+        final var expectedNames = Set.of(name4, name5);
+
+        final var all = new ArrayList<>(videos);
+        all.addAll(expectedNames);
+
+        all.forEach(it -> target.store(it, Fixture.Videos.resource(MediaType.VIDEO)));
+
+        target.deleteAll(videos);
+
+        final var actualNames = target.list("videoId-");
+
+        Assertions.assertTrue(
+                expectedNames.size() == actualNames.size()
+                        && expectedNames.containsAll(actualNames)
+        );
+        Assertions.assertFalse(Files.exists(root.resolve("videoId-1")));
+    }
+}
@@ -11,6 +11,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 @IntegrationTest
 class DefaultMediaResourceGatewayTest {
@@ -151,6 +153,36 @@ class DefaultMediaResourceGatewayTest {
         );
     }
 
+    @Test
+    public void givenSeveralVideoIds_whenCallsClearAllResources_thenDeleteTheirMedias() {
+        final var videoOne = VideoID.unique();
+        final var videoTwo = VideoID.unique();
+        final var videoThree = VideoID.unique();
+
+        final var expectedKey = "videoId-%s/type-%s".formatted(videoThree.getValue(), MediaType.VIDEO.name());
+
+        storageService().store("videoId-%s/type-%s".formatted(videoOne.getValue(), MediaType.VIDEO.name()), Fixture.Videos.resource(MediaType.VIDEO));
+        storageService().store("videoId-%s/type-%s".formatted(videoOne.getValue(), MediaType.BANNER.name()), Fixture.Videos.resource(MediaType.BANNER));
+        storageService().store("videoId-%s/type-%s".formatted(videoTwo.getValue(), MediaType.TRAILER.name()), Fixture.Videos.resource(MediaType.TRAILER));
+        storageService().store(expectedKey, Fixture.Videos.resource(MediaType.VIDEO));
+
+        this.mediaResourceGateway.clearAllResources(List.of(videoOne, videoTwo));
+
+        Assertions.assertEquals(Set.of(expectedKey), storageService().storage().keySet());
+    }
+
+    @Test
+    public void givenStoredMedias_whenCallsFindStoredVideos_thenReturnTheirVideoIds() {
+        final var videoOne = VideoID.unique();
+        final var videoTwo = VideoID.unique();
+
+        storageService().store("videoId-%s/type-%s".formatted(videoOne.getValue(), MediaType.VIDEO.name()), Fixture.Videos.resource(MediaType.VIDEO));
+        storageService().store("videoId-%s/type-%s".formatted(videoOne.getValue(), MediaType.BANNER.name()), Fixture.Videos.resource(MediaType.BANNER));
+        storageService().store("videoId-%s/type-%s".formatted(videoTwo.getValue(), MediaType.TRAILER.name()), Fixture.Videos.resource(MediaType.TRAILER));
+
+        Assertions.assertEquals(Set.of(videoOne, videoTwo), this.mediaResourceGateway.findStoredVideos());
+    }
+
     private InMemoryStorageService storageService() {
         return (InMemoryStorageService) storageService;
     }
@@ -0,0 +1,179 @@
+package com.tcs.admin.catalog.infrastructure.video;
+
+import com.tcs.admin.catalog.IntegrationTest;
+import com.tcs.admin.catalog.domain.Fixture;
+import com.tcs.admin.catalog.domain.category.CategoryGateway;
+import com.tcs.admin.catalog.domain.category.CategoryID;
+import com.tcs.admin.catalog.domain.utils.InstantUtils;
+import com.tcs.admin.catalog.domain.video.MediaResourceGateway;
+import com.tcs.admin.catalog.domain.video.MediaType;
+import com.tcs.admin.catalog.domain.video.Video;
+import com.tcs.admin.catalog.domain.video.VideoGateway;
+import com.tcs.admin.catalog.domain.video.VideoID;
+import com.tcs.admin.catalog.infrastructure.configuration.properties.storage.MediaReaperProperties;
+import com.tcs.admin.catalog.infrastructure.services.StorageService;
+import com.tcs.admin.catalog.infrastructure.services.local.InMemoryStorageService;
+import com.tcs.admin.catalog.infrastructure.video.persistence.VideoEncoderErrorRepository;
+import com.tcs.admin.catalog.infrastructure.video.persistence.VideoMediaCleanupRepository;
+import com.tcs.admin.catalog.infrastructure.video.persistence.VideoRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doThrow;
+
+@IntegrationTest
+public class MediaReaperTest {
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Autowired
+    private StorageService storageService;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private VideoEncoderErrorRepository encoderErrorRepository;
+
+    @Autowired
+    private VideoMediaCleanupRepository cleanupRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        this.cleanupRepository.deleteAll();
+        storageService().reset();
+    }
+
+    @Test
+    public void givenDeletedVideos_whenCallsReap_thenClearTheirMediasAndPurgeTheRows() {
+        final var prime = categoryGateway.create(Fixture.Categories.prime());
+        final var deletedOne = videoGateway.create(newVideo(Set.of(prime.getId())));
+        final var deletedTwo = videoGateway.create(newVideo(Set.of()));
+        final var kept = videoGateway.create(newVideo(Set.of(prime.getId())));
+
+        store(deletedOne.getId(), MediaType.VIDEO);
+        store(deletedOne.getId(), MediaType.BANNER);
+        store(deletedTwo.getId(), MediaType.TRAILER);
+        final var expectedKey = store(kept.getId(), MediaType.VIDEO);
+
+        videoGateway.deleteById(deletedOne.getId());
+        videoGateway.deleteById(deletedTwo.getId());
+
+        Assertions.assertEquals(4, storageService().storage().size());
+        Assertions.assertEquals(2, cleanupRepository.count());
+
+        reaper(mediaResourceGateway, new MediaReaperProperties().setBatchSize(1)).reap();
+
+        Assertions.assertEquals(Set.of(expectedKey), storageService().storage().keySet());
+        Assertions.assertEquals(0, cleanupRepository.count());
+        Assertions.assertTrue(videoRepository.findDeletedByIds(List.of(
+                deletedOne.getId().getValue(),
+                deletedTwo.getId().getValue()
+        )).isEmpty());
+        Assertions.assertTrue(videoGateway.findById(kept.getId()).isPresent());
+    }
+
+    @Test
+    public void givenFailingStorage_whenCallsReap_thenKeepTheRowsAndRetryLater() {
+        final var aVideo = videoGateway.create(newVideo(Set.of()));
+        videoGateway.deleteById(aVideo.getId());
+
+        final var failingGateway = Mockito.mock(MediaResourceGateway.class);
+        doThrow(new IllegalStateException("storage unavailable"))
+                .when(failingGateway).clearAllResources(anyCollection());
+
+        final var before = InstantUtils.now();
+
+        reaper(failingGateway, new MediaReaperProperties().setInitialBackoff(Duration.ofMinutes(1))).reap();
+
+        final var actualCleanup = cleanupRepository.findById(aVideo.getId().getValue()).get();
+        Assertions.assertEquals(1, actualCleanup.getAttempts());
+        Assertions.assertNull(actualCleanup.getClaimedBy());
+        Assertions.assertFalse(actualCleanup.getNextAttemptAt().isBefore(before.plus(Duration.ofMinutes(1))));
+        Assertions.assertEquals(1, videoRepository.findDeletedByIds(List.of(aVideo.getId().getValue())).size());
+
+        // Not due yet, so the next run leaves it alone
+        reaper(mediaResourceGateway, new MediaReaperProperties()).reap();
+
+        Assertions.assertEquals(1, cleanupRepository.count());
+    }
+
+    @Test
+    public void givenOrphanedFolders_whenCallsSweep_thenEnqueueThemAfterTheGracePeriod() {
+        final var aVideo = videoGateway.create(newVideo(Set.of()));
+        final var orphan = VideoID.unique();
+
+        store(aVideo.getId(), MediaType.VIDEO);
+        store(orphan, MediaType.VIDEO);
+        store(orphan, MediaType.THUMBNAIL);
+
+        final var before = InstantUtils.now();
+
+        reaper(mediaResourceGateway, new MediaReaperProperties().setSweepGrace(Duration.ofHours(1))).sweep();
+
+        final var actualCleanups = cleanupRepository.findAll();
+        Assertions.assertEquals(1, actualCleanups.size());
+        Assertions.assertEquals(orphan.getValue(), actualCleanups.get(0).getVideoId());
+        Assertions.assertFalse(actualCleanups.get(0).getNextAttemptAt().isBefore(before.plus(Duration.ofHours(1))));
+
+        reaper(mediaResourceGateway, new MediaReaperProperties()).reap();
+
+        Assertions.assertEquals(3, storageService().storage().size());
+    }
+
+    private MediaReaper reaper(final MediaResourceGateway gateway, final MediaReaperProperties props) {
+        return new MediaReaper(
+                cleanupRepository,
+                videoRepository,
+                encoderErrorRepository,
+                gateway,
+                new TransactionTemplate(transactionManager),
+                props
+        );
+    }
+
+    private String store(final VideoID anId, final MediaType aType) {
+        final var key = "videoId-%s/type-%s".formatted(anId.getValue(), aType.name());
+        storageService().store(key, Fixture.Videos.resource(aType));
+        return key;
+    }
+
+    private static Video newVideo(final Set<CategoryID> categories) {
+        return Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                categories,
+                Set.of(),
+                Set.of()
+        );
+    }
+
+    private InMemoryStorageService storageService() {
+        return (InMemoryStorageService) storageService;
+    }
+}
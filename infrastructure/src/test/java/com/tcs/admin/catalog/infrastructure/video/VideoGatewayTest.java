@@ -11,10 +11,21 @@ import com.tcs.admin.catalog.domain.category.CategoryID;
 import com.tcs.admin.catalog.domain.genre.Genre;
 import com.tcs.admin.catalog.domain.genre.GenreGateway;
 import com.tcs.admin.catalog.domain.genre.GenreID;
+import com.tcs.admin.catalog.domain.pagination.ChangesQuery;
+import com.tcs.admin.catalog.domain.pagination.Pagination;
+import com.tcs.admin.catalog.domain.utils.InstantUtils;
+import com.tcs.admin.catalog.domain.video.MediaStatus;
 import com.tcs.admin.catalog.domain.video.Video;
 import com.tcs.admin.catalog.domain.video.VideoID;
+import com.tcs.admin.catalog.domain.video.VideoPreview;
 import com.tcs.admin.catalog.domain.video.VideoSearchQuery;
+import com.tcs.admin.catalog.infrastructure.cache.ResponseCache;
+import com.tcs.admin.catalog.infrastructure.utils.Cursor;
+import com.tcs.admin.catalog.infrastructure.video.persistence.VideoJpaEntity;
+import com.tcs.admin.catalog.infrastructure.video.persistence.VideoMediaCleanupRepository;
 import com.tcs.admin.catalog.infrastructure.video.persistence.VideoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,7 +35,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 @IntegrationTest
 public class VideoGatewayTest {
@@ -44,6 +60,15 @@ public class VideoGatewayTest {
     @Autowired
     private VideoRepository videoRepository;
 
+    @Autowired
+    private VideoMediaCleanupRepository videoMediaCleanupRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ResponseCache responseCache;
+
     private CastMember mateus;
     private CastMember lucas;
     private Category prime;
@@ -313,6 +338,95 @@ public class VideoGatewayTest {
         Assertions.assertTrue(persistedVideo.getUpdatedAt().isAfter(aVideo.getUpdatedAt()));
     }
 
+    @Test
+    public void givenVideoWithRelations_whenCallsUpdate_thenWriteOnlyChangedRows() {
+        final var aVideo = videoGateway.create(Video.newVideo(
+                        Fixture.title(),
+                        Fixture.Videos.description(),
+                        Fixture.year(),
+                        Fixture.duration(),
+                        Fixture.Videos.rating(),
+                        Fixture.bool(),
+                        Fixture.bool(),
+                        Set.of(prime.getId(), netflix.getId()),
+                        Set.of(drama.getId(), romance.getId()),
+                        Set.of(mateus.getId(), lucas.getId())
+                )
+                .updateVideoMedia(Fixture.videoMedia())
+                .updateBannerMedia(Fixture.imageMedia()));
+
+        final var expectedTitle = Fixture.title();
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        try {
+            videoGateway.update(Video.with(aVideo).update(
+                    expectedTitle,
+                    aVideo.getDescription(),
+                    aVideo.getLaunchedAt(),
+                    aVideo.getDuration(),
+                    aVideo.getRating(),
+                    aVideo.isOpened(),
+                    aVideo.isPublished(),
+                    Set.of(prime.getId()),
+                    aVideo.getGenres(),
+                    aVideo.getCastMembers()
+            ));
+
+            Assertions.assertEquals(1, statistics.getEntityUpdateCount());
+            Assertions.assertEquals(1, statistics.getEntityDeleteCount());
+            Assertions.assertEquals(0, statistics.getEntityInsertCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        final var actualVideo = videoGateway.findById(aVideo.getId()).get();
+        Assertions.assertEquals(expectedTitle, actualVideo.getTitle());
+        Assertions.assertEquals(Set.of(prime.getId()), actualVideo.getCategories());
+        Assertions.assertEquals(aVideo.getGenres(), actualVideo.getGenres());
+        Assertions.assertEquals(aVideo.getCastMembers(), actualVideo.getCastMembers());
+        Assertions.assertEquals(aVideo.getVideo().get().id(), actualVideo.getVideo().get().id());
+        Assertions.assertEquals(aVideo.getBanner().get().id(), actualVideo.getBanner().get().id());
+    }
+
+    @Test
+    public void givenVideosWithRelations_whenCallsCreateAll_thenInsertAllRows() {
+        final var aVideos = List.of(
+                Video.newVideo(Fixture.title(), Fixture.Videos.description(), Fixture.year(), Fixture.duration(),
+                        Fixture.Videos.rating(), Fixture.bool(), Fixture.bool(),
+                        Set.of(prime.getId()), Set.of(drama.getId()), Set.of(mateus.getId())),
+                Video.newVideo(Fixture.title(), Fixture.Videos.description(), Fixture.year(), Fixture.duration(),
+                        Fixture.Videos.rating(), Fixture.bool(), Fixture.bool(),
+                        Set.of(netflix.getId()), Set.of(romance.getId()), Set.of(lucas.getId())),
+                Video.newVideo(Fixture.title(), Fixture.Videos.description(), Fixture.year(), Fixture.duration(),
+                        Fixture.Videos.rating(), Fixture.bool(), Fixture.bool(),
+                        Set.of(), Set.of(), Set.of())
+        );
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        try {
+            final var actualVideos = videoGateway.createAll(aVideos);
+
+            Assertions.assertEquals(3, actualVideos.size());
+            // 3 videos and 2 x 3 join rows, without a select per new entity
+            Assertions.assertEquals(9, statistics.getEntityInsertCount());
+            Assertions.assertEquals(0, statistics.getEntityLoadCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        final var actualVideo = videoGateway.findById(aVideos.get(1).getId()).get();
+        Assertions.assertEquals(aVideos.get(1).getTitle(), actualVideo.getTitle());
+        Assertions.assertEquals(Set.of(netflix.getId()), actualVideo.getCategories());
+        Assertions.assertEquals(Set.of(romance.getId()), actualVideo.getGenres());
+        Assertions.assertEquals(Set.of(lucas.getId()), actualVideo.getCastMembers());
+    }
+
     @Test
     public void givenValidVideoId_whenCallsDeleteById_thenDeleteVideo() {
         final var aVideo = videoGateway.create(Video.newVideo(
@@ -335,6 +449,73 @@ public class VideoGatewayTest {
         videoGateway.deleteById(expectedID);
 
         Assertions.assertEquals(0, videoRepository.count());
+        Assertions.assertTrue(videoGateway.findById(expectedID).isEmpty());
+
+        final var actualDeleted = videoRepository.findDeletedByIds(List.of(expectedID.getValue()));
+        Assertions.assertEquals(1, actualDeleted.size());
+        Assertions.assertNotNull(actualDeleted.get(0).getDeletedAt());
+        Assertions.assertTrue(videoMediaCleanupRepository.existsById(expectedID.getValue()));
+    }
+
+    @Test
+    public void givenDeletedVideo_whenCallsDeleteItsReferences_thenDeleteThem() {
+        final var aVideo = videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(prime.getId()),
+                Set.of(drama.getId()),
+                Set.of(mateus.getId())
+        ));
+
+        videoGateway.deleteById(aVideo.getId());
+
+        // The soft-deleted row is not purged yet, but no longer holds its references
+        Assertions.assertEquals(1, videoRepository.findDeletedByIds(List.of(aVideo.getId().getValue())).size());
+
+        Assertions.assertDoesNotThrow(() -> genreGateway.deleteById(drama.getId()));
+        Assertions.assertDoesNotThrow(() -> categoryGateway.deleteById(prime.getId()));
+        Assertions.assertDoesNotThrow(() -> castMemberGateway.deleteById(mateus.getId()));
+
+        Assertions.assertTrue(genreGateway.findById(drama.getId()).isEmpty());
+        Assertions.assertTrue(categoryGateway.findById(prime.getId()).isEmpty());
+        Assertions.assertTrue(castMemberGateway.findById(mateus.getId()).isEmpty());
+    }
+
+    @Test
+    public void givenChangedAndDeletedVideos_whenCallsFindChanges_thenReportSoftDeletesAsTombstones() {
+        // Tombstones are not cleaned between tests, so the feed is read from now on
+        final var cursor = Cursor.of(InstantUtils.now(), "").encode();
+
+        final var first = videoGateway.create(newVideo("Title 1"));
+        final var second = videoGateway.create(newVideo("Title 2"));
+
+        var actualPage = videoGateway.findChanges(new ChangesQuery(cursor, 10));
+
+        Assertions.assertEquals(2, actualPage.items().size());
+        Assertions.assertEquals(first.getId().getValue(), actualPage.items().get(0).id());
+        Assertions.assertEquals("Title 1", actualPage.items().get(0).item().title());
+        Assertions.assertEquals(second.getId().getValue(), actualPage.items().get(1).id());
+
+        videoGateway.deleteById(first.getId());
+
+        actualPage = videoGateway.findChanges(new ChangesQuery(actualPage.nextCursor(), 10));
+
+        // The soft delete bumps updated_at, but the hidden row is only reported by its tombstone
+        Assertions.assertEquals(1, actualPage.items().size());
+        Assertions.assertEquals(first.getId().getValue(), actualPage.items().get(0).id());
+        Assertions.assertTrue(actualPage.items().get(0).isDeleted());
+        Assertions.assertNull(actualPage.items().get(0).item());
+
+        final var lastCursor = actualPage.nextCursor();
+        actualPage = videoGateway.findChanges(new ChangesQuery(lastCursor, 10));
+
+        Assertions.assertTrue(actualPage.items().isEmpty());
+        Assertions.assertEquals(lastCursor, actualPage.nextCursor());
     }
 
     @Test
@@ -406,6 +587,135 @@ public class VideoGatewayTest {
         Assertions.assertNotNull(actualVideo.getUpdatedAt());
     }
 
+    @Test
+    public void givenVideoWithAllRelations_whenCallsFindById_thenLoadItInTwoStatements() {
+        final var aVideo = videoGateway.create(Video.newVideo(
+                        Fixture.title(),
+                        Fixture.Videos.description(),
+                        Fixture.year(),
+                        Fixture.duration(),
+                        Fixture.Videos.rating(),
+                        Fixture.bool(),
+                        Fixture.bool(),
+                        Set.of(prime.getId(), netflix.getId()),
+                        Set.of(drama.getId(), romance.getId()),
+                        Set.of(mateus.getId(), lucas.getId())
+                )
+                .updateVideoMedia(Fixture.videoMedia())
+                .updateTrailerMedia(Fixture.videoMedia())
+                .updateBannerMedia(Fixture.imageMedia())
+                .updateThumbnailMedia(Fixture.imageMedia())
+                .updateThumbnailHalfMedia(Fixture.imageMedia()));
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        try {
+            final var actualVideo = videoGateway.findById(aVideo.getId()).get();
+
+            Assertions.assertEquals(2, actualVideo.getCategories().size());
+            Assertions.assertEquals(2, actualVideo.getGenres().size());
+            Assertions.assertEquals(2, actualVideo.getCastMembers().size());
+            Assertions.assertTrue(actualVideo.getThumbnailHalf().isPresent());
+            Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    public void givenVideoMedia_whenCallsUpdateMediaStatus_thenUpdateOnlyForwardTransitions() {
+        final var aVideo = videoGateway.create(Video.newVideo(
+                        Fixture.title(),
+                        Fixture.Videos.description(),
+                        Fixture.year(),
+                        Fixture.duration(),
+                        Fixture.Videos.rating(),
+                        Fixture.bool(),
+                        Fixture.bool(),
+                        Set.of(prime.getId()),
+                        Set.of(drama.getId()),
+                        Set.of(mateus.getId())
+                )
+                .updateVideoMedia(Fixture.videoMedia())
+                .updateTrailerMedia(Fixture.videoMedia()));
+
+        final var anId = aVideo.getId();
+        final var mediaId = aVideo.getVideo().get().id();
+        final var expectedEncodedPath = "encoded/video.mp4";
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        try {
+            Assertions.assertTrue(videoGateway.updateMediaStatus(anId, mediaId, MediaStatus.COMPLETED, expectedEncodedPath));
+            Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        Assertions.assertFalse(videoGateway.updateMediaStatus(anId, mediaId, MediaStatus.COMPLETED, "other/video.mp4"));
+        Assertions.assertFalse(videoGateway.updateMediaStatus(anId, mediaId, MediaStatus.PROCESSING, null));
+        Assertions.assertFalse(videoGateway.updateMediaStatus(VideoID.unique(), aVideo.getTrailer().get().id(), MediaStatus.PROCESSING, null));
+
+        final var actualVideo = videoGateway.findById(anId).get();
+        Assertions.assertEquals(MediaStatus.COMPLETED, actualVideo.getVideo().get().status());
+        Assertions.assertEquals(expectedEncodedPath, actualVideo.getVideo().get().encodedLocation());
+        Assertions.assertEquals(MediaStatus.PENDING, actualVideo.getTrailer().get().status());
+        Assertions.assertEquals(Set.of(prime.getId()), actualVideo.getCategories());
+    }
+
+    @Test
+    public void givenCachedResponse_whenCallsUpdateMediaStatusOrUpdate_thenEvictIt() {
+        final var aVideo = videoGateway.create(Video.newVideo(
+                        Fixture.title(),
+                        Fixture.Videos.description(),
+                        Fixture.year(),
+                        Fixture.duration(),
+                        Fixture.Videos.rating(),
+                        Fixture.bool(),
+                        Fixture.bool(),
+                        Set.of(prime.getId()),
+                        Set.of(drama.getId()),
+                        Set.of(mateus.getId())
+                )
+                .updateVideoMedia(Fixture.videoMedia()));
+
+        final var anId = aVideo.getId().getValue();
+        final var loads = new AtomicInteger();
+        final Supplier<ResponseCache.Entry> loader = () -> {
+            loads.incrementAndGet();
+            return ResponseCache.Entry.of(Map.of("id", anId));
+        };
+
+        responseCache.respond(ResponseCache.VIDEOS, anId, null, loader);
+        responseCache.respond(ResponseCache.VIDEOS, anId, null, loader);
+        Assertions.assertEquals(1, loads.get());
+
+        videoGateway.updateMediaStatus(aVideo.getId(), aVideo.getVideo().get().id(), MediaStatus.COMPLETED, "encoded/video.mp4");
+
+        responseCache.respond(ResponseCache.VIDEOS, anId, null, loader);
+        Assertions.assertEquals(2, loads.get());
+
+        videoGateway.update(Video.with(aVideo).update(
+                Fixture.title(),
+                aVideo.getDescription(),
+                aVideo.getLaunchedAt(),
+                aVideo.getDuration(),
+                aVideo.getRating(),
+                aVideo.isOpened(),
+                aVideo.isPublished(),
+                aVideo.getCategories(),
+                aVideo.getGenres(),
+                aVideo.getCastMembers()
+        ));
+
+        responseCache.respond(ResponseCache.VIDEOS, anId, null, loader);
+        Assertions.assertEquals(3, loads.get());
+    }
+
     @Test
     public void givenInvalidVideoId_whenCallsFindById_thenReturnEmpty() {
         final var aVideo = videoGateway.create(Video.newVideo(
@@ -619,6 +929,131 @@ public class VideoGatewayTest {
         Assertions.assertEquals("Title 4", actualPage.items().get(0).title());
     }
 
+    @Test
+    public void givenSeveralValuesPerFilter_whenCallsFindAll_thenReturnEachVideoOnce() {
+        mockVideos();
+
+        final var expectedTotal = 3;
+
+        final var aQuery =
+                new VideoSearchQuery(
+                        0,
+                        10,
+                        "",
+                        "title",
+                        "asc",
+                        Set.of(),
+                        Set.of(drama.getId(), romance.getId()),
+                        Set.of(mateus.getId(), lucas.getId())
+                );
+
+        final var actualPage = videoGateway.findAll(aQuery);
+
+        Assertions.assertEquals(expectedTotal, actualPage.total());
+        Assertions.assertEquals(expectedTotal, actualPage.items().size());
+        Assertions.assertEquals("Title 1", actualPage.items().get(0).title());
+        Assertions.assertEquals("Title 3", actualPage.items().get(1).title());
+        Assertions.assertEquals("Title 4", actualPage.items().get(2).title());
+    }
+
+    @Test
+    public void givenSeveralValuesPerFilter_whenCallsFindAllWithKeyset_thenFollowCursor() {
+        mockVideos();
+
+        var aQuery =
+                new VideoSearchQuery(
+                        0,
+                        2,
+                        "",
+                        "title",
+                        "asc",
+                        Set.of(),
+                        Set.of(drama.getId(), romance.getId()),
+                        Set.of(mateus.getId(), lucas.getId()),
+                        ""
+                );
+
+        var actualPage = videoGateway.findAll(aQuery);
+
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualPage.total());
+        Assertions.assertEquals(2, actualPage.items().size());
+        Assertions.assertEquals("Title 1", actualPage.items().get(0).title());
+        Assertions.assertEquals("Title 3", actualPage.items().get(1).title());
+        Assertions.assertNotNull(actualPage.nextCursor());
+
+        aQuery =
+                new VideoSearchQuery(
+                        0,
+                        2,
+                        "",
+                        "title",
+                        "asc",
+                        Set.of(),
+                        Set.of(drama.getId(), romance.getId()),
+                        Set.of(mateus.getId(), lucas.getId()),
+                        actualPage.nextCursor()
+                );
+
+        actualPage = videoGateway.findAll(aQuery);
+
+        Assertions.assertEquals(1, actualPage.items().size());
+        Assertions.assertEquals("Title 4", actualPage.items().get(0).title());
+        Assertions.assertNull(actualPage.nextCursor());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "title,asc,Title 1;Title 2;Title 3;Title 4",
+            "title,desc,Title 4;Title 3;Title 2;Title 1"
+    })
+    public void givenFollowCursor_whenCallsFindAllWithKeyset_thenReturnEveryVideoOnce(
+            final String expectedSort,
+            final String expectedDirection,
+            final String expectedTitles
+    ) {
+        mockVideos();
+
+        final var actualTitles = new ArrayList<String>();
+        var cursor = "";
+        do {
+            final var aQuery = new VideoSearchQuery(
+                    0,
+                    1,
+                    "",
+                    expectedSort,
+                    expectedDirection,
+                    Set.of(),
+                    Set.of(),
+                    Set.of(),
+                    cursor
+            );
+            final var actualPage = videoGateway.findAll(aQuery);
+
+            Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualPage.total());
+
+            actualPage.items().forEach(it -> actualTitles.add(it.title()));
+            cursor = actualPage.nextCursor();
+        } while (cursor != null);
+
+        Assertions.assertEquals(List.of(expectedTitles.split(";")), actualTitles);
+    }
+
+    @Test
+    public void givenPrePersistedVideos_whenCallsForEach_thenVisitAllPreviewsOrderedById() {
+        mockVideos();
+
+        final var expectedIds = videoRepository.findAll().stream()
+                .map(VideoJpaEntity::getId)
+                .sorted()
+                .toList();
+
+        final var actualPreviews = new ArrayList<VideoPreview>();
+        videoGateway.forEach(actualPreviews::add);
+
+        Assertions.assertEquals(4, actualPreviews.size());
+        Assertions.assertEquals(expectedIds, actualPreviews.stream().map(VideoPreview::id).toList());
+    }
+
     @ParameterizedTest
     @CsvSource({
             "1,0,10,1,1,Title 1",
@@ -742,6 +1177,21 @@ public class VideoGatewayTest {
         }
     }
 
+    private static Video newVideo(final String title) {
+        return Video.newVideo(
+                title,
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+    }
+
     private void mockVideos() {
         videoGateway.create(Video.newVideo(
                 "Title 1",
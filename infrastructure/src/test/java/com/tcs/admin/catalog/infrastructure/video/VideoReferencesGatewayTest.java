@@ -0,0 +1,75 @@
+package com.tcs.admin.catalog.infrastructure.video;
+
+import com.tcs.admin.catalog.IntegrationTest;
+import com.tcs.admin.catalog.domain.Fixture;
+import com.tcs.admin.catalog.domain.castmember.CastMemberGateway;
+import com.tcs.admin.catalog.domain.castmember.CastMemberID;
+import com.tcs.admin.catalog.domain.category.CategoryGateway;
+import com.tcs.admin.catalog.domain.category.CategoryID;
+import com.tcs.admin.catalog.domain.genre.GenreGateway;
+import com.tcs.admin.catalog.domain.genre.GenreID;
+import com.tcs.admin.catalog.domain.video.VideoReferences;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Set;
+
+@IntegrationTest
+public class VideoReferencesGatewayTest {
+
+    @Autowired
+    private DefaultVideoReferencesGateway videoReferencesGateway;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private GenreGateway genreGateway;
+
+    @Autowired
+    private CastMemberGateway castMemberGateway;
+
+    @Test
+    public void givenExistingAndMissingReferences_whenCallsExistsByIds_thenReturnOnlyExisting() {
+        final var prime = categoryGateway.create(Fixture.Categories.prime());
+        final var drama = genreGateway.create(Fixture.Genres.drama());
+        final var mateus = castMemberGateway.create(Fixture.CastMembers.mateus());
+
+        final var expectedReferences = VideoReferences.with(
+                Set.of(prime.getId()),
+                Set.of(drama.getId()),
+                Set.of(mateus.getId())
+        );
+
+        final var actualReferences = videoReferencesGateway.existsByIds(VideoReferences.with(
+                Set.of(prime.getId(), CategoryID.from("123")),
+                Set.of(drama.getId(), GenreID.from("456")),
+                Set.of(mateus.getId(), CastMemberID.from("789"))
+        ));
+
+        Assertions.assertEquals(expectedReferences, actualReferences);
+    }
+
+    @Test
+    public void givenOnlyCategories_whenCallsExistsByIds_thenQueryOnlyCategories() {
+        final var prime = categoryGateway.create(Fixture.Categories.prime());
+
+        final var actualReferences = videoReferencesGateway.existsByIds(
+                VideoReferences.with(Set.of(prime.getId()), Set.of(), Set.of())
+        );
+
+        Assertions.assertEquals(Set.of(prime.getId()), actualReferences.categories());
+        Assertions.assertTrue(actualReferences.genres().isEmpty());
+        Assertions.assertTrue(actualReferences.castMembers().isEmpty());
+    }
+
+    @Test
+    public void givenEmptyReferences_whenCallsExistsByIds_thenReturnEmpty() {
+        final var actualReferences = videoReferencesGateway.existsByIds(
+                VideoReferences.with(Set.of(), Set.of(), Set.of())
+        );
+
+        Assertions.assertTrue(actualReferences.isEmpty());
+    }
+}
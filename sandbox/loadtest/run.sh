@@ -0,0 +1,35 @@
+#!/usr/bin/env bash
+# Boots the application with the loadtest profile (H2, in-memory events, local storage, no
+# authentication), runs the workload against it and stops it. Extra arguments go to workload.py,
+# the environment to the application, e.g.:
+#
+#   UNDERTOW_WORKER_THREADS=32 ./run.sh --concurrency 64 --duration 120
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/../.." && pwd)"
+PORT="${PORT:-8080}"
+JAVA_OPTS="${JAVA_OPTS:--Xms1g -Xmx1g}"
+LOG="${ROOT}/build/loadtest.log"
+
+(cd "$ROOT" && ./gradlew -q :infrastructure:bootJar)
+
+STORAGE_LOCAL_PATH="$(mktemp -d)"
+export STORAGE_LOCAL_PATH
+
+# shellcheck disable=SC2086
+java $JAVA_OPTS -jar "$ROOT/build/libs/application.jar" \
+    --spring.profiles.active=loadtest \
+    --server.port="$PORT" > "$LOG" 2>&1 &
+APP=$!
+trap 'kill $APP 2>/dev/null; wait $APP 2>/dev/null; rm -rf "$STORAGE_LOCAL_PATH"' EXIT
+
+echo "waiting for the application (log: $LOG)"
+until curl -sf "http://localhost:${PORT}/api/actuator/health" > /dev/null; do
+    if ! kill -0 $APP 2>/dev/null; then
+        echo "the application did not start, see $LOG" >&2
+        exit 1
+    fi
+    sleep 1
+done
+
+python3 "$(dirname "$0")/workload.py" --base-url "http://localhost:${PORT}/api" "$@"
@@ -0,0 +1,261 @@
+#!/usr/bin/env python3
+"""Scripted workload against an instance running the loadtest profile.
+
+Seeds categories, genres, cast members and videos, then keeps `--concurrency` workers issuing a
+weighted mix of creates, lists, gets, media uploads and encoder callbacks for `--duration`
+seconds. Requests made during `--warmup` are not recorded. Prints count, errors, req/s and
+p50/p95/p99 latency per endpoint. Only the standard library is used.
+"""
+
+import argparse
+import json
+import random
+import threading
+import time
+import urllib.error
+import urllib.request
+import uuid
+from concurrent.futures import ThreadPoolExecutor
+
+MIX = [
+    # (weight, endpoint)
+    (10, "POST /videos"),
+    (25, "GET /videos"),
+    (10, "GET /videos?categories_ids"),
+    (30, "GET /videos/{id}"),
+    (10, "GET /categories"),
+    (10, "POST /videos/{id}/medias/{type}"),
+    (5, "POST /loadtest/video-encoded"),
+]
+
+
+class Client:
+
+    def __init__(self, base_url, timeout):
+        self.base_url = base_url.rstrip("/")
+        self.timeout = timeout
+
+    def call(self, method, path, body=None, content_type="application/json"):
+        data = None
+        headers = {"Accept": "application/json"}
+        if body is not None:
+            data = body if isinstance(body, bytes) else json.dumps(body).encode()
+            headers["Content-Type"] = content_type
+        request = urllib.request.Request(self.base_url + path, data=data, method=method, headers=headers)
+        try:
+            with urllib.request.urlopen(request, timeout=self.timeout) as response:
+                payload = response.read()
+                return response.status, json.loads(payload) if payload else None
+        except urllib.error.HTTPError as e:
+            e.read()
+            return e.code, None
+
+
+class Stats:
+
+    def __init__(self):
+        self.lock = threading.Lock()
+        self.latencies = {}
+        self.errors = {}
+        self.recording = False
+
+    def record(self, endpoint, elapsed, ok):
+        if not self.recording:
+            return
+        with self.lock:
+            self.latencies.setdefault(endpoint, []).append(elapsed)
+            if not ok:
+                self.errors[endpoint] = self.errors.get(endpoint, 0) + 1
+
+    def report(self, seconds):
+        rows = []
+        everything = []
+        for endpoint, values in sorted(self.latencies.items()):
+            everything.extend(values)
+            rows.append(row(endpoint, values, self.errors.get(endpoint, 0), seconds))
+        rows.append(row("TOTAL", everything, sum(self.errors.values()), seconds))
+
+        header = f"{'endpoint':<34}{'count':>8}{'errors':>8}{'req/s':>10}{'p50 ms':>10}{'p95 ms':>10}{'p99 ms':>10}"
+        print(header)
+        print("-" * len(header))
+        for r in rows:
+            print(f"{r[0]:<34}{r[1]:>8}{r[2]:>8}{r[3]:>10.1f}{r[4]:>10.2f}{r[5]:>10.2f}{r[6]:>10.2f}")
+
+
+def row(endpoint, values, errors, seconds):
+    values = sorted(values)
+    return (
+        endpoint,
+        len(values),
+        errors,
+        len(values) / seconds,
+        percentile(values, 50) * 1000,
+        percentile(values, 95) * 1000,
+        percentile(values, 99) * 1000,
+    )
+
+
+def percentile(sorted_values, p):
+    if not sorted_values:
+        return 0.0
+    index = min(len(sorted_values) - 1, max(0, round(p / 100 * len(sorted_values) + 0.5) - 1))
+    return sorted_values[index]
+
+
+def multipart(field, filename, content, content_type):
+    boundary = uuid.uuid4().hex
+    body = (
+        f"--{boundary}\r\n"
+        f'Content-Disposition: form-data; name="{field}"; filename="{filename}"\r\n'
+        f"Content-Type: {content_type}\r\n\r\n"
+    ).encode() + content + f"\r\n--{boundary}--\r\n".encode()
+    return body, f"multipart/form-data; boundary={boundary}"
+
+
+class Workload:
+
+    def __init__(self, client, stats, args):
+        self.client = client
+        self.stats = stats
+        self.args = args
+        self.lock = threading.Lock()
+        self.categories = []
+        self.genres = []
+        self.cast_members = []
+        self.videos = []
+        self.uploaded = []  # (video id, media id)
+        self.media = random.Random(args.seed).randbytes(args.media_size)
+
+    def seed(self):
+        for i in range(self.args.categories):
+            _, body = self.client.call("POST", "/categories", {"name": f"Category {i}", "description": "Seeded", "is_active": True})
+            self.categories.append(body["id"])
+        for i in range(self.args.genres):
+            _, body = self.client.call("POST", "/genres", {
+                "name": f"Genre {i}",
+                "is_active": True,
+                "categories_id": random.sample(self.categories, min(2, len(self.categories))),
+            })
+            self.genres.append(body["id"])
+        for i in range(self.args.cast_members):
+            _, body = self.client.call("POST", "/cast_members", {"name": f"Cast member {i}", "type": random.choice(["ACTOR", "DIRECTOR"])})
+            self.cast_members.append(body["id"])
+        for _ in range(self.args.videos):
+            self.create_video(random)
+
+    def create_video(self, rnd):
+        status, body = self.client.call("POST", "/videos", {
+            "title": f"Video {uuid.uuid4().hex[:8]}",
+            "description": "Load test video",
+            "year_launched": rnd.randint(1970, 2025),
+            "duration": round(rnd.uniform(60, 180), 1),
+            "opened": rnd.random() < 0.5,
+            "published": rnd.random() < 0.5,
+            "rating": rnd.choice(["L", "10", "12", "14", "16", "18"]),
+            "categories": rnd.sample(self.categories, min(2, len(self.categories))),
+            "genres": rnd.sample(self.genres, min(1, len(self.genres))),
+            "cast_members": rnd.sample(self.cast_members, min(3, len(self.cast_members))),
+        })
+        if status == 201:
+            with self.lock:
+                self.videos.append(body["id"])
+        return status
+
+    def step(self, rnd, endpoint):
+        if endpoint == "POST /videos":
+            return self.create_video(rnd) == 201
+        if endpoint == "GET /videos":
+            return self.client.call("GET", f"/videos?perPage=25&page={rnd.randint(0, 3)}")[0] == 200
+        if endpoint == "GET /videos?categories_ids":
+            return self.client.call("GET", f"/videos?perPage=25&categories_ids={rnd.choice(self.categories)}")[0] == 200
+        if endpoint == "GET /videos/{id}":
+            return self.client.call("GET", f"/videos/{rnd.choice(self.videos)}")[0] == 200
+        if endpoint == "GET /categories":
+            return self.client.call("GET", "/categories?perPage=10")[0] == 200
+        if endpoint == "POST /videos/{id}/medias/{type}":
+            return self.upload(rnd)
+        if endpoint == "POST /loadtest/video-encoded":
+            return self.encoded(rnd)
+        raise ValueError(endpoint)
+
+    def upload(self, rnd):
+        video_id = rnd.choice(self.videos)
+        body, content_type = multipart("media_file", "video.mp4", self.media, "video/mp4")
+        status, _ = self.client.call("POST", f"/videos/{video_id}/medias/video", body, content_type)
+        if status != 201:
+            return False
+        # Not timed: only needed to learn the media id the encoder callback refers to
+        _, video = self.client.call("GET", f"/videos/{video_id}")
+        if video and video.get("video"):
+            with self.lock:
+                self.uploaded.append((video_id, video["video"]["id"]))
+        return True
+
+    def encoded(self, rnd):
+        with self.lock:
+            if not self.uploaded:
+                return True
+            video_id, media_id = rnd.choice(self.uploaded)
+        status, _ = self.client.call("POST", "/loadtest/video-encoded", {
+            "status": "COMPLETED",
+            "id": video_id,
+            "output_bucket_path": "loadtest",
+            "video": {
+                "encoded_video_folder": "encoded",
+                "resource_id": media_id,
+                "file_path": f"videoId-{video_id}/type-VIDEO",
+            },
+        })
+        return status == 204
+
+    def worker(self, index, deadline):
+        rnd = random.Random(self.args.seed + index)
+        weights = [w for w, _ in MIX]
+        endpoints = [e for _, e in MIX]
+        while time.monotonic() < deadline:
+            endpoint = rnd.choices(endpoints, weights)[0]
+            started = time.perf_counter()
+            try:
+                ok = self.step(rnd, endpoint)
+            except Exception:
+                ok = False
+            self.stats.record(endpoint, time.perf_counter() - started, ok)
+
+
+def main():
+    parser = argparse.ArgumentParser(description=__doc__, formatter_class=argparse.RawDescriptionHelpFormatter)
+    parser.add_argument("--base-url", default="http://localhost:8080/api")
+    parser.add_argument("--concurrency", type=int, default=32)
+    parser.add_argument("--duration", type=int, default=60, help="seconds measured")
+    parser.add_argument("--warmup", type=int, default=15, help="seconds run before measuring")
+    parser.add_argument("--categories", type=int, default=20)
+    parser.add_argument("--genres", type=int, default=10)
+    parser.add_argument("--cast-members", type=int, default=50)
+    parser.add_argument("--videos", type=int, default=500, help="videos seeded before the run")
+    parser.add_argument("--media-size", type=int, default=256 * 1024, help="bytes per uploaded media")
+    parser.add_argument("--timeout", type=float, default=30)
+    parser.add_argument("--seed", type=int, default=42)
+    args = parser.parse_args()
+
+    random.seed(args.seed)
+    client = Client(args.base_url, args.timeout)
+    stats = Stats()
+    workload = Workload(client, stats, args)
+
+    print(f"seeding {args.categories} categories, {args.genres} genres, {args.cast_members} cast members, {args.videos} videos")
+    workload.seed()
+
+    started = time.monotonic()
+    deadline = started + args.warmup + args.duration
+    threading.Timer(args.warmup, lambda: setattr(stats, "recording", True)).start()
+
+    print(f"running {args.concurrency} workers: {args.warmup}s warmup, {args.duration}s measured")
+    with ThreadPoolExecutor(max_workers=args.concurrency) as pool:
+        for i in range(args.concurrency):
+            pool.submit(workload.worker, i, deadline)
+
+    stats.report(args.duration)
+
+
+if __name__ == "__main__":
+    main()